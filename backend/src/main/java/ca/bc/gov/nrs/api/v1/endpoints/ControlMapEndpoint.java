@@ -0,0 +1,50 @@
+package ca.bc.gov.nrs.api.v1.endpoints;
+
+import ca.bc.gov.nrs.api.v1.service.ControlMapRegistry;
+import ca.bc.gov.nrs.api.v1.structs.ControlMapStatus;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.io.IOException;
+import java.util.List;
+
+@Path("/api/v1/control-maps")
+@Produces("application/json")
+@Tag(name = "Control Map", description = "Shared control map operations")
+public class ControlMapEndpoint {
+
+  private final ControlMapRegistry controlMapRegistry;
+
+  @Inject
+  public ControlMapEndpoint(ControlMapRegistry controlMapRegistry) {
+    this.controlMapRegistry = controlMapRegistry;
+  }
+
+  @GET
+  @Operation(summary = "Get all control maps", description = "Returns the shared control maps that are loaded")
+  @APIResponse(responseCode = "200", description = "List of control maps")
+  public List<ControlMapStatus> getAllControlMaps() {
+    return controlMapRegistry.findAll();
+  }
+
+  @POST
+  @Path("/{type}/reload")
+  @Operation(summary = "Reload control map", description = "Parses the control file of a projection type again")
+  @APIResponse(responseCode = "200", description = "Control map reloaded")
+  @APIResponse(responseCode = "404", description = "No control file is configured for the type")
+  public Response reloadControlMap(@PathParam("type") ProjectionType projectionType)
+      throws IOException, ResourceParseException {
+    if (!controlMapRegistry.isRegistered(projectionType)) {
+      return Response.status(Response.Status.NOT_FOUND).build();
+    }
+    controlMapRegistry.reload(projectionType);
+    return Response.ok(controlMapRegistry.findAll().stream()
+      .filter(status -> status.projectionType() == projectionType).findFirst().orElseThrow()).build();
+  }
+}
@@ -0,0 +1,163 @@
+package ca.bc.gov.nrs.api.v1.endpoints;
+
+import ca.bc.gov.nrs.api.v1.service.ProjectionJobRejectedException;
+import ca.bc.gov.nrs.api.v1.service.ProjectionJobService;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJob;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.core.Context;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Path("/api/v1/projections")
+@Produces("application/json")
+@Tag(name = "Projection", description = "Projection job operations")
+public class ProjectionJobEndpoint {
+
+  private final ProjectionJobService projectionJobService;
+
+  @Inject
+  public ProjectionJobEndpoint(ProjectionJobService projectionJobService) {
+    this.projectionJobService = projectionJobService;
+  }
+
+  @GET
+  @Operation(summary = "Get all projection jobs", description = "Returns a list of all projection jobs")
+  @APIResponse(responseCode = "200", description = "List of projection jobs")
+  public List<ProjectionJob> getAllJobs() {
+    return projectionJobService.findAll();
+  }
+
+  @POST
+  @Consumes("application/zip")
+  @Operation(summary = "Submit projection job", description = "Queues a projection of a ZIP archive of VDYP7 inputs: a control file and the files it names")
+  @APIResponse(responseCode = "202", description = "Job queued")
+  @APIResponse(responseCode = "400", description = "The archive is not usable")
+  @APIResponse(responseCode = "503", description = "Too many jobs are waiting to run")
+  public Response submitJob(@QueryParam("type") @DefaultValue("FORWARD") ProjectionType projectionType,
+                            @QueryParam("controlFile") @DefaultValue("vdyp.ctr") String controlFile,
+                            InputStream inputs, @Context UriInfo uriInfo) throws IOException {
+    try {
+      ProjectionJob job = projectionJobService.submit(projectionType, controlFile, inputs);
+      return Response.accepted(job).location(uriInfo.getAbsolutePathBuilder().path(job.id().toString()).build())
+        .build();
+    } catch (IllegalArgumentException e) {
+      return Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).type("text/plain").build();
+    } catch (ProjectionJobRejectedException e) {
+      return Response.status(Response.Status.SERVICE_UNAVAILABLE).entity(e.getMessage()).type("text/plain")
+        .header("Retry-After", 30).build();
+    }
+  }
+
+  @GET
+  @Path("/{id}")
+  @Operation(summary = "Get projection job by ID", description = "Returns the status of a projection job")
+  @APIResponse(responseCode = "200", description = "Job found")
+  @APIResponse(responseCode = "404", description = "Job not found")
+  public Response getJobById(@PathParam("id") UUID id) {
+    Optional<ProjectionJob> job = projectionJobService.findById(id);
+    if (job.isPresent()) {
+      return Response.ok(job.get()).build();
+    } else {
+      return Response.status(Response.Status.NOT_FOUND).build();
+    }
+  }
+
+  @GET
+  @Path("/{id}/result")
+  @Produces("application/zip")
+  @Operation(summary = "Get projection job result", description = "Returns a ZIP archive of the outputs of a job that has succeeded")
+  @APIResponse(responseCode = "200", description = "Job outputs")
+  @APIResponse(responseCode = "206", description = "The requested range of the job outputs")
+  @APIResponse(responseCode = "404", description = "Job not found")
+  @APIResponse(responseCode = "409", description = "Job has not succeeded")
+  @APIResponse(responseCode = "416", description = "The requested range is beyond the end of the archive")
+  public Response getJobResult(@PathParam("id") UUID id, @Context HttpHeaders headers) throws IOException {
+    Optional<ProjectionJob> job = projectionJobService.findById(id);
+    if (job.isEmpty()) {
+      return Response.status(Response.Status.NOT_FOUND).build();
+    }
+    Optional<java.nio.file.Path> result = projectionJobService.findResult(id);
+    if (result.isPresent()) {
+      return RangedFileResponse.build(result.get(), "application/zip", id + ".zip", headers);
+    } else {
+      return Response.status(Response.Status.CONFLICT).build();
+    }
+  }
+
+  @GET
+  @Path("/{id}/outputs")
+  @Operation(summary = "Get projection job outputs", description = "Returns the names of the output files a job has written so far")
+  @APIResponse(responseCode = "200", description = "Output file names")
+  @APIResponse(responseCode = "404", description = "Job not found")
+  public Response getJobOutputs(@PathParam("id") UUID id) throws IOException {
+    Optional<List<String>> outputs = projectionJobService.findOutputs(id);
+    if (outputs.isPresent()) {
+      return Response.ok(outputs.get()).build();
+    } else {
+      return Response.status(Response.Status.NOT_FOUND).build();
+    }
+  }
+
+  @GET
+  @Path("/{id}/outputs/{name: .+}")
+  @Produces("application/octet-stream")
+  @Operation(summary = "Get projection job output", description = "Returns an output file of a job. While the job is running the file is sent as it is written, and the response ends when the job does; once the job has succeeded, byte ranges of the file can be requested.")
+  @APIResponse(responseCode = "200", description = "Output file")
+  @APIResponse(responseCode = "206", description = "The requested range of the output file")
+  @APIResponse(responseCode = "404", description = "Job or output not found")
+  @APIResponse(responseCode = "409", description = "Job failed or was cancelled")
+  @APIResponse(responseCode = "416", description = "The requested range is beyond the end of the file")
+  public Response getJobOutput(@PathParam("id") UUID id, @PathParam("name") String name, @Context HttpHeaders headers)
+      throws IOException {
+    Optional<ProjectionJob> job = projectionJobService.findById(id);
+    Optional<java.nio.file.Path> output = projectionJobService.findOutput(id, name);
+    if (job.isEmpty() || output.isEmpty()) {
+      return Response.status(Response.Status.NOT_FOUND).build();
+    }
+    var filename = output.get().getFileName().toString();
+    switch (job.get().status()) {
+      case SUCCEEDED:
+        return RangedFileResponse.build(output.get(), "application/octet-stream", filename, headers);
+      case FAILED, CANCELLED:
+        return Response.status(Response.Status.CONFLICT).build();
+      default:
+        StreamingOutput body = out -> {
+          try (var in = projectionJobService.followOutput(id, output.get())) {
+            var buffer = new byte[64 * 1024];
+            for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+              out.write(buffer, 0, n);
+              // Send what has been written so far rather than waiting for the buffer to fill
+              out.flush();
+            }
+          }
+        };
+        return Response.ok(body).header("Content-Disposition", "attachment; filename=\"" + filename + "\"").build();
+    }
+  }
+
+  @DELETE
+  @Path("/{id}")
+  @Operation(summary = "Delete projection job by ID", description = "Cancels a projection job if it has not finished and deletes it")
+  @APIResponse(responseCode = "204", description = "Job deleted")
+  @APIResponse(responseCode = "404", description = "Job not found")
+  public Response deleteJob(@PathParam("id") UUID id) {
+    if (projectionJobService.delete(id)) {
+      return Response.noContent().build();
+    } else {
+      return Response.status(Response.Status.NOT_FOUND).build();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package ca.bc.gov.nrs.api.v1.endpoints;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Builds responses for files that will not change, honouring a single byte range in the <code>Range</code> header so
+ * that an interrupted download can be resumed. Ranges are only honoured if the <code>If-Range</code> header, when
+ * given, matches the entity tag of the file.
+ */
+class RangedFileResponse {
+
+  private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+  private RangedFileResponse() {
+  }
+
+  /**
+   * An inclusive range of byte positions in a file.
+   */
+  record ByteRange(long first, long last) {
+
+    long length() {
+      return last - first + 1;
+    }
+
+    /**
+     * Parse the value of a <code>Range</code> header.
+     *
+     * @param header the header value, or null
+     * @param length the length of the file
+     * @return the range, or empty if there is no header or it is not a single byte range, in which case the whole file
+     * should be sent
+     * @throws IllegalArgumentException if the range does not overlap the file
+     */
+    static Optional<ByteRange> parse(String header, long length) {
+      if (header == null) {
+        return Optional.empty();
+      }
+      var matcher = RANGE.matcher(header.trim());
+      if (!matcher.matches() || matcher.group(1).isEmpty() && matcher.group(2).isEmpty()) {
+        return Optional.empty();
+      }
+      try {
+        long first;
+        long last;
+        if (matcher.group(1).isEmpty()) {
+          // The last n bytes
+          long suffix = Long.parseLong(matcher.group(2));
+          if (suffix == 0) {
+            throw new IllegalArgumentException("Empty range " + header);
+          }
+          first = Math.max(0, length - suffix);
+          last = length - 1;
+        } else {
+          first = Long.parseLong(matcher.group(1));
+          if (matcher.group(2).isEmpty()) {
+            last = length - 1;
+          } else {
+            long end = Long.parseLong(matcher.group(2));
+            if (end < first) {
+              // Not a valid range, so ignored
+              return Optional.empty();
+            }
+            last = Math.min(end, length - 1);
+          }
+        }
+        if (first >= length) {
+          throw new IllegalArgumentException("Range " + header + " starts beyond the end of the file");
+        }
+        return Optional.of(new ByteRange(first, last));
+      } catch (NumberFormatException e) {
+        return Optional.empty();
+      }
+    }
+  }
+
+  static String entityTag(Path file) throws IOException {
+    return "\"" + Long.toHexString(Files.size(file)) + "-"
+      + Long.toHexString(Files.getLastModifiedTime(file).toMillis()) + "\"";
+  }
+
+  /**
+   * @param file        the file to send
+   * @param contentType the media type of the file
+   * @param filename    the name to suggest for saving the file
+   * @param headers     the request headers
+   */
+  static Response build(Path file, String contentType, String filename, HttpHeaders headers) throws IOException {
+    long length = Files.size(file);
+    var entityTag = entityTag(file);
+    var ifRange = headers.getHeaderString("If-Range");
+
+    Optional<ByteRange> range;
+    try {
+      range = ifRange == null || ifRange.equals(entityTag)
+        ? ByteRange.parse(headers.getHeaderString("Range"), length)
+        : Optional.empty();
+    } catch (IllegalArgumentException e) {
+      return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE).header("Content-Range", "bytes */" + length)
+        .build();
+    }
+
+    Response.ResponseBuilder response;
+    if (range.isPresent()) {
+      var r = range.get();
+      StreamingOutput body = out -> {
+        try (var channel = FileChannel.open(file)) {
+          var target = Channels.newChannel(out);
+          for (long position = r.first(); position <= r.last(); ) {
+            long n = channel.transferTo(position, r.last() - position + 1, target);
+            if (n <= 0) {
+              throw new IOException(file + " is shorter than it was when the response was started");
+            }
+            position += n;
+          }
+        }
+      };
+      response = Response.status(Response.Status.PARTIAL_CONTENT).entity(body)
+        .header("Content-Range", "bytes " + r.first() + "-" + r.last() + "/" + length)
+        .header(HttpHeaders.CONTENT_LENGTH, r.length());
+    } else {
+      response = Response.ok(file.toFile());
+    }
+    return response.type(contentType).header("Accept-Ranges", "bytes").header(HttpHeaders.ETAG, entityTag)
+      .header("Content-Disposition", "attachment; filename=\"" + filename + "\"").build();
+  }
+}
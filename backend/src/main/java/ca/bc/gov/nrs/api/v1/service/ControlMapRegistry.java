@@ -0,0 +1,307 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ControlMapStatus;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import ca.bc.gov.nrs.vdyp.forward.ForwardControlParser;
+import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
+import ca.bc.gov.nrs.vdyp.vri.VriControlParser;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Parsed control maps shared by all projections of a type. Parsing the coefficient files named by a control file takes
+ * far longer than projecting a few polygons, so the control files configured with
+ * <code>vdyp.control-maps.forward</code> and <code>vdyp.control-maps.vri</code> are parsed once at startup and each
+ * projection parses only its own control file and input files, taking the rest from the shared map.
+ * <p>
+ * A projection whose control file names different coefficient files than the shared control file, or whose inputs
+ * include any of the coefficient files it names, is not given the shared map and parses its control file in full.
+ * <p>
+ * A control map is reloaded when its control file or any of the files it names has been modified since it was
+ * loaded, or on request. Projections
+ * that hold a {@link Lease} on the map they started with keep using it; it is released once the last of them closes
+ * its lease.
+ */
+@ApplicationScoped
+public class ControlMapRegistry {
+
+  private static final Logger logger = Logger.getLogger(ControlMapRegistry.class);
+
+  /**
+   * Identifies a parsed control map: the control file it was parsed from, the coefficient files and other resources
+   * that control file names (as returned by {@link BaseControlParser#parseResourceEntries}) and the version of the
+   * VDYP libraries that parsed it.
+   */
+  public record Key(ProjectionType projectionType, Path controlFile, Map<String, Object> resources,
+                    String vdypVersion) {
+  }
+
+  private final Map<ProjectionType, Path> controlFiles = new EnumMap<>(ProjectionType.class);
+  private final Map<ProjectionType, Entry> entries = new ConcurrentHashMap<>();
+  private final String vdypVersion;
+
+  @Inject
+  public ControlMapRegistry(@ConfigProperty(name = "vdyp.control-maps.forward") Optional<String> forwardControlFile,
+                            @ConfigProperty(name = "vdyp.control-maps.vri") Optional<String> vriControlFile) {
+    forwardControlFile.ifPresent(file -> controlFiles.put(ProjectionType.FORWARD, Path.of(file).toAbsolutePath()));
+    vriControlFile.ifPresent(file -> controlFiles.put(ProjectionType.VRI, Path.of(file).toAbsolutePath()));
+    this.vdypVersion = vdypVersion();
+  }
+
+  private static String vdypVersion() {
+    var properties = new Properties();
+    try (var is = BaseControlParser.class
+      .getResourceAsStream("/META-INF/maven/ca.bc.gov.nrs.vdyp/vdyp-common/pom.properties")) {
+      if (is != null) {
+        properties.load(is);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return properties.getProperty("version", "unknown");
+  }
+
+  void onStart(@Observes StartupEvent event) throws IOException, ResourceParseException {
+    for (var projectionType : controlFiles.keySet()) {
+      reload(projectionType);
+    }
+  }
+
+  public boolean isRegistered(ProjectionType projectionType) {
+    return controlFiles.containsKey(projectionType);
+  }
+
+  /**
+   * Take a lease on the control map for the given type, loading it first if it has not been loaded or its control file
+   * or any file it names has changed since it was. The lease must be closed when the projection is done with the map.
+   *
+   * @return the lease, or empty if no control file is configured for the type
+   */
+  public Optional<Lease> acquire(ProjectionType projectionType) throws IOException, ResourceParseException {
+    if (!isRegistered(projectionType)) {
+      return Optional.empty();
+    }
+    while (true) {
+      var entry = entries.get(projectionType);
+      if (entry == null || entry.isModified()) {
+        entry = reloadIfModified(projectionType);
+      }
+      var lease = entry.lease();
+      if (lease.isPresent()) {
+        return lease;
+      }
+      // The entry was replaced by a concurrent reload between getting it and leasing it; try the new one.
+    }
+  }
+
+  /**
+   * Parse the control file for the given type again and use the result for new leases.
+   */
+  public synchronized Entry reload(ProjectionType projectionType) throws IOException, ResourceParseException {
+    var controlFile = controlFiles.get(projectionType);
+    if (controlFile == null) {
+      throw new IllegalArgumentException("No control file is configured for " + projectionType + " projections");
+    }
+    var current = entries.get(projectionType);
+
+    var start = System.nanoTime();
+    Map<String, Object> resources;
+    try (var is = Files.newInputStream(controlFile)) {
+      resources = Collections.unmodifiableMap(parser(projectionType).parseResourceEntries(List.of(is)));
+    }
+    // Taken before parsing, so that a file modified while it is parsed causes another reload
+    var modified = lastModified(controlFile, resources);
+
+    Map<String, Object> controlMap;
+    try (var is = Files.newInputStream(controlFile)) {
+      controlMap = parser(projectionType)
+        .parse(is, new FileSystemFileResolver(controlFile.getParent()), new HashMap<>());
+    }
+    var entry = new Entry(new Key(projectionType, controlFile, resources, vdypVersion),
+      Collections.unmodifiableMap(controlMap), modified);
+    entries.put(projectionType, entry);
+    logger.infof("Loaded %s control map from %s in %d ms", projectionType, controlFile,
+      (System.nanoTime() - start) / 1_000_000);
+
+    if (current != null) {
+      current.retire();
+    }
+    return entry;
+  }
+
+  private synchronized Entry reloadIfModified(ProjectionType projectionType) throws IOException, ResourceParseException {
+    var current = entries.get(projectionType);
+    if (current != null && !current.isModified()) {
+      // Already reloaded by another thread
+      return current;
+    }
+    return reload(projectionType);
+  }
+
+  /**
+   * The paths of the files a control file names as resources, relative to the directory of the control file
+   */
+  private static List<Path> resourceFiles(Path directory, Map<String, Object> resources) {
+    return resources.values().stream()
+      .flatMap(value -> value instanceof Optional<?> optional ? optional.stream() : Stream.of(value))
+      .map(name -> directory.resolve(name.toString()).normalize()).toList();
+  }
+
+  /**
+   * When the control file and each file it names were last modified, or empty for a file that does not exist
+   */
+  private static Map<Path, Optional<FileTime>> lastModified(Path controlFile, Map<String, Object> resources)
+    throws IOException {
+    Map<Path, Optional<FileTime>> modified = new HashMap<>();
+    modified.put(controlFile, Optional.of(Files.getLastModifiedTime(controlFile)));
+    for (var file : resourceFiles(controlFile.getParent(), resources)) {
+      modified.put(file, Files.exists(file) ? Optional.of(Files.getLastModifiedTime(file)) : Optional.empty());
+    }
+    return modified;
+  }
+
+  public List<ControlMapStatus> findAll() {
+    return entries.values().stream().map(Entry::toRecord).toList();
+  }
+
+  static BaseControlParser parser(ProjectionType projectionType) {
+    return switch (projectionType) {
+      case FORWARD -> new ForwardControlParser();
+      case VRI -> new VriControlParser();
+    };
+  }
+
+  /**
+   * A control map and the number of projections using it.
+   */
+  public static final class Entry {
+    private final Key key;
+    private final Map<String, Object> configuration;
+    private final Map<Path, Optional<FileTime>> modified;
+    private final Instant loaded = Instant.now();
+    private final AtomicInteger leases = new AtomicInteger();
+    private volatile boolean retired = false;
+
+    Entry(Key key, Map<String, Object> configuration, Map<Path, Optional<FileTime>> modified) {
+      this.key = key;
+      this.configuration = configuration;
+      this.modified = modified;
+    }
+
+    public Key getKey() {
+      return key;
+    }
+
+    boolean isModified() throws IOException {
+      return !modified.equals(lastModified(key.controlFile(), key.resources()));
+    }
+
+    synchronized Optional<Lease> lease() {
+      if (retired) {
+        return Optional.empty();
+      }
+      leases.incrementAndGet();
+      return Optional.of(new Lease(this));
+    }
+
+    synchronized void retire() {
+      retired = true;
+      if (leases.get() == 0) {
+        logger.infof("Released %s control map loaded at %s", key.projectionType(), loaded);
+      }
+    }
+
+    synchronized void release() {
+      if (leases.decrementAndGet() == 0 && retired) {
+        logger.infof("Released %s control map loaded at %s", key.projectionType(), loaded);
+      }
+    }
+
+    ControlMapStatus toRecord() {
+      return new ControlMapStatus(key.projectionType(), key.controlFile().toString(), key.vdypVersion(), loaded,
+        leases.get());
+    }
+  }
+
+  /**
+   * A hold on a shared control map. The map must not be modified; {@link #controlMap} makes a copy for a single
+   * projection.
+   */
+  public static final class Lease implements AutoCloseable {
+    private final Entry entry;
+    private boolean closed = false;
+
+    private Lease(Entry entry) {
+      this.entry = entry;
+    }
+
+    public Key getKey() {
+      return entry.key;
+    }
+
+    public Map<String, Object> getConfiguration() {
+      return entry.configuration;
+    }
+
+    /**
+     * Build the control map for one projection from its own control file and the shared configuration.
+     *
+     * @param directory   the directory holding the control file and the input files it names
+     * @param controlFile the path of the control file, relative to the directory
+     * @return the control map, or empty if the control file names different resources than the shared one or the
+     * directory holds any of the resources it names, in which case the projection must parse its control file in full
+     */
+    public Optional<Map<String, Object>> controlMap(Path directory, String controlFile)
+      throws IOException, ResourceParseException {
+      var resolver = new JobFileResolver(directory);
+      var controlFileDirectory = resolver.toPath(controlFile).getParent();
+      for (var file : resourceFiles(controlFileDirectory, entry.key.resources())) {
+        if (file.startsWith(directory.toAbsolutePath().normalize()) && Files.exists(file)) {
+          logger.infof("Not using the shared %s control map for %s, which includes its own %s",
+            entry.key.projectionType(), directory, controlFileDirectory.relativize(file));
+          return Optional.empty();
+        }
+      }
+      try (var is = resolver.resolveForInput(controlFile)) {
+        var controlMap = parser(entry.key.projectionType())
+          .parseWithConfiguration(List.of(is), resolver, entry.configuration, entry.key.resources());
+        if (controlMap.isEmpty()) {
+          logger.infof("Not using the shared %s control map for %s, whose control file names other resources",
+            entry.key.projectionType(), directory);
+        }
+        return controlMap;
+      }
+    }
+
+    @Override
+    public synchronized void close() {
+      if (!closed) {
+        closed = true;
+        entry.release();
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJobStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * Reads an output file that a running job may still be writing. At the end of the file it waits for the job to write
+ * more, and only reports the end of the stream once the job has succeeded, so that a client can read the output while
+ * later polygons are still being projected.
+ */
+class GrowingFileInputStream extends InputStream {
+
+  static final long POLL_INTERVAL_MILLIS = 100;
+
+  private final FileChannel channel;
+  private final Supplier<ProjectionJobStatus> status;
+
+  GrowingFileInputStream(Path file, Supplier<ProjectionJobStatus> status) throws IOException {
+    this.channel = FileChannel.open(file);
+    this.status = status;
+  }
+
+  @Override
+  public int read() throws IOException {
+    var b = new byte[1];
+    return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    while (true) {
+      // Check the status before reading, so that anything written before the job finished is read before returning -1
+      var current = status.get();
+      int n = channel.read(ByteBuffer.wrap(b, off, len));
+      if (n > 0) {
+        return n;
+      }
+      if (current.isFinished()) {
+        if (current != ProjectionJobStatus.SUCCEEDED) {
+          throw new IOException("The job ended with status " + current + " before its output was complete");
+        }
+        return -1;
+      }
+      try {
+        Thread.sleep(POLL_INTERVAL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for output");
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
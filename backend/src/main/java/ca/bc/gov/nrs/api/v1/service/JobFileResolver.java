@@ -0,0 +1,70 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Resolves the files named by a job's control file within the job's directory. The names come from an uploaded
+ * control file, so every name is normalized and any that resolves outside the job directory, whether absolute or
+ * through <code>..</code>, is rejected with an {@link IOException}, which fails the job. {@link #toPath}, which
+ * cannot throw a checked exception, throws it wrapped in an {@link UncheckedIOException}.
+ */
+class JobFileResolver extends FileSystemFileResolver {
+
+  private final Path jobDirectory;
+  private final Path currentDirectory;
+
+  JobFileResolver(Path jobDirectory) {
+    this(jobDirectory.toAbsolutePath().normalize(), jobDirectory.toAbsolutePath().normalize());
+  }
+
+  private JobFileResolver(Path jobDirectory, Path currentDirectory) {
+    super(currentDirectory);
+    this.jobDirectory = jobDirectory;
+    this.currentDirectory = currentDirectory;
+  }
+
+  private Path confine(String filename) throws IOException {
+    var path = currentDirectory.resolve(filename).normalize();
+    if (!path.startsWith(jobDirectory)) {
+      throw new IOException("File " + filename + " is outside the job directory");
+    }
+    return path;
+  }
+
+  @Override
+  public Path toPath(String filename) {
+    try {
+      return confine(filename);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public InputStream resolveForInput(String filename) throws IOException {
+    confine(filename);
+    return super.resolveForInput(filename);
+  }
+
+  @Override
+  public OutputStream resolveForOutput(String filename) throws IOException {
+    confine(filename);
+    return super.resolveForOutput(filename);
+  }
+
+  @Override
+  public String toString(String filename) throws IOException {
+    return String.format("file:%s", confine(filename));
+  }
+
+  @Override
+  public JobFileResolver relative(String path) throws IOException {
+    return new JobFileResolver(jobDirectory, confine(path));
+  }
+}
@@ -0,0 +1,11 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+/**
+ * Thrown when a projection job cannot be accepted because too many are already waiting to run.
+ */
+public class ProjectionJobRejectedException extends RuntimeException {
+
+  public ProjectionJobRejectedException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
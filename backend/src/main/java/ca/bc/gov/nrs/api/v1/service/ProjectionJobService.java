@@ -0,0 +1,394 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJob;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJobStatus;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Runs projection jobs in the background. At most <code>vdyp.projection.max-concurrent-jobs</code> jobs run at once
+ * and at most <code>vdyp.projection.max-queued-jobs</code> more wait for them; further submissions are rejected until
+ * there is room, rather than queueing without bound.
+ * <p>
+ * The inputs of each job are unpacked into a directory of its own under <code>vdyp.projection.work-directory</code>,
+ * and the outputs the job writes there are collected into a ZIP archive when it succeeds. The outputs can also be read
+ * one at a time while the job is still writing them.
+ * <p>
+ * Finished jobs are kept for <code>vdyp.projection.retention</code> after they finish and then deleted with their
+ * files, as are job files left in the work directory by an earlier run that are older than that.
+ */
+@ApplicationScoped
+public class ProjectionJobService {
+
+  private static final Logger logger = Logger.getLogger(ProjectionJobService.class);
+
+  static final Duration DEFAULT_RETENTION = Duration.ofHours(24);
+  private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(5);
+
+  private final ProjectionRunner runner;
+  private final Path workDirectory;
+  private final ThreadPoolExecutor executor;
+  private final Duration retention;
+  private final ScheduledExecutorService cleaner;
+
+  private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+  ProjectionJobService(ProjectionRunner runner, int maxConcurrentJobs, int maxQueuedJobs,
+                       Optional<String> workDirectory) throws IOException {
+    this(runner, maxConcurrentJobs, maxQueuedJobs, workDirectory, DEFAULT_RETENTION);
+  }
+
+  @Inject
+  public ProjectionJobService(ProjectionRunner runner,
+                              @ConfigProperty(name = "vdyp.projection.max-concurrent-jobs", defaultValue = "2") int maxConcurrentJobs,
+                              @ConfigProperty(name = "vdyp.projection.max-queued-jobs", defaultValue = "16") int maxQueuedJobs,
+                              @ConfigProperty(name = "vdyp.projection.work-directory") Optional<String> workDirectory,
+                              @ConfigProperty(name = "vdyp.projection.retention", defaultValue = "PT24H") Duration retention) throws IOException {
+    if (maxConcurrentJobs < 1 || maxQueuedJobs < 1) {
+      throw new IllegalArgumentException("The projection job concurrency and queue limits must be positive");
+    }
+    if (retention.isNegative()) {
+      throw new IllegalArgumentException("The projection job retention period must not be negative");
+    }
+    this.runner = runner;
+    this.retention = retention;
+    this.workDirectory = workDirectory.isPresent() ? Files.createDirectories(Path.of(workDirectory.get()))
+      : Files.createTempDirectory("vdyp-projections");
+
+    var threadNumber = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(maxQueuedJobs), r -> {
+      var thread = new Thread(r, "vdyp-projection-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    this.cleaner = Executors.newSingleThreadScheduledExecutor(r -> {
+      var thread = new Thread(r, "vdyp-projection-cleaner");
+      thread.setDaemon(true);
+      return thread;
+    });
+    cleaner.scheduleWithFixedDelay(() -> removeExpired(Instant.now()), 0, CLEANUP_INTERVAL.toMillis(),
+      TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Submit a job.
+   *
+   * @param projectionType the program to run
+   * @param controlFile    the path of the control file within the archive
+   * @param inputs         a ZIP archive of the control file and the files it names
+   * @return the queued job
+   * @throws IllegalArgumentException     if the archive is not usable
+   * @throws ProjectionJobRejectedException if the queue is full
+   */
+  public ProjectionJob submit(ProjectionType projectionType, String controlFile, InputStream inputs) throws IOException {
+    var job = new Job(UUID.randomUUID(), projectionType, controlFile, workDirectory);
+    try {
+      job.inputFiles.addAll(unpack(inputs, job.directory));
+      if (!job.inputFiles.contains(job.directory.resolve(controlFile).normalize())) {
+        throw new IllegalArgumentException("Control file " + controlFile + " is not in the submitted archive");
+      }
+
+      jobs.put(job.id, job);
+      try {
+        synchronized (job) {
+          job.future = executor.submit(() -> run(job));
+        }
+      } catch (RejectedExecutionException e) {
+        jobs.remove(job.id);
+        throw new ProjectionJobRejectedException(
+          "Too many projection jobs are waiting to run; try again when some have finished", e);
+      }
+    } catch (IOException | RuntimeException e) {
+      deleteFiles(job);
+      throw e;
+    }
+    logger.infof("Queued %s job %s", projectionType, job.id);
+    return job.toRecord();
+  }
+
+  public List<ProjectionJob> findAll() {
+    return jobs.values().stream().sorted(Comparator.comparing(job -> job.submitted)).map(Job::toRecord).toList();
+  }
+
+  public Optional<ProjectionJob> findById(UUID id) {
+    return Optional.ofNullable(jobs.get(id)).map(Job::toRecord);
+  }
+
+  /**
+   * @return the ZIP archive of the outputs of the job, if it has succeeded
+   */
+  public Optional<Path> findResult(UUID id) {
+    return Optional.ofNullable(jobs.get(id)).filter(job -> job.status == ProjectionJobStatus.SUCCEEDED)
+      .map(job -> job.result);
+  }
+
+  /**
+   * @return the files the job has written so far, relative to its directory, if there is such a job
+   */
+  public Optional<List<String>> findOutputs(UUID id) throws IOException {
+    var job = jobs.get(id);
+    if (job == null) {
+      return Optional.empty();
+    }
+    try (Stream<Path> paths = Files.walk(job.directory)) {
+      return Optional.of(paths.filter(Files::isRegularFile).filter(path -> !job.inputFiles.contains(path)).sorted()
+        .map(path -> job.directory.relativize(path).toString().replace('\\', '/')).toList());
+    }
+  }
+
+  /**
+   * @param name the path of the output relative to the job directory
+   * @return the output file, if there is such a job and it has written such a file
+   */
+  public Optional<Path> findOutput(UUID id, String name) {
+    var job = jobs.get(id);
+    if (job == null) {
+      return Optional.empty();
+    }
+    var path = job.directory.resolve(name).normalize();
+    if (!path.startsWith(job.directory) || job.inputFiles.contains(path) || !Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    return Optional.of(path);
+  }
+
+  /**
+   * Open an output of a job for reading while the job may still be writing it. The stream waits for the job at the
+   * end of the file and ends when the job succeeds; it fails if the job fails or is cancelled first.
+   *
+   * @param output a file returned by {@link #findOutput}
+   */
+  public InputStream followOutput(UUID id, Path output) throws IOException {
+    var job = jobs.get(id);
+    if (job == null) {
+      throw new NoSuchFileException(output.toString(), null, "Job " + id + " has been deleted");
+    }
+    return new GrowingFileInputStream(output, () -> jobs.containsKey(id) ? job.status : ProjectionJobStatus.CANCELLED);
+  }
+
+  /**
+   * Cancel the job if it has not finished and delete it and its files.
+   *
+   * @return whether there was such a job
+   */
+  public boolean delete(UUID id) {
+    var job = jobs.remove(id);
+    if (job == null) {
+      return false;
+    }
+    synchronized (job) {
+      if (!job.status.isFinished()) {
+        job.future.cancel(true);
+        job.finish(ProjectionJobStatus.CANCELLED, null);
+      }
+    }
+    executor.purge();
+    deleteFiles(job);
+    return true;
+  }
+
+  /**
+   * Delete the jobs that finished longer than the retention period before the given time, with their files, and any
+   * other job files in the work directory last modified before then.
+   */
+  void removeExpired(Instant now) {
+    var cutoff = now.minus(retention);
+    for (var job : jobs.values()) {
+      var finished = job.finished;
+      if (job.status.isFinished() && finished != null && finished.isBefore(cutoff) && delete(job.id)) {
+        logger.infof("Deleted expired job %s", job.id);
+      }
+    }
+
+    Set<Path> current = new HashSet<>();
+    for (var job : jobs.values()) {
+      current.add(job.directory);
+      current.add(job.result);
+    }
+    try (Stream<Path> paths = Files.list(workDirectory)) {
+      for (var path : (Iterable<Path>) paths::iterator) {
+        if (isJobFile(path) && !current.contains(path)
+          && Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+          logger.infof("Deleting %s left by an earlier run", path);
+          deleteTree(path);
+        }
+      }
+    } catch (IOException | UncheckedIOException e) {
+      logger.warnf(e, "Unable to clean the projection work directory %s", workDirectory);
+    }
+  }
+
+  /**
+   * @return whether the path is named like the directory or result of a job, so that nothing else in the work
+   * directory is ever deleted
+   */
+  private static boolean isJobFile(Path path) {
+    var name = path.getFileName().toString();
+    try {
+      UUID.fromString(name.endsWith(".zip") ? name.substring(0, name.length() - 4) : name);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    cleaner.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  private void run(Job job) {
+    synchronized (job) {
+      if (job.status != ProjectionJobStatus.QUEUED) {
+        return;
+      }
+      job.status = ProjectionJobStatus.RUNNING;
+      job.started = Instant.now();
+    }
+    logger.infof("Running %s job %s", job.projectionType, job.id);
+    try {
+      runner.run(job.projectionType, job.directory, job.controlFile);
+      collectOutputs(job);
+      job.finish(ProjectionJobStatus.SUCCEEDED, null);
+      logger.infof("Job %s succeeded", job.id);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      job.finish(ProjectionJobStatus.CANCELLED, null);
+    } catch (Exception e) {
+      logger.errorf(e, "Job %s failed", job.id);
+      job.finish(ProjectionJobStatus.FAILED, e.getMessage() == null ? e.getClass().getName() : e.getMessage());
+    }
+  }
+
+  private static Set<Path> unpack(InputStream inputs, Path directory) throws IOException {
+    Set<Path> files = new HashSet<>();
+    Files.createDirectories(directory);
+    try (var zip = new ZipInputStream(inputs)) {
+      for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        var path = directory.resolve(entry.getName()).normalize();
+        if (!path.startsWith(directory)) {
+          throw new IllegalArgumentException("Archive entry " + entry.getName() + " is outside of the archive");
+        }
+        if (entry.isDirectory()) {
+          Files.createDirectories(path);
+        } else {
+          Files.createDirectories(path.getParent());
+          Files.copy(zip, path);
+          files.add(path);
+        }
+      }
+    }
+    if (files.isEmpty()) {
+      throw new IllegalArgumentException("The submitted archive is empty or is not a ZIP archive");
+    }
+    return files;
+  }
+
+  private static void collectOutputs(Job job) throws IOException {
+    try (var out = new ZipOutputStream(Files.newOutputStream(job.result)); Stream<Path> paths = Files.walk(job.directory)) {
+      for (var path : (Iterable<Path>) paths.filter(Files::isRegularFile).sorted()::iterator) {
+        if (job.inputFiles.contains(path)) {
+          continue;
+        }
+        out.putNextEntry(new ZipEntry(job.directory.relativize(path).toString().replace('\\', '/')));
+        Files.copy(path, out);
+        out.closeEntry();
+      }
+    }
+  }
+
+  private static void deleteFiles(Job job) {
+    try {
+      Files.deleteIfExists(job.result);
+      deleteTree(job.directory);
+    } catch (IOException | UncheckedIOException e) {
+      logger.warnf(e, "Unable to delete the files of job %s", job.id);
+    }
+  }
+
+  private static void deleteTree(Path root) throws IOException {
+    if (Files.exists(root)) {
+      try (Stream<Path> paths = Files.walk(root)) {
+        paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+          try {
+            Files.delete(path);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    }
+  }
+
+  private static class Job {
+    final UUID id;
+    final ProjectionType projectionType;
+    final String controlFile;
+    final Path directory;
+    final Path result;
+    final Set<Path> inputFiles = new HashSet<>();
+    final Instant submitted = Instant.now();
+
+    Future<?> future;
+    volatile ProjectionJobStatus status = ProjectionJobStatus.QUEUED;
+    volatile Instant started;
+    volatile Instant finished;
+    volatile String message;
+
+    Job(UUID id, ProjectionType projectionType, String controlFile, Path workDirectory) {
+      this.id = id;
+      this.projectionType = projectionType;
+      this.controlFile = controlFile;
+      this.directory = workDirectory.resolve(id.toString());
+      this.result = workDirectory.resolve(id + ".zip");
+    }
+
+    synchronized void finish(ProjectionJobStatus status, String message) {
+      if (!this.status.isFinished()) {
+        this.status = status;
+        this.message = message;
+        this.finished = Instant.now();
+      }
+    }
+
+    ProjectionJob toRecord() {
+      return new ProjectionJob(id, projectionType, controlFile, status, submitted, started, finished, message);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+
+import java.nio.file.Path;
+
+/**
+ * Runs a VDYP program over the files of a job. The control file and the files it names are read from the job
+ * directory, and the outputs it names are written there.
+ */
+public interface ProjectionRunner {
+
+  void run(ProjectionType projectionType, Path jobDirectory, String controlFile) throws Exception;
+}
@@ -0,0 +1,64 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import ca.bc.gov.nrs.vdyp.forward.ForwardPass;
+import ca.bc.gov.nrs.vdyp.forward.ForwardProcessor;
+import ca.bc.gov.nrs.vdyp.vri.VriStart;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Runs VRI Start and VDYP Forward. When the {@link ControlMapRegistry} has a control map for the job's type and the
+ * job's control file names the same coefficient files, only the job's control file and inputs are parsed and the
+ * configuration is taken from the shared map; otherwise everything the job's control file names is parsed. Files the job's control file names are resolved with a
+ * {@link JobFileResolver}, so a job can only read and write within its own directory.
+ */
+@ApplicationScoped
+public class VdypProjectionRunner implements ProjectionRunner {
+
+  private final ControlMapRegistry controlMapRegistry;
+
+  @Inject
+  public VdypProjectionRunner(ControlMapRegistry controlMapRegistry) {
+    this.controlMapRegistry = controlMapRegistry;
+  }
+
+  @Override
+  public void run(ProjectionType projectionType, Path jobDirectory, String controlFile) throws Exception {
+    var resolver = new JobFileResolver(jobDirectory);
+    var lease = controlMapRegistry.acquire(projectionType);
+    try {
+      Optional<Map<String, Object>> controlMap = lease.isPresent()
+        ? lease.get().controlMap(jobDirectory, controlFile)
+        : Optional.empty();
+      switch (projectionType) {
+        case VRI -> {
+          try (var app = new VriStart()) {
+            if (controlMap.isPresent()) {
+              app.init(resolver, controlMap.get());
+            } else {
+              app.init(resolver, controlFile);
+            }
+            app.process();
+          }
+        }
+        case FORWARD -> {
+          var processor = new ForwardProcessor();
+          if (controlMap.isPresent()) {
+            processor.process(EnumSet.allOf(ForwardPass.class), controlMap.get(), Optional.of(resolver));
+          } else {
+            processor.run(resolver, resolver, List.of(controlFile), EnumSet.allOf(ForwardPass.class));
+          }
+        }
+      }
+    } finally {
+      lease.ifPresent(ControlMapRegistry.Lease::close);
+    }
+  }
+}
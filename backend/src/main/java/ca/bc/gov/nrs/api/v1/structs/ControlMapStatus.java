@@ -0,0 +1,14 @@
+package ca.bc.gov.nrs.api.v1.structs;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.time.Instant;
+
+public record ControlMapStatus(@Schema(description = "The VDYP program the control map is for") ProjectionType projectionType,
+    @Schema(description = "The control file the map was parsed from") String controlFile,
+    @Schema(description = "The version of VDYP that parsed the map") String vdypVersion,
+    @Schema(description = "When the map was loaded") Instant loaded,
+    @Schema(description = "The number of projections using the map") int leases
+
+) {
+}
@@ -0,0 +1,18 @@
+package ca.bc.gov.nrs.api.v1.structs;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProjectionJob(@Schema(description = "The job ID") UUID id,
+    @Schema(description = "The VDYP program the job runs") ProjectionType projectionType,
+    @Schema(description = "The control file the job was run with", example = "vdyp.ctr") String controlFile,
+    @Schema(description = "The job status") ProjectionJobStatus status,
+    @Schema(description = "When the job was submitted") Instant submitted,
+    @Schema(description = "When the job started running, if it has") Instant started,
+    @Schema(description = "When the job finished, if it has") Instant finished,
+    @Schema(description = "Why the job failed, if it did") String message
+
+) {
+}
@@ -0,0 +1,9 @@
+package ca.bc.gov.nrs.api.v1.structs;
+
+public enum ProjectionJobStatus {
+  QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+  public boolean isFinished() {
+    return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+  }
+}
@@ -0,0 +1,11 @@
+package ca.bc.gov.nrs.api.v1.structs;
+
+/**
+ * The VDYP program a projection job runs.
+ */
+public enum ProjectionType {
+  /** VRI Start, which computes the initial state of VRI polygons */
+  VRI,
+  /** VDYP Forward, which grows polygons to their target year */
+  FORWARD
+}
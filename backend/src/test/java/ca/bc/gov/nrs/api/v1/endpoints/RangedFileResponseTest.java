@@ -0,0 +1,39 @@
+package ca.bc.gov.nrs.api.v1.endpoints;
+
+import ca.bc.gov.nrs.api.v1.endpoints.RangedFileResponse.ByteRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RangedFileResponseTest {
+
+  @Test
+  void testRanges() {
+    assertThat(ByteRange.parse("bytes=0-99", 1000), is(Optional.of(new ByteRange(0, 99))));
+    assertThat(ByteRange.parse("bytes=500-", 1000), is(Optional.of(new ByteRange(500, 999))));
+    assertThat(ByteRange.parse("bytes=-100", 1000), is(Optional.of(new ByteRange(900, 999))));
+    assertThat(ByteRange.parse("bytes=-2000", 1000), is(Optional.of(new ByteRange(0, 999))));
+    assertThat(ByteRange.parse("bytes=900-2000", 1000), is(Optional.of(new ByteRange(900, 999))));
+    assertThat(ByteRange.parse("bytes=900-2000", 1000).get().length(), is(100L));
+  }
+
+  @Test
+  void testIgnoredRanges() {
+    assertThat(ByteRange.parse(null, 1000), is(Optional.empty()));
+    assertThat(ByteRange.parse("bytes=-", 1000), is(Optional.empty()));
+    assertThat(ByteRange.parse("bytes=10-5", 1000), is(Optional.empty()));
+    assertThat(ByteRange.parse("bytes=0-9,20-29", 1000), is(Optional.empty()));
+    assertThat(ByteRange.parse("lines=0-9", 1000), is(Optional.empty()));
+  }
+
+  @Test
+  void testUnsatisfiableRanges() {
+    assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=1000-", 1000));
+    assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=-0", 1000));
+    assertThrows(IllegalArgumentException.class, () -> ByteRange.parse("bytes=-10", 0));
+  }
+}
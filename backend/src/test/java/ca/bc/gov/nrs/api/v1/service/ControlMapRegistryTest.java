@@ -0,0 +1,131 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ControlMapRegistryTest {
+
+  static final Path FORWARD_RESOURCES = Path.of("../lib/vdyp-forward/src/test/resources/ca/bc/gov/nrs/vdyp/test")
+    .toAbsolutePath().normalize();
+
+  @TempDir
+  Path jobDirectory;
+
+  ControlMapRegistry forwardRegistry() {
+    return new ControlMapRegistry(Optional.of(FORWARD_RESOURCES.resolve("VDYP.CTR").toString()), Optional.empty());
+  }
+
+  void copyJobInputs() throws Exception {
+    for (var file : new String[] { "VDYP.CTR", "vin_p1.dat", "vin_s1.dat", "vin_u1.dat", "vin_y1.dat" }) {
+      Files.copy(FORWARD_RESOURCES.resolve(file), jobDirectory.resolve(file));
+    }
+  }
+
+  @Test
+  void testUnregisteredType() throws Exception {
+    var registry = forwardRegistry();
+
+    assertThat(registry.isRegistered(ProjectionType.VRI), is(false));
+    assertThat(registry.acquire(ProjectionType.VRI), is(Optional.empty()));
+    assertThrows(IllegalArgumentException.class, () -> registry.reload(ProjectionType.VRI));
+  }
+
+  @Test
+  void testProjectionSharesConfiguration() throws Exception {
+    copyJobInputs();
+    var registry = forwardRegistry();
+
+    try (var lease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+      assertThat(registry.findAll().get(0).leases(), is(1));
+
+      var controlMap = lease.controlMap(jobDirectory, "VDYP.CTR").orElseThrow();
+      var key = ControlKey.BEC_DEF.name();
+      assertThat(controlMap.get(key), sameInstance(lease.getConfiguration().get(key)));
+      assertThat(controlMap.containsKey(ControlKey.FORWARD_INPUT_VDYP_POLY.name()), is(true));
+    }
+    assertThat(registry.findAll().get(0).leases(), is(0));
+  }
+
+  @Test
+  void testControlFileNamingOtherResourcesIsNotShared() throws Exception {
+    copyJobInputs();
+    Files.writeString(jobDirectory.resolve("VDYP.CTR"), "\r\n009 coe/OtherBecdef.dat\r\n", StandardOpenOption.APPEND);
+    var registry = forwardRegistry();
+
+    try (var lease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+      assertThat(lease.controlMap(jobDirectory, "VDYP.CTR"), is(Optional.empty()));
+    }
+  }
+
+  @Test
+  void testJobWithOwnResourcesIsNotShared() throws Exception {
+    copyJobInputs();
+    Files.createDirectories(jobDirectory.resolve("coe"));
+    Files.copy(FORWARD_RESOURCES.resolve("coe/Becdef.dat"), jobDirectory.resolve("coe/Becdef.dat"));
+    var registry = forwardRegistry();
+
+    try (var lease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+      assertThat(lease.controlMap(jobDirectory, "VDYP.CTR"), is(Optional.empty()));
+    }
+  }
+
+  @Test
+  void testModifiedResourceReloads(@TempDir Path configDirectory) throws Exception {
+    Files.copy(FORWARD_RESOURCES.resolve("VDYP.CTR"), configDirectory.resolve("VDYP.CTR"));
+    try (var files = Files.list(FORWARD_RESOURCES.resolve("coe"))) {
+      Files.createDirectories(configDirectory.resolve("coe"));
+      for (var file : (Iterable<Path>) files::iterator) {
+        Files.copy(file, configDirectory.resolve("coe").resolve(file.getFileName()));
+      }
+    }
+    var registry = new ControlMapRegistry(Optional.of(configDirectory.resolve("VDYP.CTR").toString()),
+      Optional.empty());
+
+    Map<String, Object> original;
+    try (var lease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+      original = lease.getConfiguration();
+    }
+    try (var lease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+      assertThat(lease.getConfiguration(), sameInstance(original));
+    }
+
+    var coefficients = configDirectory.resolve("coe/Becdef.dat");
+    Files.setLastModifiedTime(coefficients,
+      FileTime.from(Files.getLastModifiedTime(coefficients).toInstant().plusSeconds(60)));
+    try (var lease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+      assertThat(lease.getConfiguration(), not(sameInstance(original)));
+    }
+  }
+
+  @Test
+  void testReloadKeepsLeasedMap() throws Exception {
+    var registry = forwardRegistry();
+
+    try (var lease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+      var original = lease.getConfiguration();
+      registry.reload(ProjectionType.FORWARD);
+
+      assertThat(lease.getConfiguration(), sameInstance(original));
+      try (var newLease = registry.acquire(ProjectionType.FORWARD).orElseThrow()) {
+        assertThat(newLease.getConfiguration(), not(sameInstance(original)));
+        assertThat(newLease.getKey(), is(lease.getKey()));
+      }
+    }
+    assertThat(registry.findAll().size(), is(1));
+  }
+}
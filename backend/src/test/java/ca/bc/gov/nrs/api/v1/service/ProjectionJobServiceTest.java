@@ -0,0 +1,254 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJob;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJobStatus;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectionJobServiceTest {
+
+  @TempDir
+  Path workDirectory;
+
+  ProjectionJobService service;
+
+  @AfterEach
+  void shutdown() {
+    if (service != null) {
+      service.shutdown();
+    }
+  }
+
+  static ByteArrayInputStream archive(String... namesAndContents) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    try (var zip = new ZipOutputStream(bytes)) {
+      for (int i = 0; i < namesAndContents.length; i += 2) {
+        zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+        zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+      }
+    }
+    return new ByteArrayInputStream(bytes.toByteArray());
+  }
+
+  static List<String> entryNames(Path zipFile) throws IOException {
+    List<String> names = new ArrayList<>();
+    try (var zip = new ZipInputStream(Files.newInputStream(zipFile))) {
+      for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        names.add(entry.getName());
+      }
+    }
+    return names;
+  }
+
+  ProjectionJob awaitFinished(UUID id) throws InterruptedException {
+    for (int i = 0; i < 500; i++) {
+      var job = service.findById(id).orElseThrow();
+      if (job.status().isFinished()) {
+        return job;
+      }
+      Thread.sleep(10);
+    }
+    throw new AssertionError("Job " + id + " did not finish");
+  }
+
+  @Test
+  void testJobOutputsAreCollected() throws Exception {
+    service = new ProjectionJobService((type, directory, controlFile) -> {
+      assertThat(type, is(ProjectionType.FORWARD));
+      assertThat(Files.readString(directory.resolve(controlFile)), is("control"));
+      Files.writeString(directory.resolve("out/vp.dat"), "polygons");
+    }, 1, 1, Optional.of(workDirectory.toString()));
+
+    var job = service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control", "in/vp.dat", "input", "out/", ""));
+    assertThat(job.controlFile(), is("vdyp.ctr"));
+
+    var finished = awaitFinished(job.id());
+    assertThat(finished.status(), is(ProjectionJobStatus.SUCCEEDED));
+    assertThat(entryNames(service.findResult(job.id()).orElseThrow()), contains("out/vp.dat"));
+
+    assertTrue(service.delete(job.id()));
+    assertThat(service.findById(job.id()), is(Optional.empty()));
+    try (var files = Files.list(workDirectory)) {
+      assertThat(files.count(), is(0L));
+    }
+  }
+
+  @Test
+  void testFailedJob() throws Exception {
+    service = new ProjectionJobService((type, directory, controlFile) -> {
+      throw new IllegalStateException("no polygons");
+    }, 1, 1, Optional.of(workDirectory.toString()));
+
+    var job = service.submit(ProjectionType.VRI, "vri.ctr", archive("vri.ctr", "control"));
+
+    var finished = awaitFinished(job.id());
+    assertThat(finished.status(), is(ProjectionJobStatus.FAILED));
+    assertThat(finished.message(), is("no polygons"));
+    assertThat(service.findResult(job.id()), is(Optional.empty()));
+  }
+
+  @Test
+  void testExpiredJobsAreRemoved() throws Exception {
+    var release = new CountDownLatch(1);
+    service = new ProjectionJobService((type, directory, controlFile) -> {
+      if (controlFile.equals("fail.ctr")) {
+        throw new IllegalStateException("no polygons");
+      }
+      if (controlFile.equals("wait.ctr")) {
+        release.await(10, TimeUnit.SECONDS);
+      }
+      Files.writeString(directory.resolve("vp.dat"), "polygons");
+    }, 2, 2, Optional.of(workDirectory.toString()), Duration.ofHours(1));
+
+    var succeeded = service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control"));
+    var failed = service.submit(ProjectionType.FORWARD, "fail.ctr", archive("fail.ctr", "control"));
+    awaitFinished(succeeded.id());
+    awaitFinished(failed.id());
+    var running = service.submit(ProjectionType.FORWARD, "wait.ctr", archive("wait.ctr", "control"));
+
+    // Left by an earlier run
+    var leftover = Files.createDirectories(workDirectory.resolve(UUID.randomUUID().toString()));
+    Files.setLastModifiedTime(leftover, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+    var unrelated = Files.writeString(workDirectory.resolve("notes.txt"), "keep");
+    Files.setLastModifiedTime(unrelated, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+    service.removeExpired(Instant.now());
+    assertThat(service.findAll().size(), is(3));
+    assertThat(Files.exists(leftover), is(false));
+    assertTrue(Files.exists(unrelated));
+
+    service.removeExpired(Instant.now().plus(Duration.ofHours(2)));
+    assertThat(service.findById(succeeded.id()), is(Optional.empty()));
+    assertThat(service.findById(failed.id()), is(Optional.empty()));
+    assertThat(service.findById(running.id()).orElseThrow().status(), is(ProjectionJobStatus.RUNNING));
+    try (var files = Files.list(workDirectory)) {
+      assertThat(files.map(path -> path.getFileName().toString()).sorted().toList(),
+        contains(running.id().toString(), "notes.txt"));
+    }
+
+    release.countDown();
+    awaitFinished(running.id());
+  }
+
+  @Test
+  void testFullQueueRejectsJobs() throws Exception {
+    var release = new CountDownLatch(1);
+    service = new ProjectionJobService((type, directory, controlFile) -> release.await(10, TimeUnit.SECONDS), 1, 1,
+      Optional.of(workDirectory.toString()));
+
+    var running = service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control"));
+    var queued = service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control"));
+    assertThrows(
+      ProjectionJobRejectedException.class,
+      () -> service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control"))
+    );
+    assertThat(service.findAll().size(), is(2));
+
+    assertTrue(service.delete(queued.id()));
+    release.countDown();
+    assertThat(awaitFinished(running.id()).status(), is(ProjectionJobStatus.SUCCEEDED));
+  }
+
+  @Test
+  void testUnusableArchives() throws Exception {
+    service = new ProjectionJobService((type, directory, controlFile) -> {
+    }, 1, 1, Optional.of(workDirectory.toString()));
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("other.ctr", "control"))
+    );
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control", "../escape", "x"))
+    );
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> service.submit(ProjectionType.FORWARD, "vdyp.ctr", new ByteArrayInputStream(new byte[] { 1, 2, 3 }))
+    );
+    assertThat(service.findAll().size(), is(0));
+    try (var files = Files.list(workDirectory)) {
+      assertThat(files.count(), is(0L));
+    }
+  }
+
+  @Test
+  void testFollowOutputWhileRunning() throws Exception {
+    var firstPolygonWritten = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    service = new ProjectionJobService((type, directory, controlFile) -> {
+      var output = directory.resolve("vp.dat");
+      Files.writeString(output, "polygon 1\n");
+      firstPolygonWritten.countDown();
+      release.await(10, TimeUnit.SECONDS);
+      Files.writeString(output, "polygon 2\n", StandardOpenOption.APPEND);
+    }, 1, 1, Optional.of(workDirectory.toString()));
+
+    var job = service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control"));
+    assertTrue(firstPolygonWritten.await(10, TimeUnit.SECONDS));
+    assertThat(service.findOutputs(job.id()).orElseThrow(), contains("vp.dat"));
+    assertThat(service.findOutput(job.id(), "vdyp.ctr"), is(Optional.empty()));
+    assertThat(service.findOutput(job.id(), "../" + job.id() + ".zip"), is(Optional.empty()));
+
+    try (var in = service.followOutput(job.id(), service.findOutput(job.id(), "vp.dat").orElseThrow())) {
+      var buffer = new byte[100];
+      int n = in.read(buffer);
+      assertThat(new String(buffer, 0, n, StandardCharsets.UTF_8), is("polygon 1\n"));
+
+      release.countDown();
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is("polygon 2\n"));
+    }
+    assertThat(service.findById(job.id()).orElseThrow().status(), is(ProjectionJobStatus.SUCCEEDED));
+  }
+
+  @Test
+  void testFollowOutputOfFailedJob() throws Exception {
+    var release = new CountDownLatch(1);
+    service = new ProjectionJobService((type, directory, controlFile) -> {
+      Files.writeString(directory.resolve("vp.dat"), "polygon 1\n");
+      release.await(10, TimeUnit.SECONDS);
+      throw new IllegalStateException("bad polygon");
+    }, 1, 1, Optional.of(workDirectory.toString()));
+
+    var job = service.submit(ProjectionType.FORWARD, "vdyp.ctr", archive("vdyp.ctr", "control"));
+    Optional<Path> output = Optional.empty();
+    for (int i = 0; i < 500 && output.isEmpty(); i++) {
+      Thread.sleep(10);
+      output = service.findOutput(job.id(), "vp.dat");
+    }
+
+    try (var in = service.followOutput(job.id(), output.orElseThrow())) {
+      release.countDown();
+      assertThrows(IOException.class, in::readAllBytes);
+    }
+  }
+}
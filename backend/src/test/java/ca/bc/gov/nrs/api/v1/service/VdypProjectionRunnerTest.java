@@ -0,0 +1,144 @@
+package ca.bc.gov.nrs.api.v1.service;
+
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJob;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionJobStatus;
+import ca.bc.gov.nrs.api.v1.structs.ProjectionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VdypProjectionRunnerTest {
+
+  static final Path FORWARD_RESOURCES = ControlMapRegistryTest.FORWARD_RESOURCES;
+
+  @TempDir
+  Path workDirectory;
+
+  ProjectionJobService service;
+
+  @AfterEach
+  void shutdown() {
+    if (service != null) {
+      service.shutdown();
+    }
+  }
+
+  /**
+   * The forward test control file with the file named on one line replaced
+   */
+  static byte[] controlFile(String lineKey, String filename) throws IOException {
+    var control = new StringBuilder();
+    for (var line : Files.readAllLines(FORWARD_RESOURCES.resolve("VDYP.CTR"))) {
+      if (line.startsWith(lineKey + " ")) {
+        line = lineKey + " " + filename + " " + line.substring(4).stripLeading().split(" ", 2)[1];
+      }
+      control.append(line).append("\r\n");
+    }
+    return control.toString().getBytes();
+  }
+
+  static ByteArrayInputStream archive(byte[] controlFile) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    try (var zip = new ZipOutputStream(bytes)) {
+      zip.putNextEntry(new ZipEntry("VDYP.CTR"));
+      zip.write(controlFile);
+      zip.closeEntry();
+      for (var file : new String[] { "vin_p1.dat", "vin_s1.dat", "vin_u1.dat", "vin_y1.dat" }) {
+        zip.putNextEntry(new ZipEntry(file));
+        zip.write(Files.readAllBytes(FORWARD_RESOURCES.resolve(file)));
+        zip.closeEntry();
+      }
+    }
+    return new ByteArrayInputStream(bytes.toByteArray());
+  }
+
+  static ControlMapRegistry registry() {
+    return new ControlMapRegistry(Optional.of(FORWARD_RESOURCES.resolve("VDYP.CTR").toString()), Optional.empty());
+  }
+
+  ProjectionJob awaitFinished(UUID id) throws InterruptedException {
+    for (int i = 0; i < 3000 && !service.findById(id).orElseThrow().status().isFinished(); i++) {
+      Thread.sleep(10);
+    }
+    return service.findById(id).orElseThrow();
+  }
+
+  void assertJobFails(byte[] controlFile) throws Exception {
+    service = new ProjectionJobService(new VdypProjectionRunner(registry()), 1, 1,
+      Optional.of(workDirectory.resolve("jobs").toString()));
+
+    var job = service.submit(ProjectionType.FORWARD, "VDYP.CTR", archive(controlFile));
+    var finished = awaitFinished(job.id());
+    assertThat(finished.status(), is(ProjectionJobStatus.FAILED));
+    assertThat(finished.message(), containsString("outside the job directory"));
+  }
+
+  @Test
+  void testProjectionWithSharedConfiguration() throws Exception {
+    service = new ProjectionJobService(new VdypProjectionRunner(registry()), 1, 1,
+      Optional.of(workDirectory.resolve("jobs").toString()));
+
+    var job = service.submit(ProjectionType.FORWARD, "VDYP.CTR",
+      archive(Files.readAllBytes(FORWARD_RESOURCES.resolve("VDYP.CTR"))));
+    var finished = awaitFinished(job.id());
+    assertThat(finished.message(), finished.status(), is(ProjectionJobStatus.SUCCEEDED));
+    assertThat(service.findOutputs(job.id()).orElseThrow(), hasItem("vp_grow2.dat"));
+  }
+
+  @Test
+  void testInputOutsideJobDirectoryFailsJob() throws Exception {
+    // A readable file one level above the job directory
+    Files.createDirectories(workDirectory.resolve("jobs"));
+    Files.copy(FORWARD_RESOURCES.resolve("vin_p1.dat"), workDirectory.resolve("jobs/vin_p1.dat"));
+
+    assertJobFails(controlFile("011", "../vin_p1.dat"));
+  }
+
+  @Test
+  void testTraversingOutputFailsJob() throws Exception {
+    assertJobFails(controlFile("015", "../../escape.dat"));
+    assertThat(Files.exists(workDirectory.resolve("escape.dat")), is(false));
+  }
+
+  @Test
+  void testAbsoluteOutputFailsJob() throws Exception {
+    var escape = workDirectory.resolve("escape.dat");
+
+    assertJobFails(controlFile("015", escape.toString()));
+    assertThat(Files.exists(escape), is(false));
+  }
+
+  @Test
+  void testResolverConfinesNames() throws Exception {
+    var jobDirectory = Files.createDirectories(workDirectory.resolve("job"));
+    var resolver = new JobFileResolver(jobDirectory);
+
+    assertThat(resolver.toPath("in/../vp.dat"), is(jobDirectory.resolve("vp.dat")));
+    assertThat(resolver.relative("in").toPath("vp.dat"), is(jobDirectory.resolve("in/vp.dat")));
+    assertThrows(UncheckedIOException.class, () -> resolver.toPath("../vp.dat"));
+    assertThrows(UncheckedIOException.class, () -> resolver.toPath(workDirectory.resolve("vp.dat").toString()));
+    assertThrows(UncheckedIOException.class, () -> resolver.relative("in").toPath("../../vp.dat"));
+    assertThrows(IOException.class, () -> resolver.resolveForOutput("../vp.dat"));
+    assertThat(Files.exists(workDirectory.resolve("vp.dat")), is(false));
+    Files.writeString(workDirectory.resolve("vp.dat"), "polygon");
+    assertThrows(IOException.class, () -> resolver.resolveForInput("../vp.dat"));
+    assertThrows(IOException.class, () -> resolver.resolveForInput(workDirectory.resolve("vp.dat").toString()));
+  }
+}
@@ -0,0 +1,51 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import java.text.MessageFormat;
+
+/**
+ * Counts of the polygons of a run and of the cohorts they fell into, where a cohort is a set of polygons with the same
+ * {@link ca.bc.gov.nrs.vdyp.model.CohortKey} that is processed once.
+ */
+public class CohortStatistics {
+
+	private int polygons = 0;
+	private int cohorts = 0;
+
+	/**
+	 * Count a polygon that was processed, starting a cohort.
+	 */
+	public void processed() {
+		polygons++;
+		cohorts++;
+	}
+
+	/**
+	 * Count a polygon whose results were taken from an earlier polygon of its cohort.
+	 */
+	public void deduplicated() {
+		polygons++;
+	}
+
+	public int getPolygons() {
+		return polygons;
+	}
+
+	public int getCohorts() {
+		return cohorts;
+	}
+
+	/**
+	 * @return the number of polygons for each that was processed, 1 if there were none
+	 */
+	public float getDeduplicationRatio() {
+		return cohorts == 0 ? 1f : (float) polygons / cohorts;
+	}
+
+	@Override
+	public String toString() {
+		return MessageFormat.format(
+				"{0} polygons in {1} cohorts, a deduplication ratio of {2,number,0.00}", polygons, cohorts,
+				getDeduplicationRatio()
+		);
+	}
+}
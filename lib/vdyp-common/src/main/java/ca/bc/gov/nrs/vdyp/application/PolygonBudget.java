@@ -0,0 +1,120 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import java.time.Duration;
+
+/**
+ * A limit on the time and the number of solver evaluations spent on one polygon, so that a pathological polygon can not
+ * stall a run. The budget is enforced cooperatively: the solvers of the applications call {@link #spend} for each
+ * evaluation of the function they solve, which throws once the polygon being processed on the current thread has used
+ * up its budget. The time is only checked there, so a polygon can overrun it by the time between two evaluations.
+ * <p>
+ * The site index calculators are not limited themselves. Their searches are bounded, and they report failures as status
+ * codes rather than exceptions. Solvers run outside of {@link #start} are not limited.
+ */
+public final class PolygonBudget {
+
+	private static final ThreadLocal<Spending> current = new ThreadLocal<>();
+
+	private final Duration maxTime;
+	private final int maxEvaluations;
+
+	/**
+	 * @param maxTime        the longest time to spend on a polygon
+	 * @param maxEvaluations the most solver evaluations to spend on a polygon
+	 */
+	public PolygonBudget(Duration maxTime, int maxEvaluations) {
+		if (maxTime.isNegative() || maxTime.isZero()) {
+			throw new IllegalArgumentException("The time for a polygon must be positive, not " + maxTime);
+		}
+		if (maxEvaluations < 1) {
+			throw new IllegalArgumentException(
+					"The solver evaluations for a polygon must be at least 1, not " + maxEvaluations
+			);
+		}
+		this.maxTime = maxTime;
+		this.maxEvaluations = maxEvaluations;
+	}
+
+	public Duration getMaxTime() {
+		return maxTime;
+	}
+
+	public int getMaxEvaluations() {
+		return maxEvaluations;
+	}
+
+	/**
+	 * The spending of a polygon on the current thread, until it is closed.
+	 */
+	public static final class Scope implements AutoCloseable {
+		private final Spending previous;
+
+		private Scope(Spending previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Start spending this budget on a polygon processed on the current thread.
+	 *
+	 * @return the scope of the polygon, which must be closed once it has been processed
+	 */
+	public Scope start() {
+		var previous = current.get();
+		current.set(new Spending(this, System.nanoTime()));
+		return new Scope(previous);
+	}
+
+	/**
+	 * Spend solver evaluations from the budget of the polygon being processed on the current thread, if there is one.
+	 *
+	 * @param evaluations the number of evaluations
+	 * @throws RuntimeStandProcessingException wrapping a {@link PolygonBudgetExceededException} if the polygon has used
+	 *                                         up its evaluations or time
+	 */
+	public static void spend(int evaluations) {
+		var spending = current.get();
+		if (spending != null) {
+			spending.spend(evaluations);
+		}
+	}
+
+	private static final class Spending {
+		private final PolygonBudget budget;
+		private final long startNanos;
+		private int evaluations = 0;
+
+		Spending(PolygonBudget budget, long startNanos) {
+			this.budget = budget;
+			this.startNanos = startNanos;
+		}
+
+		void spend(int n) {
+			evaluations += n;
+			if (evaluations > budget.maxEvaluations) {
+				throw new RuntimeStandProcessingException(
+						new PolygonBudgetExceededException(
+								"Polygon used more than its budget of " + budget.maxEvaluations + " solver evaluations"
+						)
+				);
+			}
+			long elapsed = System.nanoTime() - startNanos;
+			if (elapsed > budget.maxTime.toNanos()) {
+				throw new RuntimeStandProcessingException(
+						new PolygonBudgetExceededException(
+								"Polygon took longer than its budget of " + budget.maxTime.toMillis() + " ms"
+						)
+				);
+			}
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+/**
+ * A polygon used up its {@link PolygonBudget} before it could be processed. Unlike other stand processing errors, it
+ * may succeed if retried with a larger budget.
+ */
+public class PolygonBudgetExceededException extends StandProcessingException {
+
+	private static final long serialVersionUID = -6309447010874911574L;
+
+	public PolygonBudgetExceededException(String message) {
+		super(message);
+	}
+
+}
@@ -0,0 +1,150 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Processes batches of polygons, or of groups of polygons processed together, on a work stealing pool and commits their
+ * results in the order they were given.
+ * <p>
+ * The time taken by a polygon varies by orders of magnitude with the number of its species and of years it is grown, so
+ * the polygons of a batch are started in order of the cost a model predicts for them, most expensive first. The cheap
+ * polygons left to the end of the batch then fill in around the expensive ones, rather than the threads waiting on a
+ * straggler started late. Each result is committed as soon as it and all those before it are ready.
+ * <p>
+ * Without a pool, each polygon is processed and committed on the calling thread in turn. Either way the predicted and
+ * actual cost of each polygon is counted in the {@link ProjectionCostStatistics}.
+ *
+ * @param <P> the type of the polygons, or groups of polygons, processed
+ */
+public class PolygonScheduler<P> {
+
+	/**
+	 * Processes a polygon. With a pool this is called on the threads of the pool, concurrently, and must not share
+	 * mutable state between calls on different threads.
+	 */
+	@FunctionalInterface
+	public interface Work<P, R> {
+		R process(P polygon) throws ProcessingException;
+	}
+
+	/**
+	 * Commits the result of processing a polygon. This is always called on the thread running the batch.
+	 */
+	@FunctionalInterface
+	public interface Commit<P, R> {
+		void commit(P polygon, R result) throws ProcessingException;
+	}
+
+	private final Optional<ForkJoinPool> pool;
+	private final ToDoubleFunction<P> costModel;
+	private final ProjectionCostStatistics statistics;
+
+	/**
+	 * @param pool       the pool to process polygons on, or empty to process them on the calling thread
+	 * @param costModel  predicts the relative cost of processing a polygon
+	 * @param statistics where the predicted and actual costs are counted
+	 */
+	public PolygonScheduler(
+			Optional<ForkJoinPool> pool, ToDoubleFunction<P> costModel, ProjectionCostStatistics statistics
+	) {
+		this.pool = pool;
+		this.costModel = costModel;
+		this.statistics = statistics;
+	}
+
+	private record Timed<R>(R result, long nanos, ProcessingException error) {
+
+		R get() throws ProcessingException {
+			if (error != null) {
+				throw error;
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Process a batch of polygons and commit their results in order. If a polygon fails, the polygons before it are
+	 * committed and the error is thrown once the others already started have finished.
+	 *
+	 * @param polygons the polygons
+	 * @param work     processes a polygon
+	 * @param commit   commits the result of a polygon
+	 * @throws ProcessingException the first error, in the order of the polygons, of processing or committing one
+	 */
+	public <R> void run(List<P> polygons, Work<P, R> work, Commit<P, R> commit) throws ProcessingException {
+		var start = System.nanoTime();
+		double[] costs = polygons.stream().mapToDouble(costModel).toArray();
+
+		if (pool.isEmpty()) {
+			for (int i = 0; i < polygons.size(); i++) {
+				var polygon = polygons.get(i);
+				var timed = timed(work, polygon);
+				statistics.polygon(costs[i], timed.nanos());
+				commit.commit(polygon, timed.get());
+			}
+			statistics.batch(System.nanoTime() - start, 1);
+			return;
+		}
+
+		// Submit the most expensive first. Tasks submitted from outside the pool are taken in the order submitted.
+		List<ForkJoinTask<Timed<R>>> tasks = new ArrayList<>(polygons.size());
+		for (int i = 0; i < polygons.size(); i++) {
+			tasks.add(null);
+		}
+		var order = IntStream.range(0, polygons.size()).boxed()
+				.sorted(Comparator.comparingDouble((Integer i) -> costs[i]).reversed()).toList();
+		for (int i : order) {
+			var polygon = polygons.get(i);
+			tasks.set(i, pool.get().submit(() -> timed(work, polygon)));
+		}
+
+		try {
+			for (int i = 0; i < polygons.size(); i++) {
+				var timed = await(tasks.get(i));
+				statistics.polygon(costs[i], timed.nanos());
+				commit.commit(polygons.get(i), timed.get());
+			}
+		} finally {
+			// Leave nothing running on the pool once the batch is over
+			for (var task : tasks) {
+				task.cancel(false);
+				task.quietlyJoin();
+			}
+			statistics.batch(System.nanoTime() - start, pool.get().getParallelism());
+		}
+	}
+
+	private static <P, R> Timed<R> timed(Work<P, R> work, P polygon) {
+		// The pool would wrap a checked exception in a RuntimeException, so it is passed back with the result
+		var polygonStart = System.nanoTime();
+		try {
+			var result = work.process(polygon);
+			return new Timed<>(result, System.nanoTime() - polygonStart, null);
+		} catch (ProcessingException e) {
+			return new Timed<>(null, System.nanoTime() - polygonStart, e);
+		}
+	}
+
+	private static <R> R await(ForkJoinTask<R> task) throws ProcessingException {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ProcessingException("Interrupted while processing polygons", e);
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new ProcessingException(cause);
+		}
+	}
+}
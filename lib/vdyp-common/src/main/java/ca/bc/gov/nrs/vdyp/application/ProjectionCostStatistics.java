@@ -0,0 +1,108 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import java.text.MessageFormat;
+
+/**
+ * The predicted and actual costs of the polygons of a run, for judging how well a cost model ranks them and how busy
+ * the threads processing them were kept. Predicted costs are in the units of the cost model; actual costs are the
+ * nanoseconds spent processing each polygon.
+ */
+public class ProjectionCostStatistics {
+
+	private int polygons = 0;
+	private double predictedCost = 0;
+	private long actualNanos = 0;
+	private long maxActualNanos = 0;
+	private long wallNanos = 0;
+	private long threadNanos = 0;
+
+	// Sums for the correlation of predicted and actual costs
+	private double sumPredictedSquared = 0;
+	private double sumActual = 0;
+	private double sumActualSquared = 0;
+	private double sumProduct = 0;
+
+	/**
+	 * Count a polygon.
+	 *
+	 * @param predicted   the cost predicted for it
+	 * @param actualNanos the time spent processing it
+	 */
+	public void polygon(double predicted, long actualNanos) {
+		polygons++;
+		predictedCost += predicted;
+		this.actualNanos += actualNanos;
+		maxActualNanos = Math.max(maxActualNanos, actualNanos);
+
+		double actual = actualNanos;
+		sumPredictedSquared += predicted * predicted;
+		sumActual += actual;
+		sumActualSquared += actual * actual;
+		sumProduct += predicted * actual;
+	}
+
+	/**
+	 * Count a batch of polygons processed together.
+	 *
+	 * @param wallNanos the time from the start of the batch until all of its polygons were processed
+	 * @param threads   the number of threads available to the batch
+	 */
+	public void batch(long wallNanos, int threads) {
+		this.wallNanos += wallNanos;
+		this.threadNanos += wallNanos * threads;
+	}
+
+	public int getPolygons() {
+		return polygons;
+	}
+
+	public double getPredictedCost() {
+		return predictedCost;
+	}
+
+	public long getActualNanos() {
+		return actualNanos;
+	}
+
+	/**
+	 * @return the longest time spent on one polygon
+	 */
+	public long getMaxActualNanos() {
+		return maxActualNanos;
+	}
+
+	public long getWallNanos() {
+		return wallNanos;
+	}
+
+	/**
+	 * @return the fraction of the time of the threads available that was spent processing polygons, 1 if there was none
+	 */
+	public double getUtilization() {
+		return threadNanos == 0 ? 1 : Math.min(1, (double) actualNanos / threadNanos);
+	}
+
+	/**
+	 * @return the correlation of the predicted and actual costs of the polygons, or NaN if there are too few polygons
+	 *         or they do not vary
+	 */
+	public double getCorrelation() {
+		double n = polygons;
+		double covariance = n * sumProduct - predictedCost * sumActual;
+		double predictedVariance = n * sumPredictedSquared - predictedCost * predictedCost;
+		double actualVariance = n * sumActualSquared - sumActual * sumActual;
+		if (polygons < 2 || predictedVariance <= 0 || actualVariance <= 0) {
+			return Double.NaN;
+		}
+		return covariance / Math.sqrt(predictedVariance * actualVariance);
+	}
+
+	@Override
+	public String toString() {
+		return MessageFormat.format(
+				"{0} polygons of predicted cost {1,number,0.0} in {2,number,0.000}s ({3,number,0.000}s at most) over {4,number,0.000}s, a utilization of {5,number,0%} and correlation of {6,number,0.00}",
+				polygons, predictedCost, actualNanos / 1e9, maxActualNanos / 1e9, wallNanos / 1e9, getUtilization(),
+				getCorrelation()
+		);
+	}
+}
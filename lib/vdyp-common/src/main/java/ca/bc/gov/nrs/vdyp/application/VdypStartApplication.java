@@ -19,6 +19,7 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +49,8 @@ import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.io.write.PolygonEvent;
+import ca.bc.gov.nrs.vdyp.io.write.PolygonEventLogWriter;
 import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
 import ca.bc.gov.nrs.vdyp.math.FloatMath;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypLayer;
@@ -63,10 +66,12 @@ import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
 import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
 import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
 import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
 import ca.bc.gov.nrs.vdyp.model.VolumeComputeMode;
@@ -172,6 +177,16 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 
 	public EstimationMethods estimationMethods;
 
+	private boolean deferResources = false;
+
+	private PolygonEventLogWriter polygonEventLog = null;
+
+	private int solverIterations = 0;
+
+	private PolygonBudget polygonBudget = null;
+
+	private final List<PolygonIdentifier> retryPolygons = new ArrayList<>();
+
 	/**
 	 * When finding primary species these genera should be combined
 	 */
@@ -200,6 +215,7 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 		}
 
 		BaseControlParser parser = getControlFileParser();
+		parser.setDeferResources(deferResources);
 		List<InputStream> resources = new ArrayList<>(controlFilePaths.length);
 		try {
 			for (String path : controlFilePaths) {
@@ -235,6 +251,181 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 
 	protected abstract BaseControlParser getControlFileParser();
 
+	/**
+	 * Parse coefficient resources only when processing first needs them. Must be set before the application is
+	 * initialized from control files.
+	 *
+	 * @see BaseControlParser#setDeferResources(boolean)
+	 */
+	public void setDeferResources(boolean deferResources) {
+		this.deferResources = deferResources;
+	}
+
+	/**
+	 * Record a {@link PolygonEvent} for each polygon processed to the given log, which will be closed when the
+	 * application is.
+	 */
+	public void setPolygonEventLog(PolygonEventLogWriter polygonEventLog) {
+		this.polygonEventLog = polygonEventLog;
+	}
+
+	/**
+	 * Limit the time and solver evaluations spent on each polygon. A polygon that exceeds the budget is bypassed,
+	 * logged as {@link PolygonEvent.Outcome#OVER_BUDGET} and added to the {@link #getRetryPolygons() retry list}. If no
+	 * budget is set (the default) polygons are not limited.
+	 *
+	 * @param polygonBudget the budget for each polygon, or null for none
+	 */
+	public void setPolygonBudget(PolygonBudget polygonBudget) {
+		this.polygonBudget = polygonBudget;
+	}
+
+	/**
+	 * @return the polygons bypassed for exceeding the polygon budget, in the order they were read, to be retried with a
+	 *         larger budget
+	 */
+	public List<PolygonIdentifier> getRetryPolygons() {
+		return Collections.unmodifiableList(retryPolygons);
+	}
+
+	/**
+	 * A step in processing a polygon
+	 */
+	@FunctionalInterface
+	protected interface PolygonStep<T> {
+		T apply() throws ProcessingException;
+	}
+
+	/**
+	 * Run a step of processing a polygon within the polygon budget, if there is one.
+	 *
+	 * @throws PolygonBudgetExceededException if the polygon exceeds the budget
+	 */
+	protected <T> T withinPolygonBudget(PolygonStep<T> step) throws ProcessingException {
+		if (polygonBudget == null) {
+			return step.apply();
+		}
+		try (var scope = polygonBudget.start()) {
+			return step.apply();
+		} catch (RuntimeStandProcessingException ex) {
+			if (ex.getCause() instanceof PolygonBudgetExceededException budgetEx) {
+				throw budgetEx;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Bypass a polygon that exceeded the polygon budget, queueing it to be retried.
+	 *
+	 * @param polygon the input polygon
+	 * @param start   the time returned by {@link #startPolygon()}
+	 * @param ex      the exception thrown
+	 * @throws IOException
+	 */
+	protected void bypassOverBudget(BaseVdypPolygon<?, ?, ?, ?> polygon, long start, PolygonBudgetExceededException ex)
+			throws IOException {
+		log.atWarn().setMessage("Polygon {} bypassed and queued for retry: {}")
+				.addArgument(polygon.getPolygonIdentifier()).addArgument(ex.getMessage()).log();
+		retryPolygons.add(polygon.getPolygonIdentifier());
+		logPolygonEvent(polygon, start, PolygonEvent.Outcome.OVER_BUDGET, ex);
+	}
+
+	/**
+	 * Log the polygons queued for retry, if there are any.
+	 */
+	protected void logRetryPolygons() {
+		if (polygonBudget != null && !retryPolygons.isEmpty()) {
+			log.atWarn().setMessage("{} polygons exceeded their budget and should be retried: {}")
+					.addArgument(retryPolygons.size()).addArgument(retryPolygons).log();
+		}
+	}
+
+	/**
+	 * Note that a solver used while processing the current polygon took the given number of iterations.
+	 */
+	protected void countSolverIterations(int iterations) {
+		solverIterations += iterations;
+	}
+
+	/**
+	 * Start timing and counting solver iterations for a polygon.
+	 *
+	 * @return the start time to pass to {@link #logPolygonEvent}
+	 */
+	protected long startPolygon() {
+		solverIterations = 0;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Log the outcome of processing a polygon to the polygon event log, if there is one.
+	 *
+	 * @param polygon    the input polygon
+	 * @param start      the time returned by {@link #startPolygon()}
+	 * @param resultPoly the polygon written, or empty if it was skipped
+	 * @throws IOException
+	 */
+	protected void logPolygonEvent(BaseVdypPolygon<?, ?, ?, ?> polygon, long start, Optional<VdypPolygon> resultPoly)
+			throws IOException {
+		if (polygonEventLog != null) {
+			long elapsed = System.nanoTime() - start;
+			polygonEventLog.log(
+					resultPoly
+							.map(
+									result -> PolygonEvent.written(
+											polygon.getPolygonIdentifier(), polygon.getMode(), elapsed,
+											solverIterations, result
+									)
+							)
+							.orElseGet(
+									() -> PolygonEvent.skipped(
+											polygon.getPolygonIdentifier(), polygon.getMode(), elapsed, solverIterations
+									)
+							)
+			);
+		}
+	}
+
+	/**
+	 * Log the failure of processing a polygon to the polygon event log, if there is one.
+	 *
+	 * @param polygon the input polygon
+	 * @param start   the time returned by {@link #startPolygon()}
+	 * @param outcome {@link PolygonEvent.Outcome#BYPASSED}, {@link PolygonEvent.Outcome#OVER_BUDGET} or
+	 *                {@link PolygonEvent.Outcome#ERROR}
+	 * @param cause   the exception thrown
+	 * @throws IOException
+	 */
+	protected void logPolygonEvent(
+			BaseVdypPolygon<?, ?, ?, ?> polygon, long start, PolygonEvent.Outcome outcome, Throwable cause
+	) throws IOException {
+		if (polygonEventLog != null) {
+			polygonEventLog.log(
+					PolygonEvent.failed(
+							polygon.getPolygonIdentifier(), polygon.getMode(), System.nanoTime() - start,
+							solverIterations, outcome, cause
+					)
+			);
+		}
+	}
+
+	/**
+	 * Log a polygon that failed with an error to the polygon event log, if there is one. The error is about to be
+	 * rethrown, so a failure to write the log is added to it as a suppressed exception rather than thrown in its place.
+	 *
+	 * @param polygon the input polygon
+	 * @param start   the time returned by {@link #startPolygon()}
+	 * @param error   the exception thrown
+	 */
+	protected void logPolygonError(BaseVdypPolygon<?, ?, ?, ?> polygon, long start, Exception error) {
+		try {
+			logPolygonEvent(polygon, start, PolygonEvent.Outcome.ERROR, error);
+		} catch (IOException | RuntimeException logFailure) {
+			error.addSuppressed(logFailure);
+		}
+	}
+
 	void closeVriWriter() throws IOException {
 		if (vriWriter != null) {
 			vriWriter.close();
@@ -269,6 +460,22 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 	@Override
 	public void close() throws IOException {
 		closeVriWriter();
+
+		if (polygonEventLog != null) {
+			polygonEventLog.close();
+			polygonEventLog = null;
+		}
+
+		if (deferResources && controlMap != null) {
+			var usage = BaseControlParser.getDeferredResourceUsage(controlMap);
+			log.atInfo().setMessage("Control map resources used: {}; not used: {}") //
+					.addArgument(
+							() -> usage.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList()
+					)
+					.addArgument(
+							() -> usage.entrySet().stream().filter(e -> !e.getValue()).map(Map.Entry::getKey).toList()
+					).log();
+		}
 	}
 
 	protected Coefficients getCoeForSpecies(BaseVdypSpecies<?> species, ControlKey controlKey) {
@@ -1370,13 +1577,9 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 
 		{
 			var hlVector = Utils.heightVector();
-			vdypLayer.getSpecies().values().stream().forEach(spec -> {
-				var ba = spec.getBaseAreaByUtilization();
-				hlVector.pairwiseInPlace(
-						spec.getLoreyHeightByUtilization(),
-						(float x, float y, UtilizationClass uc) -> x + y * ba.get(uc)
-				);
-			});
+			for (var spec : vdypLayer.getSpecies().values()) {
+				hlVector.addProductInPlace(spec.getLoreyHeightByUtilization(), spec.getBaseAreaByUtilization());
+			}
 			var ba = vdypLayer.getBaseAreaByUtilization();
 			hlVector.scalarInPlace((float x, UtilizationClass uc) -> ba.get(uc) > 0 ? x / ba.get(uc) : x);
 
@@ -1405,7 +1608,7 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 				var utilVector = Utils.utilizationVector();
 				for (var vdypSpecies : vdypLayer.getSpecies().values()) {
 					var speciesVector = (Coefficients) accessors.getReadMethod().invoke(vdypSpecies);
-					utilVector.pairwiseInPlace(speciesVector, (x, y) -> x + y);
+					utilVector.addInPlace(speciesVector);
 				}
 				accessors.getWriteMethod().invoke(vdypLayer, utilVector);
 			}
@@ -1419,7 +1622,7 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 			throws IllegalStateException {
 		try {
 			for (var accessors : SUMMABLE_UTILIZATION_VECTOR_ACCESSORS) {
-				((Coefficients) accessors.getReadMethod().invoke(holder)).scalarInPlace(x -> x * factor);
+				((Coefficients) accessors.getReadMethod().invoke(holder)).scaleInPlace(factor);
 			}
 		} catch (IllegalAccessException | InvocationTargetException ex) {
 			throw new IllegalStateException(ex);
@@ -345,13 +345,9 @@ public class ComputationMethods {
 
 		{
 			var hlVector = Utils.heightVector();
-			vdypLayer.getSpecies().values().stream().forEach(spec -> {
-				var ba = spec.getBaseAreaByUtilization();
-				hlVector.pairwiseInPlace(
-						spec.getLoreyHeightByUtilization(),
-						(float x, float y, UtilizationClass uc) -> x + y * ba.get(uc)
-				);
-			});
+			for (var spec : vdypLayer.getSpecies().values()) {
+				hlVector.addProductInPlace(spec.getLoreyHeightByUtilization(), spec.getBaseAreaByUtilization());
+			}
 			var ba = vdypLayer.getBaseAreaByUtilization();
 			hlVector.scalarInPlace((float x, UtilizationClass uc) -> ba.get(uc) > 0 ? x / ba.get(uc) : x);
 			vdypLayer.setLoreyHeightByUtilization(hlVector);
@@ -374,7 +370,7 @@ public class ComputationMethods {
 				var utilVector = Utils.utilizationVector();
 				for (var vdypSpecies : vdypLayer.getSpecies().values()) {
 					var speciesVector = (Coefficients) accessors.getReadMethod().invoke(vdypSpecies);
-					utilVector.pairwiseInPlace(speciesVector, (x, y) -> x + y);
+					utilVector.addInPlace(speciesVector);
 				}
 				accessors.getWriteMethod().invoke(vdypLayer, utilVector);
 			}
@@ -388,7 +384,7 @@ public class ComputationMethods {
 			throws IllegalStateException {
 		try {
 			for (var accessors : SUMMABLE_UTILIZATION_VECTOR_ACCESSORS) {
-				((Coefficients) accessors.getReadMethod().invoke(holder)).scalarInPlace(x -> x * factor);
+				((Coefficients) accessors.getReadMethod().invoke(holder)).scaleInPlace(factor);
 			}
 		} catch (IllegalAccessException | InvocationTargetException ex) {
 			throw new IllegalStateException(ex);
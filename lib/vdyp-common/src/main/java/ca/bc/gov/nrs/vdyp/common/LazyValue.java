@@ -1,6 +1,5 @@
 package ca.bc.gov.nrs.vdyp.common;
 
-import java.util.Objects;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -18,21 +17,36 @@ public class LazyValue<T> implements Supplier<T> {
 		this.compute = compute;
 	}
 
+	/** The value before it is computed, distinct from any value computed, including null */
+	private static final Object NOT_COMPUTED = new Object();
+
+	// Volatile so that a thread which sees the value set also sees the object it refers to fully constructed.
 	@Nullable
-	private T value = null;
+	private volatile Object value = NOT_COMPUTED;
 
 	private final Supplier<T> compute;
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public T get() {
-		if (Objects.isNull(value)) {
+		var result = value;
+		if (result == NOT_COMPUTED) {
 			synchronized (this) {
-				if (Objects.isNull(value)) {
-					value = compute.get();
+				result = value;
+				if (result == NOT_COMPUTED) {
+					result = compute.get();
+					value = result;
 				}
 			}
 		}
-		return value;
+		return (T) result;
+	}
+
+	/**
+	 * @return true if and only if the value has been computed
+	 */
+	public boolean isComputed() {
+		return value != NOT_COMPUTED;
 	}
 
 }
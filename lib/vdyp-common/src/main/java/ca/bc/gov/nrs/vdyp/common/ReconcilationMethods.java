@@ -4,17 +4,53 @@ import static ca.bc.gov.nrs.vdyp.math.FloatMath.abs;
 import static ca.bc.gov.nrs.vdyp.math.FloatMath.sqrt;
 
 import java.text.MessageFormat;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.common_calculators.BaseAreaTreeDensityDiameter;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
 import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
 
+/**
+ * Reconciliation of the utilization class components of base area, trees per hectare and quadratic mean diameter with
+ * their totals.
+ * <p>
+ * The methods work on rows of primitive matrices. A row holds the values of one species (or layer) for each utilization
+ * class, indexed by {@link UtilizationClass#ordinal()}, so it is {@link #ROW_LENGTH} floats long and in the same order
+ * as a {@link UtilizationVector}. The rows of many species can be stored one after the other in a single array, with
+ * the row given by its offset. The methods that take {@link UtilizationVector}s copy them into such rows.
+ * <p>
+ * Sums over the utilization classes are compensated double sums, as computed by
+ * {@link java.util.stream.DoubleStream#sum()}, so that results are identical to those of earlier versions which summed
+ * with streams.
+ */
 public class ReconcilationMethods {
 
-	private static final List<UtilizationClass> MODE_1_RECONCILE_AVAILABILITY_CLASSES = List
-			.of(UtilizationClass.OVER225, UtilizationClass.U175TO225, UtilizationClass.U125TO175);
+	/**
+	 * Number of values in a row, one for each utilization class
+	 */
+	public static final int ROW_LENGTH = UtilizationClass.values().length;
+
+	/** Index in a UtilizationVector of the first value of a row */
+	private static final int FIRST_INDEX = UtilizationClass.SMALL.index;
+
+	private static final int ALL = UtilizationClass.ALL.ordinal();
+
+	/** Offset within a row of the first of the utilization classes 7.5cm and over */
+	private static final int UC = UtilizationClass.U75TO125.ordinal();
+
+	/** Number of utilization classes 7.5cm and over */
+	private static final int N_UC = UtilizationClass.UTIL_CLASSES.size();
+
+	private static final float[] LOW_BOUND = new float[N_UC];
+	private static final float[] HIGH_BOUND = new float[N_UC];
+
+	static {
+		for (var uc : UtilizationClass.UTIL_CLASSES) {
+			LOW_BOUND[uc.ordinal() - UC] = uc.lowBound;
+			HIGH_BOUND[uc.ordinal() - UC] = uc.highBound;
+		}
+	}
 
 	private ReconcilationMethods() {
 	}
@@ -31,23 +67,43 @@ public class ReconcilationMethods {
 			UtilizationVector baseAreaUtil, UtilizationVector treesPerHectareUtil,
 			UtilizationVector quadMeanDiameterUtil
 	) throws ProcessingException {
-		if (baseAreaUtil.getAll() == 0f) {
-			UtilizationClass.UTIL_CLASSES.forEach(uc -> {
-				treesPerHectareUtil.setCoe(uc.index, 0f);
-				baseAreaUtil.setCoe(uc.index, 0f);
-			});
+		var rows = toRows(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		try {
+			reconcileComponents(rows[0], rows[1], rows[2], 0);
+		} finally {
+			fromRows(rows, baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		}
+	}
+
+	/**
+	 * YUC1R. Implements the three reconciliation modes for layer 1 as described in ipsjf120.doc
+	 *
+	 * @param baseArea         base area matrix
+	 * @param treesPerHectare  trees per hectare matrix
+	 * @param quadMeanDiameter quadratic mean diameter matrix
+	 * @param offset           offset of the row to reconcile in each matrix
+	 * @throws ProcessingException
+	 */
+	public static void
+			reconcileComponents(float[] baseArea, float[] treesPerHectare, float[] quadMeanDiameter, int offset)
+					throws ProcessingException {
+		final int all = offset + ALL;
+		final int uc = offset + UC;
+
+		if (baseArea[all] == 0f) {
+			for (int i = uc; i < uc + N_UC; i++) {
+				treesPerHectare[i] = 0f;
+				baseArea[i] = 0f;
+			}
 			return;
 		}
 
-		@SuppressWarnings("unused")
-		float tphSum = 0f;
 		float baSum = 0f;
-		for (var uc : UtilizationClass.UTIL_CLASSES) {
-			tphSum += treesPerHectareUtil.getCoe(uc.index);
-			baSum += baseAreaUtil.getCoe(uc.index);
+		for (int i = uc; i < uc + N_UC; i++) {
+			baSum += baseArea[i];
 		}
 
-		if (abs(baSum - baseAreaUtil.getAll()) > 0.00003 * baSum) {
+		if (abs(baSum - baseArea[all]) > 0.00003 * baSum) {
 			throw new ProcessingException(
 					MessageFormat.format(
 							"Computed base areas for {}+ components do not sum to expected total",
@@ -56,7 +112,7 @@ public class ReconcilationMethods {
 			);
 		}
 
-		float dq0 = BaseAreaTreeDensityDiameter.quadMeanDiameter(baseAreaUtil.getAll(), treesPerHectareUtil.getAll());
+		float dq0 = BaseAreaTreeDensityDiameter.quadMeanDiameter(baseArea[all], treesPerHectare[all]);
 
 		if (dq0 < UtilizationClass.U75TO125.lowBound) {
 			throw new ProcessingException(
@@ -68,22 +124,37 @@ public class ReconcilationMethods {
 			);
 		}
 
-		float tphSumHigh = (float) UtilizationClass.UTIL_CLASSES.stream()
-				.mapToDouble(
-						uc -> BaseAreaTreeDensityDiameter.treesPerHectare(baseAreaUtil.getCoe(uc.index), uc.lowBound)
-				).sum();
+		double sumHigh = 0;
+		double compensation = 0;
+		double simpleSum = 0;
+		for (int j = 0; j < N_UC; j++) {
+			double value = BaseAreaTreeDensityDiameter.treesPerHectare(baseArea[uc + j], LOW_BOUND[j]);
+			double tmp = value - compensation;
+			double velvel = sumHigh + tmp;
+			compensation = (velvel - sumHigh) - tmp;
+			sumHigh = velvel;
+			simpleSum += value;
+		}
+		float tphSumHigh = (float) finalSum(sumHigh, compensation, simpleSum);
 
-		if (tphSumHigh < treesPerHectareUtil.getAll()) {
-			reconcileComponentsMode1(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil, tphSumHigh);
+		if (tphSumHigh < treesPerHectare[all]) {
+			reconcileComponentsMode1(baseArea, treesPerHectare, quadMeanDiameter, offset, tphSumHigh);
 		} else {
-			reconcileComponentsMode2Check(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+			reconcileComponentsMode2Check(baseArea, treesPerHectare, quadMeanDiameter, offset);
 		}
 	}
 
-	@SuppressWarnings("java:S3655")
 	public static void reconcileComponentsMode1(
 			UtilizationVector baseAreaUtil, UtilizationVector treesPerHectareUtil,
 			UtilizationVector quadMeanDiameterUtil, float tphSumHigh
+	) {
+		var rows = toRows(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		reconcileComponentsMode1(rows[0], rows[1], rows[2], 0, tphSumHigh);
+		fromRows(rows, baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+	}
+
+	public static void reconcileComponentsMode1(
+			float[] baseArea, float[] treesPerHectare, float[] quadMeanDiameter, int offset, float tphSumHigh
 	) {
 		// MODE 1
 
@@ -91,58 +162,69 @@ public class ReconcilationMethods {
 		// to lowest allowable values AND must move BA from upper classes to lower
 		// classes.
 
-		float tphNeed = treesPerHectareUtil.getAll() - tphSumHigh;
+		final int uc = offset + UC;
+
+		float tphNeed = treesPerHectare[offset + ALL] - tphSumHigh;
 
-		UtilizationClass.UTIL_CLASSES.forEach(uc -> quadMeanDiameterUtil.setCoe(uc.index, uc.lowBound));
+		for (int j = 0; j < N_UC; j++) {
+			quadMeanDiameter[uc + j] = LOW_BOUND[j];
+		}
 
-		for (var uc : MODE_1_RECONCILE_AVAILABILITY_CLASSES) {
-			float tphAvail = BaseAreaTreeDensityDiameter
-					.treesPerHectare(baseAreaUtil.getCoe(uc.index), uc.previous().get().lowBound)
-					- BaseAreaTreeDensityDiameter.treesPerHectare(baseAreaUtil.getCoe(uc.index), uc.lowBound);
+		// Move base area down from the largest classes, except the smallest which has nowhere to move to
+		for (int j = N_UC - 1; j > 0; j--) {
+			float tphAvail = BaseAreaTreeDensityDiameter.treesPerHectare(baseArea[uc + j], LOW_BOUND[j - 1])
+					- BaseAreaTreeDensityDiameter.treesPerHectare(baseArea[uc + j], LOW_BOUND[j]);
 
 			if (tphAvail < tphNeed) {
-				baseAreaUtil.scalarInPlace(uc.previous().get().index, x -> x + baseAreaUtil.getCoe(uc.index));
-				baseAreaUtil.setCoe(uc.index, 0f);
+				baseArea[uc + j - 1] = baseArea[uc + j - 1] + baseArea[uc + j];
+				baseArea[uc + j] = 0f;
 				tphNeed -= tphAvail;
 			} else {
-				float baseAreaMove = baseAreaUtil.getCoe(uc.index) * tphNeed / tphAvail;
-				baseAreaUtil.scalarInPlace(uc.previous().get().index, x -> x + baseAreaMove);
-				baseAreaUtil.scalarInPlace(uc.index, x -> x - baseAreaMove);
+				float baseAreaMove = baseArea[uc + j] * tphNeed / tphAvail;
+				baseArea[uc + j - 1] = baseArea[uc + j - 1] + baseAreaMove;
+				baseArea[uc + j] = baseArea[uc + j] - baseAreaMove;
 				break;
 			}
 		}
-		UtilizationClass.UTIL_CLASSES.forEach(
-				uc -> treesPerHectareUtil.setCoe(
-						uc.index,
-						BaseAreaTreeDensityDiameter
-								.treesPerHectare(baseAreaUtil.getCoe(uc.index), quadMeanDiameterUtil.getCoe(uc.index))
-				)
-		);
+		for (int i = uc; i < uc + N_UC; i++) {
+			treesPerHectare[i] = BaseAreaTreeDensityDiameter.treesPerHectare(baseArea[i], quadMeanDiameter[i]);
+		}
 	}
 
 	public static void reconcileComponentsMode2Check(
 			UtilizationVector baseAreaUtil, UtilizationVector treesPerHectareUtil,
 			UtilizationVector quadMeanDiameterUtil
+	) throws ProcessingException {
+		var rows = toRows(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		try {
+			reconcileComponentsMode2Check(rows[0], rows[1], rows[2], 0);
+		} finally {
+			fromRows(rows, baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		}
+	}
+
+	public static void reconcileComponentsMode2Check(
+			float[] baseArea, float[] treesPerHectare, float[] quadMeanDiameter, int offset
 	) throws ProcessingException {
 		// Before entering mode 2, check to see if reconciliation is already adequate
 
-		float tphSum = (float) UtilizationClass.UTIL_CLASSES.stream()
-				.mapToDouble(uc -> treesPerHectareUtil.getCoe(uc.index)).sum();
+		final int uc = offset + UC;
 
-		if (abs(tphSum - treesPerHectareUtil.getAll()) / tphSum > 0.00001) {
-			reconcileComponentsMode2(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		float tphSum = sumUtilizationClasses(treesPerHectare, offset);
+
+		if (abs(tphSum - treesPerHectare[offset + ALL]) / tphSum > 0.00001) {
+			reconcileComponentsMode2(baseArea, treesPerHectare, quadMeanDiameter, offset);
 			return;
 		}
-		for (var uc : UtilizationClass.UTIL_CLASSES) {
-			if (baseAreaUtil.getCoe(uc.index) > 0f) {
-				if (treesPerHectareUtil.getCoe(uc.index) <= 0f) {
-					reconcileComponentsMode2(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		for (int j = 0; j < N_UC; j++) {
+			if (baseArea[uc + j] > 0f) {
+				if (treesPerHectare[uc + j] <= 0f) {
+					reconcileComponentsMode2(baseArea, treesPerHectare, quadMeanDiameter, offset);
 					return;
 				}
-				float dWant = BaseAreaTreeDensityDiameter
-						.quadMeanDiameter(baseAreaUtil.getCoe(uc.index), treesPerHectareUtil.getCoe(uc.index));
-				float dqI = quadMeanDiameterUtil.getCoe(uc.index);
-				if (dqI >= uc.lowBound && dqI <= uc.highBound && abs(dWant - dqI) < 0.00001) {
+				float dWant = BaseAreaTreeDensityDiameter.quadMeanDiameter(baseArea[uc + j], treesPerHectare[uc + j]);
+				float dqI = quadMeanDiameter[uc + j];
+				if (dqI >= LOW_BOUND[j] && dqI <= HIGH_BOUND[j] && abs(dWant - dqI) < 0.00001) {
 					return;
 				}
 			}
@@ -153,11 +235,26 @@ public class ReconcilationMethods {
 			UtilizationVector baseAreaUtil, UtilizationVector treesPerHectareUtil,
 			UtilizationVector quadMeanDiameterUtil
 	) throws ProcessingException {
+		var rows = toRows(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		try {
+			reconcileComponentsMode2(rows[0], rows[1], rows[2], 0);
+		} finally {
+			fromRows(rows, baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		}
+	}
+
+	public static void
+			reconcileComponentsMode2(float[] baseArea, float[] treesPerHectare, float[] quadMeanDiameter, int offset)
+					throws ProcessingException {
+		final int all = offset + ALL;
+		final int uc = offset + UC;
+
 		int n = 0;
 		float baseAreaFixed = 0f;
 		float treesPerHectareFixed = 0f;
-		var quadMeanDiameterLimit = new boolean[] { false, false, false, false, false };
-		UtilizationVector dqTrial = Utils.utilizationVector();
+		// Bit j is set when the quadratic mean diameter of class j has been moved to a limit
+		int quadMeanDiameterLimit = 0;
+		float[] dqTrial = new float[N_UC];
 
 		while (true) {
 			n++;
@@ -166,20 +263,29 @@ public class ReconcilationMethods {
 				throw new ProcessingException("Mode 2 component reconciliation iterations exceeded 4");
 			}
 
-			float sum = (float) UtilizationClass.UTIL_CLASSES.stream().mapToDouble(uc -> {
-				float baI = baseAreaUtil.getCoe(uc.index);
-				float dqI = quadMeanDiameterUtil.getCoe(uc.index);
-				if (baI != 0 && !quadMeanDiameterLimit[uc.index]) {
-					return baI / (dqI * dqI);
+			double sumHigh = 0;
+			double compensation = 0;
+			double simpleSum = 0;
+			for (int j = 0; j < N_UC; j++) {
+				float baI = baseArea[uc + j];
+				float dqI = quadMeanDiameter[uc + j];
+				double value = 0;
+				if (baI != 0 && (quadMeanDiameterLimit & (1 << j)) == 0) {
+					value = baI / (dqI * dqI);
 				}
-				return 0;
-			}).sum();
+				double tmp = value - compensation;
+				double velvel = sumHigh + tmp;
+				compensation = (velvel - sumHigh) - tmp;
+				sumHigh = velvel;
+				simpleSum += value;
+			}
+			float sum = (float) finalSum(sumHigh, compensation, simpleSum);
 
-			float baAll = baseAreaUtil.getAll() - baseAreaFixed;
-			float tphAll = treesPerHectareUtil.getAll() - treesPerHectareFixed;
+			float baAll = baseArea[all] - baseAreaFixed;
+			float tphAll = treesPerHectare[all] - treesPerHectareFixed;
 
 			if (baAll <= 0f || tphAll <= 0f) {
-				reconcileComponentsMode3(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+				reconcileComponentsMode3(baseArea, treesPerHectare, quadMeanDiameter, offset);
 				return;
 			}
 
@@ -188,73 +294,76 @@ public class ReconcilationMethods {
 			float k = dqAll * dqAll / baAll * sum;
 			float sqrtK = sqrt(k);
 
-			for (var uc : UtilizationClass.UTIL_CLASSES) {
-				if (!quadMeanDiameterLimit[uc.index] && baseAreaUtil.getCoe(uc.index) > 0f) {
-					dqTrial.setCoe(uc.index, quadMeanDiameterUtil.getCoe(uc.index) * sqrtK);
+			for (int j = 0; j < N_UC; j++) {
+				if ( (quadMeanDiameterLimit & (1 << j)) == 0 && baseArea[uc + j] > 0f) {
+					dqTrial[j] = quadMeanDiameter[uc + j] * sqrtK;
 				}
 			}
 
-			UtilizationClass violateClass = null;
+			int violateClass = -1;
 			float violate = 0f;
 			boolean violateLow = false;
 
-			for (var uc : UtilizationClass.UTIL_CLASSES) {
-				if (baseAreaUtil.getCoe(uc.index) > 0f && dqTrial.getCoe(uc.index) < uc.lowBound) {
-					float vi = 1f - dqTrial.getCoe(uc.index) / uc.lowBound;
+			for (int j = 0; j < N_UC; j++) {
+				if (baseArea[uc + j] > 0f && dqTrial[j] < LOW_BOUND[j]) {
+					float vi = 1f - dqTrial[j] / LOW_BOUND[j];
 					if (vi > violate) {
 						violate = vi;
-						violateClass = uc;
+						violateClass = j;
 						violateLow = true;
-
 					}
 				}
-				if (dqTrial.getCoe(uc.index) > uc.highBound) {
-					float vi = dqTrial.getCoe(uc.index) / uc.highBound - 1f;
+				if (dqTrial[j] > HIGH_BOUND[j]) {
+					float vi = dqTrial[j] / HIGH_BOUND[j] - 1f;
 					if (vi > violate) {
 						violate = vi;
-						violateClass = uc;
+						violateClass = j;
 						violateLow = false;
 					}
 				}
 			}
-			if (violateClass == null)
+			if (violateClass < 0)
 				break;
 			// Move the worst offending DQ to its limit
-			dqTrial.setCoe(violateClass.index, violateLow ? violateClass.lowBound : violateClass.highBound);
+			dqTrial[violateClass] = violateLow ? LOW_BOUND[violateClass] : HIGH_BOUND[violateClass];
 
-			quadMeanDiameterLimit[violateClass.index] = true;
-			baseAreaFixed += baseAreaUtil.getCoe(violateClass.index);
+			quadMeanDiameterLimit |= 1 << violateClass;
+			baseAreaFixed += baseArea[uc + violateClass];
 			treesPerHectareFixed += BaseAreaTreeDensityDiameter
-					.treesPerHectare(baseAreaUtil.getCoe(violateClass.index), dqTrial.getCoe(violateClass.index));
+					.treesPerHectare(baseArea[uc + violateClass], dqTrial[violateClass]);
 		}
 
 		// Make BA's agree with DQ's and TPH's
-		for (var uc : UtilizationClass.UTIL_CLASSES) {
-			quadMeanDiameterUtil.setCoe(uc.index, dqTrial.getCoe(uc.index));
-			treesPerHectareUtil.setCoe(
-					uc.index,
-					BaseAreaTreeDensityDiameter
-							.treesPerHectare(baseAreaUtil.getCoe(uc.index), quadMeanDiameterUtil.getCoe(uc.index))
-			);
+		for (int j = 0; j < N_UC; j++) {
+			quadMeanDiameter[uc + j] = dqTrial[j];
+			treesPerHectare[uc + j] = BaseAreaTreeDensityDiameter
+					.treesPerHectare(baseArea[uc + j], quadMeanDiameter[uc + j]);
 		}
 		// RE VERIFY That sums are correct
-		float baSum = (float) UtilizationClass.UTIL_CLASSES.stream().mapToDouble(uc -> baseAreaUtil.getCoe(uc.index))
-				.sum();
-		float tphSum = (float) UtilizationClass.UTIL_CLASSES.stream()
-				.mapToDouble(uc -> treesPerHectareUtil.getCoe(uc.index)).sum();
-		if (abs(baSum - baseAreaUtil.getAll()) > 0.0002 * baSum) {
+		float baSum = sumUtilizationClasses(baseArea, offset);
+		float tphSum = sumUtilizationClasses(treesPerHectare, offset);
+		if (abs(baSum - baseArea[all]) > 0.0002 * baSum) {
 			throw new ProcessingException("Failed to reconcile Base Area");
 		}
-		if (abs(tphSum - treesPerHectareUtil.getAll()) > 0.0002 * tphSum) {
+		if (abs(tphSum - treesPerHectare[all]) > 0.0002 * tphSum) {
 			throw new ProcessingException("Failed to reconcile Trees per Hectare");
 		}
 	}
 
-	@SuppressWarnings("java:S3655")
 	public static void reconcileComponentsMode3(
 			UtilizationVector baseAreaUtil, UtilizationVector treesPerHectareUtil,
 			UtilizationVector quadMeanDiameterUtil
 	) {
+		var rows = toRows(baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		try {
+			reconcileComponentsMode3(rows[0], rows[1], rows[2], 0);
+		} finally {
+			fromRows(rows, baseAreaUtil, treesPerHectareUtil, quadMeanDiameterUtil);
+		}
+	}
+
+	public static void
+			reconcileComponentsMode3(float[] baseArea, float[] treesPerHectare, float[] quadMeanDiameter, int offset) {
 
 		/*
 		 * Reconciliation mode 3 NOT IN THE ORIGINAL DESIGN The primary motivation for this mode is an example where all
@@ -265,17 +374,72 @@ public class ReconcilationMethods {
 		 * Note, "original design" means something pre-VDYP 7. This was added to the Fortran some time before the port
 		 * to Java including the comment above.
 		 */
-		UtilizationClass.UTIL_CLASSES.forEach(uc -> {
-			baseAreaUtil.setCoe(uc.index, 0f);
-			treesPerHectareUtil.setCoe(uc.index, 0f);
-			quadMeanDiameterUtil.setCoe(uc.index, uc.lowBound + 2.5f);
-		});
-
-		var ucToUpdate = UtilizationClass.UTIL_CLASSES.stream()
-				.filter(uc -> quadMeanDiameterUtil.getAll() < uc.highBound).findFirst().get();
-
-		baseAreaUtil.setCoe(ucToUpdate.index, baseAreaUtil.getAll());
-		treesPerHectareUtil.setCoe(ucToUpdate.index, treesPerHectareUtil.getAll());
-		quadMeanDiameterUtil.setCoe(ucToUpdate.index, quadMeanDiameterUtil.getAll());
+		final int all = offset + ALL;
+		final int uc = offset + UC;
+
+		for (int j = 0; j < N_UC; j++) {
+			baseArea[uc + j] = 0f;
+			treesPerHectare[uc + j] = 0f;
+			quadMeanDiameter[uc + j] = LOW_BOUND[j] + 2.5f;
+		}
+
+		int ucToUpdate = 0;
+		while (! (quadMeanDiameter[all] < HIGH_BOUND[ucToUpdate])) {
+			if (++ucToUpdate == N_UC) {
+				throw new NoSuchElementException("No value present");
+			}
+		}
+
+		baseArea[uc + ucToUpdate] = baseArea[all];
+		treesPerHectare[uc + ucToUpdate] = treesPerHectare[all];
+		quadMeanDiameter[uc + ucToUpdate] = quadMeanDiameter[all];
+	}
+
+	/**
+	 * @return the compensated sum of the values of the utilization classes 7.5cm and over of a row
+	 */
+	private static float sumUtilizationClasses(float[] matrix, int offset) {
+		final int uc = offset + UC;
+		double sum = 0;
+		double compensation = 0;
+		double simpleSum = 0;
+		for (int i = uc; i < uc + N_UC; i++) {
+			double value = matrix[i];
+			double tmp = value - compensation;
+			double velvel = sum + tmp;
+			compensation = (velvel - sum) - tmp;
+			sum = velvel;
+			simpleSum += value;
+		}
+		return (float) finalSum(sum, compensation, simpleSum);
+	}
+
+	/**
+	 * Combine the terms of a compensated sum in the same way as {@link java.util.stream.DoubleStream#sum()}
+	 */
+	private static double finalSum(double sum, double compensation, double simpleSum) {
+		double tmp = sum - compensation;
+		if (Double.isNaN(tmp) && Double.isInfinite(simpleSum)) {
+			return simpleSum;
+		}
+		return tmp;
+	}
+
+	private static float[][] toRows(UtilizationVector... vectors) {
+		var rows = new float[vectors.length][ROW_LENGTH];
+		for (int v = 0; v < vectors.length; v++) {
+			for (int i = 0; i < ROW_LENGTH; i++) {
+				rows[v][i] = vectors[v].getCoe(i + FIRST_INDEX);
+			}
+		}
+		return rows;
+	}
+
+	private static void fromRows(float[][] rows, UtilizationVector... vectors) {
+		for (int v = 0; v < vectors.length; v++) {
+			for (int i = 0; i < ROW_LENGTH; i++) {
+				vectors[v].setCoe(i + FIRST_INDEX, rows[v][i]);
+			}
+		}
 	}
 }
@@ -94,9 +94,19 @@ public class Utils {
 		return opt1.flatMap(v1 -> opt2.flatMap(v2 -> function.apply(v1, v2)));
 	}
 
+	/**
+	 * Get an entry from a control map, parsing it first if its parsing was deferred.
+	 *
+	 * @param control The control map
+	 * @param key     Key for the entry in the control map
+	 * @param clazz   Expected type for the entry
+	 * @throws IllegalStateException if the entry is the wrong type or could not be parsed.
+	 * @return the entry, or empty if the control map does not have it.
+	 */
 	@SuppressWarnings("unchecked")
 	public static <U> Optional<U> parsedControl(Map<String, Object> control, String key, Class<? super U> clazz) {
-		var opt = optSafe(control.get(key));
+		Optional<Object> opt = optSafe(control.get(key));
+		opt = opt.flatMap(value -> value instanceof LazyValue<?> lazy ? optSafe(lazy.get()) : Optional.of(value));
 
 		opt.ifPresent(value -> {
 			if (clazz != String.class && value instanceof String) {
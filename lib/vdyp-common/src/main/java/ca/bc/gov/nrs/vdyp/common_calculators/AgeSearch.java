@@ -0,0 +1,343 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.isFailure;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_BREAST;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
+
+import java.util.Arrays;
+
+/**
+ * A fast path for {@link SiteIndex2Age#search}, which finds the total age at which a curve reaches a height.
+ * <p>
+ * That search starts at age 25 with a step of 12.5 years which is halved and reversed each time the height at the age
+ * passes the given height, and stops once it is within {@link #TOLERANCE}. That takes around twenty evaluations of the
+ * curve. Here the ages at which the curve reaches the lower and the upper end of the tolerance are found first, each
+ * between two evaluated ages less than {@link #EDGE_WIDTH} apart, using a few Newton steps from an estimate taken from
+ * a table of the curve's heights. The search is then followed step by step, but the curve is only evaluated at an age
+ * that falls between the two ages found for an end, or that is young enough for the curve to take another form; any
+ * other age is below, within or above the tolerance according to where it lies. The result is the age the search
+ * returns, in about a third of the time.
+ * <p>
+ * This relies on the curve increasing with age from five years at breast height. The table is checked for that, and
+ * where the site index or height is outside it, the curve fails or does not increase at the ages tabulated, or a Newton
+ * step does not converge, {@link #NOT_FOUND} is returned so that the caller searches instead.
+ */
+final class AgeSearch {
+
+	/** Returned where the fast path can not be used. */
+	static final double NOT_FOUND = Double.NaN;
+
+	/** How close the height must be to the given height, as in {@link SiteIndex2Age#search} */
+	static final double TOLERANCE = 0.005;
+
+	/** The greatest distance between the evaluated ages either side of an end of the tolerance */
+	static final double EDGE_WIDTH = 0.001;
+
+	private static final int MAX_NEWTON_STEPS = 8;
+
+	private static final int BELOW = -1;
+	private static final int WITHIN = 0;
+	private static final int ABOVE = 1;
+	private static final int NO_POSITION = 2;
+
+	private AgeSearch() {
+	}
+
+	/**
+	 * @return the total age {@link SiteIndex2Age#search} returns for the given arguments, or {@link #NOT_FOUND}
+	 */
+	static double search(SiteCurve curve, double siteHeight, double siteIndex, double yearsToBreastHeight) {
+		// Heights near breast height are where the curves change form
+		if (siteHeight - TOLERANCE <= 1.3 || curve.height == null) {
+			return NOT_FOUND;
+		}
+		var table = curve.heightTable();
+		double bhage = table.breastHeightAge(siteIndex, siteHeight);
+		if (Double.isNaN(bhage)) {
+			return NOT_FOUND;
+		}
+		double slope = table.slope(siteIndex, bhage);
+		var equation = curve.getEquation();
+		double age = AgeToAge.ageToAgeOrNaN(equation, bhage, SI_AT_BREAST, SI_AT_TOTAL, yearsToBreastHeight);
+		double minAge = AgeToAge
+				.ageToAgeOrNaN(equation, HeightTable.AGES[0], SI_AT_BREAST, SI_AT_TOTAL, yearsToBreastHeight);
+		if (isFailure(age) || isFailure(minAge)) {
+			return NOT_FOUND;
+		}
+
+		var heights = new Heights(curve, siteHeight, siteIndex, yearsToBreastHeight);
+		var lower = heights.edge(siteHeight - TOLERANCE, false, age, slope);
+		if (lower == null || lower[0] < minAge) {
+			return NOT_FOUND;
+		}
+		var upper = heights.edge(siteHeight + TOLERANCE, true, lower[1] + 2 * TOLERANCE / slope, slope);
+		if (upper == null) {
+			return NOT_FOUND;
+		}
+
+		// Follow the steps of SiteIndex2Age.search
+		double si2age = 25;
+		double step = si2age / 2;
+		int aboveCount = 0;
+		do {
+			int position;
+			if (si2age > upper[1]) {
+				position = ABOVE;
+			} else if (si2age > lower[1] && si2age < upper[0]) {
+				position = WITHIN;
+			} else if (si2age < lower[0] && si2age >= minAge) {
+				position = BELOW;
+			} else {
+				// Near an end of the tolerance, or young enough to be on another form of the curve which need not
+				// increase with age
+				position = heights.position(si2age);
+				if (position == NO_POSITION) {
+					return NOT_FOUND;
+				}
+			}
+
+			if (position == WITHIN) {
+				break;
+			}
+			if (position == ABOVE) {
+				// The search gives up after 100 heights over 999m, which it treats as above. Heights above are not all
+				// evaluated here, so leave it to the search to count them.
+				if (++aboveCount == 100) {
+					return NOT_FOUND;
+				}
+				if (step > 0) {
+					step = -step / 2.0;
+				}
+			} else {
+				if (step < 0) {
+					step = -step / 2.0;
+				}
+			}
+			si2age += step;
+
+			if (step < 0.00001 && step > -0.00001) {
+				break;
+			}
+			if (si2age > 999.0) {
+				return NOT_FOUND;
+			}
+		} while (true);
+
+		return si2age;
+	}
+
+	/** The heights of the curve at total ages, for one site index and number of years to breast height */
+	private static class Heights {
+		private final SiteCurve curve;
+		private final double siteHeight;
+		private final double siteIndex;
+		private final double yearsToBreastHeight;
+
+		Heights(SiteCurve curve, double siteHeight, double siteIndex, double yearsToBreastHeight) {
+			this.curve = curve;
+			this.siteHeight = siteHeight;
+			this.siteIndex = siteIndex;
+			this.yearsToBreastHeight = yearsToBreastHeight;
+		}
+
+		double height(double age) {
+			// As evaluated by SiteIndex2Age.search
+			return SiteIndex2Height.indexToHeightOrNaN(curve, age, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, 0.5);
+		}
+
+		/**
+		 * @return the position of a height relative to the tolerance, as decided by SiteIndex2Age.search, or
+		 *         NO_POSITION if the curve does not give a height
+		 */
+		int position(double age) {
+			double height = height(age);
+			if (isFailure(height) || Double.isNaN(height)) {
+				return NO_POSITION;
+			}
+			if (Math.abs(height - siteHeight) > TOLERANCE) {
+				return height > siteHeight ? ABOVE : BELOW;
+			}
+			return WITHIN;
+		}
+
+		/**
+		 * Find the age at which the curve reaches one end of the tolerance.
+		 *
+		 * @param edgeHeight the height at that end
+		 * @param upper      true for the upper end, beyond which ages are above the tolerance; false for the lower end,
+		 *                   before which they are below it
+		 * @param age        an estimate of the age
+		 * @param slope      an estimate of the rate of height growth at the age
+		 * @return an age before the end and an age beyond it, less than EDGE_WIDTH apart, or null
+		 */
+		double[] edge(double edgeHeight, boolean upper, double age, double slope) {
+			double previousAge = Double.NaN;
+			double previousHeight = Double.NaN;
+			for (int i = 0; i < MAX_NEWTON_STEPS; i++) {
+				if (! (age > 0 && age < 999)) {
+					return null;
+				}
+				double height = height(age);
+				if (isFailure(height) || Double.isNaN(height)) {
+					return null;
+				}
+				if (!Double.isNaN(previousAge)) {
+					double secant = (height - previousHeight) / (age - previousAge);
+					if (secant > 0 && Double.isFinite(secant)) {
+						slope = secant;
+					}
+				}
+				double correction = (edgeHeight - height) / slope;
+				previousAge = age;
+				previousHeight = height;
+
+				if (Math.abs(correction) < EDGE_WIDTH / 4) {
+					// Close enough: check the other side of the end within the width
+					boolean beyond = beyond(height, upper);
+					double other = age + correction + (beyond ? -EDGE_WIDTH / 2 : EDGE_WIDTH / 2);
+					double otherHeight = height(other);
+					if (isFailure(otherHeight) || Double.isNaN(otherHeight)) {
+						return null;
+					}
+					if (beyond(otherHeight, upper) != beyond) {
+						return beyond ? new double[] { other, age } : new double[] { age, other };
+					}
+					// The end lies further away: carry on from the other age
+					previousAge = other;
+					previousHeight = otherHeight;
+					age = other + (edgeHeight - otherHeight) / slope;
+				} else {
+					age += correction;
+				}
+			}
+			return null;
+		}
+
+		private boolean beyond(double height, boolean upper) {
+			if (Math.abs(height - siteHeight) > TOLERANCE) {
+				return height > siteHeight;
+			}
+			// Within the tolerance is beyond the lower end but not the upper
+			return !upper;
+		}
+	}
+
+	/**
+	 * Heights of a curve over a grid of site indices and breast height ages, for estimates of the age at which it
+	 * reaches a height. A row is only kept up to the first age at which the curve fails or does not increase.
+	 */
+	static final class HeightTable {
+
+		static final double[] SITE_INDICES = siteIndices();
+		static final double[] AGES = ages();
+
+		/** The age margin beyond an estimate to which the row must increase */
+		private static final double MARGIN = 25;
+
+		private final double[][] heights;
+
+		private static double[] siteIndices() {
+			var siteIndices = new double[35];
+			for (int i = 0; i < siteIndices.length; i++) {
+				siteIndices[i] = 2.0 * (i + 1);
+			}
+			return siteIndices;
+		}
+
+		private static double[] ages() {
+			var ages = new double[100];
+			int n = 0;
+			for (double age = 5; age < 10; age += 1) {
+				ages[n++] = age;
+			}
+			for (double age = 10; age < 30; age += 2) {
+				ages[n++] = age;
+			}
+			for (double age = 30; age < 100; age += 5) {
+				ages[n++] = age;
+			}
+			for (double age = 100; age < 200; age += 10) {
+				ages[n++] = age;
+			}
+			for (double age = 200; age <= 1000; age += 50) {
+				ages[n++] = age;
+			}
+			return Arrays.copyOf(ages, n);
+		}
+
+		HeightTable(SiteCurve curve) {
+			heights = new double[SITE_INDICES.length][];
+			for (int i = 0; i < SITE_INDICES.length; i++) {
+				heights[i] = row(curve, SITE_INDICES[i]);
+			}
+		}
+
+		private static double[] row(SiteCurve curve, double siteIndex) {
+			double y2bh = curve.yearsToBreastHeightOrNaN(siteIndex);
+			if (isFailure(y2bh)) {
+				return new double[0];
+			}
+			var row = new double[AGES.length];
+			int n = 0;
+			for (; n < AGES.length; n++) {
+				double height = curve.heightOrNaN(AGES[n], SI_AT_BREAST, siteIndex, y2bh, 0.5);
+				if (isFailure(height) || ! (n == 0 || height > row[n - 1])) {
+					break;
+				}
+				row[n] = height;
+			}
+			return Arrays.copyOf(row, n);
+		}
+
+		/**
+		 * @return an estimate of the breast height age at which the curve reaches the height, or NaN
+		 */
+		double breastHeightAge(double siteIndex, double height) {
+			int i = Arrays.binarySearch(SITE_INDICES, siteIndex);
+			if (i < 0) {
+				i = -i - 2;
+			}
+			if (i < 0 || i >= SITE_INDICES.length - 1) {
+				return Double.NaN;
+			}
+			double low = rowAge(heights[i], height);
+			double high = rowAge(heights[i + 1], height);
+			double fraction = (siteIndex - SITE_INDICES[i]) / (SITE_INDICES[i + 1] - SITE_INDICES[i]);
+			double age = low + (high - low) * fraction;
+			return age + MARGIN <= rowLimit(heights[i]) && age + MARGIN <= rowLimit(heights[i + 1]) ? age : Double.NaN;
+		}
+
+		/**
+		 * @return an estimate of the rate of height growth at the breast height age
+		 */
+		double slope(double siteIndex, double age) {
+			int i = Arrays.binarySearch(SITE_INDICES, siteIndex);
+			if (i < 0) {
+				i = -i - 2;
+			}
+			var row = heights[i];
+			int j = Arrays.binarySearch(AGES, 0, row.length, age);
+			if (j < 0) {
+				j = -j - 2;
+			}
+			j = Math.max(0, Math.min(j, row.length - 2));
+			return (row[j + 1] - row[j]) / (AGES[j + 1] - AGES[j]);
+		}
+
+		private static double rowLimit(double[] row) {
+			return row.length == 0 ? 0 : AGES[row.length - 1];
+		}
+
+		private static double rowAge(double[] row, double height) {
+			if (row.length < 2 || height < row[0] || height > row[row.length - 1]) {
+				return Double.NaN;
+			}
+			int j = Arrays.binarySearch(row, height);
+			if (j >= 0) {
+				return AGES[j];
+			}
+			j = -j - 2;
+			return AGES[j] + (AGES[j + 1] - AGES[j]) * (height - row[j]) / (row[j + 1] - row[j]);
+		}
+	}
+}
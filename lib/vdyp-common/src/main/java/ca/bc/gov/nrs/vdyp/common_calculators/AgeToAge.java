@@ -1,10 +1,10 @@
 package ca.bc.gov.nrs.vdyp.common_calculators;
 
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.failure;
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.isFailure;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_BREAST;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
 
-import java.text.MessageFormat;
-
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.AgeTypeErrorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
@@ -16,11 +16,26 @@ import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
  */
 public class AgeToAge {
 
-	@SuppressWarnings("java:S3776, java:S6541, java:S1479")
 	public static double ageToAge(
 			SiteIndexEquation cuIndex, double sourceAge, SiteIndexAgeType sourceAgeType, SiteIndexAgeType targetAgeType,
 			double years2BreastHeight
 	) throws AgeTypeErrorException {
+		double age = ageToAgeOrNaN(cuIndex, sourceAge, sourceAgeType, targetAgeType, years2BreastHeight);
+		if (isFailure(age)) {
+			throw (AgeTypeErrorException) CalculatorStatus
+					.toException(age, "conversion from " + sourceAgeType + " to " + targetAgeType);
+		}
+		return age;
+	}
+
+	/**
+	 * As {@link #ageToAge}, but returns a {@link CalculatorStatus} failure rather than throwing.
+	 */
+	@SuppressWarnings("java:S3776, java:S6541, java:S1479")
+	public static double ageToAgeOrNaN(
+			SiteIndexEquation cuIndex, double sourceAge, SiteIndexAgeType sourceAgeType, SiteIndexAgeType targetAgeType,
+			double years2BreastHeight
+	) {
 
 		double returnValue;
 
@@ -156,9 +171,7 @@ public class AgeToAge {
 					}
 					return returnValue;
 				}
-				throw new AgeTypeErrorException(
-						MessageFormat.format("Unknown target age type provided; expecting \"{0}\"", SI_AT_TOTAL)
-				);
+				return failure(CalculatorStatus.SI_ERR_AGE_TYPE);
 			}
 
 			if (sourceAgeType == SI_AT_TOTAL) {
@@ -170,9 +183,7 @@ public class AgeToAge {
 					}
 					return returnValue;
 				}
-				throw new AgeTypeErrorException(
-						MessageFormat.format("Unknown target age type provided; expecting \"{0}\"", SI_AT_BREAST)
-				);
+				return failure(CalculatorStatus.SI_ERR_AGE_TYPE);
 			}
 		} else {
 			if (sourceAgeType == SI_AT_BREAST) {
@@ -184,9 +195,7 @@ public class AgeToAge {
 					}
 					return returnValue;
 				}
-				throw new AgeTypeErrorException(
-						MessageFormat.format("Unknown target age type provided; expecting \"{0}\"", SI_AT_TOTAL)
-				);
+				return failure(CalculatorStatus.SI_ERR_AGE_TYPE);
 			}
 
 			if (sourceAgeType == SI_AT_TOTAL) {
@@ -198,13 +207,9 @@ public class AgeToAge {
 					}
 					return returnValue;
 				}
-				throw new AgeTypeErrorException(
-						MessageFormat.format("Unknown target age type provided; expecting \"{0}\"", SI_AT_BREAST)
-				);
+				return failure(CalculatorStatus.SI_ERR_AGE_TYPE);
 			}
 		}
-		throw new AgeTypeErrorException(
-				MessageFormat.format("Unknown source age type provided \"{0}\"", sourceAgeType)
-		);
+		return failure(CalculatorStatus.SI_ERR_AGE_TYPE);
 	}
 }
@@ -0,0 +1,137 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.AgeTypeErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ClassErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CodeErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CurveErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.EstablishmentErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ForestInventoryZoneException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptMaximumException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptMinimumException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptTotalException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.LessThan13Exception;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.SpeciesErrorException;
+
+/**
+ * The error codes of the original C code (sindex.h), for the methods of the site index calculators that report failures
+ * without throwing.
+ * <p>
+ * Those methods, named with the suffix <code>OrNaN</code>, return a quiet NaN carrying the error code in place of a
+ * result. {@link #isFailure(double)} and {@link #statusOf(double)} recognise it; no exception or other object is
+ * created. A NaN that a calculation produces itself is not a failure, and is returned as a value as it always has been.
+ * The methods that throw a {@link CommonCalculatorException} are wrappers of these which convert a failure to the
+ * exception replacing its error code, using {@link #toException(double, String)}.
+ */
+public final class CalculatorStatus {
+
+	public static final int OK = 0;
+
+	/** Site index or height < 1.3m. See {@link LessThan13Exception}. */
+	public static final int SI_ERR_LT13 = -1;
+	/** Variable height growth intercept formulation; breast height age < 0.5 years. */
+	public static final int SI_ERR_GI_MIN = -2;
+	/** Variable height growth intercept formulation; breast height age > range. */
+	public static final int SI_ERR_GI_MAX = -3;
+	/** Iteration could not converge, or projected value > 999. See {@link NoAnswerException}. */
+	public static final int SI_ERR_NO_ANS = -4;
+	/** Unknown curve index */
+	public static final int SI_ERR_CURVE = -5;
+	/** Unknown site class code */
+	public static final int SI_ERR_CLASS = -6;
+	/** Unknown forest inventory zone code */
+	public static final int SI_ERR_FIZ = -7;
+	/** Unknown species code */
+	public static final int SI_ERR_CODE = -8;
+	/** Cannot compute growth intercept when using total age */
+	public static final int SI_ERR_GI_TOT = -9;
+	/** Unknown species index */
+	public static final int SI_ERR_SPEC = -10;
+	/** Unknown age type */
+	public static final int SI_ERR_AGE_TYPE = -11;
+	/** Unknown establishment type */
+	public static final int SI_ERR_ESTAB = -12;
+
+	// A quiet NaN with a payload that arithmetic on ordinary values never produces. The low byte holds the negated
+	// code.
+	private static final long FAILURE_BITS = 0x7ffc_5100_0000_0000L;
+	private static final long CODE_MASK = 0xffL;
+
+	private CalculatorStatus() {
+	}
+
+	/**
+	 * @param status one of the <code>SI_ERR_</code> codes
+	 * @return the result that reports the given failure
+	 */
+	public static double failure(int status) {
+		if (status >= OK || status < SI_ERR_ESTAB) {
+			throw new IllegalArgumentException("Not an error code: " + status);
+		}
+		return Double.longBitsToDouble(FAILURE_BITS | -status);
+	}
+
+	/**
+	 * @return true if the result reports a failure
+	 */
+	public static boolean isFailure(double result) {
+		return (Double.doubleToRawLongBits(result) & ~CODE_MASK) == FAILURE_BITS;
+	}
+
+	/**
+	 * @return the error code of a failure, or {@link #OK} if the result is a value
+	 */
+	public static int statusOf(double result) {
+		long bits = Double.doubleToRawLongBits(result);
+		return (bits & ~CODE_MASK) == FAILURE_BITS ? (int) - (bits & CODE_MASK) : OK;
+	}
+
+	/**
+	 * Create the exception that replaces the error code of a failed result.
+	 *
+	 * @param result a result for which {@link #isFailure(double)} is true
+	 * @param detail the inputs or other details of the calculation, appended to the message
+	 */
+	public static CommonCalculatorException toException(double result, String detail) {
+		int status = statusOf(result);
+		String message = description(status) + ": " + detail;
+		return switch (status) {
+		case SI_ERR_LT13 -> new LessThan13Exception(message);
+		case SI_ERR_GI_MIN -> new GrowthInterceptMinimumException(message);
+		case SI_ERR_GI_MAX -> new GrowthInterceptMaximumException(message);
+		case SI_ERR_NO_ANS -> new NoAnswerException(message);
+		case SI_ERR_CURVE -> new CurveErrorException(message);
+		case SI_ERR_CLASS -> new ClassErrorException(message);
+		case SI_ERR_FIZ -> new ForestInventoryZoneException(message);
+		case SI_ERR_CODE -> new CodeErrorException(message);
+		case SI_ERR_GI_TOT -> new GrowthInterceptTotalException(message);
+		case SI_ERR_SPEC -> new SpeciesErrorException(message);
+		case SI_ERR_AGE_TYPE -> new AgeTypeErrorException(message);
+		case SI_ERR_ESTAB -> new EstablishmentErrorException(message);
+		default -> throw new IllegalArgumentException("Result " + result + " is not a failure");
+		};
+	}
+
+	/**
+	 * @return a description of an error code
+	 */
+	public static String description(int status) {
+		return switch (status) {
+		case OK -> "No error";
+		case SI_ERR_LT13 -> "Site index or height < 1.3m";
+		case SI_ERR_GI_MIN -> "Variable height growth intercept formulation; bhage < 0.5 years";
+		case SI_ERR_GI_MAX -> "Variable height growth intercept formulation; bhage > range";
+		case SI_ERR_NO_ANS -> "Iteration could not converge (or projected value > 999)";
+		case SI_ERR_CURVE -> "Unknown curve index";
+		case SI_ERR_CLASS -> "Unknown site class code";
+		case SI_ERR_FIZ -> "Unknown forest inventory zone code";
+		case SI_ERR_CODE -> "Unknown species code";
+		case SI_ERR_GI_TOT -> "Cannot compute growth intercept when using total age";
+		case SI_ERR_SPEC -> "Unknown species index";
+		case SI_ERR_AGE_TYPE -> "Unknown age type";
+		case SI_ERR_ESTAB -> "Unknown establishment type";
+		default -> "Unknown error code " + status;
+		};
+	}
+}
@@ -0,0 +1,159 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType;
+
+/**
+ * The equations of one site index curve, looked up once so that a projection using the curve does not select it from
+ * among all the curves for each height, age or site index it calculates.
+ * <p>
+ * {@link SiteIndex2Height}, {@link SiteIndex2Age}, {@link SiteIndexYears2BreastHeight} and {@link Height2SiteIndex}
+ * each implement the equation of a curve in a small method of its own, and list the curves each method applies to.
+ * Their static methods taking a {@link SiteIndexEquation} look up its curve here and so return exactly what the methods
+ * of this class do.
+ */
+public final class SiteCurve {
+
+	/** The height at the given ages, once the checks common to all curves have been made. */
+	@FunctionalInterface
+	interface HeightEquation {
+		double height(
+				SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+				double siteIndex, double years2BreastHeight, double pi
+		);
+	}
+
+	/** The age at which the given height is reached, for the curves that do not iterate over the height equation. */
+	@FunctionalInterface
+	interface AgeEquation {
+		double age(
+				SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+				double yearsToBreastHeight
+		);
+	}
+
+	/** The number of years from seed to breast height. */
+	@FunctionalInterface
+	interface YearsToBreastHeightEquation {
+		double y2bh(SiteIndexEquation cuIndex, double siteIndex);
+	}
+
+	/**
+	 * The site index from breast height age and height, for the curves that do not iterate over the height equation.
+	 */
+	@FunctionalInterface
+	interface DirectSiteIndexEquation {
+		double siteIndex(SiteIndexEquation cuIndex, double bhage, double height);
+	}
+
+	private static final Map<SiteIndexEquation, SiteCurve> CURVES = curves();
+
+	/** The curve of a null equation, for which every calculation fails as the curve is unknown */
+	private static final SiteCurve UNKNOWN = new SiteCurve(null, null, null, null, null);
+
+	private final SiteIndexEquation equation;
+
+	// Null where the curve has no equation of its own: an unknown curve for the height and years to breast height, and
+	// iteration over the height equation for the age and site index.
+	final HeightEquation height;
+	final AgeEquation age;
+	final YearsToBreastHeightEquation yearsToBreastHeight;
+	final DirectSiteIndexEquation directSiteIndex;
+
+	private volatile AgeSearch.HeightTable heightTable;
+
+	private SiteCurve(
+			SiteIndexEquation equation, HeightEquation height, AgeEquation age,
+			YearsToBreastHeightEquation yearsToBreastHeight, DirectSiteIndexEquation directSiteIndex
+	) {
+		this.equation = equation;
+		this.height = height;
+		this.age = age;
+		this.yearsToBreastHeight = yearsToBreastHeight;
+		this.directSiteIndex = directSiteIndex;
+	}
+
+	private static Map<SiteIndexEquation, SiteCurve> curves() {
+		var heights = SiteIndex2Height.heightEquations();
+		var ages = SiteIndex2Age.ageEquations();
+		var years = SiteIndexYears2BreastHeight.yearsToBreastHeightEquations();
+		var siteIndices = Height2SiteIndex.directSiteIndexEquations();
+
+		var curves = new EnumMap<SiteIndexEquation, SiteCurve>(SiteIndexEquation.class);
+		for (var equation : SiteIndexEquation.values()) {
+			curves.put(
+					equation,
+					new SiteCurve(
+							equation, heights.get(equation), ages.get(equation), years.get(equation),
+							siteIndices.get(equation)
+					)
+			);
+		}
+		return curves;
+	}
+
+	/**
+	 * @param equation the index of the site curve, which may be null
+	 * @return the curve of the given equation
+	 */
+	public static SiteCurve of(SiteIndexEquation equation) {
+		return equation == null ? UNKNOWN : CURVES.get(equation);
+	}
+
+	public SiteIndexEquation getEquation() {
+		return equation;
+	}
+
+	/**
+	 * As
+	 * {@link SiteIndex2Height#indexToHeightOrNaN(SiteIndexEquation, double, SiteIndexAgeType, double, double, double)}
+	 */
+	public double
+			heightOrNaN(double age, SiteIndexAgeType ageType, double siteIndex, double years2BreastHeight, double pi) {
+		return SiteIndex2Height.indexToHeightOrNaN(this, age, ageType, siteIndex, years2BreastHeight, pi);
+	}
+
+	/**
+	 * As {@link SiteIndex2Age#indexToAgeOrNaN(SiteIndexEquation, double, SiteIndexAgeType, double, double)}
+	 */
+	public double ageOrNaN(double siteHeight, SiteIndexAgeType ageType, double siteIndex, double yearsToBreastHeight) {
+		return SiteIndex2Age.indexToAgeOrNaN(this, siteHeight, ageType, siteIndex, yearsToBreastHeight);
+	}
+
+	/**
+	 * As {@link SiteIndexYears2BreastHeight#y2bhOrNaN(SiteIndexEquation, double)}
+	 */
+	public double yearsToBreastHeightOrNaN(double siteIndex) {
+		return SiteIndexYears2BreastHeight.y2bhOrNaN(this, siteIndex);
+	}
+
+	/**
+	 * As
+	 * {@link Height2SiteIndex#heightToIndexOrNaN(SiteIndexEquation, double, SiteIndexAgeType, double, SiteIndexEstimationType)}
+	 */
+	public double
+			siteIndexOrNaN(double age, SiteIndexAgeType ageType, double height, SiteIndexEstimationType siEstType) {
+		return Height2SiteIndex.heightToIndexOrNaN(this, age, ageType, height, siEstType);
+	}
+
+	/**
+	 * @return the table of heights over site index and age used by {@link AgeSearch}, built when first needed
+	 */
+	AgeSearch.HeightTable heightTable() {
+		var table = heightTable;
+		if (table == null) {
+			// Building the table more than once in a race is harmless
+			heightTable = table = new AgeSearch.HeightTable(this);
+		}
+		return table;
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(equation);
+	}
+}
@@ -1,14 +1,20 @@
 package ca.bc.gov.nrs.vdyp.common_calculators;
 
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.failure;
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.isFailure;
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.statusOf;
 import static ca.bc.gov.nrs.vdyp.common_calculators.SiteIndexUtilities.llog;
 import static ca.bc.gov.nrs.vdyp.common_calculators.SiteIndexUtilities.ppow;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_BREAST;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation.*;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType.SI_EST_DIRECT;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptTotalException;
@@ -53,23 +59,37 @@ public class SiteIndex2Age {
 			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
 			double yearsToBreastHeight
 	) throws CommonCalculatorException {
+		double age = indexToAgeOrNaN(cuIndex, siteHeight, ageType, siteIndex, yearsToBreastHeight);
+		if (isFailure(age)) {
+			throw CalculatorStatus
+					.toException(age, "curve " + cuIndex + ", height " + siteHeight + ", site index " + siteIndex);
+		}
+		return age;
+	}
 
-		double x1, x2, x3, x4;
-		double a, b, c;
-		/*
-		 * I could not find HOOP, so I am assuming it is not intialized and as such the directives wouldn't trigger
-		 */
-		boolean HOOP = false;
+	/**
+	 * As {@link #indexToAge}, but returns a {@link CalculatorStatus} failure rather than throwing.
+	 */
+	public static double indexToAgeOrNaN(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		return indexToAgeOrNaN(SiteCurve.of(cuIndex), siteHeight, ageType, siteIndex, yearsToBreastHeight);
+	}
 
-		// #ifdef HOOP
-		double ht5, ht10;
-		// This is initialized because otherwise it will cause issues later.
-		// #endif
+	/**
+	 * As {@link #indexToAgeOrNaN(SiteIndexEquation, double, SiteIndexAgeType, double, double)}, for a curve already
+	 * looked up.
+	 */
+	static double indexToAgeOrNaN(
+			SiteCurve curve, double siteHeight, SiteIndexAgeType ageType, double siteIndex, double yearsToBreastHeight
+	) {
+		SiteIndexEquation cuIndex = curve.getEquation();
 		double age;
 
 		if (siteHeight < 1.3) {
 			if (ageType == SI_AT_BREAST) {
-				throw new LessThan13Exception("Site index or height < 1.3m, site height: " + siteHeight);
+				return failure(CalculatorStatus.SI_ERR_LT13);
 			}
 
 			if (siteHeight <= 0.0001) {
@@ -78,456 +98,523 @@ public class SiteIndex2Age {
 		}
 
 		if (siteIndex < 1.3) {
-			throw new LessThan13Exception("Site index or height < 1.3m, site_index: " + siteIndex);
+			return failure(CalculatorStatus.SI_ERR_LT13);
 		}
 
-		switch (cuIndex) {
-		case SI_FDC_BRUCE:
-			// 2009 may 6: force a non-rounded y2bh
-			yearsToBreastHeight = 13.25 - siteIndex / 6.096;
+		if (curve.age != null) {
+			age = curve.age.age(cuIndex, siteHeight, ageType, siteIndex, yearsToBreastHeight);
+		} else {
+			if (TEST) {
+				try {
+					// Open the file for writing
+					File testfile = new File("si2age.tst");
 
-			x1 = siteIndex / 30.48;
-			x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
-			x3 = ppow(50.0 + yearsToBreastHeight, x2);
-			double x4Denominator = ppow(yearsToBreastHeight, x2) - x3;
-			if (x4Denominator == 0) {
-				throw new ArithmeticException("Attempted Division by zero");
+					try (FileWriter fileWriter = new FileWriter(testfile)) {
+
+						// Write to the file
+						fileWriter.write("before iterate()\n");
+
+						// Close the file
+						fileWriter.close();
+					}
+				} catch (IOException e) {
+					throw new RuntimeException("An error occurred while writing to the file.", e);
+				}
 			}
-			x4 = llog(1.372 / siteIndex) / x4Denominator;
+			age = iterate(cuIndex, siteHeight, ageType, siteIndex, yearsToBreastHeight);
+		}
 
-			x1 = llog(siteHeight / siteIndex) / x4 + x3;
+		if (TEST) {
+			try {
+				File testfile = new File("si2age.tst");
 
-			if (x1 < 0) {
-				age = SI_ERR_NO_ANS;
-			} else {
-				age = ppow(x1, 1 / x2);
+				// Open the file for writing
+				try (FileWriter fileWriter = new FileWriter(testfile, true)) {
 
-				if (ageType == SI_AT_BREAST) {
-					age -= yearsToBreastHeight;
-				}
+					// Write the final age to the file
+					fileWriter.write("final age: " + age);
 
-				if (age < 0.0) {
-					age = 0.0;
-				} else if (age > MAX_AGE) {
-					age = SI_ERR_NO_ANS;
+					// Close the file
+					fileWriter.close();
 				}
+			} catch (IOException e) {
+				throw new RuntimeException("An error occurred while writing to the file.", e);
 			}
-			break;
-		case SI_SW_HU_GARCIA: {
-			double q;
+		}
+		if (age == SI_ERR_NO_ANS) {
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
+		}
+		return (age);
+	}
 
-			q = huGarciaQ(siteIndex, 50.0);
-			age = huGarciaBha(q, siteHeight);
-			if (ageType == SI_AT_TOTAL) {
-				age += yearsToBreastHeight;
-			}
+	/**
+	 * @return the method of this class implementing the direct age equation of each curve that has one
+	 */
+	static Map<SiteIndexEquation, SiteCurve.AgeEquation> ageEquations() {
+		var equations = new EnumMap<SiteIndexEquation, SiteCurve.AgeEquation>(SiteIndexEquation.class);
+		equations.put(SI_FDC_BRUCE, SiteIndex2Age::fdcBruce);
+		equations.put(SI_SW_HU_GARCIA, SiteIndex2Age::swHuGarcia);
+		equations.put(SI_HWC_WILEY, SiteIndex2Age::hwcWiley);
+		equations.put(SI_PLI_GOUDIE_DRY, SiteIndex2Age::pliGoudieDry);
+		equations.put(SI_PLI_GOUDIE_WET, SiteIndex2Age::pliGoudieWet);
+		equations.put(SI_SS_GOUDIE, SiteIndex2Age::ssGoudie);
+		equations.put(SI_SW_GOUDIE_PLA, SiteIndex2Age::swGoudiePla);
+		equations.put(SI_SW_GOUDIE_NAT, SiteIndex2Age::swGoudiePla);
+		equations.put(SI_BL_THROWERGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_CWI_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_FDC_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_FDI_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_HWC_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_HWC_NIGHGI99, SiteIndex2Age::growthIntercept);
+		equations.put(SI_HWI_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_LW_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_PLI_NIGHGI97, SiteIndex2Age::growthIntercept);
+		equations.put(SI_SS_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_SS_NIGHGI99, SiteIndex2Age::growthIntercept);
+		equations.put(SI_SW_NIGHGI, SiteIndex2Age::growthIntercept);
+		equations.put(SI_SW_NIGHGI99, SiteIndex2Age::growthIntercept);
+		return equations;
+	}
+
+	private static double fdcBruce(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double x1, x2, x3, x4;
+		double age;
+
+		// 2009 may 6: force a non-rounded y2bh
+		yearsToBreastHeight = 13.25 - siteIndex / 6.096;
+
+		x1 = siteIndex / 30.48;
+		x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
+		x3 = ppow(50.0 + yearsToBreastHeight, x2);
+		double x4Denominator = ppow(yearsToBreastHeight, x2) - x3;
+		if (x4Denominator == 0) {
+			throw new ArithmeticException("Attempted Division by zero");
 		}
-			break;
-		case SI_HWC_WILEY:
-			if (siteHeight / 0.3048 < 4.5) {
-				age = yearsToBreastHeight * ppow(siteHeight / 1.37, 0.5);
+		x4 = llog(1.372 / siteIndex) / x4Denominator;
 
-				if (ageType == SI_AT_BREAST) {
-					age -= yearsToBreastHeight;
-				}
+		x1 = llog(siteHeight / siteIndex) / x4 + x3;
 
-				if (age < 0.0) {
-					age = 0.0;
-				}
-			} else {
-				x1 = 2500 / (siteIndex / 0.3048 - 4.5);
-				x2 = -1.7307 + 0.1394 * x1;
-				x3 = -0.0616 + 0.0137 * x1;
-				x4 = 0.00192428 + 0.00007024 * x1;
-
-				x1 = (4.5 - siteHeight / 0.3048);
-				a = 1 + x1 * x4;
-				b = x1 * x3;
-				c = x1 * x2;
-
-				x1 = ppow(b * b - 4 * a * c, 0.5);
-				if (x1 == 0.0) {
-					age = SI_ERR_NO_ANS;
-				} else {
-					age = (-b + x1) / (2 * a);
+		if (x1 < 0) {
+			age = SI_ERR_NO_ANS;
+		} else {
+			age = ppow(x1, 1 / x2);
 
-					if (ageType == SI_AT_TOTAL) {
-						age += yearsToBreastHeight;
-					}
+			if (ageType == SI_AT_BREAST) {
+				age -= yearsToBreastHeight;
+			}
 
-					if (age < 0) {
-						age = SI_ERR_NO_ANS;
-					} else if (age > MAX_AGE) {
-						age = SI_ERR_NO_ANS;
-					}
-				}
+			if (age < 0.0) {
+				age = 0.0;
+			} else if (age > MAX_AGE) {
+				age = SI_ERR_NO_ANS;
 			}
+		}
+		return age;
+	}
 
-			if (age < 10 && age > 0) {
-				age = iterate(cuIndex, siteHeight, ageType, siteIndex, yearsToBreastHeight);
-				if (HOOP) {
-					ht5 = SiteIndex2Height
-							.indexToHeight(cuIndex, 5.0, SI_AT_BREAST, siteIndex, yearsToBreastHeight, 0.5);
-					// 0.5 may have to change
+	private static double swHuGarcia(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double age;
 
-					if (siteHeight <= ht5) {
-						siteHeight -= (1 - ( (ht5 - siteHeight) / ht5)) * 1.5;
-					} else {
-						// 0.5 may have to change
-						ht10 = SiteIndex2Height
-								.indexToHeight(cuIndex, 10.0, SI_AT_BREAST, siteIndex, yearsToBreastHeight, 0.5);
-						siteHeight -= ( ( (ht10 - siteHeight) / (ht10 - ht5))) * 1.5;
-					}
-				}
-			}
-			break;
-		// Cannot find constant
+		double q;
+
+		q = huGarciaQ(siteIndex, 50.0);
+		age = huGarciaBha(q, siteHeight);
+		if (ageType == SI_AT_TOTAL) {
+			age += yearsToBreastHeight;
+		}
+		return age;
+	}
+
+	private static double hwcWiley(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double x1, x2, x3, x4;
+		double a, b, c;
 		/*
-		 * case SI_HM_WILEY: if (site_height / 0.3048 < 4.5){ age = y2bh * ppow (site_height / 1.37, 0.5);
-		 *
-		 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
-		 *
-		 * if (age < 0.0){ age = 0.0; } } else{ x1 = 2500 / (site_index / 0.3048 - 4.5); x2 = -1.7307 + 0.1394 * x1; x3
-		 * = -0.0616 + 0.0137 * x1; x4 = 0.00192428 + 0.00007024 * x1;
-		 *
-		 * x1 = (4.5 - site_height / 0.3048); a = 1 + x1 * x4; b = x1 * x3; c = x1 * x2;
-		 *
-		 * x1 = ppow (b * b - 4 * a * c, 0.5); if (x1 == 0.0){ age = SI_ERR_NO_ANS; } else{ age = (-b + x1) / (2 * a);
-		 *
-		 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
-		 *
-		 * if (age < 0){ age = SI_ERR_NO_ANS; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } } }
-		 *
-		 * if (age < 10 && age > 0){ age = iterate (cu_index, site_height, age_type, site_index, y2bh); if(HOOP){ ht5 =
-		 * index_to_height (cu_index, 5.0, SI_AT_BREAST, site_index, y2bh, 0.5); // 0.5 may have to change
-		 *
-		 * if (site_height <= ht5){ site_height -= (1 - ((ht5 - site_height) / ht5)) * 1.5; } else{ ht10 =
-		 * index_to_height (cu_index, 10.0, SI_AT_BREAST, site_index, y2bh, 0.5); // 0.5 may have to change site_height
-		 * -= (((ht10 - site_height) / (ht10 - ht5))) * 1.5; } } } break;
+		 * I could not find HOOP, so I am assuming it is not intialized and as such the directives wouldn't trigger
 		 */
-		case SI_PLI_GOUDIE_DRY:
-			if (siteHeight < 1.3) {
-				age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
+		boolean HOOP = false;
 
-				if (ageType == SI_AT_BREAST) {
-					age -= yearsToBreastHeight;
-				}
+		// #ifdef HOOP
+		double ht5, ht10;
+		// This is initialized because otherwise it will cause issues later.
+		// #endif
+		double age;
 
-				if (age < 0.0) {
-					age = 0.0;
-				}
-			} else {
-				x1 = -1.00726;
-				x2 = 7.81498;
-				x3 = -1.28517;
+		if (siteHeight / 0.3048 < 4.5) {
+			age = yearsToBreastHeight * ppow(siteHeight / 1.37, 0.5);
 
-				a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
-				b = x2 + x1 * llog(siteIndex - 1.3);
+			if (ageType == SI_AT_BREAST) {
+				age -= yearsToBreastHeight;
+			}
 
-				age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
+			if (age < 0.0) {
+				age = 0.0;
+			}
+		} else {
+			x1 = 2500 / (siteIndex / 0.3048 - 4.5);
+			x2 = -1.7307 + 0.1394 * x1;
+			x3 = -0.0616 + 0.0137 * x1;
+			x4 = 0.00192428 + 0.00007024 * x1;
+
+			x1 = (4.5 - siteHeight / 0.3048);
+			a = 1 + x1 * x4;
+			b = x1 * x3;
+			c = x1 * x2;
+
+			x1 = ppow(b * b - 4 * a * c, 0.5);
+			if (x1 == 0.0) {
+				age = SI_ERR_NO_ANS;
+			} else {
+				age = (-b + x1) / (2 * a);
 
 				if (ageType == SI_AT_TOTAL) {
 					age += yearsToBreastHeight;
 				}
 
 				if (age < 0) {
-					age = 0;
+					age = SI_ERR_NO_ANS;
 				} else if (age > MAX_AGE) {
 					age = SI_ERR_NO_ANS;
 				}
 			}
-			break;
-		case SI_PLI_GOUDIE_WET:
-			if (siteHeight < 1.3) {
-				age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
+		}
 
-				if (ageType == SI_AT_BREAST) {
-					age -= yearsToBreastHeight;
-				}
+		if (age < 10 && age > 0) {
+			age = iterate(cuIndex, siteHeight, ageType, siteIndex, yearsToBreastHeight);
+			if (HOOP) {
+				ht5 = SiteIndex2Height
+						.indexToHeightOrNaN(cuIndex, 5.0, SI_AT_BREAST, siteIndex, yearsToBreastHeight, 0.5);
+				// 0.5 may have to change
 
-				if (age < 0.0) {
-					age = 0.0;
+				if (siteHeight <= ht5) {
+					siteHeight -= (1 - ( (ht5 - siteHeight) / ht5)) * 1.5;
+				} else {
+					// 0.5 may have to change
+					ht10 = SiteIndex2Height
+							.indexToHeightOrNaN(cuIndex, 10.0, SI_AT_BREAST, siteIndex, yearsToBreastHeight, 0.5);
+					siteHeight -= ( ( (ht10 - siteHeight) / (ht10 - ht5))) * 1.5;
 				}
-			} else {
-				x1 = -0.935;
-				x2 = 7.81498;
-				x3 = -1.28517;
+			}
+		}
+		return age;
+	}
 
-				a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
-				b = x2 + x1 * llog(siteIndex - 1.3);
+	// Cannot find constant
+	/*
+	 * case SI_HM_WILEY: if (site_height / 0.3048 < 4.5){ age = y2bh * ppow (site_height / 1.37, 0.5);
+	 *
+	 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
+	 *
+	 * if (age < 0.0){ age = 0.0; } } else{ x1 = 2500 / (site_index / 0.3048 - 4.5); x2 = -1.7307 + 0.1394 * x1; x3 =
+	 * -0.0616 + 0.0137 * x1; x4 = 0.00192428 + 0.00007024 * x1;
+	 *
+	 * x1 = (4.5 - site_height / 0.3048); a = 1 + x1 * x4; b = x1 * x3; c = x1 * x2;
+	 *
+	 * x1 = ppow (b * b - 4 * a * c, 0.5); if (x1 == 0.0){ age = SI_ERR_NO_ANS; } else{ age = (-b + x1) / (2 * a);
+	 *
+	 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
+	 *
+	 * if (age < 0){ age = SI_ERR_NO_ANS; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } } }
+	 *
+	 * if (age < 10 && age > 0){ age = iterate (cu_index, site_height, age_type, site_index, y2bh); if(HOOP){ ht5 =
+	 * index_to_height (cu_index, 5.0, SI_AT_BREAST, site_index, y2bh, 0.5); // 0.5 may have to change
+	 *
+	 * if (site_height <= ht5){ site_height -= (1 - ((ht5 - site_height) / ht5)) * 1.5; } else{ ht10 = index_to_height
+	 * (cu_index, 10.0, SI_AT_BREAST, site_index, y2bh, 0.5); // 0.5 may have to change site_height -= (((ht10 -
+	 * site_height) / (ht10 - ht5))) * 1.5; } } } break;
+	 */
+	private static double pliGoudieDry(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double x1, x2, x3;
+		double a, b;
+		double age;
 
-				age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
+		if (siteHeight < 1.3) {
+			age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
 
-				if (ageType == SI_AT_TOTAL) {
-					age += yearsToBreastHeight;
-				}
+			if (ageType == SI_AT_BREAST) {
+				age -= yearsToBreastHeight;
+			}
 
-				if (age < 0) {
-					age = 0;
-				} else if (age > MAX_AGE) {
-					age = SI_ERR_NO_ANS;
-				}
+			if (age < 0.0) {
+				age = 0.0;
 			}
-			break;
-		// Couldn't find constant
-		/*
-		 * case SI_PF_GOUDIE_DRY: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
-		 *
-		 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
-		 *
-		 * if (age < 0.0){ age = 0.0; } } else{ x1 = -1.00726; x2 = 7.81498; x3 = -1.28517;
-		 *
-		 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 +
-		 * x1 * llog (site_index - 1.3);
-		 *
-		 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
-		 *
-		 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
-		 *
-		 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
-		 */
-		// Couldn't find constant
-		/*
-		 * case SI_PF_GOUDIE_WET: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
-		 *
-		 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
-		 *
-		 * if (age < 0.0){ age = 0.0; } } else{ x1 = -0.935; x2 = 7.81498; x3 = -1.28517;
-		 *
-		 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 +
-		 * x1 * llog (site_index - 1.3);
-		 *
-		 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
-		 *
-		 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
-		 *
-		 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
-		 */
-		case SI_SS_GOUDIE:
-			if (siteHeight < 1.3) {
-				age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
+		} else {
+			x1 = -1.00726;
+			x2 = 7.81498;
+			x3 = -1.28517;
 
-				if (ageType == SI_AT_BREAST) {
-					age -= yearsToBreastHeight;
-				}
+			a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
+			b = x2 + x1 * llog(siteIndex - 1.3);
 
-				if (age < 0.0) {
-					age = 0.0;
-				}
-			} else {
-				x1 = -1.5282;
-				x2 = 11.0605;
-				x3 = -1.5108;
+			age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
 
-				a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
-				b = x2 + x1 * llog(siteIndex - 1.3);
+			if (ageType == SI_AT_TOTAL) {
+				age += yearsToBreastHeight;
+			}
+
+			if (age < 0) {
+				age = 0;
+			} else if (age > MAX_AGE) {
+				age = SI_ERR_NO_ANS;
+			}
+		}
+		return age;
+	}
 
-				age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
+	private static double pliGoudieWet(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double x1, x2, x3;
+		double a, b;
+		double age;
 
-				if (ageType == SI_AT_TOTAL) {
-					age += yearsToBreastHeight;
-				}
+		if (siteHeight < 1.3) {
+			age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
 
-				if (age < 0) {
-					age = 0;
-				} else if (age > MAX_AGE) {
-					age = SI_ERR_NO_ANS;
-				}
+			if (ageType == SI_AT_BREAST) {
+				age -= yearsToBreastHeight;
 			}
-			break;
-		// Couldn't find constant
-		/*
-		 * case SI_SE_GOUDIE_PLA: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
-		 *
-		 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
-		 *
-		 * if (age < 0.0){ age = 0.0; } } else{ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
-		 *
-		 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 +
-		 * x1 * llog (site_index - 1.3);
-		 *
-		 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
-		 *
-		 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
-		 *
-		 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
-		 */
-		// Couldn't find constant
-		/*
-		 * case SI_SE_GOUDIE_NAT: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
-		 *
-		 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
-		 *
-		 * if (age < 0.0){ age = 0.0; } } else{ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
-		 *
-		 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 +
-		 * x1 * llog (site_index - 1.3);
-		 *
-		 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
-		 *
-		 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
-		 *
-		 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
-		 */
-		case SI_SW_GOUDIE_PLA:
-			if (siteHeight < 1.3) {
-				age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
 
-				if (ageType == SI_AT_BREAST) {
-					age -= yearsToBreastHeight;
-				}
-
-				if (age < 0.0) {
-					age = 0.0;
-				}
-			} else {
-				x1 = -1.2866;
-				x2 = 9.7936;
-				x3 = -1.4661;
+			if (age < 0.0) {
+				age = 0.0;
+			}
+		} else {
+			x1 = -0.935;
+			x2 = 7.81498;
+			x3 = -1.28517;
 
-				a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
-				b = x2 + x1 * llog(siteIndex - 1.3);
+			a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
+			b = x2 + x1 * llog(siteIndex - 1.3);
 
-				age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
+			age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
 
-				if (ageType == SI_AT_TOTAL) {
-					age += yearsToBreastHeight;
-				}
+			if (ageType == SI_AT_TOTAL) {
+				age += yearsToBreastHeight;
+			}
 
-				if (age < 0) {
-					age = 0;
-				} else if (age > MAX_AGE) {
-					age = SI_ERR_NO_ANS;
-				}
+			if (age < 0) {
+				age = 0;
+			} else if (age > MAX_AGE) {
+				age = SI_ERR_NO_ANS;
 			}
-			break;
+		}
+		return age;
+	}
 
-		case SI_SW_GOUDIE_NAT:
-			if (siteHeight < 1.3) {
-				age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
+	// Couldn't find constant
+	/*
+	 * case SI_PF_GOUDIE_DRY: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
+	 *
+	 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
+	 *
+	 * if (age < 0.0){ age = 0.0; } } else{ x1 = -1.00726; x2 = 7.81498; x3 = -1.28517;
+	 *
+	 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 + x1 *
+	 * llog (site_index - 1.3);
+	 *
+	 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
+	 *
+	 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
+	 *
+	 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
+	 */
+	// Couldn't find constant
+	/*
+	 * case SI_PF_GOUDIE_WET: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
+	 *
+	 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
+	 *
+	 * if (age < 0.0){ age = 0.0; } } else{ x1 = -0.935; x2 = 7.81498; x3 = -1.28517;
+	 *
+	 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 + x1 *
+	 * llog (site_index - 1.3);
+	 *
+	 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
+	 *
+	 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
+	 *
+	 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
+	 */
+	private static double ssGoudie(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double x1, x2, x3;
+		double a, b;
+		double age;
 
-				if (ageType == SI_AT_BREAST) {
-					age -= yearsToBreastHeight;
-				}
+		if (siteHeight < 1.3) {
+			age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
 
-				if (age < 0.0) {
-					age = 0.0;
-				}
-			} else {
-				x1 = -1.2866;
-				x2 = 9.7936;
-				x3 = -1.4661;
+			if (ageType == SI_AT_BREAST) {
+				age -= yearsToBreastHeight;
+			}
 
-				a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
-				b = x2 + x1 * llog(siteIndex - 1.3);
+			if (age < 0.0) {
+				age = 0.0;
+			}
+		} else {
+			x1 = -1.5282;
+			x2 = 11.0605;
+			x3 = -1.5108;
 
-				age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
+			a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
+			b = x2 + x1 * llog(siteIndex - 1.3);
 
-				if (ageType == SI_AT_TOTAL) {
-					age += yearsToBreastHeight;
-				}
+			age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
 
-				if (age < 0) {
-					age = 0;
-				} else if (age > MAX_AGE) {
-					age = SI_ERR_NO_ANS;
-				}
+			if (ageType == SI_AT_TOTAL) {
+				age += yearsToBreastHeight;
 			}
-			break;
-		case SI_BL_THROWERGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_CWI_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_FDC_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_FDI_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_HWC_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_HWC_NIGHGI99:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_HWI_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_LW_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		// Couldn't find constant
-		/*
-		 * case SI_PLI_NIGHGI: age = gi_iterate (cu_index, site_height, age_type, site_index); break;
-		 */
-		case SI_PLI_NIGHGI97:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_SS_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_SS_NIGHGI99:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_SW_NIGHGI:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-		case SI_SW_NIGHGI99:
-			age = giIterate(cuIndex, siteHeight, ageType, siteIndex);
-			break;
-
-		default:
-			if (TEST) {
-				try {
-					// Open the file for writing
-					File testfile = new File("si2age.tst");
 
-					try (FileWriter fileWriter = new FileWriter(testfile)) {
+			if (age < 0) {
+				age = 0;
+			} else if (age > MAX_AGE) {
+				age = SI_ERR_NO_ANS;
+			}
+		}
+		return age;
+	}
 
-						// Write to the file
-						fileWriter.write("before iterate()\n");
+	// Couldn't find constant
+	/*
+	 * case SI_SE_GOUDIE_PLA: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
+	 *
+	 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
+	 *
+	 * if (age < 0.0){ age = 0.0; } } else{ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
+	 *
+	 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 + x1 *
+	 * llog (site_index - 1.3);
+	 *
+	 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
+	 *
+	 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
+	 *
+	 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
+	 */
+	// Couldn't find constant
+	/*
+	 * case SI_SE_GOUDIE_NAT: if (site_height < 1.3){ age = y2bh * ppow (site_height / 1.3, 0.5);
+	 *
+	 * if (age_type == SI_AT_BREAST){ age -= y2bh; }
+	 *
+	 * if (age < 0.0){ age = 0.0; } } else{ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
+	 *
+	 * a = (site_index - 1.3) * (1 + Math.exp (x2 + x1 * llog (site_index - 1.3) + x3 * Math.log(50.0))); b = x2 + x1 *
+	 * llog (site_index - 1.3);
+	 *
+	 * age = Math.exp ((llog (a / (site_height - 1.3) - 1) - b) / x3);
+	 *
+	 * if (age_type == SI_AT_TOTAL){ age += y2bh; }
+	 *
+	 * if (age < 0){ age = 0; } else if (age > MAX_AGE){ age = SI_ERR_NO_ANS; } }
+	 */
+	private static double swGoudiePla(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double x1, x2, x3;
+		double a, b;
+		double age;
 
-						// Close the file
-						fileWriter.close();
-					}
-				} catch (IOException e) {
-					throw new RuntimeException("An error occurred while writing to the file.", e);
-				}
+		if (siteHeight < 1.3) {
+			age = yearsToBreastHeight * ppow(siteHeight / 1.3, 0.5);
+
+			if (ageType == SI_AT_BREAST) {
+				age -= yearsToBreastHeight;
 			}
-			age = iterate(cuIndex, siteHeight, ageType, siteIndex, yearsToBreastHeight);
-			break;
-		}
 
-		if (TEST) {
-			try {
-				File testfile = new File("si2age.tst");
+			if (age < 0.0) {
+				age = 0.0;
+			}
+		} else {
+			x1 = -1.2866;
+			x2 = 9.7936;
+			x3 = -1.4661;
 
-				// Open the file for writing
-				try (FileWriter fileWriter = new FileWriter(testfile, true)) {
+			a = (siteIndex - 1.3) * (1 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)));
+			b = x2 + x1 * llog(siteIndex - 1.3);
 
-					// Write the final age to the file
-					fileWriter.write("final age: " + age);
+			age = Math.exp( (llog(a / (siteHeight - 1.3) - 1) - b) / x3);
 
-					// Close the file
-					fileWriter.close();
-				}
-			} catch (IOException e) {
-				throw new RuntimeException("An error occurred while writing to the file.", e);
+			if (ageType == SI_AT_TOTAL) {
+				age += yearsToBreastHeight;
+			}
+
+			if (age < 0) {
+				age = 0;
+			} else if (age > MAX_AGE) {
+				age = SI_ERR_NO_ANS;
 			}
 		}
-		if (age == SI_ERR_NO_ANS) {
-			throw new NoAnswerException("Iteration could not converge (or projected age > 999), age: " + age);
-		}
-		return (age);
+		return age;
+	}
+
+	private static double growthIntercept(
+			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
+			double yearsToBreastHeight
+	) {
+		double age;
+
+		age = giIterateOrNaN(cuIndex, siteHeight, ageType, siteIndex);
+		return age;
 	}
 
+	// Couldn't find constant
+	/*
+	 * case SI_PLI_NIGHGI: age = gi_iterate (cu_index, site_height, age_type, site_index); break;
+	 */
 	private static double iterate(
 			SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex,
 			double yearsToBreastHeight
-	) throws CommonCalculatorException {
+	) {
+		SiteCurve curve = SiteCurve.of(cuIndex);
+		double si2age = TEST ? AgeSearch.NOT_FOUND
+				: AgeSearch.search(curve, siteHeight, siteIndex, yearsToBreastHeight);
+		if (Double.isNaN(si2age)) {
+			si2age = search(curve, siteHeight, ageType, siteIndex, yearsToBreastHeight);
+			if (isFailure(si2age)) {
+				return si2age;
+			}
+		}
 
+		if (si2age >= 0) {
+			if (ageType == SI_AT_BREAST) {
+				/*
+				 * was si2age -= y2bh;
+				 */
+				si2age = AgeToAge.ageToAgeOrNaN(cuIndex, si2age, SI_AT_TOTAL, SI_AT_BREAST, yearsToBreastHeight);
+			}
+		}
+		if (si2age == SI_ERR_NO_ANS) {
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
+		}
+		return (si2age);
+	}
+
+	/**
+	 * Search for the total age at which the curve reaches the given height, to within 0.005m. {@link AgeSearch} returns
+	 * the same age as this more quickly where it can.
+	 *
+	 * @return the total age, SI_ERR_NO_ANS if the age is over 999 or the curve does not converge, or a failure of the
+	 *         curve
+	 */
+	static double search(
+			SiteCurve curve, double siteHeight, SiteIndexAgeType ageType, double siteIndex, double yearsToBreastHeight
+	) {
 		double si2age;
 		double step;
 		double test_ht;
@@ -563,28 +650,15 @@ public class SiteIndex2Age {
 				}
 			}
 
-			try {
-				// 0.5 may have to change
-				test_ht = SiteIndex2Height
-						.indexToHeight(cuIndex, si2age, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, 0.5);
-
-				if (TEST) {
-					try {
-						// Open the file for writing
-						File testfile = new File("si2age.tst");
-						try (FileWriter fileWriter = new FileWriter(testfile, true)) {
-
-							// Write to the file
-							fileWriter.write(String.format("index_to_height()=%.2f%n", test_ht));
+			// 0.5 may have to change
+			test_ht = SiteIndex2Height
+					.indexToHeightOrNaN(curve, si2age, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, 0.5);
 
-							// Close the file
-							fileWriter.close();
-						}
-					} catch (IOException e) {
-						throw new RuntimeException("An error occurred while writing to the file.", e);
-					}
+			if (isFailure(test_ht)) {
+				if (statusOf(test_ht) != CalculatorStatus.SI_ERR_NO_ANS) {
+					return test_ht;
 				}
-			} catch (NoAnswerException e) { /* height > 999 */
+				/* height > 999 */
 				/*
 				 * printf ("si2age.c: site_height=%f, test_ht=%f, si2age=%f\n", site_height, test_ht, si2age);
 				 */
@@ -594,6 +668,21 @@ public class SiteIndex2Age {
 					si2age = SI_ERR_NO_ANS;
 					break;
 				}
+			} else if (TEST) {
+				try {
+					// Open the file for writing
+					File testfile = new File("si2age.tst");
+					try (FileWriter fileWriter = new FileWriter(testfile, true)) {
+
+						// Write to the file
+						fileWriter.write(String.format("index_to_height()=%.2f%n", test_ht));
+
+						// Close the file
+						fileWriter.close();
+					}
+				} catch (IOException e) {
+					throw new RuntimeException("An error occurred while writing to the file.", e);
+				}
 			}
 
 			/* see if we're close enough */
@@ -641,25 +730,26 @@ public class SiteIndex2Age {
 			}
 		} while (true);
 
-		if (si2age >= 0) {
-			if (ageType == SI_AT_BREAST) {
-				/*
-				 * was si2age -= y2bh;
-				 */
-				si2age = AgeToAge.ageToAge(cuIndex, si2age, SI_AT_TOTAL, SI_AT_BREAST, yearsToBreastHeight);
-			}
-		}
-		if (si2age == SI_ERR_NO_ANS) {
-			throw new NoAnswerException(
-					"Iteration could not converge (or projected age > 999)," + "site index 2 age variable: " + si2age
-			);
-		}
-		return (si2age);
+		return si2age;
 	}
 
 	public static double
 			giIterate(SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex)
 					throws CommonCalculatorException {
+		double age = giIterateOrNaN(cuIndex, siteHeight, ageType, siteIndex);
+		if (isFailure(age)) {
+			throw CalculatorStatus
+					.toException(age, "curve " + cuIndex + ", height " + siteHeight + ", site index " + siteIndex);
+		}
+		return age;
+	}
+
+	/**
+	 * As {@link #giIterate}, but returns a {@link CalculatorStatus} failure rather than throwing.
+	 */
+	public static double
+			giIterateOrNaN(SiteIndexEquation cuIndex, double siteHeight, SiteIndexAgeType ageType, double siteIndex) {
+		SiteCurve curve = SiteCurve.of(cuIndex);
 		double age;
 		double si2age;
 		double testSite;
@@ -667,9 +757,7 @@ public class SiteIndex2Age {
 		double mindiff;
 
 		if (ageType == SI_AT_TOTAL) {
-			throw new GrowthInterceptTotalException(
-					"cannot compute growth intercept when using total age, age type: " + ageType
-			);
+			return failure(CalculatorStatus.SI_ERR_GI_TOT);
 		}
 
 		diff = 0;
@@ -696,7 +784,10 @@ public class SiteIndex2Age {
 				}
 
 			}
-			testSite = Height2SiteIndex.heightToIndex(cuIndex, age, SI_AT_BREAST, siteHeight, SI_EST_DIRECT);
+			testSite = Height2SiteIndex.heightToIndexOrNaN(curve, age, SI_AT_BREAST, siteHeight, SI_EST_DIRECT);
+			if (isFailure(testSite)) {
+				return testSite;
+			}
 
 			if (TEST) {
 				try {
@@ -735,10 +826,7 @@ public class SiteIndex2Age {
 			/* right answer, or not low enough */
 			if (diff > 1) {
 				/* outside tolerance of 1m */
-				throw new NoAnswerException(
-						"Iiteration could not converge (or projected age > 999),"
-								+ "difference outside of 1m tolerance: " + diff
-				);
+				return failure(CalculatorStatus.SI_ERR_NO_ANS);
 			}
 		}
 
@@ -746,10 +834,7 @@ public class SiteIndex2Age {
 			/* right answer, or not high enough */
 			if (diff > 1) {
 				/* outside tolerance of 1m */
-				throw new NoAnswerException(
-						"Iiteration could not converge (or projected age > 999),"
-								+ "difference outside of 1m tolerance: " + diff
-				);
+				return failure(CalculatorStatus.SI_ERR_NO_ANS);
 			}
 		}
 
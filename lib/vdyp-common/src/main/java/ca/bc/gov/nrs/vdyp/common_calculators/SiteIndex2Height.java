@@ -1,19 +1,22 @@
 package ca.bc.gov.nrs.vdyp.common_calculators;
 
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.failure;
+import static ca.bc.gov.nrs.vdyp.common_calculators.CalculatorStatus.isFailure;
 import static ca.bc.gov.nrs.vdyp.common_calculators.SiteIndexUtilities.llog;
 import static ca.bc.gov.nrs.vdyp.common_calculators.SiteIndexUtilities.ppow;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_BREAST;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation.*;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType.SI_EST_DIRECT;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.DoubleBinaryOperator;
 
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CurveErrorException;
-import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptMinimumException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.LessThan13Exception;
-import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 
@@ -49,13 +52,40 @@ public class SiteIndex2Height {
 			SiteIndexEquation cuIndex, double age, SiteIndexAgeType ageType, double siteIndex,
 			double years2BreastHeight, double pi
 	) throws CommonCalculatorException {
-		double height; // return value
-		double x1, x2, x3, x4, x5; // equation coefficients
+		double height = indexToHeightOrNaN(cuIndex, age, ageType, siteIndex, years2BreastHeight, pi);
+		if (isFailure(height)) {
+			throw CalculatorStatus.toException(
+					height, "curve " + cuIndex + ", " + ageType + " age " + age + ", site index " + siteIndex
+			);
+		}
+		return height;
+	}
+
+	/**
+	 * As {@link #indexToHeight}, but returns a {@link CalculatorStatus} failure rather than throwing. Used by the
+	 * iterative searches which try many ages or heights that may be out of range.
+	 */
+	public static double indexToHeightOrNaN(
+			SiteIndexEquation cuIndex, double age, SiteIndexAgeType ageType, double siteIndex,
+			double years2BreastHeight, double pi
+	) {
+		return indexToHeightOrNaN(SiteCurve.of(cuIndex), age, ageType, siteIndex, years2BreastHeight, pi);
+	}
+
+	/**
+	 * As {@link #indexToHeightOrNaN(SiteIndexEquation, double, SiteIndexAgeType, double, double, double)}, for a curve
+	 * already looked up.
+	 */
+	static double indexToHeightOrNaN(
+			SiteCurve curve, double age, SiteIndexAgeType ageType, double siteIndex, double years2BreastHeight,
+			double pi
+	) {
+		SiteIndexEquation cuIndex = curve.getEquation();
 		double totalAge; // total age
 		double breastHeightAge; // breast-height age
 
 		if (siteIndex < 1.3) {
-			throw new LessThan13Exception("Site index < 1.3m: " + siteIndex);
+			return failure(CalculatorStatus.SI_ERR_LT13);
 		}
 
 		// should this line be removed?
@@ -63,1939 +93,2719 @@ public class SiteIndex2Height {
 
 		if (ageType == SI_AT_TOTAL) {
 			totalAge = age;
-			breastHeightAge = AgeToAge.ageToAge(cuIndex, totalAge, SI_AT_TOTAL, SI_AT_BREAST, years2BreastHeight);
+			breastHeightAge = AgeToAge.ageToAgeOrNaN(cuIndex, totalAge, SI_AT_TOTAL, SI_AT_BREAST, years2BreastHeight);
+			if (isFailure(breastHeightAge)) {
+				return breastHeightAge;
+			}
 		} else {
 			breastHeightAge = age;
-			totalAge = AgeToAge.ageToAge(cuIndex, breastHeightAge, SI_AT_BREAST, SI_AT_TOTAL, years2BreastHeight);
+			totalAge = AgeToAge.ageToAgeOrNaN(cuIndex, breastHeightAge, SI_AT_BREAST, SI_AT_TOTAL, years2BreastHeight);
+			if (isFailure(totalAge)) {
+				return totalAge;
+			}
 		}
 		if (totalAge < 0.0) {
-			throw new NoAnswerException("Iteration could not converge (projected height > 999), age: " + totalAge);
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
 		}
 		if (totalAge < 0.00001) {
 			return 0.0;
 		}
 
-		if (cuIndex == null) {
-			throw new CurveErrorException("Unknown curve index");
+		if (curve.height == null) {
+			return failure(CalculatorStatus.SI_ERR_CURVE);
 		}
 
-		switch (cuIndex) {
-		case SI_FDC_COCHRAN:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-
-				x1 = Math.log(breastHeightAge);
-				x1 = Math.exp(-0.37496 + 1.36164 * x1 - 0.00243434 * ppow(x1, 4));
-				x2 = -0.2828 + 1.87947 * ppow(1 - Math.exp(-0.022399 * breastHeightAge), 0.966998);
-
-				height = 4.5 + x1 - x2 * (79.97 - (siteIndex - 4.5));
+		return curve.height.height(cuIndex, ageType, totalAge, breastHeightAge, siteIndex, years2BreastHeight, pi);
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_FDC_KING:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+	/**
+	 * @return the method of this class implementing the height equation of each curve that has one
+	 */
+	static Map<SiteIndexEquation, SiteCurve.HeightEquation> heightEquations() {
+		var equations = new EnumMap<SiteIndexEquation, SiteCurve.HeightEquation>(SiteIndexEquation.class);
+		equations.put(SI_FDC_COCHRAN, SiteIndex2Height::fdcCochran);
+		equations.put(SI_FDC_KING, SiteIndex2Height::fdcKing);
+		equations.put(SI_HWC_FARR, SiteIndex2Height::hwcFarr);
+		equations.put(SI_HWC_BARKER, SiteIndex2Height::hwcBarker);
+		equations.put(SI_HM_MEANS, SiteIndex2Height::hmMeans);
+		equations.put(SI_HM_MEANSAC, SiteIndex2Height::hmMeansac);
+		equations.put(SI_HWC_WILEY, SiteIndex2Height::hwcWiley);
+		equations.put(SI_HWC_WILEY_BC, SiteIndex2Height::hwcWileyBc);
+		equations.put(SI_HWC_WILEY_MB, SiteIndex2Height::hwcWileyMb);
+		equations.put(SI_HWC_WILEYAC, SiteIndex2Height::hwcWileyac);
+		equations.put(SI_BP_CURTIS, SiteIndex2Height::bpCurtis);
+		equations.put(SI_BP_CURTISAC, SiteIndex2Height::bpCurtisac);
+		equations.put(SI_SW_GOUDNIGH, SiteIndex2Height::swGoudnigh);
+		equations.put(SI_PLI_THROWNIGH, SiteIndex2Height::pliThrownigh);
+		equations.put(SI_PLI_THROWER, SiteIndex2Height::pliThrower);
+		equations.put(SI_PLI_NIGHTA2004, SiteIndex2Height::pliNighta2004);
+		equations.put(SI_PLI_NIGHTA98, SiteIndex2Height::pliNighta98);
+		equations.put(SI_SW_NIGHTA2004, SiteIndex2Height::swNighta2004);
+		equations.put(SI_SW_NIGHTA, SiteIndex2Height::swNighta);
+		equations.put(SI_FDC_NIGHTA, SiteIndex2Height::fdcNighta);
+		equations.put(SI_SE_NIGH, SiteIndex2Height::seNigh);
+		equations.put(SI_SE_NIGHTA, SiteIndex2Height::swNighta2004);
+		equations.put(SI_FDC_BRUCE, SiteIndex2Height::fdcBruce);
+		equations.put(SI_FDC_BRUCEAC, SiteIndex2Height::fdcBruceac);
+		equations.put(SI_FDC_BRUCENIGH, SiteIndex2Height::fdcBrucenigh);
+		equations.put(SI_PLI_MILNER, SiteIndex2Height::pliMilner);
+		equations.put(SI_PLI_CIESZEWSKI, SiteIndex2Height::pliCieszewski);
+		equations.put(SI_SW_CIESZEWSKI, SiteIndex2Height::swCieszewski);
+		equations.put(SI_SB_CIESZEWSKI, SiteIndex2Height::sbCieszewski);
+		equations.put(SI_AT_CIESZEWSKI, SiteIndex2Height::atCieszewski);
+		equations.put(SI_PLI_GOUDIE_WET, SiteIndex2Height::pliGoudieWet);
+		equations.put(SI_PLI_GOUDIE_DRY, SiteIndex2Height::pliGoudieDry);
+		equations.put(SI_PLI_DEMPSTER, SiteIndex2Height::pliDempster);
+		equations.put(SI_SW_GOUDIE_PLA, SiteIndex2Height::swGoudiePla);
+		equations.put(SI_SW_GOUDIE_NAT, SiteIndex2Height::swGoudiePla);
+		equations.put(SI_SW_DEMPSTER, SiteIndex2Height::swDempster);
+		equations.put(SI_SB_DEMPSTER, SiteIndex2Height::sbDempster);
+		equations.put(SI_SS_GOUDIE, SiteIndex2Height::ssGoudie);
+		equations.put(SI_FDI_THROWER, SiteIndex2Height::fdiThrower);
+		equations.put(SI_AT_GOUDIE, SiteIndex2Height::atGoudie);
+		equations.put(SI_SW_GOUDIE_NATAC, SiteIndex2Height::swGoudieNatac);
+		equations.put(SI_SW_GOUDIE_PLAAC, SiteIndex2Height::swGoudieNatac);
+		equations.put(SI_FDI_THROWERAC, SiteIndex2Height::fdiThrowerac);
+		equations.put(SI_SS_NIGH, SiteIndex2Height::ssNigh);
+		equations.put(SI_BA_NIGH, SiteIndex2Height::baNigh);
+		equations.put(SI_EP_NIGH, SiteIndex2Height::epNigh);
+		equations.put(SI_CWI_NIGH, SiteIndex2Height::cwiNigh);
+		equations.put(SI_HWI_NIGH, SiteIndex2Height::hwiNigh);
+		equations.put(SI_PY_NIGH, SiteIndex2Height::pyNigh);
+		equations.put(SI_ACT_THROWER, SiteIndex2Height::actThrower);
+		equations.put(SI_ACT_THROWERAC, SiteIndex2Height::actThrowerac);
+		equations.put(SI_SB_KER, SiteIndex2Height::sbKer);
+		equations.put(SI_SW_KER_PLA, SiteIndex2Height::swKerPla);
+		equations.put(SI_SW_KER_NAT, SiteIndex2Height::swKerPla);
+		equations.put(SI_SW_THROWER, SiteIndex2Height::swThrower);
+		equations.put(SI_SW_HU_GARCIA, SiteIndex2Height::swHuGarcia);
+		equations.put(SI_SS_FARR, SiteIndex2Height::ssFarr);
+		equations.put(SI_PW_CURTIS, SiteIndex2Height::pwCurtis);
+		equations.put(SI_PW_CURTISAC, SiteIndex2Height::pwCurtisac);
+		equations.put(SI_SS_BARKER, SiteIndex2Height::ssBarker);
+		equations.put(SI_CWC_BARKER, SiteIndex2Height::cwcBarker);
+		equations.put(SI_CWC_KURUCZ, SiteIndex2Height::cwcKurucz);
+		equations.put(SI_CWC_KURUCZAC, SiteIndex2Height::cwcKuruczac);
+		equations.put(SI_CWC_NIGH, SiteIndex2Height::cwcNigh);
+		equations.put(SI_BA_DILUCCA, SiteIndex2Height::baDilucca);
+		equations.put(SI_BB_KER, SiteIndex2Height::bbKer);
+		equations.put(SI_BA_KURUCZ86, SiteIndex2Height::baKurucz86);
+		equations.put(SI_BA_KURUCZ82, SiteIndex2Height::baKurucz82);
+		equations.put(SI_BL_KURUCZ82, SiteIndex2Height::baKurucz82);
+		equations.put(SI_BA_KURUCZ82AC, SiteIndex2Height::baKurucz82ac);
+		equations.put(SI_FDI_MILNER, SiteIndex2Height::fdiMilner);
+		equations.put(SI_FDI_VDP_MONT, SiteIndex2Height::fdiVdpMont);
+		equations.put(SI_FDI_VDP_WASH, SiteIndex2Height::fdiVdpWash);
+		equations.put(SI_FDI_MONS_DF, SiteIndex2Height::fdiMonsDf);
+		equations.put(SI_FDI_MONS_GF, SiteIndex2Height::fdiMonsGf);
+		equations.put(SI_FDI_MONS_WRC, SiteIndex2Height::fdiMonsGf);
+		equations.put(SI_FDI_MONS_WH, SiteIndex2Height::fdiMonsWh);
+		equations.put(SI_FDI_MONS_SAF, SiteIndex2Height::fdiMonsWh);
+		equations.put(SI_DR_HARRING, SiteIndex2Height::drHarring);
+		equations.put(SI_DR_NIGH, SiteIndex2Height::drNigh);
+		equations.put(SI_PY_MILNER, SiteIndex2Height::pyMilner);
+		equations.put(SI_PY_HANN, SiteIndex2Height::pyHann);
+		equations.put(SI_PY_HANNAC, SiteIndex2Height::pyHannac);
+		equations.put(SI_LW_MILNER, SiteIndex2Height::lwMilner);
+		equations.put(SI_LW_NIGH, SiteIndex2Height::lwNigh);
+		equations.put(SI_SB_NIGH, SiteIndex2Height::sbNigh);
+		equations.put(SI_AT_NIGH, SiteIndex2Height::atNigh);
+		equations.put(SI_SW_HUANG_PLA, SiteIndex2Height::swHuangPla);
+		equations.put(SI_SW_HUANG_NAT, SiteIndex2Height::swHuangNat);
+		equations.put(SI_PLI_HUANG_PLA, SiteIndex2Height::pliHuangPla);
+		equations.put(SI_PLI_HUANG_NAT, SiteIndex2Height::pliHuangPla);
+		equations.put(SI_FDI_HUANG_PLA, SiteIndex2Height::fdiHuangPla);
+		equations.put(SI_FDI_HUANG_NAT, SiteIndex2Height::fdiHuangPla);
+		equations.put(SI_AT_HUANG, SiteIndex2Height::atHuang);
+		equations.put(SI_SB_HUANG, SiteIndex2Height::sbHuang);
+		equations.put(SI_ACB_HUANG, SiteIndex2Height::acbHuang);
+		equations.put(SI_ACB_HUANGAC, SiteIndex2Height::acbHuangac);
+		equations.put(SI_BL_CHEN, SiteIndex2Height::blChen);
+		equations.put(SI_SE_CHEN, SiteIndex2Height::seChen);
+		equations.put(SI_PL_CHEN, SiteIndex2Height::plChen);
+		equations.put(SI_DR_CHEN, SiteIndex2Height::drChen);
+		equations.put(SI_BL_CHENAC, SiteIndex2Height::blChenac);
+		equations.put(SI_SE_CHENAC, SiteIndex2Height::seChenac);
+		equations.put(SI_AT_CHEN, SiteIndex2Height::atChen);
+		equations.put(SI_PJ_HUANG, SiteIndex2Height::pjHuang);
+		equations.put(SI_PJ_HUANGAC, SiteIndex2Height::pjHuangac);
+		equations.put(SI_BA_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_BL_THROWERGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_PY_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_CWI_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_FDC_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_FDI_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_HWC_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_HWC_NIGHGI99, SiteIndex2Height::growthIntercept);
+		equations.put(SI_HWI_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_LW_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_PLI_NIGHGI97, SiteIndex2Height::growthIntercept);
+		equations.put(SI_SE_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_SS_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_SS_NIGHGI99, SiteIndex2Height::growthIntercept);
+		equations.put(SI_SW_NIGHGI, SiteIndex2Height::growthIntercept);
+		equations.put(SI_SW_NIGHGI99, SiteIndex2Height::growthIntercept);
+		equations.put(SI_SW_NIGHGI2004, SiteIndex2Height::growthIntercept);
+		return equations;
+	}
 
-				x1 = 2500 / (siteIndex - 4.5);
+	private static double fdcCochran(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
 
-				x2 = -0.954038 + 0.109757 * x1;
-				x3 = 0.0558178 + 0.00792236 * x1;
-				x4 = -0.000733819 + 0.000197693 * x1;
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				height = 4.5 + breastHeightAge * breastHeightAge
-						/ (x2 + x3 * breastHeightAge + x4 * breastHeightAge * breastHeightAge);
+			x1 = Math.log(breastHeightAge);
+			x1 = Math.exp(-0.37496 + 1.36164 * x1 - 0.00243434 * ppow(x1, 4));
+			x2 = -0.2828 + 1.87947 * ppow(1 - Math.exp(-0.022399 * breastHeightAge), 0.966998);
 
-				if (breastHeightAge < 5) {
-					height += (0.22 * breastHeightAge);
-				}
+			height = 4.5 + x1 - x2 * (79.97 - (siteIndex - 4.5));
 
-				if (breastHeightAge >= 5 && breastHeightAge < 10) {
-					height += (2.2 - 0.22 * breastHeightAge);
-				}
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_HWC_FARR:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+	private static double fdcKing(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-				x1 = Math.log(breastHeightAge);
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				x2 = 0.3621734 + 1.149181 * x1 - 0.005617852 * ppow(x1, 3.0) - 7.267547E-6 * ppow(x1, 7.0)
-						+ 1.708195E-16 * ppow(x1, 22.0) - 2.482794E-22 * ppow(x1, 30.0);
+			x1 = 2500 / (siteIndex - 4.5);
 
-				x3 = -2.146617 - 0.109007 * x1 + 0.0994030 * ppow(x1, 3.0) - 0.003853396 * ppow(x1, 5.0)
-						+ 1.193933E-8 * ppow(x1, 12.0) - 9.486544E-20 * ppow(x1, 27.0) + 1.431925E-26 * ppow(x1, 36.0);
+			x2 = -0.954038 + 0.109757 * x1;
+			x3 = 0.0558178 + 0.00792236 * x1;
+			x4 = -0.000733819 + 0.000197693 * x1;
 
-				height = 4.5 + Math.exp(x2) - Math.exp(x3) * (83.20 - (siteIndex - 4.5));
+			height = 4.5 + breastHeightAge * breastHeightAge
+					/ (x2 + x3 * breastHeightAge + x4 * breastHeightAge * breastHeightAge);
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+			if (breastHeightAge < 5) {
+				height += (0.22 * breastHeightAge);
 			}
-			break;
-		case SI_HWC_BARKER: {
-			double si50t;
-
-			/*
-			 * convert from SI 50b to SI 50t
-			 */
-			si50t = -10.45 + 1.30049 * siteIndex - 0.0022 * siteIndex * siteIndex;
-
-			height = Math.exp(4.35753) * ppow(si50t / Math.exp(4.35753), ppow(50.0 / totalAge, 0.756313));
-		}
-			break;
-		case SI_HM_MEANS:
-			if (breastHeightAge > 0.0) {
-				/* convert to base 100 */
-				siteIndex = -1.73 + 3.149 * ppow(siteIndex, 0.8279);
-
-				height = 1.37 + (22.87 + 0.9502 * (siteIndex - 1.37)) * ppow(
-						1 - Math.exp(-0.0020647 * ppow(siteIndex - 1.37, 0.5) * breastHeightAge),
-						1.3656 + 2.046 / (siteIndex - 1.37)
-				);
-			} else
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			break;
-		case SI_HM_MEANSAC:
-			if (breastHeightAge > 0.5) {
-				/* convert to base 100 */
-				siteIndex = -1.73 + 3.149 * ppow(siteIndex, 0.8279);
 
-				height = 1.37 + (22.87 + 0.9502 * (siteIndex - 1.37)) * ppow(
-						1 - Math.exp(-0.0020647 * ppow(siteIndex - 1.37, 0.5) * (breastHeightAge - 0.5)),
-						1.3656 + 2.046 / (siteIndex - 1.37)
-				);
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+			if (breastHeightAge >= 5 && breastHeightAge < 10) {
+				height += (2.2 - 0.22 * breastHeightAge);
 			}
-			break;
-		// Couldn't find the constant
-		/*
-		 * case SI_HM_WILEY: if (bhage > 0.0){ if (site_index > 60 + 1.667 * bhage){ // function starts going nuts at
-		 * high sites and low ages // evaluate at a safe age, and interpolate x1 = (site_index - 60) / 1.667 + 0.1; x2 =
-		 * index_to_height (cu_index, x1, SI_AT_BREAST, site_index, y2bh, pi); height = 1.37 + (x2-1.37) * bhage / x1;
-		 * break; }
-		 *
-		 * // convert to imperial site_index /= 0.3048;
-		 *
-		 * x1 = 2500 / (site_index - 4.5);
-		 *
-		 * x2 = -1.7307 + 0.1394 * x1; x3 = -0.0616 + 0.0137 * x1; x4 = 0.00192428 + 0.00007024 * x1;
-		 *
-		 * height = 4.5 + bhage * bhage / (x2 + x3 * bhage + x4 * bhage * bhage);
-		 *
-		 * if (bhage < 5){ height += (0.3 * bhage); } else if (bhage < 10){ height += (3.0 - 0.3 * bhage); }
-		 *
-		 * // convert back to metric height *= 0.3048;
-		 *
-		 * }else{ height = tage * tage * 1.37 / y2bh / y2bh; } break;
-		 */
 
-		case SI_HWC_WILEY:
-			height = wiley(totalAge, breastHeightAge, years2BreastHeight, siteIndex, cuIndex, pi, (h, bha) -> h);
-			break;
-		case SI_HWC_WILEY_BC:
-			height = wiley(totalAge, breastHeightAge, years2BreastHeight, siteIndex, cuIndex, pi, (h, bha) -> {
-				double offset = -1.34105 + 0.0009 * bha * h;
-				if (offset > 0.0) {
-					h -= offset;
-				}
-				return h;
-			});
-			break;
-		case SI_HWC_WILEY_MB:
-			height = wiley(totalAge, breastHeightAge, years2BreastHeight, siteIndex, cuIndex, pi, (h, bha) -> {
-				double offset = 0.0972129 + 0.000419315 * bha * h;
-				if (offset > 0.0) {
-					h -= offset;
-				}
-				return h;
-			});
-			break;
-		case SI_HWC_WILEYAC:
-			if (breastHeightAge >= pi) {
-				if (siteIndex > 60 + 1.667 * (breastHeightAge - pi)) {
-					/* function starts going nuts at high sites and low ages */
-					/* evaluate at a safe age, and interpolate */
-					x1 = (siteIndex - 60) / 1.667 + 0.1 + pi;
-					x2 = indexToHeight(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
-					height = 1.37 + (x2 - 1.37) * (breastHeightAge - pi) / x1;
-					break;
-				}
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+	private static double hwcFarr(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
 
-				x1 = Math.pow(49 + (1 - pi), 2.0) / (siteIndex - 4.5);
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				x2 = -1.7307 + 0.1394 * x1;
-				x3 = -0.0616 + 0.0137 * x1;
-				x4 = 0.00195078 + 0.00007446 * x1;
-				x5 = breastHeightAge - pi;
-				height = 4.5 + x5 * x5 / (x2 + x3 * x5 + x4 * x5 * x5);
+			x1 = Math.log(breastHeightAge);
 
-				if (x5 < 5) {
-					height += (0.3 * x5);
-				} else if (x5 < 10) {
-					height += (3.0 - 0.3 * x5);
-				}
+			x2 = 0.3621734 + 1.149181 * x1 - 0.005617852 * ppow(x1, 3.0) - 7.267547E-6 * ppow(x1, 7.0)
+					+ 1.708195E-16 * ppow(x1, 22.0) - 2.482794E-22 * ppow(x1, 30.0);
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
+			x3 = -2.146617 - 0.109007 * x1 + 0.0994030 * ppow(x1, 3.0) - 0.003853396 * ppow(x1, 5.0)
+					+ 1.193933E-8 * ppow(x1, 12.0) - 9.486544E-20 * ppow(x1, 27.0) + 1.431925E-26 * ppow(x1, 36.0);
 
-			break;
-		case SI_BP_CURTIS:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+			height = 4.5 + Math.exp(x2) - Math.exp(x3) * (83.20 - (siteIndex - 4.5));
 
-				x1 = Math.log(siteIndex - 4.5) + 1.649871 * (Math.log(breastHeightAge) - Math.log(50))
-						+ 0.147245 * Math.pow(Math.log(breastHeightAge) - Math.log(50), 2.0);
-				x2 = 1.0 + 0.164927 * (Math.log(breastHeightAge) - Math.log(50))
-						+ 0.052467 * Math.pow(Math.log(breastHeightAge) - Math.log(50), 2.0);
-				height = 4.5 + Math.exp(x1 / x2);
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_BP_CURTISAC:
-			if (breastHeightAge > 0.5) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+	private static double hwcBarker(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-				x1 = Math.log(siteIndex - 4.5) + 1.649871 * (Math.log(breastHeightAge - 0.5) - Math.log(49.5))
-						+ 0.147245 * Math.pow(Math.log(breastHeightAge - 0.5) - Math.log(49.5), 2.0);
-				x2 = 1.0 + 0.164927 * (Math.log(breastHeightAge - 0.5) - Math.log(49.5))
-						+ 0.052467 * Math.pow(Math.log(breastHeightAge - 0.5) - Math.log(49.5), 2.0);
-				height = 4.5 + Math.exp(x1 / x2);
+		double si50t;
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SW_GOUDNIGH:
-			if (siteIndex < 19.5) {
-				if (breastHeightAge > 0.5) {
-					/* Goudie */
-					x1 = (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(49.5)))
-							/ (1.0 + Math.exp(
-									9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(breastHeightAge - 0.5)
-							));
-
-					height = 1.3 + (siteIndex - 1.3) * x1;
-				} else {
-					height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-				}
-			} else {
-				if (totalAge < years2BreastHeight - 0.5) {
-					/* use Nigh's total age curve */
-					height = (-0.01666 + 0.001722 * siteIndex) * ppow(totalAge, 1.858) * ppow(0.9982, totalAge);
-				} else if (totalAge > years2BreastHeight + 2 - 0.5) {
-					/* use Goudie's breast-height age curve */
-					x1 = (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(49.5)))
-							/ (1.0 + Math.exp(
-									9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(breastHeightAge - 0.5)
-							));
-
-					height = 1.3 + (siteIndex - 1.3) * x1;
-				} else {
-					/* use Nigh's total age curve */
-					x4 = (-0.01666 + 0.001722 * siteIndex) * ppow(years2BreastHeight - 0.5, 1.858)
-							* ppow(0.9982, years2BreastHeight - 0.5);
+		/*
+		 * convert from SI 50b to SI 50t
+		 */
+		si50t = -10.45 + 1.30049 * siteIndex - 0.0022 * siteIndex * siteIndex;
 
-					/* use Goudie's breast-height age curve */
-					x1 = (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(49.5)))
-							/ (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(2 - 0.5)));
+		height = Math.exp(4.35753) * ppow(si50t / Math.exp(4.35753), ppow(50.0 / totalAge, 0.756313));
+		return height;
+	}
 
-					x5 = 1.3 + (siteIndex - 1.3) * x1;
+	private static double hmMeans(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-					height = x4 + (x5 - x4) * breastHeightAge / 2.0;
-				}
-			}
-			break;
-		case SI_PLI_THROWNIGH:
-			if (siteIndex < 18.5) {
-				if (breastHeightAge > 0.5) {
-					x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(49.5)))
-							/ (1.0 + Math.exp(
-									7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(breastHeightAge - 0.5)
-							));
-
-					height = 1.3 + (siteIndex - 1.3) * x1;
-				} else {
-					height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.8);
-				}
-			} else {
-				if (totalAge < years2BreastHeight - 0.5) {
-					/* use Nigh's total age curve */
-					height = (-0.03993 + 0.004828 * siteIndex) * ppow(totalAge, 1.902) * ppow(0.9645, totalAge);
-				} else if (totalAge > years2BreastHeight + 2 - 0.5) {
-					/* use Thrower's breast-height age curve */
-					x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(49.5)))
-							/ (1.0 + Math.exp(
-									7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(breastHeightAge - 0.5)
-							));
-
-					height = 1.3 + (siteIndex - 1.3) * x1;
-				} else {
-					/* use Nigh's total age curve */
-					x4 = (-0.03993 + 0.004828 * siteIndex) * ppow(years2BreastHeight - 0.5, 1.902)
-							* ppow(0.9645, years2BreastHeight - 0.5);
+		if (breastHeightAge > 0.0) {
+			/* convert to base 100 */
+			siteIndex = -1.73 + 3.149 * ppow(siteIndex, 0.8279);
 
-					/* use Thrower's breast-height age curve */
-					x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(49.5)))
-							/ (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(2 - 0.5)));
+			height = 1.37 + (22.87 + 0.9502 * (siteIndex - 1.37)) * ppow(
+					1 - Math.exp(-0.0020647 * ppow(siteIndex - 1.37, 0.5) * breastHeightAge),
+					1.3656 + 2.046 / (siteIndex - 1.37)
+			);
+		} else
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		return height;
+	}
 
-					x5 = 1.3 + (siteIndex - 1.3) * x1;
+	private static double hmMeansac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-					height = x4 + (x5 - x4) * breastHeightAge / 2.0;
-				}
-			}
-			break;
-		case SI_PLI_THROWER:
-			if (breastHeightAge > pi) {
-				x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(50 - pi))) / (1.0
-						+ Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(breastHeightAge - pi)));
+		if (breastHeightAge > 0.5) {
+			/* convert to base 100 */
+			siteIndex = -1.73 + 3.149 * ppow(siteIndex, 0.8279);
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				/*
-				 * height = tage * tage * 1.3 / y2bh / y2bh;
-				 */
-				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.77 - 0.1028 * years2BreastHeight)
-						* Math.pow(1.179, totalAge - years2BreastHeight);
-			}
-			break;
-		case SI_PLI_NIGHTA2004:
-			if (totalAge <= 15) {
-				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.77 - 0.1028 * years2BreastHeight)
-						* Math.pow(1.179, totalAge - years2BreastHeight);
-			} else {
-				throw new NoAnswerException("Iteration could not converge (projected height > 999)");
-			}
-			break;
-		case SI_PLI_NIGHTA98:
-			if (totalAge <= 15) {
-				height = (-0.03993 + 0.004828 * siteIndex) * ppow(totalAge, 1.902) * ppow(0.9645, totalAge);
-			} else {
-				throw new NoAnswerException("Iteration could not converge (projected height > 999)");
-			}
-			break;
-		case SI_SW_NIGHTA2004:
-			if (totalAge <= 20) {
-				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
-						* Math.pow(1.127, totalAge - years2BreastHeight);
-			} else {
-				throw new NoAnswerException("Iteration could not converge (projected height > 999)");
-			}
-			break;
-		case SI_SW_NIGHTA:
-			if (totalAge <= 20 && siteIndex >= 14.2) {
-				height = (-0.01666 + 0.001722 * siteIndex) * ppow(totalAge, 1.858) * ppow(0.9982, totalAge);
-			} else {
-				throw new NoAnswerException("Iteration could not converge (projected height > 999)");
-			}
-			break;
-		case SI_FDC_NIGHTA:
-			if (totalAge <= 25) {
-				height = (-0.002355 + 0.0003156 * siteIndex) * ppow(totalAge, 2.861) * ppow(0.9337, totalAge);
-			} else {
-				throw new NoAnswerException("Iteration could not converge (projected height > 999)");
-			}
-			break;
-		case SI_SE_NIGH:
-			if (breastHeightAge > 0.5) {
-				// -1.71635 = 1.758 * log (1 - exp (-0.00955 * 49.5))
-				// 45.3824 = -4 * 11.6209 * log (1 - exp (-0.00955 * 49.5))
-				x1 = 0.5 * ( (Math.log(siteIndex - 1.3) - 1.71635)
-						+ Math.sqrt(Math.pow(Math.log(siteIndex - 1.3) - 1.71635, 2.0) + 45.3824));
-				height = 1.3 + Math.exp(x1)
-						* Math.pow(1 - Math.exp(-0.00955 * (breastHeightAge - 0.5)), -1.758 + 11.6209 / x1);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SE_NIGHTA:
-			if (totalAge <= 20) {
-				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
-						* Math.pow(1.127, totalAge - years2BreastHeight);
-			} else {
-				throw new NoAnswerException("Iteration could not converge (projected height > 999)");
-			}
-			break;
-		case SI_FDC_BRUCE:
-			// 2009 may 6: force a non-rounded y2bh
-			years2BreastHeight = 13.25 - siteIndex / 6.096;
+			height = 1.37 + (22.87 + 0.9502 * (siteIndex - 1.37)) * ppow(
+					1 - Math.exp(-0.0020647 * ppow(siteIndex - 1.37, 0.5) * (breastHeightAge - 0.5)),
+					1.3656 + 2.046 / (siteIndex - 1.37)
+			);
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-			x1 = siteIndex / 30.48;
+	// Couldn't find the constant
+	/*
+	 * case SI_HM_WILEY: if (bhage > 0.0){ if (site_index > 60 + 1.667 * bhage){ // function starts going nuts at high
+	 * sites and low ages // evaluate at a safe age, and interpolate x1 = (site_index - 60) / 1.667 + 0.1; x2 =
+	 * index_to_height (cu_index, x1, SI_AT_BREAST, site_index, y2bh, pi); height = 1.37 + (x2-1.37) * bhage / x1;
+	 * break; }
+	 *
+	 * // convert to imperial site_index /= 0.3048;
+	 *
+	 * x1 = 2500 / (site_index - 4.5);
+	 *
+	 * x2 = -1.7307 + 0.1394 * x1; x3 = -0.0616 + 0.0137 * x1; x4 = 0.00192428 + 0.00007024 * x1;
+	 *
+	 * height = 4.5 + bhage * bhage / (x2 + x3 * bhage + x4 * bhage * bhage);
+	 *
+	 * if (bhage < 5){ height += (0.3 * bhage); } else if (bhage < 10){ height += (3.0 - 0.3 * bhage); }
+	 *
+	 * // convert back to metric height *= 0.3048;
+	 *
+	 * }else{ height = tage * tage * 1.37 / y2bh / y2bh; } break;
+	 */
 
-			x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
+	private static double hwcWiley(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-			x3 = ppow(50.0 + years2BreastHeight, x2);
+		height = wiley(totalAge, breastHeightAge, years2BreastHeight, siteIndex, cuIndex, pi, (h, bha) -> h);
+		return height;
+	}
 
-			x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight, x2) - x3);
+	private static double hwcWileyBc(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-			if (ageType == SI_AT_TOTAL) {
-				height = siteIndex * Math.exp(x4 * (ppow(totalAge, x2) - x3));
-			} else {
-				height = siteIndex * Math.exp(x4 * (ppow(breastHeightAge + years2BreastHeight, x2) - x3));
+		height = wiley(totalAge, breastHeightAge, years2BreastHeight, siteIndex, cuIndex, pi, (h, bha) -> {
+			double offset = -1.34105 + 0.0009 * bha * h;
+			if (offset > 0.0) {
+				h -= offset;
 			}
-			break;
-		case SI_FDC_BRUCEAC:
-			// 2009 may 6: force a non-rounded y2bh
-			years2BreastHeight = 13.25 - siteIndex / 6.096;
-
-			x1 = siteIndex / 30.48;
-
-			x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
-
-			x3 = ppow(49 + (1 - pi) + years2BreastHeight, x2);
+			return h;
+		});
+		return height;
+	}
 
-			x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight, x2) - x3);
+	private static double hwcWileyMb(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-			if (ageType == SI_AT_TOTAL) {
-				height = siteIndex * Math.exp(x4 * (ppow(totalAge, x2) - x3));
-			} else {
-				height = siteIndex * Math.exp(x4 * (ppow(breastHeightAge + years2BreastHeight - pi, x2) - x3));
-			}
-			break;
-		case SI_FDC_BRUCENIGH:
-			// 2009 may 6: force a non-rounded y2bh
-			years2BreastHeight = 13.25 - siteIndex / 6.096;
-
-			if (totalAge < 50) {
-				/* compute Bruce at age 50 */
-				x1 = siteIndex / 30.48;
-				x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
-				x3 = ppow(50.0 + years2BreastHeight - 0.5, x2);
-				x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight - 0.5, x2) - x3);
-				height = siteIndex * Math.exp(x4 * (ppow(50, x2) - x3));
-
-				/* now smooth it into the Nigh curve */
-				x4 = ppow(height * ppow(50, -2.037) / (-0.0123 + 0.00158 * siteIndex), 1.0 / 50);
-
-				height = (-0.0123 + 0.00158 * siteIndex) * ppow(totalAge, 2.037) * ppow(x4, totalAge);
-			} else {
-				/* compute Bruce */
-				x1 = siteIndex / 30.48;
-				x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
-				x3 = ppow(50.0 + years2BreastHeight - 0.5, x2);
-				x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight - 0.5, x2) - x3);
-				height = siteIndex * Math.exp(x4 * (ppow(totalAge, x2) - x3));
-			}
-			break;
-		case SI_PLI_MILNER:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-
-				x1 = 96.93 * ppow(1 - Math.exp(-0.01955 * breastHeightAge), 1.216);
-				x2 = 1.41 * ppow(1 - Math.exp(-0.02656 * breastHeightAge), 1.297);
-				height = 4.5 + x1 + x2 * (siteIndex - 59.6);
-
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_PLI_CIESZEWSKI:
-			if (breastHeightAge > 0.0) {
-				x1 = 0.20372424;
-				x2 = 97.37473618;
-				x3 = 20 * x2 / (ppow(50.0, 1 + x1));
-				x4 = siteIndex - 1.3
-						+ Math.sqrt(
-								(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
-										+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
-						);
-
-				height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SW_CIESZEWSKI:
-			if (breastHeightAge > 0.0) {
-				x1 = 0.3235139;
-				x2 = 260.9162652;
-				x3 = 20 * x2 / (ppow(50.0, 1 + x1));
-				x4 = siteIndex - 1.3
-						+ Math.sqrt(
-								(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
-										+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
-						);
-
-				height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SB_CIESZEWSKI:
-			if (breastHeightAge > 0.0) {
-				x1 = 0.1992266;
-				x2 = 114.8730018;
-				x3 = 20 * x2 / (ppow(50.0, 1 + x1));
-				x4 = siteIndex - 1.3
-						+ Math.sqrt(
-								(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
-										+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
-						);
-
-				height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_AT_CIESZEWSKI:
-			if (breastHeightAge > 0.0) {
-				x1 = 0.2644606;
-				x2 = 117.3695371;
-				x3 = 20 * x2 / (ppow(50.0, 1 + x1));
-				x4 = siteIndex - 1.3
-						+ Math.sqrt(
-								(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
-										+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
-						);
-
-				height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		height = wiley(totalAge, breastHeightAge, years2BreastHeight, siteIndex, cuIndex, pi, (h, bha) -> {
+			double offset = 0.0972129 + 0.000419315 * bha * h;
+			if (offset > 0.0) {
+				h -= offset;
 			}
-			break;
-		// Couldn't find constant
-		/*
-		 * case SI_PF_GOUDIE_WET: if (bhage > 0.0){ x1 = -0.935; x2 = 7.81498; x3 = -1.28517;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		// Couldn't find constant
-		/*
-		 * case SI_PF_GOUDIE_DRY: if (bhage > 0.0){ x1 = -1.00726; x2 = 7.81498; x3 = -1.28517;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		case SI_PLI_GOUDIE_WET:
-			if (breastHeightAge > 0.0) {
-				x1 = -0.935;
-				x2 = 7.81498;
-				x3 = -1.28517;
+			return h;
+		});
+		return height;
+	}
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+	private static double hwcWileyac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		if (breastHeightAge >= pi) {
+			if (siteIndex > 60 + 1.667 * (breastHeightAge - pi)) {
+				/* function starts going nuts at high sites and low ages */
+				/* evaluate at a safe age, and interpolate */
+				x1 = (siteIndex - 60) / 1.667 + 0.1 + pi;
+				x2 = indexToHeightOrNaN(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
+				if (isFailure(x2)) {
+					return x2;
+				}
+				height = 1.37 + (x2 - 1.37) * (breastHeightAge - pi) / x1;
+				return height;
 			}
-			break;
-		case SI_PLI_GOUDIE_DRY:
-			if (breastHeightAge > 0.0) {
-				x1 = -1.00726;
-				x2 = 7.81498;
-				x3 = -1.28517;
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		// Couldn't find constant
-		/*
-		 * case SI_PA_GOUDIE_WET: if (bhage > 0.0){ x1 = -0.935; x2 = 7.81498; x3 = -1.28517;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		// Couldn't find constant
-		/*
-		 * case SI_PA_GOUDIE_DRY: if (bhage > 0.0){ x1 = -1.00726; x2 = 7.81498; x3 = -1.28517;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		case SI_PLI_DEMPSTER:
-			if (breastHeightAge > 0.0) {
-				x1 = -0.9576;
-				x2 = 7.4871;
-				x3 = -1.2036;
+			x1 = Math.pow(49 + (1 - pi), 2.0) / (siteIndex - 4.5);
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+			x2 = -1.7307 + 0.1394 * x1;
+			x3 = -0.0616 + 0.0137 * x1;
+			x4 = 0.00195078 + 0.00007446 * x1;
+			x5 = breastHeightAge - pi;
+			height = 4.5 + x5 * x5 / (x2 + x3 * x5 + x4 * x5 * x5);
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+			if (x5 < 5) {
+				height += (0.3 * x5);
+			} else if (x5 < 10) {
+				height += (3.0 - 0.3 * x5);
 			}
-			break;
-		// Couldn't find constant
-		/*
-		 * case SI_SE_GOUDIE_PLA: if (bhage > 0.0){ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		// Couldn't find constant
-		/*
-		 * case SI_SE_GOUDIE_NAT: if (bhage > 0.0){ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		case SI_SW_GOUDIE_PLA:
-			if (breastHeightAge > 0.0) {
-				x1 = -1.2866;
-				x2 = 9.7936;
-				x3 = -1.4661;
-
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SW_GOUDIE_NAT:
-			if (breastHeightAge > 0.0) {
-				x1 = -1.2866;
-				x2 = 9.7936;
-				x3 = -1.4661;
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SW_DEMPSTER:
-			if (breastHeightAge > 0.0) {
-				x1 = -1.2240;
-				x2 = 9.6183;
-				x3 = -1.4627;
+	private static double bpCurtis(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SB_DEMPSTER:
-			if (breastHeightAge > 0.0) {
-				x1 = -1.3154;
-				x2 = 8.5594;
-				x3 = -1.1484;
+			x1 = Math.log(siteIndex - 4.5) + 1.649871 * (Math.log(breastHeightAge) - Math.log(50))
+					+ 0.147245 * Math.pow(Math.log(breastHeightAge) - Math.log(50), 2.0);
+			x2 = 1.0 + 0.164927 * (Math.log(breastHeightAge) - Math.log(50))
+					+ 0.052467 * Math.pow(Math.log(breastHeightAge) - Math.log(50), 2.0);
+			height = 4.5 + Math.exp(x1 / x2);
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SS_GOUDIE:
-			if (breastHeightAge > 0.0) {
-				x1 = -1.5282;
-				x2 = 11.0605;
-				x3 = -1.5108;
+	private static double bpCurtisac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+		if (breastHeightAge > 0.5) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_FDI_THROWER:
-			if (breastHeightAge > 0.0) {
-				x1 = -0.237724692;
-				x2 = 5.780089777;
-				x3 = -1.150039266;
+			x1 = Math.log(siteIndex - 4.5) + 1.649871 * (Math.log(breastHeightAge - 0.5) - Math.log(49.5))
+					+ 0.147245 * Math.pow(Math.log(breastHeightAge - 0.5) - Math.log(49.5), 2.0);
+			x2 = 1.0 + 0.164927 * (Math.log(breastHeightAge - 0.5) - Math.log(49.5))
+					+ 0.052467 * Math.pow(Math.log(breastHeightAge - 0.5) - Math.log(49.5), 2.0);
+			height = 4.5 + Math.exp(x1 / x2);
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_AT_GOUDIE:
-			if (breastHeightAge > 0.0) {
-				x1 = -0.618;
-				x2 = 6.879;
-				x3 = -1.32;
+	private static double swGoudnigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x4, x5;
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+		if (siteIndex < 19.5) {
+			if (breastHeightAge > 0.5) {
+				/* Goudie */
+				x1 = (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(49.5))) / (1.0
+						+ Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(breastHeightAge - 0.5)));
 
 				height = 1.3 + (siteIndex - 1.3) * x1;
 			} else {
 				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
 			}
-			break;
-		// Couldn't find constant
-		/*
-		 * case SI_EP_GOUDIE: if (bhage > 0.0){ x1 = -0.618; x2 = 6.879; x3 = -1.32;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		// Couldn't find constant
-		/*
-		 * case SI_EA_GOUDIE: if (bhage > 0.0){ x1 = -0.618; x2 = 6.879; x3 = -1.32;
-		 *
-		 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
-		 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		case SI_SW_GOUDIE_NATAC:
-			if (breastHeightAge > pi) {
-				x1 = -1.2866;
-				x2 = 9.7936;
-				x3 = -1.4661;
-
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50 - pi)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge - pi)));
+		} else {
+			if (totalAge < years2BreastHeight - 0.5) {
+				/* use Nigh's total age curve */
+				height = (-0.01666 + 0.001722 * siteIndex) * ppow(totalAge, 1.858) * ppow(0.9982, totalAge);
+			} else if (totalAge > years2BreastHeight + 2 - 0.5) {
+				/* use Goudie's breast-height age curve */
+				x1 = (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(49.5))) / (1.0
+						+ Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(breastHeightAge - 0.5)));
 
 				height = 1.3 + (siteIndex - 1.3) * x1;
 			} else {
-				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
-						* Math.pow(1.127, totalAge - years2BreastHeight);
-			}
-			break;
+				/* use Nigh's total age curve */
+				x4 = (-0.01666 + 0.001722 * siteIndex) * ppow(years2BreastHeight - 0.5, 1.858)
+						* ppow(0.9982, years2BreastHeight - 0.5);
 
-		case SI_SW_GOUDIE_PLAAC:
-			if (breastHeightAge > pi) {
-				x1 = -1.2866;
-				x2 = 9.7936;
-				x3 = -1.4661;
+				/* use Goudie's breast-height age curve */
+				x1 = (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(49.5)))
+						/ (1.0 + Math.exp(9.7936 - 1.2866 * llog(siteIndex - 1.3) - 1.4661 * Math.log(2 - 0.5)));
 
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50 - pi)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge - pi)));
+				x5 = 1.3 + (siteIndex - 1.3) * x1;
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
-						* Math.pow(1.127, totalAge - years2BreastHeight);
+				height = x4 + (x5 - x4) * breastHeightAge / 2.0;
 			}
-			break;
-		case SI_FDI_THROWERAC:
+		}
+		return height;
+	}
+
+	private static double pliThrownigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x4, x5;
+
+		if (siteIndex < 18.5) {
 			if (breastHeightAge > 0.5) {
-				x1 = -0.237724692;
-				x2 = 5.780089777;
-				x3 = -1.150039266;
-				x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(49.5)))
-						/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge - 0.5)));
+				x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(49.5))) / (1.0
+						+ Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(breastHeightAge - 0.5)));
 
 				height = 1.3 + (siteIndex - 1.3) * x1;
 			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.8);
 			}
-			break;
-		case SI_SS_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = 8.947;
-				x2 = -1.357;
-				x3 = -1.013;
+		} else {
+			if (totalAge < years2BreastHeight - 0.5) {
+				/* use Nigh's total age curve */
+				height = (-0.03993 + 0.004828 * siteIndex) * ppow(totalAge, 1.902) * ppow(0.9645, totalAge);
+			} else if (totalAge > years2BreastHeight + 2 - 0.5) {
+				/* use Thrower's breast-height age curve */
+				x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(49.5))) / (1.0
+						+ Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(breastHeightAge - 0.5)));
 
-				x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
 				height = 1.3 + (siteIndex - 1.3) * x1;
 			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+				/* use Nigh's total age curve */
+				x4 = (-0.03993 + 0.004828 * siteIndex) * ppow(years2BreastHeight - 0.5, 1.902)
+						* ppow(0.9645, years2BreastHeight - 0.5);
+
+				/* use Thrower's breast-height age curve */
+				x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(49.5)))
+						/ (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(2 - 0.5)));
+
+				x5 = 1.3 + (siteIndex - 1.3) * x1;
+
+				height = x4 + (x5 - x4) * breastHeightAge / 2.0;
 			}
-			break;
-		case SI_BA_NIGH:
-			if (breastHeightAge > 0.5) {
-				x5 = Math.pow(siteIndex - 1.3, 3.0) / 49.5;
-				x4 = x5 + Math.pow(x5 * x5 + 16692000.0 * Math.pow(siteIndex - 1.3, 3.0) / 299891.0, 0.5);
-				x2 = (8346000.0 + x4 * 6058.412) * Math.pow(breastHeightAge - 0.5, 3.232);
-				x3 = (8346000.0 + x4 * Math.pow(breastHeightAge - 0.5, 2.232)) * 299891.0;
-				height = 1.3 + (siteIndex - 1.3) * Math.pow(x2 / x3, 1 / 3.0);
+		}
+		return height;
+	}
+
+	private static double pliThrower(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1;
+
+		if (breastHeightAge > pi) {
+			x1 = (1.0 + Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(50 - pi))) / (1.0
+					+ Math.exp(7.6298 - 0.8940 * llog(siteIndex - 1.3) - 1.3563 * Math.log(breastHeightAge - pi)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			/*
+			 * height = tage * tage * 1.3 / y2bh / y2bh;
+			 */
+			height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.77 - 0.1028 * years2BreastHeight)
+					* Math.pow(1.179, totalAge - years2BreastHeight);
+		}
+		return height;
+	}
+
+	private static double pliNighta2004(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		if (totalAge <= 15) {
+			height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.77 - 0.1028 * years2BreastHeight)
+					* Math.pow(1.179, totalAge - years2BreastHeight);
+		} else {
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
+		}
+		return height;
+	}
+
+	private static double pliNighta98(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		if (totalAge <= 15) {
+			height = (-0.03993 + 0.004828 * siteIndex) * ppow(totalAge, 1.902) * ppow(0.9645, totalAge);
+		} else {
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
+		}
+		return height;
+	}
+
+	private static double swNighta2004(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		if (totalAge <= 20) {
+			height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
+					* Math.pow(1.127, totalAge - years2BreastHeight);
+		} else {
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
+		}
+		return height;
+	}
+
+	private static double swNighta(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		if (totalAge <= 20 && siteIndex >= 14.2) {
+			height = (-0.01666 + 0.001722 * siteIndex) * ppow(totalAge, 1.858) * ppow(0.9982, totalAge);
+		} else {
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
+		}
+		return height;
+	}
+
+	private static double fdcNighta(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		if (totalAge <= 25) {
+			height = (-0.002355 + 0.0003156 * siteIndex) * ppow(totalAge, 2.861) * ppow(0.9337, totalAge);
+		} else {
+			return failure(CalculatorStatus.SI_ERR_NO_ANS);
+		}
+		return height;
+	}
+
+	private static double seNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1;
+
+		if (breastHeightAge > 0.5) {
+			// -1.71635 = 1.758 * log (1 - exp (-0.00955 * 49.5))
+			// 45.3824 = -4 * 11.6209 * log (1 - exp (-0.00955 * 49.5))
+			x1 = 0.5 * ( (Math.log(siteIndex - 1.3) - 1.71635)
+					+ Math.sqrt(Math.pow(Math.log(siteIndex - 1.3) - 1.71635, 2.0) + 45.3824));
+			height = 1.3
+					+ Math.exp(x1) * Math.pow(1 - Math.exp(-0.00955 * (breastHeightAge - 0.5)), -1.758 + 11.6209 / x1);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double fdcBruce(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		// 2009 may 6: force a non-rounded y2bh
+		years2BreastHeight = 13.25 - siteIndex / 6.096;
+
+		x1 = siteIndex / 30.48;
+
+		x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
+
+		x3 = ppow(50.0 + years2BreastHeight, x2);
+
+		x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight, x2) - x3);
+
+		if (ageType == SI_AT_TOTAL) {
+			height = siteIndex * Math.exp(x4 * (ppow(totalAge, x2) - x3));
+		} else {
+			height = siteIndex * Math.exp(x4 * (ppow(breastHeightAge + years2BreastHeight, x2) - x3));
+		}
+		return height;
+	}
+
+	private static double fdcBruceac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		// 2009 may 6: force a non-rounded y2bh
+		years2BreastHeight = 13.25 - siteIndex / 6.096;
+
+		x1 = siteIndex / 30.48;
+
+		x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
+
+		x3 = ppow(49 + (1 - pi) + years2BreastHeight, x2);
+
+		x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight, x2) - x3);
+
+		if (ageType == SI_AT_TOTAL) {
+			height = siteIndex * Math.exp(x4 * (ppow(totalAge, x2) - x3));
+		} else {
+			height = siteIndex * Math.exp(x4 * (ppow(breastHeightAge + years2BreastHeight - pi, x2) - x3));
+		}
+		return height;
+	}
+
+	private static double fdcBrucenigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		// 2009 may 6: force a non-rounded y2bh
+		years2BreastHeight = 13.25 - siteIndex / 6.096;
+
+		if (totalAge < 50) {
+			/* compute Bruce at age 50 */
+			x1 = siteIndex / 30.48;
+			x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
+			x3 = ppow(50.0 + years2BreastHeight - 0.5, x2);
+			x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight - 0.5, x2) - x3);
+			height = siteIndex * Math.exp(x4 * (ppow(50, x2) - x3));
+
+			/* now smooth it into the Nigh curve */
+			x4 = ppow(height * ppow(50, -2.037) / (-0.0123 + 0.00158 * siteIndex), 1.0 / 50);
+
+			height = (-0.0123 + 0.00158 * siteIndex) * ppow(totalAge, 2.037) * ppow(x4, totalAge);
+		} else {
+			/* compute Bruce */
+			x1 = siteIndex / 30.48;
+			x2 = -0.477762 + x1 * (-0.894427 + x1 * (0.793548 - x1 * 0.171666));
+			x3 = ppow(50.0 + years2BreastHeight - 0.5, x2);
+			x4 = Math.log(1.372 / siteIndex) / (ppow(years2BreastHeight - 0.5, x2) - x3);
+			height = siteIndex * Math.exp(x4 * (ppow(totalAge, x2) - x3));
+		}
+		return height;
+	}
+
+	private static double pliMilner(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x1 = 96.93 * ppow(1 - Math.exp(-0.01955 * breastHeightAge), 1.216);
+			x2 = 1.41 * ppow(1 - Math.exp(-0.02656 * breastHeightAge), 1.297);
+			height = 4.5 + x1 + x2 * (siteIndex - 59.6);
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double pliCieszewski(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		if (breastHeightAge > 0.0) {
+			x1 = 0.20372424;
+			x2 = 97.37473618;
+			x3 = 20 * x2 / (ppow(50.0, 1 + x1));
+			x4 = siteIndex - 1.3
+					+ Math.sqrt(
+							(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
+									+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
+					);
+
+			height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double swCieszewski(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		if (breastHeightAge > 0.0) {
+			x1 = 0.3235139;
+			x2 = 260.9162652;
+			x3 = 20 * x2 / (ppow(50.0, 1 + x1));
+			x4 = siteIndex - 1.3
+					+ Math.sqrt(
+							(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
+									+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
+					);
+
+			height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double sbCieszewski(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		if (breastHeightAge > 0.0) {
+			x1 = 0.1992266;
+			x2 = 114.8730018;
+			x3 = 20 * x2 / (ppow(50.0, 1 + x1));
+			x4 = siteIndex - 1.3
+					+ Math.sqrt(
+							(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
+									+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
+					);
+
+			height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double atCieszewski(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		if (breastHeightAge > 0.0) {
+			x1 = 0.2644606;
+			x2 = 117.3695371;
+			x3 = 20 * x2 / (ppow(50.0, 1 + x1));
+			x4 = siteIndex - 1.3
+					+ Math.sqrt(
+							(siteIndex - 1.3 - x3) * (siteIndex - 1.3 - x3)
+									+ 80 * x2 * (siteIndex - 1.3) * ppow(50.0, - (1 + x1))
+					);
+
+			height = 1.3 + (x4 + x3) / (2 + 80 * x2 * ppow(breastHeightAge, - (1 + x1)) / (x4 - x3));
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	// Couldn't find constant
+	/*
+	 * case SI_PF_GOUDIE_WET: if (bhage > 0.0){ x1 = -0.935; x2 = 7.81498; x3 = -1.28517;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	// Couldn't find constant
+	/*
+	 * case SI_PF_GOUDIE_DRY: if (bhage > 0.0){ x1 = -1.00726; x2 = 7.81498; x3 = -1.28517;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	private static double pliGoudieWet(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -0.935;
+			x2 = 7.81498;
+			x3 = -1.28517;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double pliGoudieDry(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -1.00726;
+			x2 = 7.81498;
+			x3 = -1.28517;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	// Couldn't find constant
+	/*
+	 * case SI_PA_GOUDIE_WET: if (bhage > 0.0){ x1 = -0.935; x2 = 7.81498; x3 = -1.28517;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	// Couldn't find constant
+	/*
+	 * case SI_PA_GOUDIE_DRY: if (bhage > 0.0){ x1 = -1.00726; x2 = 7.81498; x3 = -1.28517;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	private static double pliDempster(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -0.9576;
+			x2 = 7.4871;
+			x3 = -1.2036;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	// Couldn't find constant
+	/*
+	 * case SI_SE_GOUDIE_PLA: if (bhage > 0.0){ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	// Couldn't find constant
+	/*
+	 * case SI_SE_GOUDIE_NAT: if (bhage > 0.0){ x1 = -1.2866; x2 = 9.7936; x3 = -1.4661;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	private static double swGoudiePla(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -1.2866;
+			x2 = 9.7936;
+			x3 = -1.4661;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double swDempster(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -1.2240;
+			x2 = 9.6183;
+			x3 = -1.4627;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double sbDempster(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -1.3154;
+			x2 = 8.5594;
+			x3 = -1.1484;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double ssGoudie(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -1.5282;
+			x2 = 11.0605;
+			x3 = -1.5108;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double fdiThrower(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -0.237724692;
+			x2 = 5.780089777;
+			x3 = -1.150039266;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double atGoudie(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			x1 = -0.618;
+			x2 = 6.879;
+			x3 = -1.32;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	// Couldn't find constant
+	/*
+	 * case SI_EP_GOUDIE: if (bhage > 0.0){ x1 = -0.618; x2 = 6.879; x3 = -1.32;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	// Couldn't find constant
+	/*
+	 * case SI_EA_GOUDIE: if (bhage > 0.0){ x1 = -0.618; x2 = 6.879; x3 = -1.32;
+	 *
+	 * x1 = (1.0 + Math.exp (x2 + x1 * llog(site_index - 1.3) + x3 * Math.log (50.0))) / (1.0 + Math.exp (x2 + x1 *
+	 * llog(site_index - 1.3) + x3 * Math.log (bhage)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x1; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	private static double swGoudieNatac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > pi) {
+			x1 = -1.2866;
+			x2 = 9.7936;
+			x3 = -1.4661;
+
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(50 - pi)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge - pi)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
+					* Math.pow(1.127, totalAge - years2BreastHeight);
+		}
+		return height;
+	}
+
+	private static double fdiThrowerac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.5) {
+			x1 = -0.237724692;
+			x2 = 5.780089777;
+			x3 = -1.150039266;
+			x1 = (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(49.5)))
+					/ (1.0 + Math.exp(x2 + x1 * llog(siteIndex - 1.3) + x3 * Math.log(breastHeightAge - 0.5)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double ssNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.5) {
+			x1 = 8.947;
+			x2 = -1.357;
+			x3 = -1.013;
+
+			x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double baNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x2, x3, x4, x5;
+
+		if (breastHeightAge > 0.5) {
+			x5 = Math.pow(siteIndex - 1.3, 3.0) / 49.5;
+			x4 = x5 + Math.pow(x5 * x5 + 16692000.0 * Math.pow(siteIndex - 1.3, 3.0) / 299891.0, 0.5);
+			x2 = (8346000.0 + x4 * 6058.412) * Math.pow(breastHeightAge - 0.5, 3.232);
+			x3 = (8346000.0 + x4 * Math.pow(breastHeightAge - 0.5, 2.232)) * 299891.0;
+			height = 1.3 + (siteIndex - 1.3) * Math.pow(x2 / x3, 1 / 3.0);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double epNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.5) {
+			x1 = 9.604;
+			x2 = -1.113;
+			x3 = -1.849;
+
+			x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double cwiNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.5) {
+			x1 = 9.474;
+			x2 = -1.340;
+			x3 = -1.244;
+
+			x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double hwiNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.5) {
+			x1 = 8.998;
+			x2 = -1.434;
+			x3 = -1.051;
+
+			x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double pyNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.5) {
+			x1 = 8.519;
+			x2 = -1.385;
+			x3 = -0.8498;
+
+			x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = (1.3 * Math.pow(totalAge, 1.137) * Math.pow(1.016, totalAge))
+					/ (Math.pow(years2BreastHeight, 1.137) * Math.pow(1.016, years2BreastHeight));
+		}
+		return height;
+	}
+
+	private static double actThrower(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		// case SI_MB_THROWER: Cannot find constant
+		if (breastHeightAge > 0.0) {
+			x1 = -1.3481;
+			x2 = 10.3861;
+			x3 = -1.6555;
+
+			x1 = (1.0 + Math.exp(x2 + x3 * llog(siteIndex - 1.3) + x1 * Math.log(50.0)))
+					/ (1.0 + Math.exp(x2 + x3 * llog(siteIndex - 1.3) + x1 * Math.log(breastHeightAge)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double actThrowerac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.5) {
+			x1 = -1.3481;
+			x2 = 10.3861;
+			x3 = -1.6555;
+
+			x1 = (1.0 + Math.exp(x2 + x3 * llog(siteIndex - 1.3) + x1 * Math.log(49.5)))
+					/ (1.0 + Math.exp(x2 + x3 * Math.log(siteIndex - 1.3) + x1 * Math.log(breastHeightAge - 0.5)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		return height;
+	}
+
+	private static double sbKer(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		if (breastHeightAge > 0.0) {
+			x2 = 0.01741;
+			x3 = 8.7428;
+			x4 = -0.7346;
+			x1 = ppow(1 - Math.exp(-x2 * breastHeightAge), x3 * ppow(siteIndex, x4));
+			x2 = ppow(1 - Math.exp(-x2 * 50), x3 * ppow(siteIndex, x4));
+			height = 1.3 + (siteIndex - 1.3) * x1 / x2;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double swKerPla(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		if (breastHeightAge > 0.0) {
+			x2 = 0.02081;
+			x3 = 11.1515;
+			x4 = -0.7518;
+			x1 = ppow(1 - Math.exp(-x2 * breastHeightAge), x3 * ppow(siteIndex, x4));
+			x2 = ppow(1 - Math.exp(-x2 * 50), x3 * ppow(siteIndex, x4));
+			height = 1.3 + (siteIndex - 1.3) * x1 / x2;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double swThrower(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1;
+
+		if (breastHeightAge > 0.5) {
+			x1 = (1.0 + Math.exp(10.1654 - 1.4002 * llog(siteIndex - 1.3) - 1.4482 * Math.log(50.0 - 0.5))) / (1.0
+					+ Math.exp(10.1654 - 1.4002 * llog(siteIndex - 1.3) - 1.4482 * Math.log(breastHeightAge - 0.5)));
+
+			height = 1.3 + (siteIndex - 1.3) * x1;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double swHuGarcia(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		if (breastHeightAge > 0.5) {
+			double q;
+
+			q = huGarciaQ(siteIndex, 50.0);
+			height = huGarciaH(q, breastHeightAge);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double ssFarr(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x3 = llog(breastHeightAge);
+
+			x1 = -0.20505 + 1.449615 * x3 - 0.01780992 * ppow(x3, 3.0) + 6.519748E-5 * ppow(x3, 5.0)
+					- 1.095593E-23 * ppow(x3, 30.0);
+
+			x2 = -5.61188 + 2.418604 * x3 - 0.259311 * ppow(x3, 2.0) + 1.351445E-4 * ppow(x3, 5.0)
+					- 1.701139E-12 * ppow(x3, 16.0) + 7.964197E-27 * ppow(x3, 36.0);
+
+			height = 4.5 + Math.exp(x1) - Math.exp(x2) * (86.43 - (siteIndex - 4.5));
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double pwCurtis(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x1 = 1.0 - Math.exp(
+					-Math.exp(
+							-9.975053 + (1.747353 - 0.38583) * Math.log(breastHeightAge)
+									+ 1.119438 * Math.log(siteIndex)
+					)
+			);
+
+			x2 = 1.0 - Math.exp(
+					-Math.exp(
+							-9.975053 + 1.747353 * Math.log(50.0) - 0.38583 * Math.log(breastHeightAge)
+									+ 1.119438 * Math.log(siteIndex)
+					)
+			);
+
+			height = 4.5 + (siteIndex - 4.5) * x1 / x2;
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double pwCurtisac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		if (breastHeightAge > 0.5) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x1 = 1.0 - Math.exp(
+					-Math.exp(
+							-9.975053 + (1.747353 - 0.38583) * Math.log(breastHeightAge - 0.5)
+									+ 1.119438 * Math.log(siteIndex)
+					)
+			);
+
+			x2 = 1.0 - Math.exp(
+					-Math.exp(
+							-9.975053 + 1.747353 * Math.log(49.5) - 0.38583 * Math.log(breastHeightAge - 0.5)
+									+ 1.119438 * Math.log(siteIndex)
+					)
+			);
+
+			height = 4.5 + (siteIndex - 4.5) * x1 / x2;
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double ssBarker(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		double si50t;
+
+		/*
+		 * convert from SI 50b to SI 50t
+		 */
+		si50t = -10.59 + 1.24 * siteIndex - 0.001 * siteIndex * siteIndex;
+
+		height = Math.exp(4.39751) * ppow(si50t / Math.exp(4.39751), ppow(50.0 / totalAge, 0.792329));
+		return height;
+	}
+
+	private static double cwcBarker(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		double si50t;
+
+		/*
+		 * convert from SI 50b to SI 50t
+		 */
+		si50t = -5.85 + 1.12 * siteIndex;
+
+		height = Math.exp(4.56128) * ppow(si50t / Math.exp(4.56128), ppow(50.0 / totalAge, 0.584627));
+		return height;
+	}
+
+	private static double cwcKurucz(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		// case SI_YC_KURUCZ: Cannot find constant
+		if (breastHeightAge > 0.0) {
+			if (siteIndex > 43 + 1.667 * breastHeightAge) {
+				/* function starts going nuts at high sites and low ages */
+				/* evaluate at a safe age, and interpolate */
+				x1 = (siteIndex - 43) / 1.667 + 0.1;
+				x2 = indexToHeightOrNaN(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
+				if (isFailure(x2)) {
+					return x2;
+				}
+				height = 1.3 + (x2 - 1.3) * breastHeightAge / x1;
+				return height;
+			}
+
+			if (siteIndex <= 1.3) {
+				x1 = 99999.0;
 			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+				x1 = 2500.0 / (siteIndex - 1.3);
 			}
-			break;
-		case SI_EP_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = 9.604;
-				x2 = -1.113;
-				x3 = -1.849;
 
-				x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_CWI_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = 9.474;
-				x2 = -1.340;
-				x3 = -1.244;
+			x2 = -3.11785 + 0.05027 * x1;
+			x3 = -0.02465 + 0.01411 * x1;
+			x4 = 0.00174 + 0.000097667 * x1;
+
+			height = 1.3 + breastHeightAge * breastHeightAge
+					/ (x2 + x3 * breastHeightAge + x4 * breastHeightAge * breastHeightAge);
+
+			if (breastHeightAge > 50.0) {
+				if (breastHeightAge > 200) {
+					/*
+					 * The "standard" correction applied above 50 years would overpower the uncorrected curve at around
+					 * 400 years. So, after consultation with Robert Macdonald and Ian Cameron, it was decided to use a
+					 * correction beyond 200 years with the same ratio as at age 200.
+					 */
+					breastHeightAge = 200;
+				}
+				height = height - (-0.02379545 * height + 0.000475909 * breastHeightAge * height);
+			}
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double cwcKuruczac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+
+		if (breastHeightAge >= 0.5) {
+			if (siteIndex > 43 + 1.667 * (breastHeightAge - 0.5)) {
+				/* function starts going nuts at high sites and low ages */
+				/* evaluate at a safe age, and interpolate */
+				x1 = (siteIndex - 43) / 1.667 + 0.1 + 0.5;
+				x2 = indexToHeightOrNaN(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
+				if (isFailure(x2)) {
+					return x2;
+				}
+				height = 1.3 + (x2 - 1.3) * (breastHeightAge - 0.5) / x1;
+				return height;
+			}
+
+			if (siteIndex <= 1.3) {
+				x1 = 99999.0;
+			} else {
+				x1 = 2450.25 / (siteIndex - 1.3);
+			}
+
+			x2 = -3.11785 + 0.05027 * x1;
+			x3 = -0.02465 + 0.01411 * x1;
+			x4 = 0.00177044 + 0.000102554 * x1;
+			x5 = breastHeightAge - 0.5;
+			height = 1.3 + x5 * x5 / (x2 + x3 * x5 + x4 * x5 * x5);
+
+			if (breastHeightAge > 50.0) {
+				if (breastHeightAge > 200) {
+					/*
+					 * The "standard" correction applied above 50 years would overpower the uncorrected curve at around
+					 * 400 years. So, after consultation with Robert Macdonald and Ian Cameron, it was decided to use a
+					 * correction beyond 200 years with the same ratio as at age 200.
+					 */
+					breastHeightAge = 200;
+				}
+				height = height - (-0.02379545 * height + 0.000475909 * breastHeightAge * height);
+			}
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double cwcNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1;
+
+		if (breastHeightAge > 0.5) {
+			x1 = -3.004284755 + 2.5332489439 * siteIndex - 0.019027688 * siteIndex * siteIndex
+					+ 0.0000992968 * Math.pow(siteIndex, 3.0);
+			height = 1.3 + x1 * Math.pow(1 - Math.exp(-0.01449 * (breastHeightAge - 0.5)), 1.4026 - 0.005781 * x1);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double baDilucca(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		if (breastHeightAge > 0.0) {
+			x1 = 1 + Math.exp(8.377148582 - 1.27351813 * Math.log(50.0) - 0.975226632 * Math.log(siteIndex));
+			x2 = 1 + Math.exp(8.377148582 - 1.27351813 * Math.log(breastHeightAge) - 0.975226632 * Math.log(siteIndex));
+			height = 1.3 + (siteIndex - 1.3) * x1 / x2;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double bbKer(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-				x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		if (breastHeightAge > 0.0) {
+			x2 = 0.01373;
+			x3 = 6.1299;
+			x4 = -0.6157;
+			x1 = ppow(1 - Math.exp(-x2 * breastHeightAge), x3 * ppow(siteIndex, x4));
+			x2 = ppow(1 - Math.exp(-x2 * 50), x3 * ppow(siteIndex, x4));
+			height = 1.3 + (siteIndex - 1.3) * x1 / x2;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double baKurucz86(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1;
+
+		if (breastHeightAge > 0.0) {
+			x1 = (siteIndex - 1.3) * ppow(1.0 - Math.exp(-0.01303 * breastHeightAge), 1.024971);
+
+			height = 1.3 + x1 / 0.470011;
+
+			if (breastHeightAge <= 50.0) {
+				height -= (4 * 0.4 * breastHeightAge * (50 - breastHeightAge) / 2500);
 			}
-			break;
-		case SI_HWI_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = 8.998;
-				x2 = -1.434;
-				x3 = -1.051;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+	private static double baKurucz82(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
+
+		// case SI_BG_KURUCZ82: Cannot find constants
+		if (breastHeightAge > 0.0) {
+			if (siteIndex > 60 + 1.667 * breastHeightAge) {
+				/* function starts going nuts at high sites and low ages */
+				/* evaluate at a safe age, and interpolate */
+				x1 = (siteIndex - 60) / 1.667 + 0.1;
+				x2 = indexToHeightOrNaN(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
+				if (isFailure(x2)) {
+					return x2;
+				}
+				height = 1.3 + (x2 - 1.3) * breastHeightAge / x1;
+				return height;
 			}
-			break;
-		case SI_PY_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = 8.519;
-				x2 = -1.385;
-				x3 = -0.8498;
 
-				x1 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
-				height = 1.3 + (siteIndex - 1.3) * x1;
+			if (siteIndex <= 1.3) {
+				x1 = 99999.0;
 			} else {
-				height = (1.3 * Math.pow(totalAge, 1.137) * Math.pow(1.016, totalAge))
-						/ (Math.pow(years2BreastHeight, 1.137) * Math.pow(1.016, years2BreastHeight));
+				x1 = 2500.0 / (siteIndex - 1.3);
 			}
-			break;
-		case SI_ACT_THROWER:
-			// case SI_MB_THROWER: Cannot find constant
-			if (breastHeightAge > 0.0) {
-				x1 = -1.3481;
-				x2 = 10.3861;
-				x3 = -1.6555;
 
-				x1 = (1.0 + Math.exp(x2 + x3 * llog(siteIndex - 1.3) + x1 * Math.log(50.0)))
-						/ (1.0 + Math.exp(x2 + x3 * llog(siteIndex - 1.3) + x1 * Math.log(breastHeightAge)));
+			x2 = -2.34655 + 0.0565 * x1;
+			x3 = -0.42007 + 0.01687 * x1;
+			x4 = 0.00934 + 0.00004 * x1;
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+			height = 1.3 + breastHeightAge * breastHeightAge
+					/ (x2 + x3 * breastHeightAge + x4 * breastHeightAge * breastHeightAge);
+
+			if (breastHeightAge < 50.0 && breastHeightAge * height < 1695.3) {
+				x1 = 0.45773 - 0.00027 * breastHeightAge * height;
+				if (x1 > 0.0) {
+					height -= x1;
+				}
 			}
-			break;
-		case SI_ACT_THROWERAC:
-			if (breastHeightAge > 0.5) {
-				x1 = -1.3481;
-				x2 = 10.3861;
-				x3 = -1.6555;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
 
-				x1 = (1.0 + Math.exp(x2 + x3 * llog(siteIndex - 1.3) + x1 * Math.log(49.5)))
-						/ (1.0 + Math.exp(x2 + x3 * Math.log(siteIndex - 1.3) + x1 * Math.log(breastHeightAge - 0.5)));
+			x1 = 0.45773 - 0.00027 * totalAge * height; /* flaw? total vs bh-age */
+			if (x1 > 0.0)
+				height -= x1;
+		}
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			break;
-		case SI_SB_KER:
-			if (breastHeightAge > 0.0) {
-				x2 = 0.01741;
-				x3 = 8.7428;
-				x4 = -0.7346;
-				x1 = ppow(1 - Math.exp(-x2 * breastHeightAge), x3 * ppow(siteIndex, x4));
-				x2 = ppow(1 - Math.exp(-x2 * 50), x3 * ppow(siteIndex, x4));
-				height = 1.3 + (siteIndex - 1.3) * x1 / x2;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+	private static double baKurucz82ac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+
+		if (breastHeightAge >= 0.5) {
+			if (siteIndex > 60 + 1.667 * (breastHeightAge - 0.5)) {
+				/* function starts going nuts at high sites and low ages */
+				/* evaluate at a safe age, and interpolate */
+				x1 = (siteIndex - 60) / 1.667 + 0.1 + 0.5;
+				x2 = indexToHeightOrNaN(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
+				if (isFailure(x2)) {
+					return x2;
+				}
+				height = 1.3 + (x2 - 1.3) * (breastHeightAge - 0.5) / x1;
+				return height;
 			}
-			break;
-		case SI_SW_KER_PLA, SI_SW_KER_NAT:
-			if (breastHeightAge > 0.0) {
-				x2 = 0.02081;
-				x3 = 11.1515;
-				x4 = -0.7518;
-				x1 = ppow(1 - Math.exp(-x2 * breastHeightAge), x3 * ppow(siteIndex, x4));
-				x2 = ppow(1 - Math.exp(-x2 * 50), x3 * ppow(siteIndex, x4));
-				height = 1.3 + (siteIndex - 1.3) * x1 / x2;
+
+			if (siteIndex <= 1.3) {
+				x1 = 99999.0;
 			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+				x1 = 2450.25 / (siteIndex - 1.3);
 			}
-			break;
-		case SI_SW_THROWER:
-			if (breastHeightAge > 0.5) {
-				x1 = (1.0 + Math.exp(10.1654 - 1.4002 * llog(siteIndex - 1.3) - 1.4482 * Math.log(50.0 - 0.5)))
-						/ (1.0 + Math.exp(
-								10.1654 - 1.4002 * llog(siteIndex - 1.3) - 1.4482 * Math.log(breastHeightAge - 0.5)
-						));
 
-				height = 1.3 + (siteIndex - 1.3) * x1;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+			x2 = -2.09187 + 0.066925 * x1;
+			x3 = -0.42007 + 0.01687 * x1;
+			x4 = 0.00934 + 0.00004 * x1;
+			x5 = breastHeightAge - 0.5;
+			height = 1.3 + x5 * x5 / (x2 + x3 * x5 + x4 * x5 * x5);
+
+			if (breastHeightAge < 50.0 && breastHeightAge * height < 1695.3) {
+				x1 = 0.45773 - 0.00027 * breastHeightAge * height;
+				if (x1 > 0.0) {
+					height -= x1;
+				}
 			}
-			break;
-		case SI_SW_HU_GARCIA:
-			if (breastHeightAge > 0.5) {
-				double q;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
 
-				q = huGarciaQ(siteIndex, 50.0);
-				height = huGarciaH(q, breastHeightAge);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+			x1 = 0.45773 - 0.00027 * totalAge * height; /* flaw? total vs bh-age */
+			if (x1 > 0.0) {
+				height -= x1;
 			}
-			break;
-		case SI_SS_FARR:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+		}
+		return height;
+	}
 
-				x3 = llog(breastHeightAge);
+	private static double fdiMilner(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
 
-				x1 = -0.20505 + 1.449615 * x3 - 0.01780992 * ppow(x3, 3.0) + 6.519748E-5 * ppow(x3, 5.0)
-						- 1.095593E-23 * ppow(x3, 30.0);
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				x2 = -5.61188 + 2.418604 * x3 - 0.259311 * ppow(x3, 2.0) + 1.351445E-4 * ppow(x3, 5.0)
-						- 1.701139E-12 * ppow(x3, 16.0) + 7.964197E-27 * ppow(x3, 36.0);
+			x1 = 114.6 * ppow(1 - Math.exp(-0.01462 * breastHeightAge), 1.179);
+			x2 = 1.703 * ppow(1 - Math.exp(-0.02214 * breastHeightAge), 1.321);
+			height = 4.5 + x1 + x2 * (siteIndex - 57.3);
 
-				height = 4.5 + Math.exp(x1) - Math.exp(x2) * (86.43 - (siteIndex - 4.5));
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_PW_CURTIS:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-
-				x1 = 1.0 - Math.exp(
-						-Math.exp(
-								-9.975053 + (1.747353 - 0.38583) * Math.log(breastHeightAge)
-										+ 1.119438 * Math.log(siteIndex)
-						)
-				);
-
-				x2 = 1.0 - Math.exp(
-						-Math.exp(
-								-9.975053 + 1.747353 * Math.log(50.0) - 0.38583 * Math.log(breastHeightAge)
-										+ 1.119438 * Math.log(siteIndex)
-						)
-				);
-
-				height = 4.5 + (siteIndex - 4.5) * x1 / x2;
-
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_PW_CURTISAC:
-			if (breastHeightAge > 0.5) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-
-				x1 = 1.0 - Math.exp(
-						-Math.exp(
-								-9.975053 + (1.747353 - 0.38583) * Math.log(breastHeightAge - 0.5)
-										+ 1.119438 * Math.log(siteIndex)
-						)
-				);
-
-				x2 = 1.0 - Math.exp(
-						-Math.exp(
-								-9.975053 + 1.747353 * Math.log(49.5) - 0.38583 * Math.log(breastHeightAge - 0.5)
-										+ 1.119438 * Math.log(siteIndex)
-						)
-				);
-
-				height = 4.5 + (siteIndex - 4.5) * x1 / x2;
-
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SS_BARKER: {
-			double si50t;
+	private static double fdiVdpMont(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-			/*
-			 * convert from SI 50b to SI 50t
-			 */
-			si50t = -10.59 + 1.24 * siteIndex - 0.001 * siteIndex * siteIndex;
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-			height = Math.exp(4.39751) * ppow(si50t / Math.exp(4.39751), ppow(50.0 / totalAge, 0.792329));
+			height = 4.5 + (1.9965 * (siteIndex - 4.5) / (1 + Math.exp(5.479 - 1.4016 * Math.log(breastHeightAge))));
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
 		}
-			break;
-		case SI_CWC_BARKER: {
-			double si50t;
+		return height;
+	}
 
-			/*
-			 * convert from SI 50b to SI 50t
-			 */
-			si50t = -5.85 + 1.12 * siteIndex;
-
-			height = Math.exp(4.56128) * ppow(si50t / Math.exp(4.56128), ppow(50.0 / totalAge, 0.584627));
-		}
-			break;
-		case SI_CWC_KURUCZ:
-			// case SI_YC_KURUCZ: Cannot find constant
-			if (breastHeightAge > 0.0) {
-				if (siteIndex > 43 + 1.667 * breastHeightAge) {
-					/* function starts going nuts at high sites and low ages */
-					/* evaluate at a safe age, and interpolate */
-					x1 = (siteIndex - 43) / 1.667 + 0.1;
-					x2 = indexToHeight(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
-					height = 1.3 + (x2 - 1.3) * breastHeightAge / x1;
-					break;
-				}
+	private static double fdiVdpWash(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
 
-				if (siteIndex <= 1.3) {
-					x1 = 99999.0;
-				} else {
-					x1 = 2500.0 / (siteIndex - 1.3);
-				}
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
 
-				x2 = -3.11785 + 0.05027 * x1;
-				x3 = -0.02465 + 0.01411 * x1;
-				x4 = 0.00174 + 0.000097667 * x1;
+			height = 4.5 + (1.79897 * (siteIndex - 4.5) / (1 + Math.exp(6.0678 - 1.6085 * Math.log(breastHeightAge))));
 
-				height = 1.3 + breastHeightAge * breastHeightAge
-						/ (x2 + x3 * breastHeightAge + x4 * breastHeightAge * breastHeightAge);
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				if (breastHeightAge > 50.0) {
-					if (breastHeightAge > 200) {
-						/*
-						 * The "standard" correction applied above 50 years would overpower the uncorrected curve at
-						 * around 400 years. So, after consultation with Robert Macdonald and Ian Cameron, it was
-						 * decided to use a correction beyond 200 years with the same ratio as at age 200.
-						 */
-						breastHeightAge = 200;
-					}
-					height = height - (-0.02379545 * height + 0.000475909 * breastHeightAge * height);
-				}
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_CWC_KURUCZAC:
-			if (breastHeightAge >= 0.5) {
-				if (siteIndex > 43 + 1.667 * (breastHeightAge - 0.5)) {
-					/* function starts going nuts at high sites and low ages */
-					/* evaluate at a safe age, and interpolate */
-					x1 = (siteIndex - 43) / 1.667 + 0.1 + 0.5;
-					x2 = indexToHeight(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
-					height = 1.3 + (x2 - 1.3) * (breastHeightAge - 0.5) / x1;
-					break;
-				}
+	private static double fdiMonsDf(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
 
-				if (siteIndex <= 1.3) {
-					x1 = 99999.0;
-				} else {
-					x1 = 2450.25 / (siteIndex - 1.3);
-				}
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+			x1 = 0.3197;
+			x2 = 1.0232;
 
-				x2 = -3.11785 + 0.05027 * x1;
-				x3 = -0.02465 + 0.01411 * x1;
-				x4 = 0.00177044 + 0.000102554 * x1;
-				x5 = breastHeightAge - 0.5;
-				height = 1.3 + x5 * x5 / (x2 + x3 * x5 + x4 * x5 * x5);
-
-				if (breastHeightAge > 50.0) {
-					if (breastHeightAge > 200) {
-						/*
-						 * The "standard" correction applied above 50 years would overpower the uncorrected curve at
-						 * around 400 years. So, after consultation with Robert Macdonald and Ian Cameron, it was
-						 * decided to use a correction beyond 200 years with the same ratio as at age 200.
-						 */
-						breastHeightAge = 200;
-					}
-					height = height - (-0.02379545 * height + 0.000475909 * breastHeightAge * height);
-				}
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+			x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
 
-		case SI_CWC_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = -3.004284755 + 2.5332489439 * siteIndex - 0.019027688 * siteIndex * siteIndex
-						+ 0.0000992968 * Math.pow(siteIndex, 3.0);
-				height = 1.3 + x1 * Math.pow(1 - Math.exp(-0.01449 * (breastHeightAge - 0.5)), 1.4026 - 0.005781 * x1);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_BA_DILUCCA:
-			if (breastHeightAge > 0.0) {
-				x1 = 1 + Math.exp(8.377148582 - 1.27351813 * Math.log(50.0) - 0.975226632 * Math.log(siteIndex));
-				x2 = 1 + Math
-						.exp(8.377148582 - 1.27351813 * Math.log(breastHeightAge) - 0.975226632 * Math.log(siteIndex));
-				height = 1.3 + (siteIndex - 1.3) * x1 / x2;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_BB_KER:
-			if (breastHeightAge > 0.0) {
-				x2 = 0.01373;
-				x3 = 6.1299;
-				x4 = -0.6157;
-				x1 = ppow(1 - Math.exp(-x2 * breastHeightAge), x3 * ppow(siteIndex, x4));
-				x2 = ppow(1 - Math.exp(-x2 * 50), x3 * ppow(siteIndex, x4));
-				height = 1.3 + (siteIndex - 1.3) * x1 / x2;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_BA_KURUCZ86:
-			if (breastHeightAge > 0.0) {
-				x1 = (siteIndex - 1.3) * ppow(1.0 - Math.exp(-0.01303 * breastHeightAge), 1.024971);
+			height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
 
-				height = 1.3 + x1 / 0.470011;
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				if (breastHeightAge <= 50.0) {
-					height -= (4 * 0.4 * breastHeightAge * (50 - breastHeightAge) / 2500);
-				}
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_BA_KURUCZ82, SI_BL_KURUCZ82:
-			// case SI_BG_KURUCZ82: Cannot find constants
-			if (breastHeightAge > 0.0) {
-				if (siteIndex > 60 + 1.667 * breastHeightAge) {
-					/* function starts going nuts at high sites and low ages */
-					/* evaluate at a safe age, and interpolate */
-					x1 = (siteIndex - 60) / 1.667 + 0.1;
-					x2 = indexToHeight(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
-					height = 1.3 + (x2 - 1.3) * breastHeightAge / x1;
-					break;
-				}
+	private static double fdiMonsGf(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
 
-				if (siteIndex <= 1.3) {
-					x1 = 99999.0;
-				} else {
-					x1 = 2500.0 / (siteIndex - 1.3);
-				}
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+			x1 = 0.3488;
+			x2 = 0.9779;
 
-				x2 = -2.34655 + 0.0565 * x1;
-				x3 = -0.42007 + 0.01687 * x1;
-				x4 = 0.00934 + 0.00004 * x1;
+			x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
 
-				height = 1.3 + breastHeightAge * breastHeightAge
-						/ (x2 + x3 * breastHeightAge + x4 * breastHeightAge * breastHeightAge);
+			height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
 
-				if (breastHeightAge < 50.0 && breastHeightAge * height < 1695.3) {
-					x1 = 0.45773 - 0.00027 * breastHeightAge * height;
-					if (x1 > 0.0) {
-						height -= x1;
-					}
-				}
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				x1 = 0.45773 - 0.00027 * totalAge * height; /* flaw? total vs bh-age */
-				if (x1 > 0.0)
-					height -= x1;
-			}
-			break;
-
-		case SI_BA_KURUCZ82AC:
-			if (breastHeightAge >= 0.5) {
-				if (siteIndex > 60 + 1.667 * (breastHeightAge - 0.5)) {
-					/* function starts going nuts at high sites and low ages */
-					/* evaluate at a safe age, and interpolate */
-					x1 = (siteIndex - 60) / 1.667 + 0.1 + 0.5;
-					x2 = indexToHeight(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
-					height = 1.3 + (x2 - 1.3) * (breastHeightAge - 0.5) / x1;
-					break;
-				}
+	private static double fdiMonsWh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
 
-				if (siteIndex <= 1.3) {
-					x1 = 99999.0;
-				} else {
-					x1 = 2450.25 / (siteIndex - 1.3);
-				}
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+			x1 = 0.3656;
+			x2 = 0.9527;
 
-				x2 = -2.09187 + 0.066925 * x1;
-				x3 = -0.42007 + 0.01687 * x1;
-				x4 = 0.00934 + 0.00004 * x1;
-				x5 = breastHeightAge - 0.5;
-				height = 1.3 + x5 * x5 / (x2 + x3 * x5 + x4 * x5 * x5);
+			x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
 
-				if (breastHeightAge < 50.0 && breastHeightAge * height < 1695.3) {
-					x1 = 0.45773 - 0.00027 * breastHeightAge * height;
-					if (x1 > 0.0) {
-						height -= x1;
-					}
-				}
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+			height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
 
-				x1 = 0.45773 - 0.00027 * totalAge * height; /* flaw? total vs bh-age */
-				if (x1 > 0.0) {
-					height -= x1;
-				}
-			}
-			break;
-		case SI_FDI_MILNER:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-
-				x1 = 114.6 * ppow(1 - Math.exp(-0.01462 * breastHeightAge), 1.179);
-				x2 = 1.703 * ppow(1 - Math.exp(-0.02214 * breastHeightAge), 1.321);
-				height = 4.5 + x1 + x2 * (siteIndex - 57.3);
-
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double drHarring(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3;
+
+		if (siteIndex > 45 + 2.5 * totalAge) {
+			/* function starts going nuts at high sites and low ages */
+			/* evaluate at a safe age, and interpolate */
+			x1 = (siteIndex - 45) / 2.5 + 0.1;
+			x2 = indexToHeightOrNaN(cuIndex, x1, SI_AT_TOTAL, siteIndex, years2BreastHeight, pi);
+			if (isFailure(x2)) {
+				return x2;
 			}
-			break;
-		case SI_FDI_VDP_MONT:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+			height = x2 * totalAge / x1;
+		} else {
+			double si20;
+
+			si20 = ppow(siteIndex, 1.5) / 8.0;
+			x1 = 18.1622 + 0.7953 * si20;
+			x2 = 0.00194 - 0.002441 * si20;
+			x3 = si20 + x1 * ppow(1.0 - Math.exp(x2 * totalAge), 0.9198);
+			height = x3 - x1 * ppow(1.0 - Math.exp(x2 * 20), 0.9198);
+		}
+		return height;
+	}
+
+	private static double drNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		if (breastHeightAge > 0.5) {
+			double si25;
+
+			si25 = 0.3094 + 0.7616 * siteIndex;
+			height = 1.3 + (1.693 * (si25 - 1.3)) / (1 + Math.exp(3.6 - 1.24 * Math.log(breastHeightAge - 0.5)));
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	// Cannot Find Constant
+	/*
+	 * case SI_BG_COCHRAN: if (bhage > 0.0){ // convert to imperial site_index /= 0.3048;
+	 *
+	 * x1 = Math.log (bhage); x2 = -0.30935 + 1.2383 * x1 + 0.001762 * ppow(x1, 4.0) - 5.4e-6 * ppow(x1, 9.0) + 2.046e-7
+	 * * ppow(x1, 11.0) - 4.04e-13 * ppow(x1, 18.0); x3 = -6.2056 + 2.097 * x1 - 0.09411 * ppow(x1, 2) - 4.382e-5 *
+	 * ppow(x1, 7) + 2.007e-11 * ppow(x1, 16) - 2.054e-17 * ppow(x1, 24); height = 4.5 + Math.exp (x2) - 84.93 *
+	 * Math.exp (x3) + (site_index - 4.5) * Math.exp (x3);
+	 *
+	 * // convert back to metric height *= 0.3048; } else{ height = tage * tage * 1.37 / y2bh / y2bh; } break;
+	 */
+	private static double pyMilner(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x1 = 121.4 * ppow(1 - Math.exp(-0.01756 * breastHeightAge), 1.483);
+			x2 = 1.189 * ppow(1 - Math.exp(-0.05799 * breastHeightAge), 2.63);
+			height = 4.5 + x1 + x2 * (siteIndex - 59.6);
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double pyHann(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x1 = 1 - Math
+					.exp(-Math.exp(-6.54707 + 0.288169 * llog(siteIndex - 4.5) + 1.21297 * Math.log(breastHeightAge)));
+			x2 = 1 - Math.exp(-Math.exp(-6.54707 + 0.288169 * llog(siteIndex - 4.5) + 1.21297 * Math.log(50.0)));
+			height = 4.5 + (siteIndex - 4.5) * x1 / x2;
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double pyHannac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		if (breastHeightAge > 0.5) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x1 = 1 - Math.exp(
+					-Math.exp(-6.54707 + 0.288169 * llog(siteIndex - 4.5) + 1.21297 * Math.log(breastHeightAge - 0.5))
+			);
+			x2 = 1 - Math.exp(-Math.exp(-6.54707 + 0.288169 * llog(siteIndex - 4.5) + 1.21297 * Math.log(49.5)));
+			height = 4.5 + (siteIndex - 4.5) * x1 / x2;
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	// case SI_LT_MILNER: Couldn't find constant
+	private static double lwMilner(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
+
+		// case SI_LA_MILNER: Couldn't find constant
+		if (breastHeightAge > 0.0) {
+			/* convert to imperial */
+			siteIndex /= 0.3048;
+
+			x1 = 127.8 * ppow(1 - Math.exp(-0.01655 * breastHeightAge), 1.196);
+			x2 = 1.289 * ppow(1 - Math.exp(-0.03211 * breastHeightAge), 1.047);
+			height = 4.5 + x1 + x2 * (siteIndex - 69.0);
+
+			/* convert back to metric */
+			height *= 0.3048;
+		} else {
+			height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double lwNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1;
+
+		if (breastHeightAge > 0.5) {
+			x1 = Math.log(Math.pow(siteIndex - 1.3, 1 - 0.8566) / 3.027) / Math.log(1 - Math.exp(-0.01588 * 49.5));
+			height = 1.3 + 3.027 * Math.pow(siteIndex - 1.3, 0.8566)
+					* Math.pow(1 - Math.exp(-0.01588 * (breastHeightAge - 0.5)), x1);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
+
+	private static double sbNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
 
-				height = 4.5
-						+ (1.9965 * (siteIndex - 4.5) / (1 + Math.exp(5.479 - 1.4016 * Math.log(breastHeightAge))));
+		if (breastHeightAge > 0.5) {
+			x1 = 1 + Math.exp(9.086 - 1.052 * Math.log(49.5) - 1.55 * Math.log(siteIndex - 1.3));
+			x2 = 1 + Math.exp(9.086 - 1.052 * Math.log(breastHeightAge - 0.5) - 1.55 * Math.log(siteIndex - 1.3));
+			height = 1.3 + (siteIndex - 1.3) * x1 / x2;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_FDI_VDP_WASH:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+	private static double atNigh(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2;
 
-				height = 4.5
-						+ (1.79897 * (siteIndex - 4.5) / (1 + Math.exp(6.0678 - 1.6085 * Math.log(breastHeightAge))));
+		if (breastHeightAge > 0.5) {
+			x1 = 1 + Math.exp(7.423 - 1.15 * Math.log(49.5) - 0.9614 * Math.log(siteIndex - 1.3));
+			x2 = 1 + Math.exp(7.423 - 1.15 * Math.log(breastHeightAge - 0.5) - 0.9614 * Math.log(siteIndex - 1.3));
+			height = 1.3 + (siteIndex - 1.3) * x1 / x2;
+		} else {
+			/*
+			 * was height = tage * tage * 1.3 / y2bh / y2bh;
+			 */
+			height = Math.pow(totalAge / years2BreastHeight, 1.5) * 1.3;
+		}
+		return height;
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_FDI_MONS_DF:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-				x1 = 0.3197;
-				x2 = 1.0232;
+	// Cannot find constant
+	/*
+	 * case SI_TE_GOUDIE: if (bhage > 0.0){ x1 = (1-Math.exp(-0.0227 * bhage)) / (1-Math.exp(-0.0227 * 50)); x2 = 6.525
+	 * * ppow(site_index, -0.7606); height = site_index * ppow(x1, x2); } else{ height = tage * tage * 1.3 / y2bh /
+	 * y2bh; } break;
+	 */
+	private static double swHuangPla(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
 
-				x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
+		double x0;
+		double age_huang; /* used in HUANG's equations */
 
-				height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
+		if (breastHeightAge > 0.0) {
+			x0 = 0.010168;
+			x1 = 0.004801;
+			x2 = 4.997735;
+			x3 = 0.802776;
+			x4 = -0.243297;
+			x5 = 0.325438;
+			age_huang = 50.0;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(50.0, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+	private static double swHuangNat(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+		double x0;
+		double age_huang; /* used in HUANG's equations */
 
-		case SI_FDI_MONS_GF:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-				x1 = 0.3488;
-				x2 = 0.9779;
+		if (breastHeightAge > 0.0) {
+			x0 = 0.010168;
+			x1 = 0.004801;
+			x2 = 4.997735;
+			x3 = 0.802776;
+			x4 = -0.243297;
+			x5 = 0.325438;
+			age_huang = 50.0;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(50.0, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
+	private static double pliHuangPla(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+		double x0;
+		double age_huang; /* used in HUANG's equations */
 
-				height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
+		if (breastHeightAge > 0.0) {
+			x0 = 0.026714;
+			x1 = -0.314562;
+			x2 = 1.033165;
+			x3 = 0.799658;
+			x4 = -0.439270;
+			x5 = 0.401374;
+			age_huang = 1;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(50.0, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+	// Cannot Find Constant
+	/*
+	 * case SI_PJ_HUANG_PLA: double x0; double age_huang; // used in HUANG's equations
+	 *
+	 * if (bhage > 0.0){ x0 = 0.023405; x1 = -0.371557; x2 = 1.048011; x3 = 0.715449; x4 = -0.503105; x5 = 0.444505;
+	 * age_huang = 1;
+	 *
+	 * x0 = -x0 * ppow(site_index - 1.3, x1) * Math.pow (x2, (site_index - 1.3) / age_huang); x0 = (1.0 - Math.exp (x0 *
+	 * bhage)) / (1 - Math.exp (x0 * 50.0)); x1 = ppow(site_index - 1.3, x4); x2 = Math.pow (50.0, x5);
+	 *
+	 * height = 1.3 + (site_index - 1.3) * ppow(x0, x3 * x1 * x2); } else{ height = tage * tage * 1.3 / y2bh / y2bh; }
+	 * break;
+	 */
+	// Cannot Find Constant
+	/*
+	 * case SI_PJ_HUANG_NAT: double x0; double age_huang; // used in HUANG's equations
+	 *
+	 * if (bhage > 0.0){ x0 = 0.023405; x1 = -0.371557; x2 = 1.048011; x3 = 0.715449; x4 = -0.503105; x5 = 0.444505;
+	 * age_huang = 1;
+	 *
+	 * x0 = -x0 * ppow(site_index - 1.3, x1) * Math.pow (x2, (site_index - 1.3) / age_huang); x0 = (1.0 - Math.exp (x0 *
+	 * bhage)) / (1 - Math.exp (x0 * 50.0)); x1 = ppow(site_index - 1.3, x4); x2 = Math.pow (50.0, x5);
+	 *
+	 * height = 1.3 + (site_index - 1.3) * ppow(x0, x3 * x1 * x2); } else{ height = tage * tage * 1.3 / y2bh / y2bh; }
+	 * break;
+	 */
 
-		case SI_FDI_MONS_WRC:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-				x1 = 0.3488;
-				x2 = 0.9779;
+	private static double fdiHuangPla(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+		double x0;
+		double age_huang; /* used in HUANG's equations */
 
-				x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
+		if (breastHeightAge > 0.0) {
+			x0 = 0.007932;
+			x1 = 0.011994;
+			x2 = 7.053999;
+			x3 = 0.617157;
+			x4 = -0.365916;
+			x5 = 0.405321;
+			age_huang = 50.0;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(50.0, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
+	private static double atHuang(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+		double x0;
+		double age_huang; /* used in HUANG's equations */
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+		if (breastHeightAge > 0.0) {
+			x0 = 0.035930;
+			x1 = -0.486239;
+			x2 = 1.041916;
+			x3 = 0.818283;
+			x4 = -0.594641;
+			x5 = 0.522558;
+			age_huang = 1;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(50.0, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-		case SI_FDI_MONS_WH:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-				x1 = 0.3656;
-				x2 = 0.9527;
+	private static double sbHuang(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+		double x0;
+		double age_huang; /* used in HUANG's equations */
 
-				x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
+		if (breastHeightAge > 0.0) {
+			x0 = 0.011117;
+			x1 = 0.030221;
+			x2 = 1.010399;
+			x3 = 0.573793;
+			x4 = -0.328092;
+			x5 = 0.387445;
+			age_huang = 1;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(50.0, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
+	private static double acbHuang(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+		double x0;
+		double age_huang; /* used in HUANG's equations */
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_FDI_MONS_SAF:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-				x1 = 0.3656;
-				x2 = 0.9527;
+		if (breastHeightAge > 0.0) {
+			x0 = 0.041208;
+			x1 = -0.559626;
+			x2 = 1.038923;
+			x3 = 0.832609;
+			x4 = -0.627227;
+			x5 = 0.526901;
+			age_huang = 1;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(50.0, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
 
-				x3 = 1.0 + Math.exp(9.7278 - 1.2934 * Math.log(breastHeightAge) - x2 * llog(siteIndex - 4.5));
+		}
+		return height;
+	}
 
-				height = 4.5 + 42.397 * ppow(siteIndex - 4.5, x1) / x3;
+	// Cannot Find Constant
+	/*
+	 * case SI_BB_HUANG: double x0; double age_huang; // used in HUANG's equations
+	 *
+	 * if (bhage > 0.0){ x0 = 0.010190; x1 = 0.013957; x2 = 3.876735; x3 = 0.647527; x4 = -0.274343; x5 = 0.378078;
+	 * age_huang = 50.0;
+	 *
+	 * x0 = -x0 * ppow(site_index - 1.3, x1) * Math.pow (x2, (site_index - 1.3) / age_huang); x0 = (1.0 - Math.exp (x0 *
+	 * bhage)) / (1 - Math.exp (x0 * 50.0)); x1 = ppow(site_index - 1.3, x4); x2 = Math.pow (50.0, x5);
+	 *
+	 * height = 1.3 + (site_index - 1.3) * ppow(x0, x3 * x1 * x2); } else{ height = tage * tage * 1.3 / y2bh / y2bh; }
+	 * break;
+	 */
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_DR_HARRING:
-			if (siteIndex > 45 + 2.5 * totalAge) {
-				/* function starts going nuts at high sites and low ages */
-				/* evaluate at a safe age, and interpolate */
-				x1 = (siteIndex - 45) / 2.5 + 0.1;
-				x2 = indexToHeight(cuIndex, x1, SI_AT_TOTAL, siteIndex, years2BreastHeight, pi);
-				height = x2 * totalAge / x1;
-			} else {
-				double si20;
+	private static double acbHuangac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
+		double x0;
+		double age_huang; /* used in HUANG's equations */
+
+		if (breastHeightAge > 0.5) {
+			x0 = 0.041208;
+			x1 = -0.559626;
+			x2 = 1.038923;
+			x3 = 0.832609;
+			x4 = -0.627227;
+			x5 = 0.526901;
+			age_huang = 1;
+
+			x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
+			x0 = (1.0 - Math.exp(x0 * (breastHeightAge - 0.5))) / (1 - Math.exp(x0 * 49.5));
+			x1 = ppow(siteIndex - 1.3, x4);
+			x2 = Math.pow(49.5, x5);
+
+			height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				si20 = ppow(siteIndex, 1.5) / 8.0;
-				x1 = 18.1622 + 0.7953 * si20;
-				x2 = 0.00194 - 0.002441 * si20;
-				x3 = si20 + x1 * ppow(1.0 - Math.exp(x2 * totalAge), 0.9198);
-				height = x3 - x1 * ppow(1.0 - Math.exp(x2 * 20), 0.9198);
-			}
-			break;
-		case SI_DR_NIGH:
-			if (breastHeightAge > 0.5) {
-				double si25;
+	private static double blChen(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-				si25 = 0.3094 + 0.7616 * siteIndex;
-				height = 1.3 + (1.693 * (si25 - 1.3)) / (1 + Math.exp(3.6 - 1.24 * Math.log(breastHeightAge - 0.5)));
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		// Cannot Find Constant
-		/*
-		 * case SI_BG_COCHRAN: if (bhage > 0.0){ // convert to imperial site_index /= 0.3048;
-		 *
-		 * x1 = Math.log (bhage); x2 = -0.30935 + 1.2383 * x1 + 0.001762 * ppow(x1, 4.0) - 5.4e-6 * ppow(x1, 9.0) +
-		 * 2.046e-7 * ppow(x1, 11.0) - 4.04e-13 * ppow(x1, 18.0); x3 = -6.2056 + 2.097 * x1 - 0.09411 * ppow(x1, 2) -
-		 * 4.382e-5 * ppow(x1, 7) + 2.007e-11 * ppow(x1, 16) - 2.054e-17 * ppow(x1, 24); height = 4.5 + Math.exp (x2) -
-		 * 84.93 * Math.exp (x3) + (site_index - 4.5) * Math.exp (x3);
-		 *
-		 * // convert back to metric height *= 0.3048; } else{ height = tage * tage * 1.37 / y2bh / y2bh; } break;
-		 */
-		case SI_PY_MILNER:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+		if (breastHeightAge > 0.0) {
+			x1 = 9.523;
+			x2 = -1.4945;
+			x3 = -1.2159;
 
-				x1 = 121.4 * ppow(1 - Math.exp(-0.01756 * breastHeightAge), 1.483);
-				x2 = 1.189 * ppow(1 - Math.exp(-0.05799 * breastHeightAge), 2.63);
-				height = 4.5 + x1 + x2 * (siteIndex - 59.6);
+			x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_PY_HANN:
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-
-				x1 = 1 - Math.exp(
-						-Math.exp(-6.54707 + 0.288169 * llog(siteIndex - 4.5) + 1.21297 * Math.log(breastHeightAge))
-				);
-				x2 = 1 - Math.exp(-Math.exp(-6.54707 + 0.288169 * llog(siteIndex - 4.5) + 1.21297 * Math.log(50.0)));
-				height = 4.5 + (siteIndex - 4.5) * x1 / x2;
-
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_PY_HANNAC:
-			if (breastHeightAge > 0.5) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
-
-				x1 = 1 - Math
-						.exp(
-								-Math.exp(
-										-6.54707 + 0.288169 * llog(siteIndex - 4.5)
-												+ 1.21297 * Math.log(breastHeightAge - 0.5)
-								)
-						);
-				x2 = 1 - Math.exp(-Math.exp(-6.54707 + 0.288169 * llog(siteIndex - 4.5) + 1.21297 * Math.log(49.5)));
-				height = 4.5 + (siteIndex - 4.5) * x1 / x2;
-
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+			height = 1.3 + (siteIndex - 1.3) * x4;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-		// case SI_LT_MILNER: Couldn't find constant
-		case SI_LW_MILNER:
-			// case SI_LA_MILNER: Couldn't find constant
-			if (breastHeightAge > 0.0) {
-				/* convert to imperial */
-				siteIndex /= 0.3048;
+	private static double seChen(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-				x1 = 127.8 * ppow(1 - Math.exp(-0.01655 * breastHeightAge), 1.196);
-				x2 = 1.289 * ppow(1 - Math.exp(-0.03211 * breastHeightAge), 1.047);
-				height = 4.5 + x1 + x2 * (siteIndex - 69.0);
+		if (breastHeightAge > 0.0) {
+			x1 = 8.6126;
+			x2 = -1.5269;
+			x3 = -0.7805;
 
-				/* convert back to metric */
-				height *= 0.3048;
-			} else {
-				height = totalAge * totalAge * 1.37 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_LW_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = Math.log(Math.pow(siteIndex - 1.3, 1 - 0.8566) / 3.027) / Math.log(1 - Math.exp(-0.01588 * 49.5));
-				height = 1.3 + 3.027 * Math.pow(siteIndex - 1.3, 0.8566)
-						* Math.pow(1 - Math.exp(-0.01588 * (breastHeightAge - 0.5)), x1);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_SB_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = 1 + Math.exp(9.086 - 1.052 * Math.log(49.5) - 1.55 * Math.log(siteIndex - 1.3));
-				x2 = 1 + Math.exp(9.086 - 1.052 * Math.log(breastHeightAge - 0.5) - 1.55 * Math.log(siteIndex - 1.3));
-				height = 1.3 + (siteIndex - 1.3) * x1 / x2;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_AT_NIGH:
-			if (breastHeightAge > 0.5) {
-				x1 = 1 + Math.exp(7.423 - 1.15 * Math.log(49.5) - 0.9614 * Math.log(siteIndex - 1.3));
-				x2 = 1 + Math.exp(7.423 - 1.15 * Math.log(breastHeightAge - 0.5) - 0.9614 * Math.log(siteIndex - 1.3));
-				height = 1.3 + (siteIndex - 1.3) * x1 / x2;
-			} else {
-				/*
-				 * was height = tage * tage * 1.3 / y2bh / y2bh;
-				 */
-				height = Math.pow(totalAge / years2BreastHeight, 1.5) * 1.3;
-			}
-			break;
-		// Cannot find constant
-		/*
-		 * case SI_TE_GOUDIE: if (bhage > 0.0){ x1 = (1-Math.exp(-0.0227 * bhage)) / (1-Math.exp(-0.0227 * 50)); x2 =
-		 * 6.525 * ppow(site_index, -0.7606); height = site_index * ppow(x1, x2); } else{ height = tage * tage * 1.3 /
-		 * y2bh / y2bh; } break;
-		 */
-		case SI_SW_HUANG_PLA:
-			double x0;
-			double age_huang; /* used in HUANG's equations */
-
-			if (breastHeightAge > 0.0) {
-				x0 = 0.010168;
-				x1 = 0.004801;
-				x2 = 4.997735;
-				x3 = 0.802776;
-				x4 = -0.243297;
-				x5 = 0.325438;
-				age_huang = 50.0;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-
-		case SI_SW_HUANG_NAT:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.010168;
-				x1 = 0.004801;
-				x2 = 4.997735;
-				x3 = 0.802776;
-				x4 = -0.243297;
-				x5 = 0.325438;
-				age_huang = 50.0;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_PLI_HUANG_PLA:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.026714;
-				x1 = -0.314562;
-				x2 = 1.033165;
-				x3 = 0.799658;
-				x4 = -0.439270;
-				x5 = 0.401374;
-				age_huang = 1;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-
-		case SI_PLI_HUANG_NAT:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.026714;
-				x1 = -0.314562;
-				x2 = 1.033165;
-				x3 = 0.799658;
-				x4 = -0.439270;
-				x5 = 0.401374;
-				age_huang = 1;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		// Cannot Find Constant
-		/*
-		 * case SI_PJ_HUANG_PLA: double x0; double age_huang; // used in HUANG's equations
-		 *
-		 * if (bhage > 0.0){ x0 = 0.023405; x1 = -0.371557; x2 = 1.048011; x3 = 0.715449; x4 = -0.503105; x5 = 0.444505;
-		 * age_huang = 1;
-		 *
-		 * x0 = -x0 * ppow(site_index - 1.3, x1) * Math.pow (x2, (site_index - 1.3) / age_huang); x0 = (1.0 - Math.exp
-		 * (x0 * bhage)) / (1 - Math.exp (x0 * 50.0)); x1 = ppow(site_index - 1.3, x4); x2 = Math.pow (50.0, x5);
-		 *
-		 * height = 1.3 + (site_index - 1.3) * ppow(x0, x3 * x1 * x2); } else{ height = tage * tage * 1.3 / y2bh / y2bh;
-		 * } break;
-		 */
-		// Cannot Find Constant
-		/*
-		 * case SI_PJ_HUANG_NAT: double x0; double age_huang; // used in HUANG's equations
-		 *
-		 * if (bhage > 0.0){ x0 = 0.023405; x1 = -0.371557; x2 = 1.048011; x3 = 0.715449; x4 = -0.503105; x5 = 0.444505;
-		 * age_huang = 1;
-		 *
-		 * x0 = -x0 * ppow(site_index - 1.3, x1) * Math.pow (x2, (site_index - 1.3) / age_huang); x0 = (1.0 - Math.exp
-		 * (x0 * bhage)) / (1 - Math.exp (x0 * 50.0)); x1 = ppow(site_index - 1.3, x4); x2 = Math.pow (50.0, x5);
-		 *
-		 * height = 1.3 + (site_index - 1.3) * ppow(x0, x3 * x1 * x2); } else{ height = tage * tage * 1.3 / y2bh / y2bh;
-		 * } break;
-		 */
+			x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
 
-		case SI_FDI_HUANG_PLA:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.007932;
-				x1 = 0.011994;
-				x2 = 7.053999;
-				x3 = 0.617157;
-				x4 = -0.365916;
-				x5 = 0.405321;
-				age_huang = 50.0;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-
-		case SI_FDI_HUANG_NAT:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.007932;
-				x1 = 0.011994;
-				x2 = 7.053999;
-				x3 = 0.617157;
-				x4 = -0.365916;
-				x5 = 0.405321;
-				age_huang = 50.0;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-
-		case SI_AT_HUANG:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.035930;
-				x1 = -0.486239;
-				x2 = 1.041916;
-				x3 = 0.818283;
-				x4 = -0.594641;
-				x5 = 0.522558;
-				age_huang = 1;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-
-		case SI_SB_HUANG:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.011117;
-				x1 = 0.030221;
-				x2 = 1.010399;
-				x3 = 0.573793;
-				x4 = -0.328092;
-				x5 = 0.387445;
-				age_huang = 1;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-
-		case SI_ACB_HUANG:
-			if (breastHeightAge > 0.0) {
-				x0 = 0.041208;
-				x1 = -0.559626;
-				x2 = 1.038923;
-				x3 = 0.832609;
-				x4 = -0.627227;
-				x5 = 0.526901;
-				age_huang = 1;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * breastHeightAge)) / (1 - Math.exp(x0 * 50.0));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(50.0, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+			height = 1.3 + (siteIndex - 1.3) * x4;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-			}
-			break;
+	private static double plChen(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-		// Cannot Find Constant
-		/*
-		 * case SI_BB_HUANG: double x0; double age_huang; // used in HUANG's equations
-		 *
-		 * if (bhage > 0.0){ x0 = 0.010190; x1 = 0.013957; x2 = 3.876735; x3 = 0.647527; x4 = -0.274343; x5 = 0.378078;
-		 * age_huang = 50.0;
-		 *
-		 * x0 = -x0 * ppow(site_index - 1.3, x1) * Math.pow (x2, (site_index - 1.3) / age_huang); x0 = (1.0 - Math.exp
-		 * (x0 * bhage)) / (1 - Math.exp (x0 * 50.0)); x1 = ppow(site_index - 1.3, x4); x2 = Math.pow (50.0, x5);
-		 *
-		 * height = 1.3 + (site_index - 1.3) * ppow(x0, x3 * x1 * x2); } else{ height = tage * tage * 1.3 / y2bh / y2bh;
-		 * } break;
-		 */
+		if (breastHeightAge > 0.0) {
+			x1 = 6.9603;
+			x2 = -1.2875;
+			x3 = -0.5904;
 
-		case SI_ACB_HUANGAC: {
-			if (breastHeightAge > 0.5) {
-				x0 = 0.041208;
-				x1 = -0.559626;
-				x2 = 1.038923;
-				x3 = 0.832609;
-				x4 = -0.627227;
-				x5 = 0.526901;
-				age_huang = 1;
-
-				x0 = -x0 * ppow(siteIndex - 1.3, x1) * Math.pow(x2, (siteIndex - 1.3) / age_huang);
-				x0 = (1.0 - Math.exp(x0 * (breastHeightAge - 0.5))) / (1 - Math.exp(x0 * 49.5));
-				x1 = ppow(siteIndex - 1.3, x4);
-				x2 = Math.pow(49.5, x5);
-
-				height = 1.3 + (siteIndex - 1.3) * ppow(x0, x3 * x1 * x2);
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-		}
-			break;
-		case SI_BL_CHEN:
-			if (breastHeightAge > 0.0) {
-				x1 = 9.523;
-				x2 = -1.4945;
-				x3 = -1.2159;
+			x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
 
-				x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x4;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x4;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+	// Couldn't Find Constant
+	/*
+	 * case SI_EP_CHEN: if (bhage > 0.0){ x1 = 9.9045; x2 = -1.1736; x3 = -1.8361;
+	 *
+	 * x4 = (1.0 + Math.exp (x1 + x2 * Math.log (50.0) + x3 * llog(site_index - 1.3))) / (1.0 + Math.exp (x1 + x2 *
+	 * Math.log (bhage)+ x3 * llog(site_index - 1.3)));
+	 *
+	 * height = 1.3 + (site_index - 1.3) * x4; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
+	private static double drChen(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-		case SI_SE_CHEN:
-			if (breastHeightAge > 0.0) {
-				x1 = 8.6126;
-				x2 = -1.5269;
-				x3 = -0.7805;
+		if (breastHeightAge > 0.0) {
+			x1 = 6.6133;
+			x2 = -1.0807;
+			x3 = -1.0176;
 
-				x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
+			x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
 
-				height = 1.3 + (siteIndex - 1.3) * x4;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+			height = 1.3 + (siteIndex - 1.3) * x4;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-		case SI_PL_CHEN:
-			if (breastHeightAge > 0.0) {
-				x1 = 6.9603;
-				x2 = -1.2875;
-				x3 = -0.5904;
+	private static double blChenac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-				x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
+		if (breastHeightAge > 0.5) {
+			x1 = 9.523;
+			x2 = -1.4945;
+			x3 = -1.2159;
 
-				height = 1.3 + (siteIndex - 1.3) * x4;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		// Couldn't Find Constant
-		/*
-		 * case SI_EP_CHEN: if (bhage > 0.0){ x1 = 9.9045; x2 = -1.1736; x3 = -1.8361;
-		 *
-		 * x4 = (1.0 + Math.exp (x1 + x2 * Math.log (50.0) + x3 * llog(site_index - 1.3))) / (1.0 + Math.exp (x1 + x2 *
-		 * Math.log (bhage)+ x3 * llog(site_index - 1.3)));
-		 *
-		 * height = 1.3 + (site_index - 1.3) * x4; } else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
-		case SI_DR_CHEN:
-			if (breastHeightAge > 0.0) {
-				x1 = 6.6133;
-				x2 = -1.0807;
-				x3 = -1.0176;
+			x4 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
 
-				x4 = (1.0 + Math.exp(x1 + x2 * Math.log(50.0) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge) + x3 * llog(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x4;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x4;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+	private static double seChenac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4;
 
-		case SI_BL_CHENAC:
-			if (breastHeightAge > 0.5) {
-				x1 = 9.523;
-				x2 = -1.4945;
-				x3 = -1.2159;
+		if (breastHeightAge > 0.5) {
+			x1 = 8.6126;
+			x2 = -1.5269;
+			x3 = -0.7805;
 
-				x4 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
+			x4 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
+					/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
 
-				height = 1.3 + (siteIndex - 1.3) * x4;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+			height = 1.3 + (siteIndex - 1.3) * x4;
+		} else {
+			/*
+			 * height = tage * tage * 1.3 / y2bh / y2bh;
+			 */
+			height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
+					* Math.pow(1.127, totalAge - years2BreastHeight);
+		}
+		return height;
+	}
 
-		case SI_SE_CHENAC:
-			if (breastHeightAge > 0.5) {
-				x1 = 8.6126;
-				x2 = -1.5269;
-				x3 = -0.7805;
+	private static double atChen(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1;
 
-				x4 = (1.0 + Math.exp(x1 + x2 * Math.log(49.5) + x3 * llog(siteIndex - 1.3)))
-						/ (1.0 + Math.exp(x1 + x2 * Math.log(breastHeightAge - 0.5) + x3 * llog(siteIndex - 1.3)));
+		if (breastHeightAge > 0.0) {
+			x1 = llog(ppow(siteIndex - 1.3, -0.076) / 1.418) / llog(1 - Math.exp(-0.017 * 50));
+			height = 1.3 + 1.418 * (ppow(siteIndex - 1.3, 1.076) * ppow(1 - Math.exp(-0.017 * breastHeightAge), x1));
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x4;
-			} else {
-				/*
-				 * height = tage * tage * 1.3 / y2bh / y2bh;
-				 */
-				height = 1.3 * Math.pow(totalAge / years2BreastHeight, 1.628 - 0.05991 * years2BreastHeight)
-						* Math.pow(1.127, totalAge - years2BreastHeight);
-			}
-			break;
+	private static double pjHuang(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
 
-		case SI_AT_CHEN:
-			if (breastHeightAge > 0.0) {
-				x1 = llog(ppow(siteIndex - 1.3, -0.076) / 1.418) / llog(1 - Math.exp(-0.017 * 50));
-				height = 1.3
-						+ 1.418 * (ppow(siteIndex - 1.3, 1.076) * ppow(1 - Math.exp(-0.017 * breastHeightAge), x1));
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		case SI_PJ_HUANG:
-			if (breastHeightAge > 0) {
-				x1 = 0.073456;
-				x2 = 8.770517;
-				x3 = -1.334706;
-				x4 = 1.719841;
-
-				x5 = (1.0 + x1 * (siteIndex - 1.3) + Math.exp(x2 + x3 * Math.log(50 + x4) - Math.log(siteIndex - 1.3)))
-						/ (1.0 + x1 * (siteIndex - 1.3)
-								+ Math.exp(x2 + x3 * Math.log(breastHeightAge + x4) - Math.log(siteIndex - 1.3)));
-
-				height = 1.3 + (siteIndex - 1.3) * x5;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
+		if (breastHeightAge > 0) {
+			x1 = 0.073456;
+			x2 = 8.770517;
+			x3 = -1.334706;
+			x4 = 1.719841;
 
-		case SI_PJ_HUANGAC:
-			if (breastHeightAge > 0.5) {
-				x1 = 0.073456;
-				x2 = 8.770517;
-				x3 = -1.334706;
-				x4 = 1.719841;
+			x5 = (1.0 + x1 * (siteIndex - 1.3) + Math.exp(x2 + x3 * Math.log(50 + x4) - Math.log(siteIndex - 1.3)))
+					/ (1.0 + x1 * (siteIndex - 1.3)
+							+ Math.exp(x2 + x3 * Math.log(breastHeightAge + x4) - Math.log(siteIndex - 1.3)));
 
-				x5 = (1.0 + x1 * (siteIndex - 1.3)
-						+ Math.exp(x2 + x3 * Math.log(49.5 + x4) - Math.log(siteIndex - 1.3)))
-						/ (1.0 + x1 * (siteIndex - 1.3)
-								+ Math.exp(x2 + x3 * Math.log(breastHeightAge - 0.5 + x4) - Math.log(siteIndex - 1.3)));
+			height = 1.3 + (siteIndex - 1.3) * x5;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
+		}
+		return height;
+	}
 
-				height = 1.3 + (siteIndex - 1.3) * x5;
-			} else {
-				height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
-			}
-			break;
-		// Couldn't Find Constant
-		/*
-		 * case SI_EP_CAMERON: if (bhage > 0.0) height = 1.76928 * (site_index - 1.3) * ppow(1 - Math.exp (-0.01558 *
-		 * bhage), 0.92908); else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
-		 */
+	private static double pjHuangac(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+		double x1, x2, x3, x4, x5;
 
-		case SI_BA_NIGHGI, SI_BL_THROWERGI, SI_PY_NIGHGI, SI_CWI_NIGHGI, SI_FDC_NIGHGI, SI_FDI_NIGHGI, SI_HWC_NIGHGI,
-				SI_HWC_NIGHGI99, SI_HWI_NIGHGI, SI_LW_NIGHGI,
-				// case SI_PLI_NIGHGI: Couldnt Find constant
-				SI_PLI_NIGHGI97, SI_SE_NIGHGI, SI_SS_NIGHGI, SI_SS_NIGHGI99, SI_SW_NIGHGI, SI_SW_NIGHGI99,
-				SI_SW_NIGHGI2004:
+		if (breastHeightAge > 0.5) {
+			x1 = 0.073456;
+			x2 = 8.770517;
+			x3 = -1.334706;
+			x4 = 1.719841;
 
-			height = giSi2Ht(cuIndex, breastHeightAge, siteIndex);
-			break;
+			x5 = (1.0 + x1 * (siteIndex - 1.3) + Math.exp(x2 + x3 * Math.log(49.5 + x4) - Math.log(siteIndex - 1.3)))
+					/ (1.0 + x1 * (siteIndex - 1.3)
+							+ Math.exp(x2 + x3 * Math.log(breastHeightAge - 0.5 + x4) - Math.log(siteIndex - 1.3)));
 
-		default:
-			throw new CurveErrorException("Unknown curve index");
+			height = 1.3 + (siteIndex - 1.3) * x5;
+		} else {
+			height = totalAge * totalAge * 1.3 / years2BreastHeight / years2BreastHeight;
 		}
+		return height;
+	}
+
+	// Couldn't Find Constant
+	/*
+	 * case SI_EP_CAMERON: if (bhage > 0.0) height = 1.76928 * (site_index - 1.3) * ppow(1 - Math.exp (-0.01558 *
+	 * bhage), 0.92908); else{ height = tage * tage * 1.3 / y2bh / y2bh; } break;
+	 */
 
+	private static double growthIntercept(
+			SiteIndexEquation cuIndex, SiteIndexAgeType ageType, double totalAge, double breastHeightAge,
+			double siteIndex, double years2BreastHeight, double pi
+	) {
+		double height;
+
+		height = giSi2HtOrNaN(cuIndex, breastHeightAge, siteIndex);
 		return height;
 	}
 
 	public static double giSi2Ht(SiteIndexEquation cuIndex, double age, double siteIndex)
 			throws CommonCalculatorException {
+		double height = giSi2HtOrNaN(cuIndex, age, siteIndex);
+		if (isFailure(height)) {
+			throw CalculatorStatus
+					.toException(height, "curve " + cuIndex + ", age " + age + ", site index " + siteIndex);
+		}
+		return height;
+	}
+
+	/**
+	 * As {@link #giSi2Ht}, but returns a {@link CalculatorStatus} failure rather than throwing.
+	 */
+	public static double giSi2HtOrNaN(SiteIndexEquation cuIndex, double age, double siteIndex) {
+		SiteCurve curve = SiteCurve.of(cuIndex);
 		double si2ht;
 		double step;
 		double test_site;
 
 		/* breast height age must be at least 1/2 a year */
 		if (age < 0.5) {
-			throw new GrowthInterceptMinimumException(
-					"Variable height growth intercept formulation; bhage < 0.5 years. Age: " + age
-			);
+			return failure(CalculatorStatus.SI_ERR_GI_MIN);
 		}
 
 		/* initial guess */
@@ -2007,7 +2817,10 @@ public class SiteIndex2Height {
 
 		/* loop until real close */
 		do {
-			test_site = Height2SiteIndex.heightToIndex(cuIndex, age, SI_AT_BREAST, si2ht, SI_EST_DIRECT);
+			test_site = Height2SiteIndex.heightToIndexOrNaN(curve, age, SI_AT_BREAST, si2ht, SI_EST_DIRECT);
+			if (isFailure(test_site)) {
+				return test_site;
+			}
 			/*
 			 * printf ("age=%3.0f, site=%5.2f, test_site=%5.2f, si2ht=%5.2f, step=%9.7f\n", age, site_index, test_site,
 			 * si2ht, step);
@@ -2043,7 +2856,7 @@ public class SiteIndex2Height {
 				break;
 			}
 			if (si2ht > 999.0) {
-				throw new NoAnswerException("Iteration could not converge (projected height > 999)");
+				return failure(CalculatorStatus.SI_ERR_NO_ANS);
 			}
 			/* site index must be at least 1.3 */
 			if (si2ht < 1.3) {
@@ -2070,14 +2883,17 @@ public class SiteIndex2Height {
 	private static double wiley(
 			double totalAge, double breastHeightAge, double years2BreastHeight, double siteIndex,
 			SiteIndexEquation cuIndex, double pi, DoubleBinaryOperator adjustMetric
-	) throws CommonCalculatorException {
+	) {
 		double height;
 		if (breastHeightAge > 0.0) {
 			if (siteIndex > 60 + 1.667 * breastHeightAge) {
 				// function starts going nuts at high sites and low ages
 				// evaluate at a safe age, and interpolate
 				double x1 = (siteIndex - 60) / 1.667 + 0.1;
-				double x2 = indexToHeight(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
+				double x2 = indexToHeightOrNaN(cuIndex, x1, SI_AT_BREAST, siteIndex, years2BreastHeight, pi);
+				if (isFailure(x2)) {
+					return x2;
+				}
 				height = 1.37 + (x2 - 1.37) * breastHeightAge / x1;
 				return height;
 			}
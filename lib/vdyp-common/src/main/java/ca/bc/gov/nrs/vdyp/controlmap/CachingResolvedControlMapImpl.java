@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.LazyValue;
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.ModifierParser;
 import ca.bc.gov.nrs.vdyp.model.BecLookup;
@@ -19,36 +20,36 @@ import ca.bc.gov.nrs.vdyp.model.SiteCurveAgeMaximum;
 
 public class CachingResolvedControlMapImpl implements ResolvedControlMap {
 
-	private final BecLookup becLookup;
-	private final GenusDefinitionMap genusDefinitionMap;
-	private final Map<String, Coefficients> netDecayWasteCoeMap;
-	private final MatrixMap2<Integer, Integer, Optional<Coefficients>> netDecayCoeMap;
-	private final MatrixMap2<String, Region, Float> wasteModifierMap;
-	private final MatrixMap2<String, Region, Float> decayModifierMap;
-	private final MatrixMap2<Integer, Integer, Optional<Coefficients>> closeUtilizationCoeMap;
-	private final Map<Integer, Coefficients> totalStandWholeStepVolumeCoeMap;
-	private final MatrixMap2<Integer, Integer, Optional<Coefficients>> wholeStemUtilizationComponentMap;
-	private final MatrixMap3<Integer, String, String, Coefficients> quadMeanDiameterUtilizationComponentMap;
-	private final MatrixMap3<Integer, String, String, Coefficients> basalAreaDiameterUtilizationComponentMap;
-	private final Map<String, Coefficients> smallComponentWholeStemVolumeCoefficients;
-	private final Map<String, Coefficients> smallComponentLoreyHeightCoefficients;
-	private final Map<String, Coefficients> smallComponentQuadMeanDiameterCoefficients;
-	private final Map<String, Coefficients> smallComponentBasalAreaCoefficients;
-	private final Map<String, Coefficients> smallComponentProbabilityCoefficients;
-	private final Map<Integer, SiteCurveAgeMaximum> maximumAgeBySiteCurveNumber;
-	private final Map<Integer, Coefficients> upperBounds;
-	private final MatrixMap2<String, String, Integer> defaultEquationGroup;
-	private final MatrixMap2<Integer, Integer, Optional<Integer>> equationModifierGroup;
-	private final MatrixMap2<String, Region, Coefficients> hl1Coefficients;
-	private final MatrixMap2<String, Region, Coefficients> hl2Coefficients;
-	private final MatrixMap2<String, Region, Coefficients> hl3Coefficients;
-	private final MatrixMap3<String, String, Region, Optional<NonprimaryHLCoefficients>> hlNonPrimaryCoefficients;
-	private final MatrixMap2<String, Region, ComponentSizeLimits> componentSizeLimitCoefficients;
-	private final Map<Integer, Coefficients> breakageMap;
-	private final MatrixMap2<String, String, Integer> volumeEquationGroups;
-	private final MatrixMap2<String, String, Integer> decayEquationGroups;
-	private final MatrixMap2<String, String, Integer> breakageEquationGroups;
-	private final Map<String, Coefficients> quadMeanDiameterBySpeciesCoefficients;
+	private final LazyValue<BecLookup> becLookup;
+	private final LazyValue<GenusDefinitionMap> genusDefinitionMap;
+	private final LazyValue<Map<String, Coefficients>> netDecayWasteCoeMap;
+	private final LazyValue<MatrixMap2<Integer, Integer, Optional<Coefficients>>> netDecayCoeMap;
+	private final LazyValue<MatrixMap2<String, Region, Float>> wasteModifierMap;
+	private final LazyValue<MatrixMap2<String, Region, Float>> decayModifierMap;
+	private final LazyValue<MatrixMap2<Integer, Integer, Optional<Coefficients>>> closeUtilizationCoeMap;
+	private final LazyValue<Map<Integer, Coefficients>> totalStandWholeStepVolumeCoeMap;
+	private final LazyValue<MatrixMap2<Integer, Integer, Optional<Coefficients>>> wholeStemUtilizationComponentMap;
+	private final LazyValue<MatrixMap3<Integer, String, String, Coefficients>> quadMeanDiameterUtilizationComponentMap;
+	private final LazyValue<MatrixMap3<Integer, String, String, Coefficients>> basalAreaDiameterUtilizationComponentMap;
+	private final LazyValue<Map<String, Coefficients>> smallComponentWholeStemVolumeCoefficients;
+	private final LazyValue<Map<String, Coefficients>> smallComponentLoreyHeightCoefficients;
+	private final LazyValue<Map<String, Coefficients>> smallComponentQuadMeanDiameterCoefficients;
+	private final LazyValue<Map<String, Coefficients>> smallComponentBasalAreaCoefficients;
+	private final LazyValue<Map<String, Coefficients>> smallComponentProbabilityCoefficients;
+	private final LazyValue<Map<Integer, SiteCurveAgeMaximum>> maximumAgeBySiteCurveNumber;
+	private final LazyValue<Map<Integer, Coefficients>> upperBounds;
+	private final LazyValue<MatrixMap2<String, String, Integer>> defaultEquationGroup;
+	private final LazyValue<MatrixMap2<Integer, Integer, Optional<Integer>>> equationModifierGroup;
+	private final LazyValue<MatrixMap2<String, Region, Coefficients>> hl1Coefficients;
+	private final LazyValue<MatrixMap2<String, Region, Coefficients>> hl2Coefficients;
+	private final LazyValue<MatrixMap2<String, Region, Coefficients>> hl3Coefficients;
+	private final LazyValue<MatrixMap3<String, String, Region, Optional<NonprimaryHLCoefficients>>> hlNonPrimaryCoefficients;
+	private final LazyValue<MatrixMap2<String, Region, ComponentSizeLimits>> componentSizeLimitCoefficients;
+	private final LazyValue<Map<Integer, Coefficients>> breakageMap;
+	private final LazyValue<MatrixMap2<String, String, Integer>> volumeEquationGroups;
+	private final LazyValue<MatrixMap2<String, String, Integer>> decayEquationGroups;
+	private final LazyValue<MatrixMap2<String, String, Integer>> breakageEquationGroups;
+	private final LazyValue<Map<String, Coefficients>> quadMeanDiameterBySpeciesCoefficients;
 
 	private final Map<String, Object> controlMap;
 
@@ -56,37 +57,37 @@ public class CachingResolvedControlMapImpl implements ResolvedControlMap {
 
 		this.controlMap = controlMap;
 
-		this.becLookup = this.get(ControlKey.BEC_DEF, BecLookup.class);
-
-		this.genusDefinitionMap = this.get(ControlKey.SP0_DEF, GenusDefinitionMap.class);
-		this.netDecayWasteCoeMap = this.get(ControlKey.VOLUME_NET_DECAY_WASTE, Map.class);
-		this.netDecayCoeMap = this.get(ControlKey.VOLUME_NET_DECAY, MatrixMap2.class);
-		this.wasteModifierMap = this.get(ControlKey.WASTE_MODIFIERS, MatrixMap2.class);
-		this.decayModifierMap = this.get(ModifierParser.CONTROL_KEY_MOD301_DECAY, MatrixMap2.class);
-		this.closeUtilizationCoeMap = this.get(ControlKey.CLOSE_UTIL_VOLUME, MatrixMap2.class);
-		this.totalStandWholeStepVolumeCoeMap = this.get(ControlKey.TOTAL_STAND_WHOLE_STEM_VOL, Map.class);
-		this.wholeStemUtilizationComponentMap = this.get(ControlKey.UTIL_COMP_WS_VOLUME, MatrixMap2.class);
-		this.quadMeanDiameterUtilizationComponentMap = this.get(ControlKey.UTIL_COMP_DQ, MatrixMap3.class);
-		this.basalAreaDiameterUtilizationComponentMap = this.get(ControlKey.UTIL_COMP_BA, MatrixMap3.class);
-		this.smallComponentWholeStemVolumeCoefficients = this.get(ControlKey.SMALL_COMP_WS_VOLUME, Map.class);
-		this.smallComponentLoreyHeightCoefficients = this.get(ControlKey.SMALL_COMP_HL, Map.class);
-		this.smallComponentQuadMeanDiameterCoefficients = this.get(ControlKey.SMALL_COMP_DQ, Map.class);
-		this.smallComponentBasalAreaCoefficients = this.get(ControlKey.SMALL_COMP_BA, Map.class);
-		this.smallComponentProbabilityCoefficients = this.get(ControlKey.SMALL_COMP_PROBABILITY, Map.class);
-		this.maximumAgeBySiteCurveNumber = this.get(ControlKey.SITE_CURVE_AGE_MAX, Map.class);
-		this.defaultEquationGroup = this.get(ControlKey.DEFAULT_EQ_NUM, MatrixMap2.class);
-		this.hl1Coefficients = this.get(ControlKey.HL_PRIMARY_SP_EQN_P1, MatrixMap2.class);
-		this.hl2Coefficients = this.get(ControlKey.HL_PRIMARY_SP_EQN_P2, MatrixMap2.class);
-		this.hl3Coefficients = this.get(ControlKey.HL_PRIMARY_SP_EQN_P3, MatrixMap2.class);
-		this.hlNonPrimaryCoefficients = this.get(ControlKey.HL_NONPRIMARY, MatrixMap3.class);
-		this.upperBounds = this.get(ControlKey.BA_DQ_UPPER_BOUNDS, Map.class);
-		this.equationModifierGroup = this.get(ControlKey.EQN_MODIFIERS, MatrixMap2.class);
-		this.componentSizeLimitCoefficients = this.get(ControlKey.SPECIES_COMPONENT_SIZE_LIMIT, MatrixMap2.class);
-		this.breakageMap = this.get(ControlKey.BREAKAGE, Map.class);
-		this.volumeEquationGroups = this.get(ControlKey.VOLUME_EQN_GROUPS, MatrixMap2.class);
-		this.decayEquationGroups = this.get(ControlKey.DECAY_GROUPS, MatrixMap2.class);
-		this.breakageEquationGroups = this.get(ControlKey.BREAKAGE_GROUPS, MatrixMap2.class);
-		this.quadMeanDiameterBySpeciesCoefficients = this.get(ControlKey.BY_SPECIES_DQ, Map.class);
+		this.becLookup = lazy(ControlKey.BEC_DEF, BecLookup.class);
+
+		this.genusDefinitionMap = lazy(ControlKey.SP0_DEF, GenusDefinitionMap.class);
+		this.netDecayWasteCoeMap = lazy(ControlKey.VOLUME_NET_DECAY_WASTE, Map.class);
+		this.netDecayCoeMap = lazy(ControlKey.VOLUME_NET_DECAY, MatrixMap2.class);
+		this.wasteModifierMap = lazy(ControlKey.WASTE_MODIFIERS, MatrixMap2.class);
+		this.decayModifierMap = lazy(ModifierParser.CONTROL_KEY_MOD301_DECAY, MatrixMap2.class);
+		this.closeUtilizationCoeMap = lazy(ControlKey.CLOSE_UTIL_VOLUME, MatrixMap2.class);
+		this.totalStandWholeStepVolumeCoeMap = lazy(ControlKey.TOTAL_STAND_WHOLE_STEM_VOL, Map.class);
+		this.wholeStemUtilizationComponentMap = lazy(ControlKey.UTIL_COMP_WS_VOLUME, MatrixMap2.class);
+		this.quadMeanDiameterUtilizationComponentMap = lazy(ControlKey.UTIL_COMP_DQ, MatrixMap3.class);
+		this.basalAreaDiameterUtilizationComponentMap = lazy(ControlKey.UTIL_COMP_BA, MatrixMap3.class);
+		this.smallComponentWholeStemVolumeCoefficients = lazy(ControlKey.SMALL_COMP_WS_VOLUME, Map.class);
+		this.smallComponentLoreyHeightCoefficients = lazy(ControlKey.SMALL_COMP_HL, Map.class);
+		this.smallComponentQuadMeanDiameterCoefficients = lazy(ControlKey.SMALL_COMP_DQ, Map.class);
+		this.smallComponentBasalAreaCoefficients = lazy(ControlKey.SMALL_COMP_BA, Map.class);
+		this.smallComponentProbabilityCoefficients = lazy(ControlKey.SMALL_COMP_PROBABILITY, Map.class);
+		this.maximumAgeBySiteCurveNumber = lazy(ControlKey.SITE_CURVE_AGE_MAX, Map.class);
+		this.defaultEquationGroup = lazy(ControlKey.DEFAULT_EQ_NUM, MatrixMap2.class);
+		this.hl1Coefficients = lazy(ControlKey.HL_PRIMARY_SP_EQN_P1, MatrixMap2.class);
+		this.hl2Coefficients = lazy(ControlKey.HL_PRIMARY_SP_EQN_P2, MatrixMap2.class);
+		this.hl3Coefficients = lazy(ControlKey.HL_PRIMARY_SP_EQN_P3, MatrixMap2.class);
+		this.hlNonPrimaryCoefficients = lazy(ControlKey.HL_NONPRIMARY, MatrixMap3.class);
+		this.upperBounds = lazy(ControlKey.BA_DQ_UPPER_BOUNDS, Map.class);
+		this.equationModifierGroup = lazy(ControlKey.EQN_MODIFIERS, MatrixMap2.class);
+		this.componentSizeLimitCoefficients = lazy(ControlKey.SPECIES_COMPONENT_SIZE_LIMIT, MatrixMap2.class);
+		this.breakageMap = lazy(ControlKey.BREAKAGE, Map.class);
+		this.volumeEquationGroups = lazy(ControlKey.VOLUME_EQN_GROUPS, MatrixMap2.class);
+		this.decayEquationGroups = lazy(ControlKey.DECAY_GROUPS, MatrixMap2.class);
+		this.breakageEquationGroups = lazy(ControlKey.BREAKAGE_GROUPS, MatrixMap2.class);
+		this.quadMeanDiameterBySpeciesCoefficients = lazy(ControlKey.BY_SPECIES_DQ, Map.class);
 	}
 
 	/**
@@ -101,153 +102,161 @@ public class CachingResolvedControlMapImpl implements ResolvedControlMap {
 		return Utils.expectParsedControl(controlMap, key, clazz);
 	}
 
+	/**
+	 * @return the entry for the key, resolved with {@link #get} when it is first used rather than when this map is
+	 *         created, so that resources deferred by the control parser are only parsed if a run uses them
+	 */
+	protected <U> LazyValue<U> lazy(ControlKey key, Class<? super U> clazz) {
+		return new LazyValue<>(() -> this.<U>get(key, clazz));
+	}
+
 	@Override
 	public BecLookup getBecLookup() {
-		return becLookup;
+		return becLookup.get();
 	}
 
 	@Override
 	public GenusDefinitionMap getGenusDefinitionMap() {
-		return genusDefinitionMap;
+		return genusDefinitionMap.get();
 	}
 
 	@Override
 	public Map<String, Coefficients> getNetDecayWasteCoeMap() {
-		return netDecayWasteCoeMap;
+		return netDecayWasteCoeMap.get();
 	}
 
 	@Override
 	public MatrixMap2<Integer, Integer, Optional<Coefficients>> getNetDecayCoeMap() {
-		return netDecayCoeMap;
+		return netDecayCoeMap.get();
 	}
 
 	@Override
 	public MatrixMap2<String, Region, Float> getWasteModifierMap() {
-		return wasteModifierMap;
+		return wasteModifierMap.get();
 	}
 
 	@Override
 	public MatrixMap2<String, Region, Float> getDecayModifierMap() {
-		return decayModifierMap;
+		return decayModifierMap.get();
 	}
 
 	@Override
 	public MatrixMap2<Integer, Integer, Optional<Coefficients>> getCloseUtilizationCoeMap() {
-		return closeUtilizationCoeMap;
+		return closeUtilizationCoeMap.get();
 	}
 
 	@Override
 	public Map<Integer, Coefficients> getTotalStandWholeStepVolumeCoeMap() {
-		return totalStandWholeStepVolumeCoeMap;
+		return totalStandWholeStepVolumeCoeMap.get();
 	}
 
 	@Override
 	public MatrixMap2<Integer, Integer, Optional<Coefficients>> getWholeStemUtilizationComponentMap() {
-		return wholeStemUtilizationComponentMap;
+		return wholeStemUtilizationComponentMap.get();
 	}
 
 	@Override
 	public MatrixMap3<Integer, String, String, Coefficients> getQuadMeanDiameterUtilizationComponentMap() {
-		return quadMeanDiameterUtilizationComponentMap;
+		return quadMeanDiameterUtilizationComponentMap.get();
 	}
 
 	@Override
 	public MatrixMap3<Integer, String, String, Coefficients> getBasalAreaDiameterUtilizationComponentMap() {
-		return basalAreaDiameterUtilizationComponentMap;
+		return basalAreaDiameterUtilizationComponentMap.get();
 	}
 
 	@Override
 	public Map<String, Coefficients> getSmallComponentWholeStemVolumeCoefficients() {
-		return smallComponentWholeStemVolumeCoefficients;
+		return smallComponentWholeStemVolumeCoefficients.get();
 	}
 
 	@Override
 	public Map<String, Coefficients> getSmallComponentLoreyHeightCoefficients() {
-		return smallComponentLoreyHeightCoefficients;
+		return smallComponentLoreyHeightCoefficients.get();
 	}
 
 	@Override
 	public Map<String, Coefficients> getSmallComponentQuadMeanDiameterCoefficients() {
-		return smallComponentQuadMeanDiameterCoefficients;
+		return smallComponentQuadMeanDiameterCoefficients.get();
 	}
 
 	@Override
 	public Map<String, Coefficients> getSmallComponentBasalAreaCoefficients() {
-		return smallComponentBasalAreaCoefficients;
+		return smallComponentBasalAreaCoefficients.get();
 	}
 
 	@Override
 	public Map<String, Coefficients> getSmallComponentProbabilityCoefficients() {
-		return smallComponentProbabilityCoefficients;
+		return smallComponentProbabilityCoefficients.get();
 	}
 
 	@Override
 	public Map<Integer, SiteCurveAgeMaximum> getMaximumAgeBySiteCurveNumber() {
-		return maximumAgeBySiteCurveNumber;
+		return maximumAgeBySiteCurveNumber.get();
 	}
 
 	@Override
 	public Map<Integer, Coefficients> getUpperBounds() {
-		return upperBounds;
+		return upperBounds.get();
 	}
 
 	@Override
 	public MatrixMap2<String, String, Integer> getDefaultEquationGroup() {
-		return defaultEquationGroup;
+		return defaultEquationGroup.get();
 	}
 
 	@Override
 	public MatrixMap2<Integer, Integer, Optional<Integer>> getEquationModifierGroup() {
-		return equationModifierGroup;
+		return equationModifierGroup.get();
 	}
 
 	@Override
 	public MatrixMap2<String, Region, Coefficients> getHl1Coefficients() {
-		return hl1Coefficients;
+		return hl1Coefficients.get();
 	}
 
 	@Override
 	public MatrixMap2<String, Region, Coefficients> getHl2Coefficients() {
-		return hl2Coefficients;
+		return hl2Coefficients.get();
 	}
 
 	@Override
 	public MatrixMap2<String, Region, Coefficients> getHl3Coefficients() {
-		return hl3Coefficients;
+		return hl3Coefficients.get();
 	}
 
 	@Override
 	public MatrixMap3<String, String, Region, Optional<NonprimaryHLCoefficients>> getHlNonPrimaryCoefficients() {
-		return hlNonPrimaryCoefficients;
+		return hlNonPrimaryCoefficients.get();
 	}
 
 	@Override
 	public MatrixMap2<String, Region, ComponentSizeLimits> getComponentSizeLimits() {
-		return componentSizeLimitCoefficients;
+		return componentSizeLimitCoefficients.get();
 	}
 
 	@Override
 	public Map<Integer, Coefficients> getNetBreakageMap() {
-		return breakageMap;
+		return breakageMap.get();
 	}
 
 	@Override
 	public MatrixMap2<String, String, Integer> getVolumeEquationGroups() {
-		return volumeEquationGroups;
+		return volumeEquationGroups.get();
 	}
 
 	@Override
 	public MatrixMap2<String, String, Integer> getDecayEquationGroups() {
-		return decayEquationGroups;
+		return decayEquationGroups.get();
 	}
 
 	@Override
 	public MatrixMap2<String, String, Integer> getBreakageEquationGroups() {
-		return breakageEquationGroups;
+		return breakageEquationGroups.get();
 	}
 
 	@Override
 	public Map<String, Coefficients> getQuadMeanDiameterBySpeciesCoefficients() {
-		return quadMeanDiameterBySpeciesCoefficients;
+		return quadMeanDiameterBySpeciesCoefficients.get();
 	}
 }
@@ -0,0 +1,102 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+/**
+ * The compression of a file, chosen by the extension of its name: <code>.gz</code> for gzip and <code>.zst</code> or
+ * <code>.zstd</code> for Zstandard. Files with any other name are not compressed.
+ * <p>
+ * Compressed input is read ahead of its decompression in large chunks on a thread of its own. Compressed output is
+ * compressed on the threads of a pool, if one is given.
+ */
+public enum FileCompression {
+	NONE, GZIP, ZSTD;
+
+	/** The size of the chunks in which compressed input is read ahead */
+	public static final int READ_AHEAD_CHUNK_SIZE = 1024 * 1024;
+
+	/** The number of chunks of compressed input that may be read ahead */
+	public static final int READ_AHEAD_CHUNKS = 4;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * @param filename the name of a file
+	 * @return the compression of the file
+	 */
+	public static FileCompression of(String filename) {
+		String name = filename.toLowerCase(Locale.ROOT);
+		if (name.endsWith(".gz")) {
+			return GZIP;
+		}
+		if (name.endsWith(".zst") || name.endsWith(".zstd")) {
+			return ZSTD;
+		}
+		return NONE;
+	}
+
+	/**
+	 * @param in   the content of a file compressed this way, which is closed with the returned stream
+	 * @param name the name of the file
+	 * @return a stream of the decompressed content
+	 * @throws IOException if the content could not be read as compressed this way
+	 */
+	public InputStream decompress(InputStream in, String name) throws IOException {
+		if (this == NONE) {
+			return in;
+		}
+		var readAhead = new ReadAheadInputStream(in, name, READ_AHEAD_CHUNK_SIZE, READ_AHEAD_CHUNKS);
+		try {
+			InputStream decompressed = switch (this) {
+			case GZIP -> new GZIPInputStream(readAhead, BUFFER_SIZE);
+			default -> new ZstdInputStream(readAhead);
+			};
+			return new BufferedInputStream(decompressed, BUFFER_SIZE);
+		} catch (IOException e) {
+			readAhead.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @param out  where to write the content compressed this way, which is closed with the returned stream
+	 * @param pool the pool on which to compress, or empty to compress on the thread that writes
+	 * @return a stream to write the content to
+	 * @throws IOException if the compressed stream could not be started
+	 */
+	public OutputStream compress(OutputStream out, Optional<ForkJoinPool> pool) throws IOException {
+		return switch (this) {
+		case NONE -> out;
+		case GZIP -> {
+			var buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+			if (pool.isPresent()) {
+				yield new ParallelGzipOutputStream(
+						buffered, pool.get(), pool.get().getParallelism(), Deflater.DEFAULT_COMPRESSION
+				);
+			}
+			yield new BufferedOutputStream(new GZIPOutputStream(buffered, BUFFER_SIZE), BUFFER_SIZE);
+		}
+		case ZSTD -> {
+			var zstd = new ZstdOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+			if (pool.isPresent()) {
+				// Zstandard compresses on threads of its own, as many as the pool has
+				zstd.setWorkers(pool.get().getParallelism());
+			}
+			yield new BufferedOutputStream(zstd, BUFFER_SIZE);
+		}
+		};
+	}
+}
@@ -6,11 +6,19 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Resolves files relative to a directory of the file system. Files whose names end in <code>.gz</code>,
+ * <code>.zst</code> or <code>.zstd</code> are decompressed as they are read and compressed as they are written, as
+ * described by {@link FileCompression}.
+ */
 public class FileSystemFileResolver implements FileResolver {
 
 	private Optional<Path> currentDirectory;
 
+	private Optional<ForkJoinPool> compressionPool = Optional.empty();
+
 	public FileSystemFileResolver(Path currentDirectory) {
 		this.currentDirectory = Optional.of(currentDirectory);
 	}
@@ -24,14 +32,23 @@ public class FileSystemFileResolver implements FileResolver {
 		return currentDirectory.map(x -> x.resolve(filename)).orElseGet(() -> Path.of(filename).toAbsolutePath());
 	}
 
+	/**
+	 * Compress output files on the given pool, rather than on the thread that writes them.
+	 *
+	 * @param pool the pool to use, or null to compress on the thread that writes
+	 */
+	public void setCompressionPool(ForkJoinPool pool) {
+		this.compressionPool = Optional.ofNullable(pool);
+	}
+
 	@Override
 	public InputStream resolveForInput(String filename) throws IOException {
-		return Files.newInputStream(toPath(filename));
+		return FileCompression.of(filename).decompress(Files.newInputStream(toPath(filename)), filename);
 	}
 
 	@Override
 	public OutputStream resolveForOutput(String filename) throws IOException {
-		return Files.newOutputStream(toPath(filename));
+		return FileCompression.of(filename).compress(Files.newOutputStream(toPath(filename)), compressionPool);
 	}
 
 	@Override
@@ -41,6 +58,8 @@ public class FileSystemFileResolver implements FileResolver {
 
 	@Override
 	public FileSystemFileResolver relative(String path) throws IOException {
-		return new FileSystemFileResolver(toPath(path));
+		var result = new FileSystemFileResolver(toPath(path));
+		result.compressionPool = compressionPool;
+		return result;
 	}
 }
\ No newline at end of file
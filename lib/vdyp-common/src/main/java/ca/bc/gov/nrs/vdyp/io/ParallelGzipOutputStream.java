@@ -0,0 +1,165 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a gzip stream whose content is deflated in chunks on an executor. As with {@link ZipStreamWriter}, each chunk
+ * is primed with the end of the one before it and ends on a byte boundary, so the chunks join into a single deflate
+ * stream that any gzip reader can inflate, and compress almost as well as deflating the whole content at once.
+ * <p>
+ * At most <code>parallelism</code> chunks are held in memory, being deflated or waiting to be written.
+ */
+class ParallelGzipOutputStream extends OutputStream {
+
+	private static final int GZIP_MAGIC = 0x8b1f;
+	private static final int DICTIONARY_SIZE = 32 * 1024;
+
+	private final OutputStream out;
+	private final ExecutorService executor;
+	private final int parallelism;
+	private final int level;
+
+	private final Queue<Future<byte[]>> pending = new ArrayDeque<>();
+	private final CRC32 crc = new CRC32();
+	private long size = 0;
+
+	private byte[] chunk = new byte[ZipStreamWriter.CHUNK_SIZE];
+	private int count = 0;
+	private byte[] dictionary = null;
+	private boolean closed = false;
+
+	/**
+	 * @param out         where to write the gzip stream, which is closed with this stream
+	 * @param executor    where to deflate the chunks
+	 * @param parallelism maximum number of chunks to deflate at once
+	 * @param level       deflate compression level, see {@link java.util.zip.Deflater}
+	 */
+	ParallelGzipOutputStream(OutputStream out, ExecutorService executor, int parallelism, int level)
+			throws IOException {
+		this.out = out;
+		this.executor = executor;
+		this.parallelism = Math.max(1, parallelism);
+		this.level = level;
+
+		// Header: magic, CM = deflate, no flags, no modification time, no extra flags, OS unknown
+		writeShort(GZIP_MAGIC);
+		out.write(new byte[] { 8, 0, 0, 0, 0, 0, 0, (byte) 255 });
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpen();
+		if (count == chunk.length) {
+			submit(false);
+		}
+		chunk[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		ensureOpen();
+		while (len > 0) {
+			if (count == chunk.length) {
+				submit(false);
+			}
+			int n = Math.min(len, chunk.length - count);
+			System.arraycopy(b, off, chunk, count, n);
+			count += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * Deflate what has been written so far and write it to the underlying stream. Flushing often makes the compression
+	 * worse.
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		if (count > 0) {
+			submit(false);
+		}
+		drain(0);
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try (out) {
+			submit(true);
+			drain(0);
+
+			// Trailer: CRC-32 and size modulo 2^32 of the uncompressed content
+			writeInt((int) crc.getValue());
+			writeInt((int) size);
+		} finally {
+			pending.forEach(f -> f.cancel(true));
+		}
+	}
+
+	private void submit(boolean last) throws IOException {
+		final byte[] content = count == chunk.length ? chunk : Arrays.copyOf(chunk, count);
+		final byte[] contentDictionary = dictionary;
+		crc.update(content);
+		size += content.length;
+
+		pending.add(executor.submit(() -> ZipStreamWriter.deflateChunk(content, contentDictionary, level, last)));
+
+		if (content.length >= DICTIONARY_SIZE) {
+			dictionary = Arrays.copyOfRange(content, content.length - DICTIONARY_SIZE, content.length);
+		} else if (content.length > 0) {
+			dictionary = content;
+		}
+
+		chunk = new byte[ZipStreamWriter.CHUNK_SIZE];
+		count = 0;
+
+		// Bound the amount of data held in memory
+		drain(parallelism - 1);
+	}
+
+	private void drain(int maxPending) throws IOException {
+		try {
+			while (pending.size() > maxPending) {
+				byte[] deflated = pending.remove().get();
+				out.write(deflated);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while compressing", e);
+		} catch (ExecutionException e) {
+			throw new IOException("Error while compressing", e.getCause());
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+	private void writeShort(int v) throws IOException {
+		out.write(v & 0xff);
+		out.write( (v >>> 8) & 0xff);
+	}
+
+	private void writeInt(int v) throws IOException {
+		writeShort(v & 0xffff);
+		writeShort( (v >>> 16) & 0xffff);
+	}
+}
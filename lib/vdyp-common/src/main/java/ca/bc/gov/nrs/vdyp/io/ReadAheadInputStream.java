@@ -0,0 +1,139 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reads an underlying stream ahead of its consumer, in chunks, on a thread of its own. Waiting for the underlying
+ * stream, typically a file on network storage, then overlaps with the work done on what has already been read, such as
+ * decompressing and parsing it.
+ * <p>
+ * At most <code>maxChunks</code> chunks are held in memory. The underlying stream is closed with this stream, or once
+ * it has been read to its end.
+ */
+class ReadAheadInputStream extends InputStream {
+
+	private static final byte[] END = new byte[0];
+
+	private final BlockingQueue<Object> chunks;
+	private final Thread reader;
+
+	private byte[] current = new byte[0];
+	private int position = 0;
+	private volatile boolean closed = false;
+
+	/**
+	 * @param in        the underlying stream
+	 * @param name      names the reading thread
+	 * @param chunkSize the number of bytes read at once
+	 * @param maxChunks the number of chunks that may be read ahead
+	 */
+	ReadAheadInputStream(InputStream in, String name, int chunkSize, int maxChunks) {
+		this.chunks = new ArrayBlockingQueue<>(maxChunks);
+		this.reader = new Thread(() -> readAll(in, chunkSize), "read-ahead " + name);
+		this.reader.setDaemon(true);
+		this.reader.start();
+	}
+
+	private void readAll(InputStream in, int chunkSize) {
+		try (in) {
+			byte[] chunk;
+			do {
+				chunk = in.readNBytes(chunkSize);
+				if (chunk.length > 0) {
+					chunks.put(chunk);
+				}
+			} while (chunk.length == chunkSize && !closed);
+			chunks.put(END);
+		} catch (IOException e) {
+			putQuietly(e);
+		} catch (InterruptedException e) {
+			// Closed by the consumer
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void putQuietly(IOException e) {
+		try {
+			chunks.put(e);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Make the next chunk current if the current one has been consumed.
+	 *
+	 * @return false at the end of the stream
+	 */
+	private boolean fill() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+		while (position == current.length) {
+			if (current == END) {
+				return false;
+			}
+			Object next;
+			try {
+				next = chunks.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while reading ahead", e);
+			}
+			if (next instanceof IOException e) {
+				current = END;
+				throw new IOException(e.getMessage(), e);
+			}
+			current = (byte[]) next;
+			position = 0;
+		}
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return current[position++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int n = Math.min(len, current.length - position);
+		System.arraycopy(current, position, b, off, n);
+		position += n;
+		return n;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return closed ? 0 : current.length - position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		reader.interrupt();
+		try {
+			reader.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while closing", e);
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A FileResolver that writes each output file as an entry of a ZIP archive streamed directly to a target stream, such
+ * as an HTTP response or a channel.
+ * <p>
+ * Unlike {@link ZipOutputFileResolver}, which writes every output to a temporary file and then copies them all into the
+ * archive, the content of each output is held in memory until it exceeds a spill threshold, and only the portion of
+ * larger outputs beyond that is written to a temporary file. Each entry is deflated into the archive as soon as its
+ * output stream is closed. Entries larger than the parallel deflate threshold may be deflated on several threads.
+ * <p>
+ * The archive is completed when this resolver is closed. The target stream is flushed but not closed.
+ */
+public class StreamingZipOutputFileResolver implements FileResolver, Closeable {
+
+	public static final int DEFAULT_SPILL_THRESHOLD = 8 * 1024 * 1024;
+	public static final long DEFAULT_PARALLEL_DEFLATE_THRESHOLD = 4L * ZipStreamWriter.CHUNK_SIZE;
+
+	private final ZipStreamWriter writer;
+	private final int spillThreshold;
+	private final Optional<ExecutorService> deflateExecutor;
+	private final long parallelDeflateThreshold;
+
+	private final Set<EntryOutputStream> openEntries = new LinkedHashSet<>();
+
+	/**
+	 * Create a resolver with the default spill threshold and compression level, deflating on the calling thread.
+	 *
+	 * @param target where to write the archive
+	 */
+	public StreamingZipOutputFileResolver(OutputStream target) {
+		this(target, DEFAULT_SPILL_THRESHOLD, Deflater.DEFAULT_COMPRESSION, null, DEFAULT_PARALLEL_DEFLATE_THRESHOLD);
+	}
+
+	/**
+	 * @param target                   where to write the archive
+	 * @param spillThreshold           number of bytes of each entry to hold in memory before spilling to a temporary
+	 *                                 file
+	 * @param compressionLevel         deflate compression level, see {@link Deflater}
+	 * @param deflateExecutor          executor to deflate large entries on in parallel, or null to always deflate on
+	 *                                 the thread that closes the entry
+	 * @param parallelDeflateThreshold entries at least this large are deflated in parallel if an executor is given
+	 */
+	public StreamingZipOutputFileResolver(
+			OutputStream target, int spillThreshold, int compressionLevel, ExecutorService deflateExecutor,
+			long parallelDeflateThreshold
+	) {
+		if (spillThreshold < 0) {
+			throw new IllegalArgumentException("Spill threshold must not be negative");
+		}
+		this.writer = new ZipStreamWriter(target, compressionLevel, Runtime.getRuntime().availableProcessors());
+		this.spillThreshold = spillThreshold;
+		this.deflateExecutor = Optional.ofNullable(deflateExecutor);
+		this.parallelDeflateThreshold = parallelDeflateThreshold;
+	}
+
+	/**
+	 * @see #StreamingZipOutputFileResolver(OutputStream, int, int, ExecutorService, long)
+	 */
+	public StreamingZipOutputFileResolver(
+			WritableByteChannel target, int spillThreshold, int compressionLevel, ExecutorService deflateExecutor,
+			long parallelDeflateThreshold
+	) {
+		this(
+				Channels.newOutputStream(target), spillThreshold, compressionLevel, deflateExecutor,
+				parallelDeflateThreshold
+		);
+	}
+
+	@Override
+	public Path toPath(String filename) {
+		return Path.of(filename).toAbsolutePath();
+	}
+
+	@Override
+	public InputStream resolveForInput(String filename) throws IOException {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public OutputStream resolveForOutput(String filename) throws IOException {
+		var entry = new EntryOutputStream(filename);
+		synchronized (openEntries) {
+			openEntries.add(entry);
+		}
+		return entry;
+	}
+
+	@Override
+	public String toString(String filename) throws IOException {
+		return String.format("zip:%s", toPath(filename));
+	}
+
+	@Override
+	public StreamingZipOutputFileResolver relative(String path) throws IOException {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Write any entries that are still open and complete the archive.
+	 */
+	@Override
+	public void close() throws IOException {
+		ArrayList<EntryOutputStream> remaining;
+		synchronized (openEntries) {
+			remaining = new ArrayList<>(openEntries);
+		}
+		for (var entry : remaining) {
+			entry.close();
+		}
+		writer.finish();
+	}
+
+	/**
+	 * A suffix for the temporary file of an entry that identifies it but is a valid file name, whatever the entry is
+	 * named
+	 */
+	static String spillSuffix(String entryName) {
+		var fileName = entryName.substring(Math.max(entryName.lastIndexOf('/'), entryName.lastIndexOf('\\')) + 1);
+		var sanitized = fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+		return "-" + sanitized.substring(0, Math.min(sanitized.length(), 64));
+	}
+
+	/**
+	 * Buffers the content of an entry, the first spill threshold bytes in memory and the rest in a temporary file, and
+	 * writes it to the archive when closed.
+	 */
+	private class EntryOutputStream extends OutputStream {
+
+		private final String name;
+		private final CRC32 crc = new CRC32();
+		private long size = 0;
+
+		private byte[] buffer = new byte[Math.min(spillThreshold, 8 * 1024)];
+		private int buffered = 0;
+		private Optional<Path> spillFile = Optional.empty();
+		private OutputStream spillStream = null;
+		private boolean closed = false;
+
+		EntryOutputStream(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (closed) {
+				throw new IOException("Output for " + name + " has been closed");
+			}
+			crc.update(b, off, len);
+			size += len;
+
+			// Fill the buffer up to the spill threshold and spill only what does not fit
+			int nBuffered = Math.min(len, spillThreshold - buffered);
+			if (nBuffered > 0) {
+				if (buffered + nBuffered > buffer.length) {
+					buffer = Arrays.copyOf(
+							buffer, Math.min(spillThreshold, Math.max(buffer.length * 2, buffered + nBuffered))
+					);
+				}
+				System.arraycopy(b, off, buffer, buffered, nBuffered);
+				buffered += nBuffered;
+			}
+			if (nBuffered < len) {
+				if (spillStream == null) {
+					spill();
+				}
+				spillStream.write(b, off + nBuffered, len - nBuffered);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (spillStream != null) {
+				spillStream.flush();
+			}
+		}
+
+		private void spill() throws IOException {
+			var file = Files.createTempFile("vdyp", spillSuffix(name));
+			spillFile = Optional.of(file);
+			spillStream = new BufferedOutputStream(Files.newOutputStream(file));
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			synchronized (openEntries) {
+				openEntries.remove(this);
+			}
+			try {
+				if (spillStream != null) {
+					spillStream.close();
+				}
+				var executor = size >= parallelDeflateThreshold ? deflateExecutor : Optional.<ExecutorService>empty();
+				var held = new ByteArrayInputStream(buffer, 0, buffered);
+				try (
+						InputStream content = spillFile.isPresent()
+								? new SequenceInputStream(held, Files.newInputStream(spillFile.get())) : held
+				) {
+					writer.writeEntry(name, crc.getValue(), size, content, executor);
+				}
+			} finally {
+				buffer = null;
+				if (spillFile.isPresent()) {
+					Files.deleteIfExists(spillFile.get());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,380 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+/**
+ * Writes a ZIP archive directly to an output stream, one complete entry at a time.
+ * <p>
+ * Unlike {@link java.util.zip.ZipOutputStream} the deflated data for an entry may be produced by several threads. The
+ * entry is split into chunks which are deflated independently, each primed with the last 32 KB of the previous chunk as
+ * a dictionary and ended with a sync flush, so that the concatenated chunks form a single valid deflate stream (the
+ * approach used by pigz). Entry sizes and the CRC must be known before the entry is written. ZIP64 extensions are used
+ * when an entry or the archive exceeds the limits of the original format. Because the size of an entry is known before
+ * it is written, an entry of 4 GiB or more is given a ZIP64 extra field in its local header as well as the central
+ * directory, and 8 byte sizes in its data descriptor. Readers of the local headers alone, such as
+ * {@link java.util.zip.ZipInputStream}, go by the sizes of the data to decide how to read the data descriptor, so a
+ * smaller entry must deflate to less than 4 GiB; one that deflate expands past that fails.
+ */
+class ZipStreamWriter {
+
+	static final int CHUNK_SIZE = 1024 * 1024;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int DICTIONARY_SIZE = 32 * 1024;
+
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+
+	private static final int VERSION = 20;
+	private static final int VERSION_ZIP64 = 45;
+	private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+	private static final int FLAG_UTF8 = 0x0800;
+	private static final int METHOD_DEFLATED = 8;
+	private static final int ZIP64_EXTRA_ID = 0x0001;
+
+	/**
+	 * An entry of the central directory. <code>zip64Sizes</code> is whether the local header of the entry has a ZIP64
+	 * extra field with its sizes, so that the central directory says the same.
+	 */
+	private record CentralEntry(
+			byte[] name, int dosTime, long crc, long compressedSize, long size, long offset, boolean zip64Sizes
+	) {
+		boolean isZip64() {
+			return zip64Sizes || offset >= ZIP64_MAGIC;
+		}
+	}
+
+	private final OutputStream out;
+	private final int level;
+	private final int parallelism;
+
+	private long written = 0;
+	private final List<CentralEntry> entries = new ArrayList<>();
+	private final Set<String> names = new HashSet<>();
+	private boolean finished = false;
+
+	/**
+	 * @param target      where to write the archive
+	 * @param level       deflate compression level, see {@link Deflater}
+	 * @param parallelism maximum number of chunks of an entry to deflate at once when deflating in parallel
+	 */
+	ZipStreamWriter(OutputStream target, int level, int parallelism) {
+		if (level != Deflater.DEFAULT_COMPRESSION
+				&& (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+			throw new IllegalArgumentException("Invalid compression level " + level);
+		}
+		this.out = new BufferedOutputStream(target, BUFFER_SIZE);
+		this.level = level;
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * Write a complete entry to the archive.
+	 *
+	 * @param name     name of the entry
+	 * @param crc      CRC-32 of the uncompressed content
+	 * @param size     length of the uncompressed content
+	 * @param content  the uncompressed content
+	 * @param executor if present, the content is deflated in chunks on this executor
+	 * @throws IOException
+	 */
+	synchronized void
+			writeEntry(String name, long crc, long size, InputStream content, Optional<ExecutorService> executor)
+					throws IOException {
+		if (finished) {
+			throw new IOException("ZIP archive has already been finished");
+		}
+		if (!names.add(name)) {
+			throw new ZipException("duplicate entry: " + name);
+		}
+
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		int dosTime = dosTime(LocalDateTime.now());
+		long offset = written;
+		boolean zip64 = size >= ZIP64_MAGIC;
+
+		writeInt(LOCAL_HEADER_SIGNATURE);
+		writeShort(zip64 ? VERSION_ZIP64 : VERSION);
+		writeShort(FLAG_DATA_DESCRIPTOR | FLAG_UTF8);
+		writeShort(METHOD_DEFLATED);
+		writeInt(dosTime);
+		// CRC, compressed size and size follow the data in the data descriptor
+		writeInt(0);
+		writeInt(zip64 ? (int) ZIP64_MAGIC : 0);
+		writeInt(zip64 ? (int) ZIP64_MAGIC : 0);
+		writeShort(nameBytes.length);
+		writeShort(zip64 ? 20 : 0);
+		writeBytes(nameBytes, 0, nameBytes.length);
+		if (zip64) {
+			writeShort(ZIP64_EXTRA_ID);
+			writeShort(16);
+			writeLong(0); // size and compressed size, also in the data descriptor
+			writeLong(0);
+		}
+
+		long dataStart = written;
+		if (executor.isPresent()) {
+			deflateParallel(content, size, executor.get());
+		} else {
+			deflateSerial(content);
+		}
+		long compressedSize = written - dataStart;
+		if (!zip64 && compressedSize >= ZIP64_MAGIC) {
+			// Only if deflate expands content just under the limit past it
+			throw new ZipException("Entry " + name + " deflated to 4 GiB or more from less than 4 GiB");
+		}
+
+		writeInt(DATA_DESCRIPTOR_SIGNATURE);
+		writeInt((int) crc);
+		if (zip64) {
+			writeLong(compressedSize);
+			writeLong(size);
+		} else {
+			writeInt((int) compressedSize);
+			writeInt((int) size);
+		}
+
+		entries.add(new CentralEntry(nameBytes, dosTime, crc, compressedSize, size, offset, zip64));
+	}
+
+	/**
+	 * Write the central directory and flush the target. The target itself is not closed.
+	 *
+	 * @throws IOException
+	 */
+	synchronized void finish() throws IOException {
+		if (finished) {
+			return;
+		}
+		finished = true;
+
+		long centralStart = written;
+		for (var entry : entries) {
+			writeCentralEntry(entry);
+		}
+		long centralSize = written - centralStart;
+
+		int count = entries.size();
+		if (count >= ZIP64_MAGIC_COUNT || centralStart >= ZIP64_MAGIC || centralSize >= ZIP64_MAGIC) {
+			long zip64EndStart = written;
+
+			writeInt(ZIP64_END_SIGNATURE);
+			writeLong(44); // size of the remainder of this record
+			writeShort(VERSION_ZIP64);
+			writeShort(VERSION_ZIP64);
+			writeInt(0);
+			writeInt(0);
+			writeLong(count);
+			writeLong(count);
+			writeLong(centralSize);
+			writeLong(centralStart);
+
+			writeInt(ZIP64_LOCATOR_SIGNATURE);
+			writeInt(0);
+			writeLong(zip64EndStart);
+			writeInt(1);
+		}
+
+		writeInt(END_SIGNATURE);
+		writeShort(0);
+		writeShort(0);
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeInt((int) Math.min(centralSize, ZIP64_MAGIC));
+		writeInt((int) Math.min(centralStart, ZIP64_MAGIC));
+		writeShort(0);
+
+		out.flush();
+	}
+
+	private void writeCentralEntry(CentralEntry entry) throws IOException {
+		var extra = new ByteArrayOutputStream();
+		if (entry.isZip64()) {
+			var fields = new ByteArrayOutputStream();
+			if (entry.zip64Sizes()) {
+				// As in the local header, both sizes are in the extra field
+				writeLong(fields, entry.size());
+				writeLong(fields, entry.compressedSize());
+			}
+			if (entry.offset() >= ZIP64_MAGIC) {
+				writeLong(fields, entry.offset());
+			}
+			writeShort(extra, ZIP64_EXTRA_ID);
+			writeShort(extra, fields.size());
+			fields.writeTo(extra);
+		}
+		int version = entry.isZip64() ? VERSION_ZIP64 : VERSION;
+
+		writeInt(CENTRAL_HEADER_SIGNATURE);
+		writeShort(version);
+		writeShort(version);
+		writeShort(FLAG_DATA_DESCRIPTOR | FLAG_UTF8);
+		writeShort(METHOD_DEFLATED);
+		writeInt(entry.dosTime());
+		writeInt((int) entry.crc());
+		writeInt(entry.zip64Sizes() ? (int) ZIP64_MAGIC : (int) entry.compressedSize());
+		writeInt(entry.zip64Sizes() ? (int) ZIP64_MAGIC : (int) entry.size());
+		writeShort(entry.name().length);
+		writeShort(extra.size());
+		writeShort(0); // comment length
+		writeShort(0); // disk number
+		writeShort(0); // internal attributes
+		writeInt(0); // external attributes
+		writeInt((int) Math.min(entry.offset(), ZIP64_MAGIC));
+		writeBytes(entry.name(), 0, entry.name().length);
+		writeBytes(extra.toByteArray(), 0, extra.size());
+	}
+
+	private void deflateSerial(InputStream content) throws IOException {
+		var deflater = new Deflater(level, true);
+		try {
+			byte[] input = new byte[BUFFER_SIZE];
+			byte[] output = new byte[BUFFER_SIZE];
+			int nRead;
+			while ( (nRead = content.read(input)) >= 0) {
+				deflater.setInput(input, 0, nRead);
+				while (!deflater.needsInput()) {
+					writeBytes(output, 0, deflater.deflate(output));
+				}
+			}
+			deflater.finish();
+			while (!deflater.finished()) {
+				writeBytes(output, 0, deflater.deflate(output));
+			}
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private void deflateParallel(InputStream content, long size, ExecutorService executor) throws IOException {
+		Queue<Future<byte[]>> pending = new ArrayDeque<>();
+		byte[] dictionary = null;
+		long remaining = size;
+		boolean last = false;
+		try {
+			while (!last) {
+				byte[] chunk = content.readNBytes((int) Math.min(CHUNK_SIZE, remaining));
+				remaining -= chunk.length;
+				last = remaining <= 0 || chunk.length == 0;
+
+				final byte[] chunkDictionary = dictionary;
+				final boolean lastChunk = last;
+				pending.add(executor.submit(() -> deflateChunk(chunk, chunkDictionary, level, lastChunk)));
+
+				dictionary = chunk.length >= DICTIONARY_SIZE
+						? Arrays.copyOfRange(chunk, chunk.length - DICTIONARY_SIZE, chunk.length) : chunk;
+
+				// Bound the amount of data held in memory
+				while (pending.size() >= parallelism || (last && !pending.isEmpty())) {
+					byte[] deflated = pending.remove().get();
+					writeBytes(deflated, 0, deflated.length);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while deflating entry", e);
+		} catch (ExecutionException e) {
+			throw new IOException("Error while deflating entry", e.getCause());
+		} finally {
+			pending.forEach(f -> f.cancel(true));
+		}
+	}
+
+	static byte[] deflateChunk(byte[] chunk, byte[] dictionary, int level, boolean last) {
+		var deflater = new Deflater(level, true);
+		try {
+			if (dictionary != null && dictionary.length > 0) {
+				deflater.setDictionary(dictionary);
+			}
+			deflater.setInput(chunk);
+
+			var result = new ByteArrayOutputStream(chunk.length / 2 + 64);
+			byte[] output = new byte[BUFFER_SIZE];
+			if (last) {
+				deflater.finish();
+				while (!deflater.finished()) {
+					result.write(output, 0, deflater.deflate(output));
+				}
+			} else {
+				// End on a byte boundary without marking the final block so the next chunk can follow on
+				int nDeflated;
+				do {
+					nDeflated = deflater.deflate(output, 0, output.length, Deflater.SYNC_FLUSH);
+					result.write(output, 0, nDeflated);
+				} while (nDeflated == output.length);
+			}
+			return result.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	static int dosTime(LocalDateTime time) {
+		if (time.getYear() < 1980) {
+			time = LocalDateTime.of(1980, 1, 1, 0, 0);
+		}
+		return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+				| time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+	}
+
+	private void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+		out.write(bytes, offset, length);
+		written += length;
+	}
+
+	private void writeShort(int v) throws IOException {
+		writeShort(out, v);
+		written += 2;
+	}
+
+	private void writeInt(int v) throws IOException {
+		writeInt(out, v);
+		written += 4;
+	}
+
+	private void writeLong(long v) throws IOException {
+		writeLong(out, v);
+		written += 8;
+	}
+
+	private static void writeShort(OutputStream os, int v) throws IOException {
+		os.write(v & 0xff);
+		os.write( (v >>> 8) & 0xff);
+	}
+
+	private static void writeInt(OutputStream os, int v) throws IOException {
+		writeShort(os, v & 0xffff);
+		writeShort(os, (v >>> 16) & 0xffff);
+	}
+
+	private static void writeLong(OutputStream os, long v) throws IOException {
+		writeInt(os, (int) v);
+		writeInt(os, (int) (v >>> 32));
+	}
+}
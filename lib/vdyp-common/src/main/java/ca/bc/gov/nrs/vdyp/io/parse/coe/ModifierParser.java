@@ -8,7 +8,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,7 +21,7 @@ import ca.bc.gov.nrs.vdyp.common.FloatUnaryOperator;
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.io.parse.common.LineParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
-import ca.bc.gov.nrs.vdyp.io.parse.control.OptionalResourceControlMapModifier;
+import ca.bc.gov.nrs.vdyp.io.parse.control.TargetedControlMapModifier;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
@@ -29,7 +31,7 @@ import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
 import ca.bc.gov.nrs.vdyp.model.NonprimaryHLCoefficients;
 import ca.bc.gov.nrs.vdyp.model.Region;
 
-public class ModifierParser implements OptionalResourceControlMapModifier {
+public class ModifierParser implements TargetedControlMapModifier {
 
 	private static final Logger log = LoggerFactory.getLogger(ModifierParser.class);
 
@@ -67,15 +69,43 @@ public class ModifierParser implements OptionalResourceControlMapModifier {
 	 */
 	public static final ControlKey CONTROL_KEY_MOD400_NONPRIMARY = ControlKey.HL_NONPRIMARY;
 
+	/**
+	 * The entries changed by the veteran BQ (098), BA and DQ (200-299), decay and waste (300-399) and HL (400-499)
+	 * modifiers
+	 */
+	static final List<Set<ControlKey>> TARGET_GROUPS = List.of(
+			Set.of(CONTROL_KEY_MOD098_VETERAN_BQ), //
+			Set.of(ControlKey.BA_MODIFIERS, ControlKey.DQ_MODIFIERS), //
+			Set.of(CONTROL_KEY_MOD301_DECAY, CONTROL_KEY_MOD301_WASTE), //
+			Set.of(CONTROL_KEY_MOD400_P1, CONTROL_KEY_MOD400_P2, CONTROL_KEY_MOD400_P3, CONTROL_KEY_MOD400_NONPRIMARY)
+	);
+
 	public static final int MAX_MODS = 60;
 
 	VdypApplicationIdentifier jprogram;
 
+	private final Set<ControlKey> targets;
+
 	static final int[] ipoint = { 1, 0, 2, 0, 0, 3, 4, 5, 0 };
 
 	public ModifierParser(VdypApplicationIdentifier jprogram) {
+		this(jprogram, TARGET_GROUPS.stream().flatMap(Set::stream).collect(Collectors.toSet()));
+	}
+
+	private ModifierParser(VdypApplicationIdentifier jprogram, Set<ControlKey> targets) {
 		super();
 		this.jprogram = jprogram;
+		this.targets = Set.copyOf(targets);
+	}
+
+	@Override
+	public List<Set<ControlKey>> getTargetGroups() {
+		return TARGET_GROUPS;
+	}
+
+	@Override
+	public ModifierParser forTargets(Set<ControlKey> targets) {
+		return new ModifierParser(jprogram, targets);
 	}
 
 	@Override
@@ -111,41 +141,37 @@ public class ModifierParser implements OptionalResourceControlMapModifier {
 		}.integer(3, "sequence").multiValue(6, 2, "programs", ValueParser.LOGICAL)
 				.multiValue(10, 6, "mods", ValueParser.optional(ValueParser.FLOAT));
 
-		final var vetBqMap = Utils.<MatrixMap2<String, Region, Coefficients>>parsedControl(
-				control, ControlKey.VETERAN_BQ, MatrixMap2.class
-		);
-
-		final var baMap = Utils.<MatrixMap2<String, Region, Float>>expectParsedControl(
-				control, ControlKey.BA_MODIFIERS, MatrixMap2.class
-		);
-		final var dqMap = Utils.<MatrixMap2<String, Region, Float>>expectParsedControl(
-				control, ControlKey.DQ_MODIFIERS, MatrixMap2.class
-		);
-
-		final var decayMap = Utils.<MatrixMap2<String, Region, Float>>expectParsedControl(
-				control, CONTROL_KEY_MOD301_DECAY, MatrixMap2.class
-		);
-		final var wasteMap = Utils.<MatrixMap2<String, Region, Float>>expectParsedControl(
-				control, CONTROL_KEY_MOD301_WASTE, MatrixMap2.class
-		);
-
-		final var hlP1Map = Utils.<MatrixMap2<String, Region, Coefficients>>expectParsedControl(
-				control, CONTROL_KEY_MOD400_P1, MatrixMap2.class
-		);
-		final var hlP2Map = Utils.<MatrixMap2<String, Region, Coefficients>>expectParsedControl(
-				control, CONTROL_KEY_MOD400_P2, MatrixMap2.class
-		);
-		final var hlP3Map = Utils.<MatrixMap2<String, Region, Coefficients>>expectParsedControl(
-				control, CONTROL_KEY_MOD400_P3, MatrixMap2.class
-		);
-		final var hlNPMap = Utils.<MatrixMap3<String, String, Region, NonprimaryHLCoefficients>>expectParsedControl(
+		// Only the entries this modifier changes are read, so that the others need not be parsed yet when deferred
+
+		final var vetBqMap = targets.contains(CONTROL_KEY_MOD098_VETERAN_BQ)
+				? Utils.<MatrixMap2<String, Region, Coefficients>>parsedControl(
+						control, ControlKey.VETERAN_BQ, MatrixMap2.class
+				) : Optional.<MatrixMap2<String, Region, Coefficients>>empty();
+
+		final var baMap = this
+				.<MatrixMap2<String, Region, Float>>targeted(control, ControlKey.BA_MODIFIERS, MatrixMap2.class);
+		final var dqMap = this
+				.<MatrixMap2<String, Region, Float>>targeted(control, ControlKey.DQ_MODIFIERS, MatrixMap2.class);
+
+		final var decayMap = this
+				.<MatrixMap2<String, Region, Float>>targeted(control, CONTROL_KEY_MOD301_DECAY, MatrixMap2.class);
+		final var wasteMap = this
+				.<MatrixMap2<String, Region, Float>>targeted(control, CONTROL_KEY_MOD301_WASTE, MatrixMap2.class);
+
+		final var hlP1Map = this
+				.<MatrixMap2<String, Region, Coefficients>>targeted(control, CONTROL_KEY_MOD400_P1, MatrixMap2.class);
+		final var hlP2Map = this
+				.<MatrixMap2<String, Region, Coefficients>>targeted(control, CONTROL_KEY_MOD400_P2, MatrixMap2.class);
+		final var hlP3Map = this
+				.<MatrixMap2<String, Region, Coefficients>>targeted(control, CONTROL_KEY_MOD400_P3, MatrixMap2.class);
+		final var hlNPMap = this.<MatrixMap3<String, String, Region, NonprimaryHLCoefficients>>targeted(
 				control, CONTROL_KEY_MOD400_NONPRIMARY, MatrixMap3.class
 		);
 
 		parser.parse(data, control, (entry, result, line) -> {
 			int sequence = (int) entry.get("sequence");
 
-			if (!modIsForProgram(entry))
+			if (!modIsForProgram(entry) || !isTargeted(sequence))
 				return result;
 
 			if (sequence == 98) {
@@ -165,6 +191,26 @@ public class ModifierParser implements OptionalResourceControlMapModifier {
 
 	}
 
+	/**
+	 * @return the entry if this modifier changes it, otherwise null
+	 */
+	private <T> T targeted(Map<String, Object> control, ControlKey key, Class<? super T> clazz) {
+		return targets.contains(key) ? Utils.<T>expectParsedControl(control, key, clazz) : null;
+	}
+
+	private boolean isTargeted(int sequence) {
+		if (sequence == 98) {
+			return targets.contains(CONTROL_KEY_MOD098_VETERAN_BQ);
+		} else if (sequence >= 200 && sequence <= 299) {
+			return targets.contains(ControlKey.BA_MODIFIERS);
+		} else if (sequence >= 300 && sequence <= 399) {
+			return targets.contains(CONTROL_KEY_MOD301_DECAY);
+		} else if (sequence >= 400 && sequence <= 499) {
+			return targets.contains(CONTROL_KEY_MOD400_P1);
+		}
+		return true;
+	}
+
 	private void modify400(
 			Map<String, Object> control, final MatrixMap2<String, Region, Coefficients> hlP1Map,
 			final MatrixMap2<String, Region, Coefficients> hlP2Map,
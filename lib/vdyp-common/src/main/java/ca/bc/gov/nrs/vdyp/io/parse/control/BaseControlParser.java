@@ -2,15 +2,31 @@ package ca.bc.gov.nrs.vdyp.io.parse.control;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.LazyValue;
+import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.DebugSettingsParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
@@ -18,7 +34,6 @@ import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
 
 public abstract class BaseControlParser {
 
-	@SuppressWarnings("unused")
 	private static final Logger log = LoggerFactory.getLogger(BaseControlParser.class);
 
 	protected static final ValueParser<String> FILENAME = String::strip;
@@ -40,6 +55,12 @@ public abstract class BaseControlParser {
 
 	protected ControlFileParser controlParser = new ControlFileParser();
 
+	private Optional<ForkJoinPool> resourcePool = Optional.empty();
+
+	private boolean deferResources = false;
+
+	private final Map<String, Duration> resourceParseTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+
 	protected BaseControlParser() {
 	}
 
@@ -76,14 +97,245 @@ public abstract class BaseControlParser {
 
 	protected abstract List<ResourceControlMapModifier> configurationFileParsers();
 
+	/**
+	 * Parse independent resources concurrently on the given pool. If no pool is set (the default) all resources are
+	 * parsed sequentially in the order they are listed.
+	 *
+	 * @param pool the pool to parse resources on, or null to parse them sequentially
+	 */
+	public void setResourcePool(ForkJoinPool pool) {
+		this.resourcePool = Optional.ofNullable(pool);
+	}
+
+	/**
+	 * Defer parsing the independent resources (those that would otherwise be parsed concurrently) until they are first
+	 * read from the control map with {@link Utils#parsedControl} or {@link Utils#expectParsedControl}. The control map
+	 * then holds a {@link LazyValue} for each of them, and a run that never reads a resource, such as the veteran
+	 * coefficients when no polygon has a veteran layer, never parses it. The modifiers (RD_E198) that change those
+	 * resources are deferred with them. An error in a deferred resource is reported as an {@link IllegalStateException}
+	 * when it is read.
+	 *
+	 * @param deferResources whether to defer parsing resources. The default is false.
+	 */
+	public void setDeferResources(boolean deferResources) {
+		this.deferResources = deferResources;
+	}
+
+	/**
+	 * Report which of the deferred resources of a control map have been parsed, that is, which a run has used.
+	 *
+	 * @param controlMap a control map parsed with deferred resources
+	 * @return for each deferred resource, by control key name, whether it has been parsed
+	 */
+	public static Map<String, Boolean> getDeferredResourceUsage(Map<String, Object> controlMap) {
+		Map<String, Boolean> usage = new TreeMap<>();
+		controlMap.forEach((key, value) -> {
+			if (value instanceof LazyValue<?> lazy) {
+				usage.put(key, lazy.isComputed());
+			}
+		});
+		return usage;
+	}
+
+	/**
+	 * @return the time taken to parse each resource in the last call to {@code parse}, by control key name, in the
+	 *         order the parses completed
+	 */
+	public Map<String, Duration> getResourceParseTimes() {
+		synchronized (resourceParseTimes) {
+			return Collections.unmodifiableMap(new LinkedHashMap<>(resourceParseTimes));
+		}
+	}
+
 	protected void applyModifiers(
 			Map<String, Object> control, List<? extends ControlMapModifier> modifiers, FileResolver fileResolver
 	) throws ResourceParseException, IOException {
 		for (var modifier : modifiers) {
+			var start = System.nanoTime();
 			modifier.modify(control, fileResolver);
+			recordParseTime(modifier, start);
+		}
+	}
+
+	/**
+	 * Apply a list of modifiers which may only depend on entries already in the control map, and not on each other.
+	 * <p>
+	 * If a resource pool has been set, each sub-resource parser is run concurrently against a snapshot of the control
+	 * map and the results are merged back in list order. Any other modifiers are applied sequentially after the merge,
+	 * so they may depend on the sub-resources in the list. Without a pool this is the same as {@link #applyModifiers}.
+	 * <p>
+	 * If resources are deferred, each sub-resource parser is instead run against a snapshot of the control map when its
+	 * entry is first read, and a {@link TargetedControlMapModifier}, which may change sub-resources in the list,
+	 * changes each group of its entries when one of them is first read.
+	 *
+	 * @param control      the control map, which must already contain the BEC and genus definitions
+	 * @param modifiers    the modifiers to apply
+	 * @param fileResolver resolver for the resource files
+	 * @throws ResourceParseException
+	 * @throws IOException
+	 */
+	protected void applyModifiersConcurrently(
+			Map<String, Object> control, List<? extends ControlMapModifier> modifiers, FileResolver fileResolver
+	) throws ResourceParseException, IOException {
+		if (deferResources) {
+			applyModifiersDeferred(control, modifiers, fileResolver);
+			return;
+		}
+		if (resourcePool.isEmpty()) {
+			applyModifiers(control, modifiers, fileResolver);
+			return;
+		}
+		var pool = resourcePool.get();
+
+		final Map<String, Object> snapshot = Collections.unmodifiableMap(new HashMap<>(control));
+
+		List<PendingResource> pending = new ArrayList<>();
+		List<ControlMapModifier> dependent = new ArrayList<>();
+		for (var modifier : modifiers) {
+			if (modifier instanceof ControlMapSubResourceParser<?> parser) {
+				pending.add(
+						new PendingResource(
+								parser, pool.submit(() -> parseIndependently(parser, snapshot, fileResolver))
+						)
+				);
+			} else {
+				dependent.add(modifier);
+			}
+		}
+
+		for (var resource : pending) {
+			var result = awaitResource(resource);
+			if (result.isPresent()) {
+				control.put(resource.parser().getControlKeyName(), result.get());
+			}
+		}
+
+		applyModifiers(control, dependent, fileResolver);
+	}
+
+	private void applyModifiersDeferred(
+			Map<String, Object> control, List<? extends ControlMapModifier> modifiers, FileResolver fileResolver
+	) throws ResourceParseException, IOException {
+
+		final Map<String, Object> snapshot = Collections.unmodifiableMap(new HashMap<>(control));
+
+		List<ControlMapModifier> dependent = new ArrayList<>();
+		List<TargetedControlMapModifier> targeted = new ArrayList<>();
+		for (var modifier : modifiers) {
+			// A resource with no file named is left to the parser, which sets its default or leaves it out. A
+			// modifier of other resources is deferred once they have been.
+			if (modifier instanceof TargetedControlMapModifier targetedModifier) {
+				targeted.add(targetedModifier);
+			} else if (modifier instanceof ControlMapSubResourceParser<?> parser
+					&& Utils.optSafe(control.get(parser.getControlKeyName())).isPresent()) {
+				control.put(parser.getControlKeyName(), new LazyValue<>(() -> {
+					try {
+						return parseIndependently(parser, snapshot, fileResolver).orElse(null);
+					} catch (ResourceParseException | IOException e) {
+						throw new IllegalStateException(
+								"Could not parse deferred control map entry " + parser.getControlKeyName(), e
+						);
+					}
+				}));
+			} else {
+				dependent.add(modifier);
+			}
+		}
+
+		for (var modifier : targeted) {
+			applyTargetedDeferred(control, modifier, fileResolver);
+		}
+
+		applyModifiers(control, dependent, fileResolver);
+	}
+
+	/**
+	 * Defer a modifier that changes other entries. Its defaults are set at once and, if it names a resource, each group
+	 * of entries it changes is replaced by a {@link LazyValue} that, when first read, applies the part of the modifier
+	 * for that group to a snapshot of the control map and returns the changed entry. Reading one group therefore parses
+	 * the entries of that group, but not those of the others.
+	 */
+	private void applyTargetedDeferred(
+			Map<String, Object> control, TargetedControlMapModifier modifier, FileResolver fileResolver
+	) {
+		modifier.defaultModify(control);
+		if (Utils.parsedControl(control, modifier.getControlKey(), String.class).isEmpty()) {
+			return;
+		}
+		final Map<String, Object> snapshot = Collections.unmodifiableMap(new HashMap<>(control));
+
+		for (var group : modifier.getTargetGroups()) {
+			var part = modifier.forTargets(group);
+			var applied = new LazyValue<Map<String, Object>>(() -> {
+				Map<String, Object> scratch = new HashMap<>(snapshot);
+				try {
+					var start = System.nanoTime();
+					part.modify(scratch, fileResolver);
+					recordParseTime(part, start);
+				} catch (ResourceParseException | IOException e) {
+					throw new IllegalStateException(
+							"Could not apply deferred control map entry " + part.getControlKeyName() + " to " + group, e
+					);
+				}
+				return scratch;
+			});
+			for (var key : group) {
+				if (snapshot.containsKey(key.name())) {
+					control.put(key.name(), new LazyValue<>(() -> {
+						var value = applied.get().get(key.name());
+						return value instanceof LazyValue<?> lazy ? lazy.get() : value;
+					}));
+				}
+			}
+		}
+	}
+
+	private record PendingResource(ControlMapSubResourceParser<?> parser, ForkJoinTask<Optional<Object>> task) {
+	}
+
+	private Optional<Object> parseIndependently(
+			ControlMapSubResourceParser<?> parser, Map<String, Object> snapshot, FileResolver fileResolver
+	) throws ResourceParseException, IOException {
+		// Each parser gets its own copy so that the snapshot is never written to concurrently.
+		Map<String, Object> scratch = new HashMap<>(snapshot);
+		var start = System.nanoTime();
+		parser.modify(scratch, fileResolver);
+		recordParseTime(parser, start);
+		return Optional.ofNullable(scratch.get(parser.getControlKeyName()));
+	}
+
+	private static Optional<Object> awaitResource(PendingResource resource) throws ResourceParseException, IOException {
+		try {
+			return resource.task().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResourceParseException("Interrupted while parsing " + resource.parser().getControlKeyName(), e);
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof ResourceParseException rpe) {
+				throw rpe;
+			}
+			if (cause instanceof IOException ioe) {
+				throw ioe;
+			}
+			if (cause instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new ResourceParseException("Error while parsing " + resource.parser().getControlKeyName(), cause);
 		}
 	}
 
+	private void recordParseTime(ControlMapModifier modifier, long startNanos) {
+		var elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+		resourceParseTimes.put(modifier.getControlKeyName(), elapsed);
+		log.atDebug().setMessage("Parsed {}{} using {} in {} ms") //
+				.addArgument(modifier::getControlKeyName)
+				.addArgument(() -> modifier.getControlKey().sequence.map(i -> "[" + i + "]").orElse(""))
+				.addArgument(() -> modifier.getClass().getSimpleName()) //
+				.addArgument(() -> String.format("%.3f", elapsed.toNanos() / 1_000_000.0)) //
+				.log();
+	}
+
 	public Map<String, Object> parse(InputStream is, FileResolver fileResolver, Map<String, Object> map)
 			throws IOException, ResourceParseException {
 		return parse(List.of(is), fileResolver, map);
@@ -92,17 +344,138 @@ public abstract class BaseControlParser {
 	public Map<String, Object> parse(List<InputStream> resources, FileResolver fileResolver, Map<String, Object> map)
 			throws IOException, ResourceParseException {
 
+		resourceParseTimes.clear();
+
 		for (var is : resources) {
 			map.putAll(controlParser.parse(is, map));
 		}
 
+		var start = System.nanoTime();
 		applyAllModifiers(map, fileResolver);
+		log.atDebug().setMessage("Parsed {} control map resources in {} ms") //
+				.addArgument(resourceParseTimes::size)
+				.addArgument(() -> Duration.ofNanos(System.nanoTime() - start).toMillis()) //
+				.log();
 
 		return map;
 	}
 
+	/**
+	 * Read the entries of control files that name resource files other than the input and output files, such as the
+	 * coefficient files, without parsing any of them. These are the entries {@link #parseWithConfiguration} takes from
+	 * a configuration, so a configuration parsed from one set of control files only applies to control files with the
+	 * same resource entries.
+	 *
+	 * @param resources the control files
+	 * @return the file name of each resource, or an empty {@link Optional} for an optional resource that is not named,
+	 *         by control key name
+	 * @throws IOException
+	 * @throws ResourceParseException
+	 */
+	public Map<String, Object> parseResourceEntries(List<InputStream> resources)
+			throws IOException, ResourceParseException {
+		return resourceEntries(parseLiterals(resources));
+	}
+
+	/**
+	 * Parse control files that use the same configuration as an already parsed control map, reading only the control
+	 * files themselves and the input files they name. This is much faster than {@link #parse} when many runs share one
+	 * configuration.
+	 * <p>
+	 * The input and output files and the options (those entries that are not file names) are taken from the given
+	 * control files. All other entries are taken from <code>configuration</code>, so the given control files must name
+	 * the same resource files for them as the control files <code>configuration</code> was parsed from; if they do not,
+	 * nothing is parsed and the result is empty. The values taken from <code>configuration</code> are shared with it
+	 * and must not be modified.
+	 *
+	 * @param resources              the control files
+	 * @param fileResolver           resolver for the input files
+	 * @param configuration          a control map previously returned by {@link #parse}
+	 * @param configurationResources the resource entries of the control files <code>configuration</code> was parsed
+	 *                               from, as returned by {@link #parseResourceEntries}
+	 * @return a new control map, or empty if the control files name different resources than those of the configuration
+	 * @throws IOException
+	 * @throws ResourceParseException
+	 */
+	public Optional<Map<String, Object>> parseWithConfiguration(
+			List<InputStream> resources, FileResolver fileResolver, Map<String, Object> configuration,
+			Map<String, Object> configurationResources
+	) throws IOException, ResourceParseException {
+
+		var literals = parseLiterals(resources);
+		var resourceEntries = resourceEntries(literals);
+		if (!resourceEntries.equals(configurationResources)) {
+			log.atDebug().setMessage("Control file names different resources than the configuration: {}") //
+					.addArgument(() -> differences(resourceEntries, configurationResources)) //
+					.log();
+			return Optional.empty();
+		}
+
+		Map<String, Object> map = new HashMap<>(configuration);
+		map.keySet().removeAll(fileKeys());
+		literals.forEach((key, value) -> {
+			if (!resourceEntries.containsKey(key)) {
+				map.put(key, value);
+			}
+		});
+
+		applyInputModifiers(map, fileResolver);
+
+		return Optional.of(map);
+	}
+
+	private Map<String, Object> parseLiterals(List<InputStream> resources) throws IOException, ResourceParseException {
+		Map<String, Object> literals = new HashMap<>();
+		for (var is : resources) {
+			literals.putAll(controlParser.parse(is, literals));
+		}
+		return literals;
+	}
+
+	private Set<String> fileKeys() {
+		Set<String> fileKeys = new HashSet<>();
+		inputFileParsers().forEach(parser -> fileKeys.add(parser.getControlKeyName()));
+		outputFileParsers().forEach(key -> fileKeys.add(key.name()));
+		return fileKeys;
+	}
+
+	/**
+	 * The literals that name a file, or name no file for an optional one, and are not input or output files
+	 */
+	private Map<String, Object> resourceEntries(Map<String, Object> literals) {
+		var fileKeys = fileKeys();
+		Map<String, Object> entries = new TreeMap<>();
+		literals.forEach((key, value) -> {
+			if (!fileKeys.contains(key) && (value instanceof String
+					|| value instanceof Optional<?> optional && optional.map(String.class::isInstance).orElse(true))) {
+				entries.put(key, value);
+			}
+		});
+		return entries;
+	}
+
+	private static Set<String> differences(Map<String, Object> entries, Map<String, Object> expected) {
+		Set<String> keys = new TreeSet<>(entries.keySet());
+		keys.addAll(expected.keySet());
+		keys.removeIf(key -> Objects.equals(entries.get(key), expected.get(key)));
+		return keys;
+	}
+
 	protected abstract void applyAllModifiers(Map<String, Object> map, FileResolver fileResolver)
 			throws ResourceParseException, IOException;
 
+	/**
+	 * Replace the input file names in the control map with factories for the parsers of those files.
+	 *
+	 * @param map          the control map
+	 * @param fileResolver resolver for the input files
+	 * @throws ResourceParseException
+	 * @throws IOException
+	 */
+	protected void applyInputModifiers(Map<String, Object> map, FileResolver fileResolver)
+			throws ResourceParseException, IOException {
+		applyModifiers(map, inputFileParsers(), fileResolver);
+	}
+
 	protected abstract VdypApplicationIdentifier getProgramId();
 }
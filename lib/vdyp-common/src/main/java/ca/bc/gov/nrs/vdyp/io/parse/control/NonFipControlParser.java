@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.vdyp.io.parse.control;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -58,26 +59,20 @@ public abstract class NonFipControlParser extends StartApplicationControlParser
 			throws ResourceParseException, IOException {
 		applyModifiers(map, basicDefinitions, fileResolver);
 
-		// Read Groups
-
-		applyModifiers(map, groupDefinitions, fileResolver);
-
 		// Initialize data file parser factories
 
-		applyModifiers(map, inputFileParsers(), fileResolver);
-
-		applyModifiers(map, siteCurves, fileResolver);
-
-		// Coeff for Empirical relationships
+		applyInputModifiers(map, fileResolver);
 
-		applyModifiers(map, coefficients, fileResolver);
+		// Read Groups, Site Curves, Coeff for Empirical relationships and initiation items NOT for FIPSTART. These
+		// depend only on the basic definitions so they can be parsed concurrently.
 
-		// Initiation items NOT for FIPSTART
+		List<ControlMapModifier> independent = new ArrayList<>();
+		List.of(groupDefinitions, siteCurves, coefficients, nonFipStart).forEach(independent::addAll);
 
-		applyModifiers(map, nonFipStart, fileResolver);
+		applyModifiersConcurrently(map, independent, fileResolver);
 
 		// RD_E198
-		applyModifiers(map, additionalModifiers, fileResolver);
+		applyModifiersConcurrently(map, additionalModifiers, fileResolver);
 
 	}
 
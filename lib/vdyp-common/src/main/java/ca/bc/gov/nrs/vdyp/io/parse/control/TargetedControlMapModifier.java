@@ -0,0 +1,29 @@
+package ca.bc.gov.nrs.vdyp.io.parse.control;
+
+import java.util.List;
+import java.util.Set;
+
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+
+/**
+ * An optional resource that changes other entries of the control map rather than adding one of its own. The entries it
+ * changes fall into groups that are changed independently of each other, so that when resources are deferred each group
+ * can be changed when one of its entries is first read.
+ *
+ * @see BaseControlParser#setDeferResources(boolean)
+ */
+public interface TargetedControlMapModifier extends OptionalResourceControlMapModifier {
+
+	/**
+	 * @return the groups of entries this modifier changes. An entry it changes may be missing from the control map,
+	 *         while those its {@link #defaultModify} sets are always present after it is applied.
+	 */
+	List<Set<ControlKey>> getTargetGroups();
+
+	/**
+	 * @param targets one or more of the groups returned by {@link #getTargetGroups}
+	 * @return a modifier that reads the same resource but only changes the given entries
+	 */
+	TargetedControlMapModifier forTargets(Set<ControlKey> targets);
+
+}
@@ -0,0 +1,177 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Layout of the columnar binary utilization output written by {@link ColumnarOutputWriter} and read by
+ * {@link ColumnarOutputReader}.
+ * <p>
+ * A file is the {@link #MAGIC} bytes followed by a sequence of row groups, terminated by a row group with a row count
+ * of zero. All numbers are big endian. Each row group is its row count (int) followed by one block per column: polygon
+ * base (string), year (int), layer type alias (int), species index (int), species genus (string), utilization class
+ * index (int) and then the {@link #N_VALUE_COLUMNS} value columns (float). A block is a codec byte, the encoded length
+ * (int), the stored length (int) and the stored bytes.
+ * <p>
+ * Strings are encoded as modified UTF-8 as by {@link DataOutputStream#writeUTF}. Ints and floats are split into byte
+ * planes (all the most significant bytes of the column, then the next, and so on) which makes runs of similar values
+ * much more compressible. Each block is deflated unless that does not make it smaller.
+ */
+public final class ColumnarOutputFormat {
+
+	private ColumnarOutputFormat() {
+	}
+
+	static final byte[] MAGIC = { 'V', 'D', 'Y', 'P', 'C', 'O', 'L', 1 };
+
+	public static final int DEFAULT_ROW_GROUP_SIZE = 64 * 1024;
+
+	static final byte CODEC_NONE = 0;
+	static final byte CODEC_DEFLATE = 1;
+
+	/**
+	 * Number of float value columns, in the order of the float components of {@link UtilizationRecord}: base area,
+	 * trees per hectare, Lorey height, whole stem volume, the four close utilization volumes and quadratic mean
+	 * diameter.
+	 */
+	static final int N_VALUE_COLUMNS = 9;
+
+	static byte[] encodeStrings(String[] values, int n) {
+		var bytes = new ByteArrayOutputStream(n * 8);
+		try (var data = new DataOutputStream(bytes)) {
+			for (int i = 0; i < n; i++) {
+				data.writeUTF(values[i]);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	static String[] decodeStrings(byte[] encoded, int n) throws IOException {
+		var result = new String[n];
+		try (var data = new DataInputStream(new ByteArrayInputStream(encoded))) {
+			for (int i = 0; i < n; i++) {
+				result[i] = data.readUTF();
+			}
+		}
+		return result;
+	}
+
+	static byte[] encodeInts(int[] values, int n) {
+		var result = new byte[n * 4];
+		for (int i = 0; i < n; i++) {
+			int v = values[i];
+			result[i] = (byte) (v >>> 24);
+			result[n + i] = (byte) (v >>> 16);
+			result[2 * n + i] = (byte) (v >>> 8);
+			result[3 * n + i] = (byte) v;
+		}
+		return result;
+	}
+
+	static int[] decodeInts(byte[] encoded, int n) throws IOException {
+		if (encoded.length != n * 4) {
+			throw new IOException("Expected " + n * 4 + " bytes of int column but found " + encoded.length);
+		}
+		var result = new int[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = (encoded[i] & 0xff) << 24 | (encoded[n + i] & 0xff) << 16 | (encoded[2 * n + i] & 0xff) << 8
+					| (encoded[3 * n + i] & 0xff);
+		}
+		return result;
+	}
+
+	static byte[] encodeFloats(float[] values, int n) {
+		var bits = new int[n];
+		for (int i = 0; i < n; i++) {
+			bits[i] = Float.floatToRawIntBits(values[i]);
+		}
+		return encodeInts(bits, n);
+	}
+
+	static float[] decodeFloats(byte[] encoded, int n) throws IOException {
+		var bits = decodeInts(encoded, n);
+		var result = new float[n];
+		for (int i = 0; i < n; i++) {
+			result[i] = Float.intBitsToFloat(bits[i]);
+		}
+		return result;
+	}
+
+	static void writeBlock(DataOutputStream out, byte[] encoded, int compressionLevel) throws IOException {
+		if (compressionLevel != Deflater.NO_COMPRESSION) {
+			var deflater = new Deflater(compressionLevel, true);
+			try {
+				deflater.setInput(encoded);
+				deflater.finish();
+				var deflated = new ByteArrayOutputStream(encoded.length / 2 + 16);
+				var buffer = new byte[8 * 1024];
+				while (!deflater.finished() && deflated.size() < encoded.length) {
+					deflated.write(buffer, 0, deflater.deflate(buffer));
+				}
+				if (deflater.finished() && deflated.size() < encoded.length) {
+					out.writeByte(CODEC_DEFLATE);
+					out.writeInt(encoded.length);
+					out.writeInt(deflated.size());
+					deflated.writeTo(out);
+					return;
+				}
+			} finally {
+				deflater.end();
+			}
+		}
+		out.writeByte(CODEC_NONE);
+		out.writeInt(encoded.length);
+		out.writeInt(encoded.length);
+		out.write(encoded);
+	}
+
+	static byte[] readBlock(DataInputStream in) throws IOException {
+		byte codec = in.readByte();
+		int encodedLength = in.readInt();
+		int storedLength = in.readInt();
+		if (encodedLength < 0 || storedLength < 0) {
+			throw new IOException("Invalid column block length");
+		}
+		var stored = in.readNBytes(storedLength);
+		if (stored.length != storedLength) {
+			throw new IOException("Unexpected end of columnar output");
+		}
+		switch (codec) {
+		case CODEC_NONE:
+			return stored;
+		case CODEC_DEFLATE:
+			var inflater = new Inflater(true);
+			try {
+				inflater.setInput(stored);
+				var encoded = new byte[encodedLength];
+				int offset = 0;
+				while (offset < encodedLength && !inflater.finished()) {
+					int n = inflater.inflate(encoded, offset, encodedLength - offset);
+					if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+					offset += n;
+				}
+				if (offset != encodedLength) {
+					throw new IOException("Column block inflated to " + offset + " bytes, expected " + encodedLength);
+				}
+				return encoded;
+			} catch (DataFormatException e) {
+				throw new IOException(e);
+			} finally {
+				inflater.end();
+			}
+		default:
+			throw new IOException("Unknown column codec " + codec);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static ca.bc.gov.nrs.vdyp.io.write.ColumnarOutputFormat.N_VALUE_COLUMNS;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+
+/**
+ * Reads the utilization records written by {@link ColumnarOutputWriter}, one row group at a time.
+ */
+public class ColumnarOutputReader implements StreamingParser<UtilizationRecord> {
+
+	private final DataInputStream in;
+
+	private int nRows = 0;
+	private int row = 0;
+	private boolean finished = false;
+
+	private String[] polygons;
+	private int[] years;
+	private int[] layers;
+	private int[] speciesIndices;
+	private String[] speciesGenera;
+	private int[] utilizationClasses;
+	private final float[][] values = new float[N_VALUE_COLUMNS][];
+
+	/**
+	 * Create a reader. The stream will be closed when the reader is closed.
+	 *
+	 * @param is
+	 * @throws IOException            if the stream could not be read
+	 * @throws ResourceParseException if the stream is not columnar VDYP output
+	 */
+	public ColumnarOutputReader(InputStream is) throws IOException, ResourceParseException {
+		this.in = new DataInputStream(new BufferedInputStream(is, 64 * 1024));
+		var magic = in.readNBytes(ColumnarOutputFormat.MAGIC.length);
+		if (!Arrays.equals(magic, ColumnarOutputFormat.MAGIC)) {
+			throw new ResourceParseException("Not a columnar VDYP output stream");
+		}
+	}
+
+	@Override
+	public boolean hasNext() throws IOException, ResourceParseException {
+		if (row < nRows) {
+			return true;
+		}
+		if (finished) {
+			return false;
+		}
+		readRowGroup();
+		return row < nRows;
+	}
+
+	@Override
+	public UtilizationRecord next() throws IOException, ResourceParseException {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		int i = row++;
+		return new UtilizationRecord(
+				new PolygonIdentifier(polygons[i], years[i]), getLayerType(layers[i]), speciesIndices[i],
+				speciesGenera[i], getUtilizationClass(utilizationClasses[i]), values[0][i], values[1][i], values[2][i],
+				values[3][i], values[4][i], values[5][i], values[6][i], values[7][i], values[8][i]
+		);
+	}
+
+	private void readRowGroup() throws IOException, ResourceParseException {
+		int n = in.readInt();
+		if (n < 0) {
+			throw new ResourceParseException("Invalid row count " + n);
+		}
+		if (n == 0) {
+			finished = true;
+			nRows = 0;
+			row = 0;
+			return;
+		}
+		polygons = ColumnarOutputFormat.decodeStrings(ColumnarOutputFormat.readBlock(in), n);
+		years = ColumnarOutputFormat.decodeInts(ColumnarOutputFormat.readBlock(in), n);
+		layers = ColumnarOutputFormat.decodeInts(ColumnarOutputFormat.readBlock(in), n);
+		speciesIndices = ColumnarOutputFormat.decodeInts(ColumnarOutputFormat.readBlock(in), n);
+		speciesGenera = ColumnarOutputFormat.decodeStrings(ColumnarOutputFormat.readBlock(in), n);
+		utilizationClasses = ColumnarOutputFormat.decodeInts(ColumnarOutputFormat.readBlock(in), n);
+		for (int c = 0; c < N_VALUE_COLUMNS; c++) {
+			values[c] = ColumnarOutputFormat.decodeFloats(ColumnarOutputFormat.readBlock(in), n);
+		}
+		nRows = n;
+		row = 0;
+	}
+
+	private static LayerType getLayerType(int alias) throws ResourceParseException {
+		for (var layerType : LayerType.values()) {
+			if (layerType.getAlias().charAt(0) == alias) {
+				return layerType;
+			}
+		}
+		throw new ResourceParseException("Unknown layer type " + (char) alias);
+	}
+
+	private static UtilizationClass getUtilizationClass(int index) throws ResourceParseException {
+		try {
+			return UtilizationClass.getByIndex(index);
+		} catch (IllegalArgumentException e) {
+			throw new ResourceParseException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
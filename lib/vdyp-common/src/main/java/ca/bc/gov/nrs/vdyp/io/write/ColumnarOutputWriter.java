@@ -0,0 +1,158 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static ca.bc.gov.nrs.vdyp.io.write.ColumnarOutputFormat.N_VALUE_COLUMNS;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
+
+/**
+ * An alternative to the VDYP7 text output that writes the utilization records of each polygon in the compact columnar
+ * binary format described by {@link ColumnarOutputFormat}. Polygon and species records are not written; the values are
+ * the same as those written to the VDYP7 utilization file.
+ * <p>
+ * Rows are buffered into row groups of a fixed size, each column of which is compressed separately. The output can be
+ * read back with {@link ColumnarOutputReader}.
+ */
+public class ColumnarOutputWriter extends VdypOutputWriter {
+
+	private final DataOutputStream out;
+	private final int rowGroupSize;
+	private final int compressionLevel;
+
+	private final String[] polygons;
+	private final int[] years;
+	private final int[] layers;
+	private final int[] speciesIndices;
+	private final String[] speciesGenera;
+	private final int[] utilizationClasses;
+	private final float[][] values;
+	private int nRows = 0;
+
+	private boolean closed = false;
+
+	/**
+	 * Create a writer with the default row group size and compression level. The stream will be closed when the writer
+	 * is closed.
+	 *
+	 * @param os
+	 * @throws IOException
+	 */
+	public ColumnarOutputWriter(OutputStream os) throws IOException {
+		this(os, ColumnarOutputFormat.DEFAULT_ROW_GROUP_SIZE, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * Create a writer. The stream will be closed when the writer is closed.
+	 *
+	 * @param os               stream to write to
+	 * @param rowGroupSize     number of rows to buffer and compress together
+	 * @param compressionLevel deflate compression level for each column, see {@link Deflater}
+	 * @throws IOException
+	 */
+	public ColumnarOutputWriter(OutputStream os, int rowGroupSize, int compressionLevel) throws IOException {
+		super();
+		if (rowGroupSize < 1) {
+			throw new IllegalArgumentException("Row group size must be positive");
+		}
+		this.out = new DataOutputStream(new BufferedOutputStream(os, 64 * 1024));
+		this.rowGroupSize = rowGroupSize;
+		this.compressionLevel = compressionLevel;
+
+		polygons = new String[rowGroupSize];
+		years = new int[rowGroupSize];
+		layers = new int[rowGroupSize];
+		speciesIndices = new int[rowGroupSize];
+		speciesGenera = new String[rowGroupSize];
+		utilizationClasses = new int[rowGroupSize];
+		values = new float[N_VALUE_COLUMNS][rowGroupSize];
+
+		out.write(ColumnarOutputFormat.MAGIC);
+	}
+
+	@Override
+	void writePolygon(VdypPolygon polygon) throws IOException {
+		// Only utilization records are written
+	}
+
+	@Override
+	void writeSpecies(VdypLayer layer, VdypSpecies spec) throws IOException {
+		// Only utilization records are written
+	}
+
+	@Override
+	void writeSpeciesEndRecord(VdypPolygon polygon) throws IOException {
+		// Row groups have explicit lengths so no end records are needed
+	}
+
+	@Override
+	void writeUtilizationEndRecord(VdypPolygon polygon) throws IOException {
+		// Row groups have explicit lengths so no end records are needed
+	}
+
+	@Override
+	void writeUtilizationRecord(UtilizationRecord record) throws IOException {
+		polygons[nRows] = record.polygonIdentifier().getBase();
+		years[nRows] = record.polygonIdentifier().getYear();
+		layers[nRows] = record.layerType().getAlias().charAt(0);
+		speciesIndices[nRows] = record.speciesIndex();
+		speciesGenera[nRows] = record.speciesGenus();
+		utilizationClasses[nRows] = record.utilizationClass().index;
+
+		values[0][nRows] = record.baseArea();
+		values[1][nRows] = record.treesPerHectare();
+		values[2][nRows] = record.loreyHeight();
+		values[3][nRows] = record.wholeStemVolume();
+		values[4][nRows] = record.closeUtilizationVolume();
+		values[5][nRows] = record.closeUtilizationVolumeNetOfDecay();
+		values[6][nRows] = record.closeUtilizationVolumeNetOfDecayAndWaste();
+		values[7][nRows] = record.closeUtilizationVolumeNetOfDecayWasteAndBreakage();
+		values[8][nRows] = record.quadraticMeanDiameter();
+
+		nRows++;
+		if (nRows == rowGroupSize) {
+			flushRowGroup();
+		}
+	}
+
+	private void flushRowGroup() throws IOException {
+		if (nRows == 0) {
+			return;
+		}
+		out.writeInt(nRows);
+
+		ColumnarOutputFormat.writeBlock(out, ColumnarOutputFormat.encodeStrings(polygons, nRows), compressionLevel);
+		ColumnarOutputFormat.writeBlock(out, ColumnarOutputFormat.encodeInts(years, nRows), compressionLevel);
+		ColumnarOutputFormat.writeBlock(out, ColumnarOutputFormat.encodeInts(layers, nRows), compressionLevel);
+		ColumnarOutputFormat.writeBlock(out, ColumnarOutputFormat.encodeInts(speciesIndices, nRows), compressionLevel);
+		ColumnarOutputFormat
+				.writeBlock(out, ColumnarOutputFormat.encodeStrings(speciesGenera, nRows), compressionLevel);
+		ColumnarOutputFormat
+				.writeBlock(out, ColumnarOutputFormat.encodeInts(utilizationClasses, nRows), compressionLevel);
+		for (var column : values) {
+			ColumnarOutputFormat.writeBlock(out, ColumnarOutputFormat.encodeFloats(column, nRows), compressionLevel);
+		}
+
+		nRows = 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			flushRowGroup();
+			out.writeInt(0);
+		} finally {
+			out.close();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A fixed width record layout, compiled once from the subset of {@link java.util.Formatter} syntax used by the VDYP7
+ * output formats: literal text and the conversions {@code %[-][width]s}, {@code %[width]d} and
+ * {@code %[width].[precision]f}. Records are written with a {@link FixedWidthFormatter}.
+ */
+public final class FixedWidthFormat {
+
+	private static final Map<String, FixedWidthFormat> COMPILED = new ConcurrentHashMap<>();
+
+	enum Conversion {
+		STRING, INTEGER, FLOAT
+	}
+
+	/**
+	 * A conversion and the literal text that precedes it
+	 */
+	record Field(byte[] prefix, Conversion conversion, boolean leftJustify, int width, int precision, String pattern) {
+	}
+
+	private final String pattern;
+	private final Field[] fields;
+	private final byte[] suffix;
+
+	private FixedWidthFormat(String pattern, Field[] fields, byte[] suffix) {
+		this.pattern = pattern;
+		this.fields = fields;
+		this.suffix = suffix;
+	}
+
+	/**
+	 * Compile a format, or return the already compiled layout of an identical format.
+	 *
+	 * @param pattern a format string using only the supported conversions
+	 * @throws IllegalArgumentException if the format uses anything else
+	 */
+	public static FixedWidthFormat compile(String pattern) {
+		return COMPILED.computeIfAbsent(pattern, FixedWidthFormat::parse);
+	}
+
+	private static FixedWidthFormat parse(String pattern) {
+		List<Field> fields = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i++);
+			if (c != '%') {
+				literal.append(c);
+				continue;
+			}
+			int start = i - 1;
+			boolean leftJustify = false;
+			if (i < pattern.length() && pattern.charAt(i) == '-') {
+				leftJustify = true;
+				i++;
+			}
+			if (i < pattern.length() && pattern.charAt(i) == '0') {
+				throw new IllegalArgumentException("Unsupported zero padding in format \"" + pattern + "\"");
+			}
+			int width = 0;
+			while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+				width = width * 10 + pattern.charAt(i++) - '0';
+			}
+			int precision = -1;
+			if (i < pattern.length() && pattern.charAt(i) == '.') {
+				i++;
+				precision = 0;
+				while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+					precision = precision * 10 + pattern.charAt(i++) - '0';
+				}
+			}
+			if (i >= pattern.length()) {
+				throw new IllegalArgumentException("Incomplete conversion at end of format \"" + pattern + "\"");
+			}
+			char conversionChar = pattern.charAt(i++);
+			Conversion conversion;
+			switch (conversionChar) {
+			case 's':
+				conversion = Conversion.STRING;
+				break;
+			case 'd':
+				conversion = Conversion.INTEGER;
+				break;
+			case 'f':
+				conversion = Conversion.FLOAT;
+				break;
+			case '%':
+				if (leftJustify || width > 0 || precision >= 0) {
+					throw new IllegalArgumentException("Unsupported conversion in format \"" + pattern + "\"");
+				}
+				literal.append('%');
+				continue;
+			default:
+				throw new IllegalArgumentException(
+						"Unsupported conversion '" + conversionChar + "' in format \"" + pattern + "\""
+				);
+			}
+			if (leftJustify && width == 0 || conversion == Conversion.FLOAT && precision < 0
+					|| conversion != Conversion.FLOAT && precision >= 0
+					|| conversion == Conversion.INTEGER && leftJustify) {
+				throw new IllegalArgumentException("Unsupported conversion in format \"" + pattern + "\"");
+			}
+			fields.add(
+					new Field(
+							ascii(literal.toString(), pattern), conversion, leftJustify, width, precision,
+							pattern.substring(start, i)
+					)
+			);
+			literal.setLength(0);
+		}
+		return new FixedWidthFormat(pattern, fields.toArray(Field[]::new), ascii(literal.toString(), pattern));
+	}
+
+	private static byte[] ascii(String literal, String pattern) {
+		var result = new byte[literal.length()];
+		for (int i = 0; i < literal.length(); i++) {
+			char c = literal.charAt(i);
+			if (c >= 0x80) {
+				throw new IllegalArgumentException("Non-ASCII literal text in format \"" + pattern + "\"");
+			}
+			result[i] = (byte) c;
+		}
+		return result;
+	}
+
+	/**
+	 * @return the format this layout was compiled from
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * @return the number of values in a record
+	 */
+	public int getFieldCount() {
+		return fields.length;
+	}
+
+	Field getField(int i) {
+		return fields[i];
+	}
+
+	byte[] getSuffix() {
+		return suffix;
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+}
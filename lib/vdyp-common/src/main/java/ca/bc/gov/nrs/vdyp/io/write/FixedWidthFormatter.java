@@ -0,0 +1,251 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Locale;
+
+import ca.bc.gov.nrs.vdyp.io.write.FixedWidthFormat.Conversion;
+import ca.bc.gov.nrs.vdyp.io.write.FixedWidthFormat.Field;
+
+/**
+ * Writes records laid out by a {@link FixedWidthFormat} into a reusable byte buffer, one value at a time, without
+ * creating the intermediate strings and boxed values that {@link String#format} does.
+ * <p>
+ * The output is the same as {@code String.format(Locale.ROOT, pattern, values).getBytes()}. In particular floats are
+ * rounded half up from their exact binary value, as {@code String.format} does for a {@code float} argument, so a value
+ * such as 0.25f is written as "0.3" to one decimal place. The rounding is done in integer arithmetic for floats of
+ * magnitude less than 10<sup>9</sup> with at most {@value #MAX_FAST_PRECISION} decimal places, which covers every VDYP7
+ * output field; other values are passed to {@code String.format}.
+ * <p>
+ * A formatter is not thread safe. Reuse one per output stream.
+ */
+public final class FixedWidthFormatter {
+
+	static final int MAX_FAST_PRECISION = 8;
+
+	private static final float MAX_FAST_MAGNITUDE = 1e9f;
+
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+			100_000_000L };
+
+	private byte[] buffer = new byte[256];
+	private int length = 0;
+
+	private FixedWidthFormat format = null;
+	private int nextField = 0;
+
+	/**
+	 * Start a new record, discarding anything left in the buffer.
+	 */
+	public FixedWidthFormatter start(FixedWidthFormat format) {
+		this.format = format;
+		this.length = 0;
+		this.nextField = 0;
+		return this;
+	}
+
+	/**
+	 * Write the next field, which must be a {@code %s} conversion. A null value is written as "null".
+	 */
+	public FixedWidthFormatter string(Object value) {
+		var field = nextField(Conversion.STRING);
+		String s = String.valueOf(value);
+		int padding = Math.max(0, field.width() - s.length());
+		if (!field.leftJustify()) {
+			pad(padding);
+		}
+		if (isAscii(s)) {
+			ensureCapacity(s.length());
+			for (int i = 0; i < s.length(); i++) {
+				buffer[length++] = (byte) s.charAt(i);
+			}
+		} else {
+			append(s.getBytes(Charset.defaultCharset()));
+		}
+		if (field.leftJustify()) {
+			pad(padding);
+		}
+		return this;
+	}
+
+	/**
+	 * Write the next field, which must be a {@code %d} conversion.
+	 */
+	public FixedWidthFormatter integer(long value) {
+		var field = nextField(Conversion.INTEGER);
+
+		// Count and then write digits working with the negated value so that Long.MIN_VALUE needs no special case
+		boolean negative = value < 0;
+		long negated = negative ? value : -value;
+		int digits = 1;
+		for (long v = negated / 10; v != 0; v /= 10) {
+			digits++;
+		}
+		int size = digits + (negative ? 1 : 0);
+		pad(field.width() - size);
+		ensureCapacity(size);
+		if (negative) {
+			buffer[length] = '-';
+		}
+		length += size;
+		int pos = length;
+		for (int i = 0; i < digits; i++) {
+			buffer[--pos] = (byte) ('0' - negated % 10);
+			negated /= 10;
+		}
+		return this;
+	}
+
+	/**
+	 * Write the next field, which must be a {@code %.pf} conversion.
+	 */
+	public FixedWidthFormatter decimal(float value) {
+		var field = nextField(Conversion.FLOAT);
+		int precision = field.precision();
+
+		if (precision > MAX_FAST_PRECISION || ! (Math.abs(value) < MAX_FAST_MAGNITUDE)) {
+			append(String.format(Locale.ROOT, field.pattern(), value).getBytes(Charset.defaultCharset()));
+			return this;
+		}
+
+		int bits = Float.floatToRawIntBits(value);
+		boolean negative = bits < 0;
+		int biasedExponent = (bits >>> 23) & 0xff;
+		long mantissa = bits & 0x7fffff;
+		if (biasedExponent == 0) {
+			biasedExponent = 1; // subnormal
+		} else {
+			mantissa |= 0x800000;
+		}
+		// value = mantissa * 2^exponent
+		int exponent = biasedExponent - 127 - 23;
+
+		// The value scaled by 10^precision, rounded half up
+		long scaled;
+		if (exponent >= 0) {
+			scaled = (mantissa << exponent) * POWERS_OF_TEN[precision];
+		} else if (exponent > -63) {
+			long exact = mantissa * POWERS_OF_TEN[precision];
+			scaled = exact >> -exponent;
+			long remainder = exact & ( (1L << -exponent) - 1);
+			if (remainder >= 1L << (-exponent - 1)) {
+				scaled++;
+			}
+		} else {
+			// Less than half of the smallest unit at any precision that can be used here
+			scaled = 0;
+		}
+
+		int digits = 1;
+		for (long v = scaled / 10; v != 0; v /= 10) {
+			digits++;
+		}
+		digits = Math.max(digits, precision + 1);
+		int size = digits + (precision > 0 ? 1 : 0) + (negative ? 1 : 0);
+		pad(field.width() - size);
+		ensureCapacity(size);
+		if (negative) {
+			buffer[length] = '-';
+		}
+		length += size;
+		int pos = length;
+		for (int i = 0; i < precision; i++) {
+			buffer[--pos] = (byte) ('0' + scaled % 10);
+			scaled /= 10;
+		}
+		if (precision > 0) {
+			buffer[--pos] = '.';
+		}
+		for (int i = precision; i < digits; i++) {
+			buffer[--pos] = (byte) ('0' + scaled % 10);
+			scaled /= 10;
+		}
+		return this;
+	}
+
+	/**
+	 * Finish the record, and write it to the given stream.
+	 *
+	 * @throws IllegalStateException if not every field of the record has been written
+	 */
+	public void writeTo(OutputStream os) throws IOException {
+		finish();
+		os.write(buffer, 0, length);
+	}
+
+	/**
+	 * Finish the record, and return it as a string. Intended for testing.
+	 *
+	 * @throws IllegalStateException if not every field of the record has been written
+	 */
+	public String finishToString() {
+		finish();
+		return new String(buffer, 0, length, Charset.defaultCharset());
+	}
+
+	private void finish() {
+		if (format == null) {
+			throw new IllegalStateException("No record has been started");
+		}
+		if (nextField != format.getFieldCount()) {
+			throw new IllegalStateException(
+					"Record of format \"" + format + "\" has " + format.getFieldCount() + " fields but only "
+							+ nextField + " were written"
+			);
+		}
+		append(format.getSuffix());
+		format = null;
+	}
+
+	private Field nextField(Conversion conversion) {
+		if (format == null) {
+			throw new IllegalStateException("No record has been started");
+		}
+		if (nextField >= format.getFieldCount()) {
+			throw new IllegalStateException(
+					"Record of format \"" + format + "\" only has " + format.getFieldCount() + " fields"
+			);
+		}
+		var field = format.getField(nextField);
+		if (field.conversion() != conversion) {
+			throw new IllegalStateException(
+					"Field " + nextField + " of format \"" + format + "\" is " + field.pattern() + " not a "
+							+ conversion.name().toLowerCase(Locale.ROOT)
+			);
+		}
+		nextField++;
+		append(field.prefix());
+		return field;
+	}
+
+	private static boolean isAscii(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			if (s.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void pad(int count) {
+		if (count > 0) {
+			ensureCapacity(count);
+			Arrays.fill(buffer, length, length + count, (byte) ' ');
+			length += count;
+		}
+	}
+
+	private void append(byte[] bytes) {
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, buffer, length, bytes.length);
+		length += bytes.length;
+	}
+
+	private void ensureCapacity(int additional) {
+		if (length + additional > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+		}
+	}
+}
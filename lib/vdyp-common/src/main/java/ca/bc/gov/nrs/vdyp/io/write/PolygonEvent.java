@@ -0,0 +1,88 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.util.Optional;
+
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * What happened to one input polygon during a run, as recorded by a {@link PolygonEventLogWriter}.
+ *
+ * @param polygonIdentifier  the input polygon
+ * @param mode               the processing mode of the input polygon, if it has one
+ * @param processingNanos    time spent processing and writing the polygon
+ * @param solverIterations   iterations of the root finding solvers used while processing the polygon
+ * @param outcome            what became of the polygon
+ * @param errorClass         the class of the exception that bypassed or stopped processing of the polygon
+ * @param polygonRecords     number of polygon records written
+ * @param speciesRecords     number of species records written, excluding the end record
+ * @param utilizationRecords number of utilization records written, excluding the end record
+ */
+public record PolygonEvent(
+		PolygonIdentifier polygonIdentifier, Optional<PolygonMode> mode, long processingNanos, int solverIterations,
+		Outcome outcome, Optional<String> errorClass, int polygonRecords, int speciesRecords, int utilizationRecords
+) {
+
+	public enum Outcome {
+		/** The polygon was processed and written */
+		WRITTEN,
+		/** The polygon was not processed because of its mode */
+		SKIPPED,
+		/** The polygon could not be processed and processing continued with the next one */
+		BYPASSED,
+		/**
+		 * The polygon exceeded its time or solver budget, was bypassed and queued to be retried with a larger budget
+		 */
+		OVER_BUDGET,
+		/** Processing of the polygon failed and the run was stopped */
+		ERROR
+	}
+
+	/**
+	 * Event for a polygon whose result was written with {@link VdypOutputWriter#writePolygonWithSpeciesAndUtilization}
+	 */
+	public static PolygonEvent written(
+			PolygonIdentifier polygonIdentifier, Optional<PolygonMode> mode, long processingNanos, int solverIterations,
+			VdypPolygon result
+	) {
+		int species = 0;
+		int utilizationHolders = 0;
+		for (VdypLayer layer : result.getLayers().values()) {
+			species += layer.getSpecies().size();
+			utilizationHolders += 1 + layer.getSpecies().size();
+		}
+		return new PolygonEvent(
+				polygonIdentifier, mode, processingNanos, solverIterations, Outcome.WRITTEN, Optional.empty(), 1,
+				species, utilizationHolders * UtilizationClass.values().length
+		);
+	}
+
+	/**
+	 * Event for a polygon that was not processed because of its mode
+	 */
+	public static PolygonEvent skipped(
+			PolygonIdentifier polygonIdentifier, Optional<PolygonMode> mode, long processingNanos, int solverIterations
+	) {
+		return new PolygonEvent(
+				polygonIdentifier, mode, processingNanos, solverIterations, Outcome.SKIPPED, Optional.empty(), 0, 0, 0
+		);
+	}
+
+	/**
+	 * Event for a polygon whose processing threw an exception
+	 *
+	 * @param outcome {@link Outcome#BYPASSED}, {@link Outcome#OVER_BUDGET} or {@link Outcome#ERROR}
+	 */
+	public static PolygonEvent failed(
+			PolygonIdentifier polygonIdentifier, Optional<PolygonMode> mode, long processingNanos, int solverIterations,
+			Outcome outcome, Throwable cause
+	) {
+		return new PolygonEvent(
+				polygonIdentifier, mode, processingNanos, solverIterations, outcome,
+				Optional.of(cause.getClass().getName()), 0, 0, 0
+		);
+	}
+}
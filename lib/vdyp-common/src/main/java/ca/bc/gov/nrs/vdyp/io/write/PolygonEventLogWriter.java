@@ -0,0 +1,201 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a {@link PolygonEvent} for each polygon of a run as a line of JSON, for example
+ *
+ * <pre>
+ * {"polygon":"01002 S000001 00","year":1970,"mode":"START","processingNanos":1873400,"solverIterations":12,"outcome":"WRITTEN","errorClass":null,"polygonRecords":1,"speciesRecords":3,"utilizationRecords":32}
+ * </pre>
+ *
+ * Events are handed to a background thread which does the formatting and writing, so logging an event costs the
+ * processing thread only a queue insertion. If the writer falls behind by more than the capacity of the queue, logging
+ * blocks until it catches up rather than dropping events.
+ */
+public class PolygonEventLogWriter implements Closeable {
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/** Marks the end of the queue */
+	private static final PolygonEvent END = new PolygonEvent(
+			null, Optional.empty(), 0, 0, PolygonEvent.Outcome.ERROR, Optional.empty(), 0, 0, 0
+	);
+
+	private final BlockingQueue<PolygonEvent> queue;
+	private final Writer out;
+	private final Thread thread;
+
+	private volatile IOException failure = null;
+	private boolean closed = false;
+
+	/**
+	 * Create a writer with the default queue capacity. The stream will be closed when the writer is closed.
+	 *
+	 * @param os
+	 */
+	public PolygonEventLogWriter(OutputStream os) {
+		this(os, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a writer. The stream will be closed when the writer is closed.
+	 *
+	 * @param os       stream to write to
+	 * @param capacity number of events that can be waiting to be written
+	 */
+	public PolygonEventLogWriter(OutputStream os, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.out = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8), 64 * 1024);
+		this.thread = new Thread(this::drain, "polygon-event-log");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Queue an event to be written.
+	 *
+	 * @param event
+	 * @throws IOException if writing an earlier event failed
+	 */
+	public void log(PolygonEvent event) throws IOException {
+		if (closed) {
+			throw new IllegalStateException("Polygon event log is closed");
+		}
+		try {
+			enqueue(event);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while logging polygon event", ex);
+		}
+	}
+
+	private void enqueue(PolygonEvent event) throws IOException, InterruptedException {
+		// Wait for space, but give up if the writing thread has failed and will not make any
+		while (!queue.offer(event, 100, TimeUnit.MILLISECONDS)) {
+			if (failure != null) {
+				throw failure();
+			}
+		}
+		if (failure != null) {
+			throw failure();
+		}
+	}
+
+	private void drain() {
+		List<PolygonEvent> batch = new ArrayList<>();
+		StringBuilder line = new StringBuilder(256);
+		try {
+			while (true) {
+				batch.add(queue.take());
+				queue.drainTo(batch);
+				for (var event : batch) {
+					if (event == END) {
+						out.flush();
+						return;
+					}
+					line.setLength(0);
+					format(line, event);
+					out.append(line);
+				}
+				batch.clear();
+				// Only flush when caught up so that a busy run writes in large blocks
+				if (queue.isEmpty()) {
+					out.flush();
+				}
+			}
+		} catch (IOException ex) {
+			failure = ex;
+		} catch (InterruptedException ex) {
+			failure = new IOException("Interrupted while writing polygon events", ex);
+		}
+	}
+
+	/**
+	 * A new exception for each time the failure is reported, so that it can be suppressed by another report of it
+	 */
+	private IOException failure() {
+		return new IOException(failure.getMessage(), failure);
+	}
+
+	static void format(StringBuilder line, PolygonEvent event) {
+		line.append("{\"polygon\":");
+		appendString(line, event.polygonIdentifier().getBase());
+		line.append(",\"year\":").append(event.polygonIdentifier().getYear());
+		line.append(",\"mode\":");
+		appendString(line, event.mode().map(Enum::name).orElse(null));
+		line.append(",\"processingNanos\":").append(event.processingNanos());
+		line.append(",\"solverIterations\":").append(event.solverIterations());
+		line.append(",\"outcome\":");
+		appendString(line, event.outcome().name());
+		line.append(",\"errorClass\":");
+		appendString(line, event.errorClass().orElse(null));
+		line.append(",\"polygonRecords\":").append(event.polygonRecords());
+		line.append(",\"speciesRecords\":").append(event.speciesRecords());
+		line.append(",\"utilizationRecords\":").append(event.utilizationRecords());
+		line.append("}\n");
+	}
+
+	private static void appendString(StringBuilder line, String value) {
+		if (value == null) {
+			line.append("null");
+			return;
+		}
+		line.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"', '\\':
+				line.append('\\').append(c);
+				break;
+			default:
+				if (c < 0x20) {
+					line.append(String.format("\\u%04x", (int) c));
+				} else {
+					line.append(c);
+				}
+			}
+		}
+		line.append('"');
+	}
+
+	/**
+	 * Write any queued events and close the stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			if (thread.isAlive()) {
+				enqueue(END);
+			}
+			thread.join();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while closing polygon event log", ex);
+		} finally {
+			out.close();
+		}
+		if (failure != null) {
+			throw failure();
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+
+/**
+ * The values of one line of the utilization output file: the yields of a layer, or of a species within a layer, for one
+ * utilization class in one year. Base area, trees per hectare and volumes have already been scaled by the fraction of
+ * the polygon that is forested.
+ *
+ * @param polygonIdentifier the polygon, with the year of the projection
+ * @param layerType         the layer
+ * @param speciesIndex      the index of the species, or 0 for the layer as a whole
+ * @param speciesGenus      the species genus alias, or the empty string for the layer as a whole
+ * @param utilizationClass  the utilization class
+ */
+public record UtilizationRecord(
+		PolygonIdentifier polygonIdentifier, LayerType layerType, int speciesIndex, String speciesGenus,
+		UtilizationClass utilizationClass, float baseArea, float treesPerHectare, float loreyHeight,
+		float wholeStemVolume, float closeUtilizationVolume, float closeUtilizationVolumeNetOfDecay,
+		float closeUtilizationVolumeNetOfDecayAndWaste, float closeUtilizationVolumeNetOfDecayWasteAndBreakage,
+		float quadraticMeanDiameter
+) {
+}
@@ -0,0 +1,55 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * A writer that keeps the records written to it in memory, until they are taken and written to the files of another
+ * writer. This lets polygons be processed on different threads, each with its own buffer, and their records written in
+ * the order of the polygons.
+ */
+public class VdypOutputBuffer extends VdypOutputWriter {
+
+	private final ByteArrayOutputStream polygons;
+	private final ByteArrayOutputStream species;
+	private final ByteArrayOutputStream utilizations;
+
+	/**
+	 * The records written to a buffer since they were last taken.
+	 */
+	public record Records(byte[] polygons, byte[] species, byte[] utilizations) {
+
+		/**
+		 * Write the records to the VDYP7 files of the given writer.
+		 */
+		public void writeTo(VdypOutputWriter writer) throws IOException {
+			writer.polygonFile.write(polygons);
+			writer.speciesFile.write(species);
+			writer.utilizationFile.write(utilizations);
+		}
+	}
+
+	public VdypOutputBuffer() {
+		this(new ByteArrayOutputStream(), new ByteArrayOutputStream(), new ByteArrayOutputStream());
+	}
+
+	private VdypOutputBuffer(
+			ByteArrayOutputStream polygons, ByteArrayOutputStream species, ByteArrayOutputStream utilizations
+	) {
+		super(polygons, species, utilizations);
+		this.polygons = polygons;
+		this.species = species;
+		this.utilizations = utilizations;
+	}
+
+	/**
+	 * @return the records written since they were last taken, leaving the buffer empty
+	 */
+	public Records take() {
+		var records = new Records(polygons.toByteArray(), species.toByteArray(), utilizations.toByteArray());
+		polygons.reset();
+		species.reset();
+		utilizations.reset();
+		return records;
+	}
+}
@@ -4,10 +4,11 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Formattable;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.common.Utils;
@@ -17,7 +18,6 @@ import ca.bc.gov.nrs.vdyp.model.BaseVdypSpecies;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
-import ca.bc.gov.nrs.vdyp.model.Sp64Distribution;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
 import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
@@ -37,6 +37,7 @@ public class VdypOutputWriter implements Closeable {
 	private Optional<OutputStream> compatibilityVariablesFile;
 
 	private Optional<Integer> currentYear = Optional.empty();
+	private Optional<PolygonIdentifier> writeAs = Optional.empty();
 
 	static final String POLY_IDENTIFIER_FORMAT = "%-25s";
 	static final String LAYER_TYPE_FORMAT = "%-1s";
@@ -66,6 +67,13 @@ public class VdypOutputWriter implements Closeable {
 
 	static final String END_RECORD_FORMAT = POLY_IDENTIFIER_FORMAT + "  \n";
 
+	static final FixedWidthFormat POLY_LAYOUT = FixedWidthFormat.compile(POLY_FORMAT);
+	static final FixedWidthFormat SPEC_LAYOUT = FixedWidthFormat.compile(SPEC_FORMAT);
+	static final FixedWidthFormat UTIL_LAYOUT = FixedWidthFormat.compile(UTIL_FORMAT);
+	static final FixedWidthFormat END_RECORD_LAYOUT = FixedWidthFormat.compile(END_RECORD_FORMAT);
+
+	private FixedWidthFormatter formatter = null;
+
 	/**
 	 * Create a writer for Vdyp output files using provided OutputStreams. The Streams will be closed when the writer is
 	 * closed.
@@ -100,6 +108,14 @@ public class VdypOutputWriter implements Closeable {
 		this.compatibilityVariablesFile = compatibilityVariablesFile;
 	}
 
+	/**
+	 * Create a writer that does not write the VDYP7 text files. For use by writers that override the record writing
+	 * methods to produce a different format.
+	 */
+	protected VdypOutputWriter() {
+		this(OutputStream.nullOutputStream(), OutputStream.nullOutputStream(), OutputStream.nullOutputStream());
+	}
+
 	/**
 	 * Create a writer for Vdyp output files configured using the given control map.
 	 *
@@ -129,11 +145,12 @@ public class VdypOutputWriter implements Closeable {
 		this.currentYear = Optional.of(currentYear);
 	}
 
-	private PolygonIdentifier getCurrentPolygonDescriptor(PolygonIdentifier originalIdentifier) {
+	PolygonIdentifier getCurrentPolygonDescriptor(PolygonIdentifier originalIdentifier) {
+		var identifier = writeAs.orElse(originalIdentifier);
 		if (currentYear.isPresent()) {
-			return new PolygonIdentifier(originalIdentifier.getBase(), currentYear.get());
+			return new PolygonIdentifier(identifier.getBase(), currentYear.get());
 		} else {
-			return originalIdentifier;
+			return identifier;
 		}
 	}
 
@@ -146,19 +163,17 @@ public class VdypOutputWriter implements Closeable {
 	 */
 	void writePolygon(VdypPolygon polygon) throws IOException {
 
-		writeFormat(
-				polygonFile, //
-				POLY_FORMAT, //
-
-				getCurrentPolygonDescriptor(polygon.getPolygonIdentifier()), //
-				polygon.getBiogeoclimaticZone().getAlias(), //
-				polygon.getForestInventoryZone(), //
-
-				polygon.getPercentAvailable().intValue(), //
-				polygon.getLayers().get(LayerType.PRIMARY).getInventoryTypeGroup().orElse(EMPTY_INT), //
-				polygon.getLayers().get(LayerType.PRIMARY).getEmpiricalRelationshipParameterIndex().orElse(EMPTY_INT), //
-				polygon.getMode().orElse(PolygonMode.START).getCode()
-		);
+		var primaryLayer = polygon.getLayers().get(LayerType.PRIMARY);
+		formatter().start(POLY_LAYOUT) //
+				.string(getCurrentPolygonDescriptor(polygon.getPolygonIdentifier())) //
+				.string(polygon.getBiogeoclimaticZone().getAlias()) //
+				.string(polygon.getForestInventoryZone()) //
+
+				.integer(polygon.getPercentAvailable().intValue()) //
+				.integer(primaryLayer.getInventoryTypeGroup().orElse(EMPTY_INT)) //
+				.integer(primaryLayer.getEmpiricalRelationshipParameterIndex().orElse(EMPTY_INT)) //
+				.integer(polygon.getMode().orElse(PolygonMode.START).getCode()) //
+				.writeTo(polygonFile);
 	}
 
 	/**
@@ -170,40 +185,34 @@ public class VdypOutputWriter implements Closeable {
 	 */
 	void writeSpecies(VdypLayer layer, VdypSpecies spec) throws IOException {
 
-		// Ensure we have a list of 4 distribution entries
-		var specDistributionEntries = Stream.concat(
-				spec.getSp64DistributionSet().getSp64DistributionList().stream(),
-				Stream.generate(() -> new Sp64Distribution(0, "", 0f))
-		).limit(4).toList();
+		var specDistributionEntries = spec.getSp64DistributionSet().getSp64DistributionList();
+		var site = spec.getSite();
 		// 082E004 615 1988 P 9 L LW 100.0 0.0 0.0 0.0 -9.00 -9.00 -9.0 -9.0 -9.0 0 -9
-		writeFormat(
-				speciesFile, //
-				SPEC_FORMAT, //
-
-				getCurrentPolygonDescriptor(spec.getPolygonIdentifier()), //
-				spec.getLayerType().getAlias(), //
-
-				spec.getGenusIndex(), //
-				spec.getGenus(), //
-
-				specDistributionEntries.get(0).getGenusAlias(), //
-				specDistributionEntries.get(0).getPercentage(), //
-				specDistributionEntries.get(1).getGenusAlias(), //
-				specDistributionEntries.get(1).getPercentage(), //
-				specDistributionEntries.get(2).getGenusAlias(), //
-				specDistributionEntries.get(2).getPercentage(), //
-				specDistributionEntries.get(3).getGenusAlias(), //
-				specDistributionEntries.get(3).getPercentage(), //
-
-				spec.getSite().flatMap(VdypSite::getSiteIndex).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getHeight).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getAgeTotal).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getYearsAtBreastHeight).orElse(EMPTY_FLOAT), //
-				spec.getSite().flatMap(VdypSite::getYearsToBreastHeight).orElse(EMPTY_FLOAT), //
-				layer.getPrimaryGenus().map(spec.getGenus()::equals).orElse(false) ? 1 : 0, //
-				spec.getSite().flatMap(VdypSite::getSiteCurveNumber).orElse(EMPTY_INT) //
-		);
+		var record = formatter().start(SPEC_LAYOUT) //
+				.string(getCurrentPolygonDescriptor(spec.getPolygonIdentifier())) //
+				.string(spec.getLayerType().getAlias()) //
+
+				.integer(spec.getGenusIndex()) //
+				.string(spec.getGenus());
+
+		// Always write 4 distribution entries, padding with empty ones
+		for (int i = 0; i < 4; i++) {
+			if (i < specDistributionEntries.size()) {
+				record.string(specDistributionEntries.get(i).getGenusAlias())
+						.decimal(specDistributionEntries.get(i).getPercentage());
+			} else {
+				record.string("").decimal(0f);
+			}
+		}
 
+		record.decimal(site.flatMap(VdypSite::getSiteIndex).orElse(EMPTY_FLOAT)) //
+				.decimal(site.flatMap(VdypSite::getHeight).orElse(EMPTY_FLOAT)) //
+				.decimal(site.flatMap(VdypSite::getAgeTotal).orElse(EMPTY_FLOAT)) //
+				.decimal(site.flatMap(VdypSite::getYearsAtBreastHeight).orElse(EMPTY_FLOAT)) //
+				.decimal(site.flatMap(VdypSite::getYearsToBreastHeight).orElse(EMPTY_FLOAT)) //
+				.integer(layer.getPrimaryGenus().map(spec.getGenus()::equals).orElse(false) ? 1 : 0) //
+				.integer(site.flatMap(VdypSite::getSiteCurveNumber).orElse(EMPTY_INT)) //
+				.writeTo(speciesFile);
 	}
 
 	/**
@@ -241,11 +250,11 @@ public class VdypOutputWriter implements Closeable {
 	 */
 	// V7W_AIU Internalized loop over utilization classes
 	void writeUtilization(VdypPolygon polygon, VdypLayer layer, VdypUtilizationHolder utils) throws IOException {
-		Optional<String> specId = Optional.empty();
-		Optional<Integer> specIndex = Optional.empty();
+		String specId = "";
+		int specIndex = 0;
 		if (utils instanceof VdypSpecies spec) {
-			specId = Optional.of(spec.getGenus());
-			specIndex = Optional.of(spec.getGenusIndex());
+			specId = spec.getGenus();
+			specIndex = spec.getGenusIndex();
 		}
 
 		float fractionForest = fractionForest(polygon, layer);
@@ -265,36 +274,67 @@ public class VdypOutputWriter implements Closeable {
 				);
 			}
 
-			writeFormat(
-					utilizationFile, //
-					UTIL_FORMAT, //
+			writeUtilizationRecord(
+					new UtilizationRecord(
+							getCurrentPolygonDescriptor(layer.getPolygonIdentifier()), //
+							layer.getLayerType(), //
+
+							specIndex, //
+							specId, //
+
+							uc,
+
+							utils.getBaseAreaByUtilization().getCoe(uc.index) * fractionForest, //
+							utils.getTreesPerHectareByUtilization().getCoe(uc.index) * fractionForest, //
+							height.orElse(EMPTY_FLOAT), //
+
+							utils.getWholeStemVolumeByUtilization().getCoe(uc.index) * fractionForest, //
+							utils.getCloseUtilizationVolumeByUtilization().getCoe(uc.index) * fractionForest, //
+							utils.getCloseUtilizationVolumeNetOfDecayByUtilization().getCoe(uc.index) * fractionForest, //
+							utils.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization().getCoe(uc.index)
+									* fractionForest, //
+							safeMultiply(
+									utils.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization()
+											.getCoe(uc.index),
+									fractionForest
+							), //
+
+							quadMeanDiameter.orElse(layer.getLayerType() == LayerType.PRIMARY ? //
+									EMPTY_FLOAT : 0f
+							) // FIXME: VDYP7 is being inconsistent. Should consider using -9 for both.
+					)
+			);
+		}
+	}
 
-					getCurrentPolygonDescriptor(layer.getPolygonIdentifier()), //
-					layer.getLayerType().getAlias(), //
+	/**
+	 * Write a single utilization record to the utilization file.
+	 *
+	 * @param record
+	 * @throws IOException
+	 */
+	void writeUtilizationRecord(UtilizationRecord record) throws IOException {
+		formatter().start(UTIL_LAYOUT) //
+				.string(record.polygonIdentifier()) //
+				.string(record.layerType().getAlias()) //
 
-					specIndex.orElse(0), //
-					specId.orElse("  "), //
+				.integer(record.speciesIndex()) //
+				.string(record.speciesGenus()) //
 
-					uc.index,
+				.integer(record.utilizationClass().index) //
 
-					utils.getBaseAreaByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getTreesPerHectareByUtilization().getCoe(uc.index) * fractionForest, //
-					height.orElse(EMPTY_FLOAT), //
+				.decimal(record.baseArea()) //
+				.decimal(record.treesPerHectare()) //
+				.decimal(record.loreyHeight()) //
 
-					utils.getWholeStemVolumeByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getCloseUtilizationVolumeByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getCloseUtilizationVolumeNetOfDecayByUtilization().getCoe(uc.index) * fractionForest, //
-					utils.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization().getCoe(uc.index) * fractionForest, //
-					safeMultiply(
-							utils.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization().getCoe(uc.index),
-							fractionForest
-					), //
+				.decimal(record.wholeStemVolume()) //
+				.decimal(record.closeUtilizationVolume()) //
+				.decimal(record.closeUtilizationVolumeNetOfDecay()) //
+				.decimal(record.closeUtilizationVolumeNetOfDecayAndWaste()) //
+				.decimal(record.closeUtilizationVolumeNetOfDecayWasteAndBreakage()) //
 
-					quadMeanDiameter.orElse(layer.getLayerType() == LayerType.PRIMARY ? //
-							EMPTY_FLOAT : 0f
-					) // FIXME: VDYP7 is being inconsistent. Should consider using -9 for both.
-			);
-		}
+				.decimal(record.quadraticMeanDiameter()) //
+				.writeTo(utilizationFile);
 	}
 
 	/**
@@ -321,20 +361,93 @@ public class VdypOutputWriter implements Closeable {
 		writeUtilizationEndRecord(polygon);
 	}
 
+	/**
+	 * Output a polygon and its children as those of another polygon, for a polygon whose result is the same as that of
+	 * the given one.
+	 *
+	 * @param polygon the result to write
+	 * @param writeAs the identifier to write it with, in place of that of the polygon
+	 * @throws IOException
+	 */
+	public void writePolygonWithSpeciesAndUtilization(VdypPolygon polygon, PolygonIdentifier writeAs)
+			throws IOException {
+		this.writeAs = Optional.of(writeAs);
+		try {
+			writePolygonWithSpeciesAndUtilization(polygon);
+		} finally {
+			this.writeAs = Optional.empty();
+		}
+	}
+
 	private void writeEndRecord(OutputStream os, VdypPolygon polygon) throws IOException {
-		writeFormat(os, END_RECORD_FORMAT, getCurrentPolygonDescriptor(polygon.getPolygonIdentifier()));
+		formatter().start(END_RECORD_LAYOUT).string(getCurrentPolygonDescriptor(polygon.getPolygonIdentifier()))
+				.writeTo(os);
 	}
 
-	private void writeUtilizationEndRecord(VdypPolygon polygon) throws IOException {
+	void writeUtilizationEndRecord(VdypPolygon polygon) throws IOException {
 		writeEndRecord(utilizationFile, polygon);
 	}
 
-	private void writeSpeciesEndRecord(VdypPolygon polygon) throws IOException {
+	void writeSpeciesEndRecord(VdypPolygon polygon) throws IOException {
 		writeEndRecord(speciesFile, polygon);
 	}
 
+	/**
+	 * Write a record in the given format. Formats and values that {@link FixedWidthFormatter} supports are written with
+	 * it, anything else with {@link String#format}.
+	 */
 	void writeFormat(OutputStream os, String format, Object... params) throws IOException {
-		os.write(String.format(format, params).getBytes());
+		FixedWidthFormat layout;
+		try {
+			layout = FixedWidthFormat.compile(format);
+		} catch (IllegalArgumentException ex) {
+			layout = null;
+		}
+		if (layout == null || !fitsLayout(layout, params)) {
+			os.write(String.format(Locale.ROOT, format, params).getBytes());
+			return;
+		}
+		var record = formatter().start(layout);
+		for (int i = 0; i < params.length; i++) {
+			switch (layout.getField(i).conversion()) {
+			case STRING:
+				record.string(params[i]);
+				break;
+			case INTEGER:
+				record.integer( ((Number) params[i]).longValue());
+				break;
+			case FLOAT:
+				record.decimal((Float) params[i]);
+				break;
+			}
+		}
+		record.writeTo(os);
+	}
+
+	private static boolean fitsLayout(FixedWidthFormat layout, Object[] params) {
+		if (params.length != layout.getFieldCount()) {
+			return false;
+		}
+		for (int i = 0; i < params.length; i++) {
+			var param = params[i];
+			boolean fits = switch (layout.getField(i).conversion()) {
+			case STRING -> ! (param instanceof Formattable);
+			case INTEGER ->
+				param instanceof Integer || param instanceof Long || param instanceof Short || param instanceof Byte;
+			case FLOAT -> param instanceof Float;
+			};
+			if (!fits) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private FixedWidthFormatter formatter() {
+		if (formatter == null) {
+			formatter = new FixedWidthFormatter();
+		}
+		return formatter;
 	}
 
 	@Override
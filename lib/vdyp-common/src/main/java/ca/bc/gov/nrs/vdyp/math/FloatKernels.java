@@ -0,0 +1,101 @@
+package ca.bc.gov.nrs.vdyp.math;
+
+/**
+ * Element-wise arithmetic on float arrays and on species by utilization class matrices (indexed by species and then
+ * utilization class), for the utilization vector operations that are applied to every species of every polygon.
+ * <p>
+ * Each kernel is a plain counted loop over the arrays with no per element lambda call or index translation, which is
+ * the form the JIT compiler unrolls and, where the arrays are long enough, vectorizes. The arithmetic is the same as
+ * the equivalent per element code in the same order, so results are bit for bit identical to it.
+ */
+public final class FloatKernels {
+
+	private FloatKernels() {
+	}
+
+	/**
+	 * dst[i] = dst[i] + src[i] for each element of dst
+	 */
+	public static void add(float[] dst, float[] src) {
+		checkLength(dst, src);
+		for (int i = 0; i < dst.length; i++) {
+			dst[i] = dst[i] + src[i];
+		}
+	}
+
+	/**
+	 * dst[i] = dst[i] * factor for each element of dst
+	 */
+	public static void scale(float[] dst, float factor) {
+		for (int i = 0; i < dst.length; i++) {
+			dst[i] = dst[i] * factor;
+		}
+	}
+
+	/**
+	 * Limit each element of dst to the range [min, max]. NaN elements are left as they are.
+	 */
+	public static void clamp(float[] dst, float min, float max) {
+		if (! (max >= min)) {
+			throw new IllegalArgumentException("Maximum " + max + " was less than minimum " + min);
+		}
+		for (int i = 0; i < dst.length; i++) {
+			float x = dst[i];
+			dst[i] = x < min ? min : x > max ? max : x;
+		}
+	}
+
+	/**
+	 * dst[i] = dst[i] + a[i] * b[i] for each element of dst. a and b may be longer than dst.
+	 */
+	public static void addProduct(float[] dst, float[] a, float[] b) {
+		checkLength(dst, a);
+		checkLength(dst, b);
+		for (int i = 0; i < dst.length; i++) {
+			dst[i] = dst[i] + a[i] * b[i];
+		}
+	}
+
+	/**
+	 * @return the sum of a[from] to a[to - 1], accumulated in order
+	 */
+	public static float sum(float[] a, int from, int to) {
+		float sum = 0f;
+		for (int i = from; i < to; i++) {
+			sum += a[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Sum the rows of a species by utilization class matrix: dst[uc] = dst[uc] + values[0][uc] + values[1][uc] + ...
+	 */
+	public static void addRows(float[] dst, float[][] values) {
+		for (float[] row : values) {
+			add(dst, row);
+		}
+	}
+
+	/**
+	 * Accumulate the weighted sum of the rows of a species by utilization class matrix: dst[uc] = dst[uc] +
+	 * values[0][uc] * weights[0][uc] + values[1][uc] * weights[1][uc] + ...
+	 */
+	public static void addWeightedRows(float[] dst, float[][] values, float[][] weights) {
+		if (values.length != weights.length) {
+			throw new IllegalArgumentException(
+					"Expected " + values.length + " rows of weights but there were " + weights.length
+			);
+		}
+		for (int s = 0; s < values.length; s++) {
+			addProduct(dst, values[s], weights[s]);
+		}
+	}
+
+	private static void checkLength(float[] dst, float[] src) {
+		if (src.length < dst.length) {
+			throw new IllegalArgumentException(
+					"Expected an array of at least " + dst.length + " elements but there were " + src.length
+			);
+		}
+	}
+}
@@ -84,6 +84,16 @@ public abstract class BaseVdypSpecies<I extends BaseVdypSite> {
 		this.fractionGenus = Optional.of(value);
 	}
 
+	/** The percentage of the genus, if it has been set */
+	Optional<Float> percentGenus() {
+		return percentGenus;
+	}
+
+	/** The fraction of the genus, if it has been set */
+	Optional<Float> fractionGenus() {
+		return fractionGenus;
+	}
+
 	public Sp64DistributionSet getSp64DistributionSet() {
 		return sp64DistributionSet;
 	}
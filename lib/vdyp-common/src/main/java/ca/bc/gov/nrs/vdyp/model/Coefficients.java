@@ -9,6 +9,7 @@ import ca.bc.gov.nrs.vdyp.common.FloatBinaryOperator;
 import ca.bc.gov.nrs.vdyp.common.FloatUnaryOperator;
 import ca.bc.gov.nrs.vdyp.common.IndexedFloatBinaryOperator;
 import ca.bc.gov.nrs.vdyp.common.IndexedFloatUnaryOperator;
+import ca.bc.gov.nrs.vdyp.math.FloatKernels;
 
 /**
  * Fixed length list of floats that can be accessed using an offset index
@@ -233,6 +234,55 @@ public class Coefficients extends AbstractList<Float> implements List<Float> {
 		return scalar((IndexedFloatUnaryOperator) op);
 	}
 
+	/**
+	 * Add the coefficients of a compatible Coefficients object to these in place. Equivalent to
+	 * {@code pairwiseInPlace(coe2, (x, y) -> x + y)}.
+	 *
+	 * @param coe2 must have the same size and index offset
+	 */
+	public void addInPlace(Coefficients coe2) {
+		checkCompatible(coe2);
+		FloatKernels.add(coe, coe2.coe);
+	}
+
+	/**
+	 * Add the pairwise products of two Coefficients objects to these in place. Equivalent to
+	 * {@code pairwiseInPlace(a, (x, y, i) -> x + y * b.getCoe(i))}.
+	 *
+	 * @param a must have the same index offset and at least the same size
+	 * @param b must have the same index offset and at least the same size
+	 */
+	public void addProductInPlace(Coefficients a, Coefficients b) {
+		if (a.getIndexFrom() != getIndexFrom() || b.getIndexFrom() != getIndexFrom()) {
+			throw new IllegalArgumentException(
+					"Expected Coefficients objects indexed from " + getIndexFrom() + " but were indexed from "
+							+ a.getIndexFrom() + " and " + b.getIndexFrom()
+			);
+		}
+		FloatKernels.addProduct(coe, a.coe, b.coe);
+	}
+
+	/**
+	 * Multiply each coefficient by a factor in place. Equivalent to {@code scalarInPlace(x -> x * factor)}.
+	 */
+	public void scaleInPlace(float factor) {
+		FloatKernels.scale(coe, factor);
+	}
+
+	/**
+	 * Limit each coefficient to the range [min, max] in place.
+	 */
+	public void clampInPlace(float min, float max) {
+		FloatKernels.clamp(coe, min, max);
+	}
+
+	/**
+	 * @return the sum of the coefficients with indices from {@code from} to {@code to} inclusive, accumulated in order
+	 */
+	public float sum(int from, int to) {
+		return FloatKernels.sum(coe, getRealIndex(from), getRealIndex(to) + 1);
+	}
+
 	/**
 	 * Returns a view of this coefficients object indexed from the given value.
 	 */
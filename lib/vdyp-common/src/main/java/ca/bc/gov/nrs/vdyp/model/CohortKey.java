@@ -0,0 +1,245 @@
+package ca.bc.gov.nrs.vdyp.model;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Identifies the polygons whose projections are the same apart from their names. Two polygons have equal keys when
+ * everything a projection reads from them is equal: the year of their identifiers, their BEC zone, FIZ, percent
+ * available and mode, and the composition, utilization, site curves, ages, heights and site indices of their layers,
+ * species and sites, in the order they are held. The base of the polygon identifier is not part of the key.
+ * <p>
+ * The key is a SHA-256 digest of a canonical encoding of those values, so it is small enough to keep for many polygons.
+ */
+public final class CohortKey {
+
+	private final byte[] digest;
+	private final int hashCode;
+
+	private CohortKey(byte[] digest) {
+		this.digest = digest;
+		this.hashCode = Arrays.hashCode(digest);
+	}
+
+	/**
+	 * The key of a polygon, from the fields of the common model classes.
+	 */
+	public static CohortKey of(BaseVdypPolygon<?, ?, ?, ?> polygon) {
+		return of(polygon, (entity, fields) -> {
+			/* no other fields */
+		});
+	}
+
+	/**
+	 * The key of a polygon, from the fields of the common model classes and those that <code>extraFields</code> adds
+	 * for each polygon, layer, species and site. Applications with their own model classes use this to add the fields
+	 * of those classes.
+	 *
+	 * @param polygon     the polygon
+	 * @param extraFields called with each polygon, layer, species and site in turn and the fields of the key
+	 */
+	public static CohortKey of(BaseVdypPolygon<?, ?, ?, ?> polygon, BiConsumer<Object, Fields> extraFields) {
+		return of(polygon, extraFields, true);
+	}
+
+	/**
+	 * The key of the state of a polygon at the year of its identifier, from the fields of the common model classes.
+	 * This leaves out the target year, so polygons with equal keys of this kind are projected alike up to the earlier
+	 * of their target years.
+	 */
+	public static CohortKey ofStartingState(BaseVdypPolygon<?, ?, ?, ?> polygon) {
+		return of(polygon, (entity, fields) -> {
+			/* no other fields */
+		}, false);
+	}
+
+	private static CohortKey
+			of(BaseVdypPolygon<?, ?, ?, ?> polygon, BiConsumer<Object, Fields> extraFields, boolean withTargetYear) {
+		var fields = new Fields();
+
+		fields.add(polygon.getPolygonIdentifier().getYear());
+		fields.add(polygon.getPercentAvailable());
+		fields.add(polygon.getBiogeoclimaticZone());
+		fields.add(polygon.getForestInventoryZone());
+		fields.add(polygon.getMode());
+		fields.add(polygon.getInventoryTypeGroup());
+		if (withTargetYear && polygon instanceof VdypPolygon vdypPolygon) {
+			fields.add(vdypPolygon.getTargetYear());
+		}
+		extraFields.accept(polygon, fields);
+
+		for (var layerType : LayerType.values()) {
+			var layer = polygon.getLayers().get(layerType);
+			if (layer != null) {
+				addLayer(fields, layer, extraFields);
+			}
+		}
+
+		return new CohortKey(fields.digest());
+	}
+
+	private static void addLayer(Fields fields, BaseVdypLayer<?, ?> layer, BiConsumer<Object, Fields> extraFields) {
+		fields.add(layer.getLayerType());
+		fields.add(layer.getInventoryTypeGroup());
+		fields.add(layer.getPrimaryGenus());
+		if (layer instanceof VdypLayer vdypLayer) {
+			fields.add(vdypLayer.getEmpiricalRelationshipParameterIndex());
+		}
+		if (layer instanceof VdypUtilizationHolder holder) {
+			addUtilization(fields, holder);
+		}
+		extraFields.accept(layer, fields);
+
+		fields.add(layer.getSpecies().size());
+		for (BaseVdypSpecies<?> species : layer.getSpecies().values()) {
+			fields.add(species.getGenus());
+			fields.add(species.getGenusIndex());
+			fields.add(species.percentGenus());
+			fields.add(species.fractionGenus());
+			for (var distribution : species.getSp64DistributionSet().getSp64DistributionList()) {
+				fields.add(distribution.getIndex());
+				fields.add(distribution.getGenusAlias());
+				fields.add(distribution.getPercentage());
+			}
+			// The volume, decay and breakage groups follow from the genus and BEC zone
+			if (species instanceof VdypUtilizationHolder holder) {
+				addUtilization(fields, holder);
+			}
+			extraFields.accept(species, fields);
+
+			Optional<? extends BaseVdypSite> site = species.getSite();
+			fields.add(site.isPresent());
+			if (site.isPresent()) {
+				addSite(fields, site.get(), extraFields);
+			}
+		}
+	}
+
+	private static void addSite(Fields fields, BaseVdypSite site, BiConsumer<Object, Fields> extraFields) {
+		fields.add(site.getSiteGenus());
+		fields.add(site.getSiteCurveNumber());
+		fields.add(site.getSiteIndex());
+		fields.add(site.getAgeTotal());
+		fields.add(site.getHeight());
+		fields.add(site.getYearsToBreastHeight());
+		extraFields.accept(site, fields);
+	}
+
+	private static void addUtilization(Fields fields, VdypUtilizationHolder holder) {
+		fields.add(holder.getBaseAreaByUtilization());
+		fields.add(holder.getLoreyHeightByUtilization());
+		fields.add(holder.getQuadraticMeanDiameterByUtilization());
+		fields.add(holder.getTreesPerHectareByUtilization());
+		fields.add(holder.getWholeStemVolumeByUtilization());
+		fields.add(holder.getCloseUtilizationVolumeByUtilization());
+		fields.add(holder.getCloseUtilizationVolumeNetOfDecayByUtilization());
+		fields.add(holder.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization());
+		fields.add(holder.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization());
+	}
+
+	/**
+	 * The values that make up a key. Each value is written with a tag for its type, so that different sequences of
+	 * values do not encode the same way.
+	 */
+	public static final class Fields {
+		private final MessageDigest messageDigest;
+		private final DataOutputStream out;
+
+		private Fields() {
+			try {
+				messageDigest = MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("SHA-256 is not available", e);
+			}
+			out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest));
+		}
+
+		/**
+		 * Add a value to the key. Supported values are null, strings, booleans, numbers, enumerations, aliased
+		 * entities, and optionals and collections of these.
+		 *
+		 * @throws IllegalArgumentException if the value is of an unsupported type
+		 */
+		public Fields add(Object value) {
+			try {
+				if (value == null) {
+					out.writeByte('N');
+				} else if (value instanceof Optional<?> optional) {
+					out.writeByte('O');
+					add(optional.orElse(null));
+				} else if (value instanceof String string) {
+					out.writeByte('S');
+					out.writeUTF(string);
+				} else if (value instanceof Boolean bool) {
+					out.writeByte('B');
+					out.writeBoolean(bool);
+				} else if (value instanceof Float f) {
+					out.writeByte('F');
+					out.writeInt(Float.floatToIntBits(f));
+				} else if (value instanceof Double d) {
+					out.writeByte('D');
+					out.writeLong(Double.doubleToLongBits(d));
+				} else if (value instanceof Integer || value instanceof Long || value instanceof Short
+						|| value instanceof Byte) {
+					out.writeByte('I');
+					out.writeLong( ((Number) value).longValue());
+				} else if (value instanceof Enum<?> e) {
+					out.writeByte('E');
+					out.writeUTF(e.getDeclaringClass().getName());
+					out.writeUTF(e.name());
+				} else if (value instanceof AliasedEntity entity) {
+					out.writeByte('A');
+					out.writeUTF(entity.getClass().getName());
+					out.writeUTF(entity.getAlias());
+				} else if (value instanceof Coefficients coefficients) {
+					out.writeByte('C');
+					out.writeInt(coefficients.getIndexFrom());
+					out.writeInt(coefficients.size());
+					for (int i = 0; i < coefficients.size(); i++) {
+						out.writeInt(Float.floatToIntBits(coefficients.get(i)));
+					}
+				} else if (value instanceof Collection<?> collection) {
+					out.writeByte('L');
+					out.writeInt(collection.size());
+					for (var element : collection) {
+						add(element);
+					}
+				} else {
+					throw new IllegalArgumentException("Cannot add a " + value.getClass().getName() + " to a key");
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return this;
+		}
+
+		private byte[] digest() {
+			return messageDigest.digest();
+		}
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return other instanceof CohortKey that && Arrays.equals(this.digest, that.digest);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return HexFormat.of().formatHex(digest);
+	}
+}
@@ -0,0 +1,79 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.Height2SiteIndex;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+
+class PolygonBudgetTest {
+
+	@Test
+	void testNotLimitedOutsideScope() {
+		assertDoesNotThrow(() -> PolygonBudget.spend(Integer.MAX_VALUE));
+	}
+
+	@Test
+	void testEvaluationsExceeded() {
+		var budget = new PolygonBudget(Duration.ofMinutes(1), 10);
+		try (var scope = budget.start()) {
+			PolygonBudget.spend(4);
+			PolygonBudget.spend(6);
+			var ex = assertThrows(RuntimeStandProcessingException.class, () -> PolygonBudget.spend(1));
+			assertThat(ex.getCause(), instanceOf(PolygonBudgetExceededException.class));
+			assertThat(ex.getCause().getMessage(), is("Polygon used more than its budget of 10 solver evaluations"));
+		}
+		assertDoesNotThrow(() -> PolygonBudget.spend(100));
+	}
+
+	@Test
+	void testTimeExceeded() throws InterruptedException {
+		var budget = new PolygonBudget(Duration.ofMillis(1), 1000);
+		try (var scope = budget.start()) {
+			Thread.sleep(5);
+			var ex = assertThrows(RuntimeStandProcessingException.class, () -> PolygonBudget.spend(1));
+			assertThat(ex.getCause().getMessage(), is("Polygon took longer than its budget of 1 ms"));
+		}
+	}
+
+	@Test
+	void testNestedScopes() {
+		var outer = new PolygonBudget(Duration.ofMinutes(1), 10);
+		var inner = new PolygonBudget(Duration.ofMinutes(1), 100);
+		try (var outerScope = outer.start()) {
+			try (var innerScope = inner.start()) {
+				PolygonBudget.spend(50);
+			}
+			PolygonBudget.spend(10);
+			assertThrows(RuntimeStandProcessingException.class, () -> PolygonBudget.spend(1));
+		}
+	}
+
+	@Test
+	void testInvalidBudget() {
+		assertThrows(IllegalArgumentException.class, () -> new PolygonBudget(Duration.ZERO, 10));
+		assertThrows(IllegalArgumentException.class, () -> new PolygonBudget(Duration.ofSeconds(1), 0));
+	}
+
+	@Test
+	void testSiteIterateIsNotLimited() {
+		var equation = SiteIndexEquation.SI_PLI_THROWNIGH;
+		double siteIndex = Height2SiteIndex.siteIterateOrNaN(equation, 50, SiteIndexAgeType.SI_AT_TOTAL, 20);
+		assertThat(Double.isNaN(siteIndex), is(false));
+
+		var budget = new PolygonBudget(Duration.ofMinutes(1), 3);
+		try (var scope = budget.start()) {
+			assertThat(
+					Height2SiteIndex.siteIterateOrNaN(equation, 50, SiteIndexAgeType.SI_AT_TOTAL, 20), is(siteIndex)
+			);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PolygonSchedulerTest {
+
+	ForkJoinPool pool = new ForkJoinPool(1);
+
+	@AfterEach
+	void shutdown() {
+		pool.shutdown();
+	}
+
+	@Test
+	void testSequential() throws ProcessingException {
+		var statistics = new ProjectionCostStatistics();
+		var unit = new PolygonScheduler<Integer>(Optional.empty(), i -> i, statistics);
+
+		List<Integer> started = new ArrayList<>();
+		List<String> committed = new ArrayList<>();
+		unit.run(List.of(1, 3, 2), i -> {
+			started.add(i);
+			return "P" + i;
+		}, (i, result) -> committed.add(result));
+
+		assertThat(started, contains(1, 3, 2));
+		assertThat(committed, contains("P1", "P3", "P2"));
+		assertThat(statistics.getPolygons(), is(3));
+		assertThat(statistics.getPredictedCost(), closeTo(6, 1e-9));
+	}
+
+	@Test
+	void testMostExpensiveStartedFirst() throws ProcessingException {
+		var statistics = new ProjectionCostStatistics();
+		var unit = new PolygonScheduler<Integer>(Optional.of(pool), i -> i, statistics);
+
+		// A single thread takes the tasks in the order they were submitted
+		List<Integer> started = Collections.synchronizedList(new ArrayList<>());
+		List<String> committed = new ArrayList<>();
+		unit.run(List.of(1, 5, 3, 4, 2), i -> {
+			started.add(i);
+			return "P" + i;
+		}, (i, result) -> committed.add(result));
+
+		assertThat(started, contains(5, 4, 3, 2, 1));
+		assertThat(committed, contains("P1", "P5", "P3", "P4", "P2"));
+		assertThat(statistics.getPolygons(), is(5));
+		assertThat(statistics.getPredictedCost(), closeTo(15, 1e-9));
+	}
+
+	@Test
+	void testFailureCommitsEarlierPolygons() {
+		var statistics = new ProjectionCostStatistics();
+		var unit = new PolygonScheduler<Integer>(Optional.of(pool), i -> i, statistics);
+
+		List<Integer> committed = new ArrayList<>();
+		var ex = assertThrows(ProcessingException.class, () -> unit.run(List.of(1, 2, 3), i -> {
+			if (i == 2) {
+				throw new ProcessingException("Failed " + i);
+			}
+			return i;
+		}, (i, result) -> committed.add(result)));
+
+		assertThat(ex.getMessage(), is("Failed 2"));
+		assertThat(committed, contains(1));
+	}
+
+	@Test
+	void testCorrelation() {
+		var statistics = new ProjectionCostStatistics();
+		assertThat(Double.isNaN(statistics.getCorrelation()), is(true));
+		statistics.polygon(1, 100);
+		statistics.polygon(2, 200);
+		statistics.polygon(4, 400);
+		assertThat(statistics.getCorrelation(), closeTo(1, 1e-9));
+		statistics.batch(700, 2);
+		assertThat(statistics.getUtilization(), closeTo(0.5, 1e-9));
+	}
+}
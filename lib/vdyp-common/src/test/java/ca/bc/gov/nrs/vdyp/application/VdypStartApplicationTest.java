@@ -13,6 +13,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.describedAs;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -21,6 +22,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -54,6 +56,7 @@ import ca.bc.gov.nrs.vdyp.io.parse.coe.BecDefinitionParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.io.write.PolygonEventLogWriter;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypLayer;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypPolygon;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypSpecies;
@@ -111,6 +114,78 @@ class VdypStartApplicationTest {
 
 	}
 
+	@Nested
+	class PolygonBudgets {
+
+		@Test
+		void testNoBudget() throws Exception {
+			try (var app = new TestStartApplication(controlMap, false)) {
+				var result = app.withinPolygonBudget(() -> {
+					PolygonBudget.spend(1_000_000);
+					return "result";
+				});
+				assertThat(result, is("result"));
+			}
+		}
+
+		@Test
+		void testOverBudget() throws Exception {
+			try (var app = new TestStartApplication(controlMap, false)) {
+				app.setPolygonBudget(new PolygonBudget(Duration.ofMinutes(1), 100));
+
+				assertThat(app.withinPolygonBudget(() -> {
+					PolygonBudget.spend(100);
+					return "result";
+				}), is("result"));
+
+				var ex = assertThrows(PolygonBudgetExceededException.class, () -> app.withinPolygonBudget(() -> {
+					PolygonBudget.spend(101);
+					return "result";
+				}));
+
+				TestUtils.populateControlMapBecReal(controlMap);
+				var polygonId = new PolygonIdentifier("Test", 2024);
+				var polygon = getTestPolygon(polygonId, pb -> pb.percentAvailable(Optional.of(100f)));
+				app.bypassOverBudget(polygon, app.startPolygon(), ex);
+
+				assertThat(app.getRetryPolygons(), contains(polygonId));
+			}
+		}
+
+		@Test
+		void testOtherStandErrorsPassThrough() throws Exception {
+			try (var app = new TestStartApplication(controlMap, false)) {
+				app.setPolygonBudget(new PolygonBudget(Duration.ofMinutes(1), 100));
+
+				var cause = new StandProcessingException("Not budget");
+				var ex = assertThrows(RuntimeStandProcessingException.class, () -> app.withinPolygonBudget(() -> {
+					throw new RuntimeStandProcessingException(cause);
+				}));
+				assertThat(ex.getCause(), is(cause));
+			}
+		}
+
+		@Test
+		void testEventLogFailureDoesNotReplaceError() throws Exception {
+			try (var app = new TestStartApplication(controlMap, false)) {
+				// A closed writer fails on every log
+				var eventLog = new PolygonEventLogWriter(new ByteArrayOutputStream());
+				eventLog.close();
+				app.setPolygonEventLog(eventLog);
+
+				TestUtils.populateControlMapBecReal(controlMap);
+				var polygon = getTestPolygon(
+						new PolygonIdentifier("Test", 2024), pb -> pb.percentAvailable(Optional.of(100f))
+				);
+				var error = new ProcessingException("Real failure");
+				app.logPolygonError(polygon, app.startPolygon(), error);
+
+				assertThat(error.getSuppressed().length, is(1));
+				assertThat(error.getSuppressed()[0], instanceOf(IllegalStateException.class));
+			}
+		}
+	}
+
 	private MockFileResolver dummyIo() {
 		controlMap.put(ControlKey.VDYP_OUTPUT_VDYP_POLYGON.name(), "DUMMY1");
 		controlMap.put(ControlKey.VDYP_OUTPUT_VDYP_LAYER_BY_SPECIES.name(), "DUMMY2");
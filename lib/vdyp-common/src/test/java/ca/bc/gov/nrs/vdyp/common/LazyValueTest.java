@@ -1,9 +1,14 @@
 package ca.bc.gov.nrs.vdyp.common;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.easymock.EasyMock;
 import org.junit.jupiter.api.Test;
@@ -43,4 +48,45 @@ class LazyValueTest {
 		assertThat(unit.get(), is(42));
 		EasyMock.verify(supplier);
 	}
+
+	@Test
+	void testOnlyCallsSupplierOnceForNull() {
+		Supplier<Integer> supplier = EasyMock.createMock(Supplier.class);
+		EasyMock.expect(supplier.get()).andReturn(null).once();
+		EasyMock.replay(supplier);
+		var unit = new LazyValue<>(supplier);
+		assertThat(unit.get(), nullValue());
+		assertThat(unit.isComputed(), is(true));
+		assertThat(unit.get(), nullValue());
+		EasyMock.verify(supplier);
+	}
+
+	@Test
+	void testIsComputed() {
+		var unit = new LazyValue<>(() -> 42);
+		assertThat(unit.isComputed(), is(false));
+		unit.get();
+		assertThat(unit.isComputed(), is(true));
+	}
+
+	@Test
+	void testConcurrentReadersSeeOneValue() throws Exception {
+		var calls = new AtomicInteger();
+		var unit = new LazyValue<>(() -> {
+			calls.incrementAndGet();
+			return new int[] { 42 };
+		});
+
+		var pool = new ForkJoinPool(8);
+		try {
+			var results = pool
+					.submit(() -> IntStream.range(0, 1000).parallel().mapToObj(i -> unit.get()).distinct().toList())
+					.get();
+			assertThat(results, contains(unit.get()));
+			assertThat(unit.get()[0], is(42));
+		} finally {
+			pool.shutdown();
+		}
+		assertThat(calls.get(), is(1));
+	}
 }
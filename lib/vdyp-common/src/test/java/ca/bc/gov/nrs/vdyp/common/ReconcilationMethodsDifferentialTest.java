@@ -0,0 +1,203 @@
+package ca.bc.gov.nrs.vdyp.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.BaseAreaTreeDensityDiameter;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
+
+/**
+ * Checks that {@link ReconcilationMethods} gives exactly the same results, including the same exceptions, as
+ * {@link ReconcilationMethodsReference} over the fixtures of {@link ReconcilationMethodsTest} and a large number of
+ * random variations of them.
+ */
+class ReconcilationMethodsDifferentialTest {
+
+	static final int N_RANDOM_CASES = 20000;
+
+	record Case(UtilizationVector baseArea, UtilizationVector treesPerHectare, UtilizationVector quadMeanDiameter) {
+		Case copy() {
+			return new Case(
+					new UtilizationVector(baseArea), new UtilizationVector(treesPerHectare),
+					new UtilizationVector(quadMeanDiameter)
+			);
+		}
+	}
+
+	record Result(Case values, Class<?> exceptionClass, String exceptionMessage) {
+	}
+
+	static Case fixture(float[] ba, float[] tph, float[] dq) {
+		return new Case(
+				new UtilizationVector(0f, ba[0], ba[1], ba[2], ba[3], ba[4]),
+				new UtilizationVector(0f, tph[0], tph[1], tph[2], tph[3], tph[4]),
+				new UtilizationVector(0f, dq[0], dq[1], dq[2], dq[3], dq[4])
+		);
+	}
+
+	/** The inputs of the mode 1, 2 and 3 tests of ReconcilationMethodsTest */
+	static List<Case> fixtures() {
+		return List.of(
+				fixture(
+						new float[] { 2.20898318f, 0.220842764f, 0.433804274f, 0.691931725f, 0.862404406f },
+						new float[] { 154.454025f, 83.4198151f, 51.0201035f, 14.6700592f, 4.25086117f },
+						new float[] { 13.4943399f, 10.2766619f, 14.67033f, 19.4037666f, 25.719244f }
+				),
+				fixture(
+						new float[] { 0.397305071f, 0.00485289097f, 0.0131751001f, 0.0221586525f, 0.357118428f },
+						new float[] { 5.04602766f, 0.61060524f, 0.748872101f, 0.709191978f, 2.13305807f },
+						new float[] { 31.6622887f, 10.0594692f, 14.966774f, 19.9454956f, 46.1699982f }
+				),
+				fixture(
+						new float[] { 0.3974f, 0f, 0.3974f, 0f, 0f }, new float[] { 5.046f, 0f, 5.046f, 0f, 0f },
+						new float[] { 10.0f, 0f, 10.0f, 0f, 0f }
+				), fixture(new float[6], new float[6], new float[6])
+		);
+	}
+
+	/**
+	 * A random variation of a fixture: base areas moved between classes or zeroed, diameters scaled and sometimes
+	 * pushed out of their class, and totals that usually but not always agree with the classes.
+	 */
+	static Case vary(Case fixture, Random random) {
+		var result = fixture.copy();
+		var ba = result.baseArea();
+		var tph = result.treesPerHectare();
+		var dq = result.quadMeanDiameter();
+
+		float baSum = 0f;
+		for (var uc : UtilizationClass.UTIL_CLASSES) {
+			float value = ba.get(uc) * (0.2f + 2f * random.nextFloat());
+			if (random.nextInt(5) == 0) {
+				value = 0f;
+			} else if (random.nextInt(5) == 0) {
+				value = random.nextFloat() * 2f;
+			}
+			ba.set(uc, value);
+			baSum += value;
+
+			float dqValue = uc.lowBound + (Math.min(uc.highBound, 60f) - uc.lowBound) * random.nextFloat();
+			if (random.nextInt(4) == 0) {
+				dqValue *= 0.5f + random.nextFloat();
+			}
+			dq.set(uc, dqValue);
+			tph.set(
+					uc, BaseAreaTreeDensityDiameter.treesPerHectare(value, dqValue) * (0.9f + 0.2f * random.nextFloat())
+			);
+		}
+		ba.setAll(random.nextInt(50) == 0 ? baSum * 1.01f : baSum);
+
+		float dqAll = 5f + 40f * random.nextFloat();
+		dq.setAll(dqAll);
+		tph.setAll(BaseAreaTreeDensityDiameter.treesPerHectare(ba.getAll(), dqAll));
+		if (random.nextInt(10) == 0) {
+			tph.setAll(random.nextFloat() * 5000f);
+		}
+		return result;
+	}
+
+	static Result run(Case input, boolean reference) {
+		var values = input.copy();
+		try {
+			if (reference) {
+				ReconcilationMethodsReference
+						.reconcileComponents(values.baseArea(), values.treesPerHectare(), values.quadMeanDiameter());
+			} else {
+				ReconcilationMethods
+						.reconcileComponents(values.baseArea(), values.treesPerHectare(), values.quadMeanDiameter());
+			}
+			return new Result(values, null, null);
+		} catch (Exception ex) {
+			return new Result(values, ex.getClass(), ex.getMessage());
+		}
+	}
+
+	static void assertSameBits(UtilizationVector actual, UtilizationVector expected, String message) {
+		for (var uc : UtilizationClass.values()) {
+			assertThat(
+					message + " " + uc, Float.floatToIntBits(actual.get(uc)), is(Float.floatToIntBits(expected.get(uc)))
+			);
+		}
+	}
+
+	static void assertSameResult(Result actual, Result expected, String message) {
+		assertThat(message, actual.exceptionClass(), is(expected.exceptionClass()));
+		assertThat(message, actual.exceptionMessage(), is(expected.exceptionMessage()));
+		assertSameBits(actual.values().baseArea(), expected.values().baseArea(), message + " base area");
+		assertSameBits(
+				actual.values().treesPerHectare(), expected.values().treesPerHectare(), message + " trees per hectare"
+		);
+		assertSameBits(
+				actual.values().quadMeanDiameter(), expected.values().quadMeanDiameter(),
+				message + " quadratic mean diameter"
+		);
+	}
+
+	static List<Case> cases() {
+		var random = new Random(20240601L);
+		var fixtures = fixtures();
+		var cases = new ArrayList<>(fixtures);
+		for (int i = 0; i < N_RANDOM_CASES; i++) {
+			cases.add(vary(fixtures.get(i % 3), random));
+		}
+		return cases;
+	}
+
+	@Test
+	void testMatchesReference() {
+		int reconciled = 0;
+		int failed = 0;
+		var cases = cases();
+		for (int i = 0; i < cases.size(); i++) {
+			var input = cases.get(i);
+			var expected = run(input, true);
+			assertSameResult(run(input, false), expected, "Case " + i + " " + input);
+			if (expected.exceptionClass() == null) {
+				reconciled++;
+			} else {
+				failed++;
+			}
+		}
+		// Make sure the variations cover both outcomes
+		assertThat(reconciled, greaterThan(N_RANDOM_CASES / 4));
+		assertThat(failed, greaterThan(N_RANDOM_CASES / 100));
+	}
+
+	@Test
+	void testMatrixRowsMatchReference() throws Exception {
+		var cases = cases().stream().filter(c -> run(c, true).exceptionClass() == null).toList();
+		final int rowLength = ReconcilationMethods.ROW_LENGTH;
+
+		var ba = new float[cases.size() * rowLength];
+		var tph = new float[cases.size() * rowLength];
+		var dq = new float[cases.size() * rowLength];
+		for (int s = 0; s < cases.size(); s++) {
+			for (var uc : UtilizationClass.values()) {
+				ba[s * rowLength + uc.ordinal()] = cases.get(s).baseArea().get(uc);
+				tph[s * rowLength + uc.ordinal()] = cases.get(s).treesPerHectare().get(uc);
+				dq[s * rowLength + uc.ordinal()] = cases.get(s).quadMeanDiameter().get(uc);
+			}
+		}
+
+		for (int s = 0; s < cases.size(); s++) {
+			ReconcilationMethods.reconcileComponents(ba, tph, dq, s * rowLength);
+		}
+
+		for (int s = 0; s < cases.size(); s++) {
+			var expected = run(cases.get(s), true).values();
+			for (var uc : UtilizationClass.values()) {
+				assertThat(ba[s * rowLength + uc.ordinal()], is(expected.baseArea().get(uc)));
+				assertThat(tph[s * rowLength + uc.ordinal()], is(expected.treesPerHectare().get(uc)));
+				assertThat(dq[s * rowLength + uc.ordinal()], is(expected.quadMeanDiameter().get(uc)));
+			}
+		}
+	}
+}
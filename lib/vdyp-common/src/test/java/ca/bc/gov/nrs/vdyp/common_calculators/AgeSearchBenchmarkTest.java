@@ -0,0 +1,66 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.test.Benchmarks;
+
+/**
+ * Times {@link AgeSearch} against the {@link SiteIndex2Age#search} it replaces, over the curves whose ages are found by
+ * searching. {@link AgeSearchTest} checks that the ages are the same.
+ */
+@EnabledIfSystemProperty(named = Benchmarks.PROPERTY, matches = "true")
+class AgeSearchBenchmarkTest {
+
+	record Call(SiteCurve curve, double height, double siteIndex, double yearsToBreastHeight) {
+	}
+
+	static List<Call> calls() {
+		var calls = new ArrayList<Call>();
+		for (var equation : SiteIndexEquation.values()) {
+			var curve = SiteCurve.of(equation);
+			if (curve.height == null || curve.age != null) {
+				continue;
+			}
+			for (double siteIndex = 5; siteIndex < 50; siteIndex += 3.1) {
+				for (double yearsToBreastHeight : new double[] { 3.7, 8.2 }) {
+					for (double height = 2; height < 50; height += 2.3) {
+						calls.add(new Call(curve, height, siteIndex, yearsToBreastHeight));
+					}
+				}
+			}
+		}
+		return calls;
+	}
+
+	@Test
+	void benchmarkAgeSearch() {
+		var calls = calls();
+		Benchmarks.nanosPerOperation("SiteIndex2Age.search", calls.size(), () -> {
+			double sum = 0;
+			for (var call : calls) {
+				sum += SiteIndex2Age
+						.search(call.curve, call.height, SI_AT_TOTAL, call.siteIndex, call.yearsToBreastHeight);
+			}
+			return sum;
+		});
+		Benchmarks.nanosPerOperation("AgeSearch.search, else SiteIndex2Age.search", calls.size(), () -> {
+			double sum = 0;
+			for (var call : calls) {
+				double age = AgeSearch.search(call.curve, call.height, call.siteIndex, call.yearsToBreastHeight);
+				if (Double.isNaN(age)) {
+					age = SiteIndex2Age
+							.search(call.curve, call.height, SI_AT_TOTAL, call.siteIndex, call.yearsToBreastHeight);
+				}
+				sum += age;
+			}
+			return sum;
+		});
+	}
+}
@@ -0,0 +1,68 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+
+class AgeSearchTest {
+
+	@Test
+	void testMatchesSearchForEveryCurve() {
+		int calls = 0;
+		int found = 0;
+		for (var equation : SiteIndexEquation.values()) {
+			var curve = SiteCurve.of(equation);
+			if (curve.height == null || curve.age != null) {
+				continue;
+			}
+			for (double siteIndex = 1.5; siteIndex < 72; siteIndex += 1.7) {
+				for (double yearsToBreastHeight : new double[] { 0.5, 3.7, 6.5, 12.0 }) {
+					for (double height = 0.3; height < 80; height += 0.55) {
+						double fast = AgeSearch.search(curve, height, siteIndex, yearsToBreastHeight);
+						calls++;
+						if (Double.isNaN(fast)) {
+							continue;
+						}
+						found++;
+						double searched = SiteIndex2Age
+								.search(curve, height, SI_AT_TOTAL, siteIndex, yearsToBreastHeight);
+						SiteCurveTest.assertSame(
+								searched, fast, equation + " " + siteIndex + " " + yearsToBreastHeight + " " + height
+						);
+					}
+				}
+			}
+		}
+		// The fast path should apply to most of the heights the curves reach
+		assertThat(found, greaterThan(calls / 4));
+	}
+
+	@Test
+	void testNotFoundNearBreastHeight() {
+		var curve = SiteCurve.of(SiteIndexEquation.SI_PLI_THROWNIGH);
+		assertThat(Double.isNaN(AgeSearch.search(curve, 1.3, 30, 5)), is(true));
+	}
+
+	@Test
+	void testNotFoundOutsideTable() {
+		var curve = SiteCurve.of(SiteIndexEquation.SI_PLI_THROWNIGH);
+		assertThat(Double.isNaN(AgeSearch.search(curve, 20, 90, 5)), is(true));
+		assertThat(Double.isNaN(AgeSearch.search(curve, 200, 30, 5)), is(true));
+	}
+
+	@Test
+	void testIndexToAgeUsesFastPath() {
+		var curve = SiteCurve.of(SiteIndexEquation.SI_PLI_THROWNIGH);
+		double fast = AgeSearch.search(curve, 20, 30, 5);
+		assertThat(Double.isNaN(fast), is(false));
+		SiteCurveTest.assertSame(
+				SiteIndex2Age.search(curve, 20, SI_AT_TOTAL, 30, 5),
+				SiteIndex2Age.indexToAgeOrNaN(SiteIndexEquation.SI_PLI_THROWNIGH, 20, SI_AT_TOTAL, 30, 5), "age"
+		);
+	}
+}
@@ -0,0 +1,155 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_BREAST;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType.SI_EST_DIRECT;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType.SI_EST_ITERATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.AgeTypeErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ClassErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CodeErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CurveErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.EstablishmentErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ForestInventoryZoneException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptMaximumException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptMinimumException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.GrowthInterceptTotalException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.LessThan13Exception;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.SpeciesErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+
+class CalculatorStatusTest {
+
+	static final Map<Integer, Class<? extends CommonCalculatorException>> EXCEPTIONS = Map.ofEntries(
+			Map.entry(CalculatorStatus.SI_ERR_LT13, LessThan13Exception.class),
+			Map.entry(CalculatorStatus.SI_ERR_GI_MIN, GrowthInterceptMinimumException.class),
+			Map.entry(CalculatorStatus.SI_ERR_GI_MAX, GrowthInterceptMaximumException.class),
+			Map.entry(CalculatorStatus.SI_ERR_NO_ANS, NoAnswerException.class),
+			Map.entry(CalculatorStatus.SI_ERR_CURVE, CurveErrorException.class),
+			Map.entry(CalculatorStatus.SI_ERR_CLASS, ClassErrorException.class),
+			Map.entry(CalculatorStatus.SI_ERR_FIZ, ForestInventoryZoneException.class),
+			Map.entry(CalculatorStatus.SI_ERR_CODE, CodeErrorException.class),
+			Map.entry(CalculatorStatus.SI_ERR_GI_TOT, GrowthInterceptTotalException.class),
+			Map.entry(CalculatorStatus.SI_ERR_SPEC, SpeciesErrorException.class),
+			Map.entry(CalculatorStatus.SI_ERR_AGE_TYPE, AgeTypeErrorException.class),
+			Map.entry(CalculatorStatus.SI_ERR_ESTAB, EstablishmentErrorException.class)
+	);
+
+	@Test
+	void testFailuresCarryTheirCode() {
+		for (var entry : EXCEPTIONS.entrySet()) {
+			double result = CalculatorStatus.failure(entry.getKey());
+			assertThat(Double.isNaN(result), is(true));
+			assertThat(CalculatorStatus.isFailure(result), is(true));
+			assertThat(CalculatorStatus.statusOf(result), is(entry.getKey()));
+
+			var ex = CalculatorStatus.toException(result, "detail");
+			assertThat(ex, instanceOf(entry.getValue()));
+			assertThat(ex.getMessage(), startsWith(CalculatorStatus.description(entry.getKey())));
+		}
+		assertThrows(IllegalArgumentException.class, () -> CalculatorStatus.failure(CalculatorStatus.OK));
+		assertThrows(IllegalArgumentException.class, () -> CalculatorStatus.failure(-13));
+	}
+
+	@Test
+	void testValuesAreNotFailures() {
+		double zero = 0.0;
+		for (double value : new double[] { 0.0, -4.0, 1.3, Double.NaN, zero / zero, Math.sqrt(-1),
+				Double.POSITIVE_INFINITY }) {
+			assertThat(CalculatorStatus.isFailure(value), is(false));
+			assertThat(CalculatorStatus.statusOf(value), is(CalculatorStatus.OK));
+			assertThrows(IllegalArgumentException.class, () -> CalculatorStatus.toException(value, "detail"));
+		}
+	}
+
+	interface Calculation {
+		double apply() throws CommonCalculatorException;
+	}
+
+	/**
+	 * Check that a throwing method and its non-throwing form agree: the same value, or a failure with the code of the
+	 * exception.
+	 *
+	 * @return true if the calculation failed
+	 */
+	static boolean assertAgree(Calculation throwing, double orNaN, String message) {
+		try {
+			double value = throwing.apply();
+			assertThat(message, Double.doubleToLongBits(orNaN), is(Double.doubleToLongBits(value)));
+			return false;
+		} catch (CommonCalculatorException ex) {
+			assertThat(message, CalculatorStatus.isFailure(orNaN), is(true));
+			assertThat(message, ex, instanceOf(EXCEPTIONS.get(CalculatorStatus.statusOf(orNaN))));
+			return true;
+		}
+	}
+
+	@Test
+	void testThrowingMethodsWrapStatusMethods() {
+		int failures = 0;
+		int values = 0;
+		for (var curve : SiteIndexEquation.values()) {
+			for (double siteIndex : new double[] { 1.0, 5.0, 15.0, 30.0, 80.0 }) {
+				String y2bhMessage = curve + " y2bh " + siteIndex;
+				if (assertAgree(
+						() -> SiteIndexYears2BreastHeight.y2bh(curve, siteIndex),
+						SiteIndexYears2BreastHeight.y2bhOrNaN(curve, siteIndex), y2bhMessage
+				)) {
+					failures++;
+				} else {
+					values++;
+				}
+
+				for (SiteIndexAgeType ageType : new SiteIndexAgeType[] { SI_AT_BREAST, SI_AT_TOTAL }) {
+					for (double age : new double[] { 0.2, 3.0, 25.0, 120.0 }) {
+						String message = curve + " " + ageType + " age " + age + " site index " + siteIndex;
+						boolean failed = assertAgree(
+								() -> SiteIndex2Height.indexToHeight(curve, age, ageType, siteIndex, 5.0, 0.5),
+								SiteIndex2Height.indexToHeightOrNaN(curve, age, ageType, siteIndex, 5.0, 0.5),
+								"indexToHeight " + message
+						);
+						failed &= assertAgree(
+								() -> Height2SiteIndex.heightToIndex(curve, age, ageType, siteIndex, SI_EST_DIRECT),
+								Height2SiteIndex.heightToIndexOrNaN(curve, age, ageType, siteIndex, SI_EST_DIRECT),
+								"heightToIndex " + message
+						);
+						failed &= assertAgree(
+								() -> Height2SiteIndex.heightToIndex(curve, age, ageType, siteIndex, SI_EST_ITERATE),
+								Height2SiteIndex.heightToIndexOrNaN(curve, age, ageType, siteIndex, SI_EST_ITERATE),
+								"heightToIndex iterated " + message
+						);
+						failures += failed ? 1 : 0;
+						values += failed ? 0 : 1;
+					}
+					for (double height : new double[] { 0.5, 2.0, 20.0, 60.0 }) {
+						String message = curve + " " + ageType + " height " + height + " site index " + siteIndex;
+						if (assertAgree(
+								() -> SiteIndex2Age.indexToAge(curve, height, ageType, siteIndex, 5.0),
+								SiteIndex2Age.indexToAgeOrNaN(curve, height, ageType, siteIndex, 5.0),
+								"indexToAge " + message
+						)) {
+							failures++;
+						} else {
+							values++;
+						}
+					}
+				}
+			}
+		}
+		assertThat(failures, greaterThan(100));
+		assertThat(values, greaterThan(100));
+	}
+}
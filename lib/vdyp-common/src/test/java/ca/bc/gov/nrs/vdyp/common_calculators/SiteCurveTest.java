@@ -0,0 +1,101 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_BREAST;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType.SI_AT_TOTAL;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType.SI_EST_DIRECT;
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType.SI_EST_ITERATE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType;
+
+class SiteCurveTest {
+
+	static void assertSame(double expected, double actual, String message) {
+		assertThat(message, Double.doubleToRawLongBits(actual), is(Double.doubleToRawLongBits(expected)));
+	}
+
+	@Test
+	void testEveryEquationHasACurve() {
+		for (var equation : SiteIndexEquation.values()) {
+			var curve = SiteCurve.of(equation);
+			assertThat(curve.getEquation(), is(equation));
+			assertThat(SiteCurve.of(equation), sameInstance(curve));
+		}
+		assertThat(SiteCurve.of(null).getEquation(), nullValue());
+	}
+
+	@Test
+	void testCurvesWithAHeightEquationHaveYearsToBreastHeight() {
+		int curves = 0;
+		for (var equation : SiteIndexEquation.values()) {
+			var curve = SiteCurve.of(equation);
+			if (curve.height != null) {
+				assertThat(equation.toString(), curve.yearsToBreastHeight, notNullValue());
+				curves++;
+			}
+		}
+		assertThat(curves > 100, is(true));
+	}
+
+	@Test
+	void testUnknownCurveFails() {
+		var curve = SiteCurve.of(null);
+		assertThat(
+				CalculatorStatus.statusOf(curve.heightOrNaN(20, SI_AT_BREAST, 20, 5, 0.5)),
+				is(CalculatorStatus.SI_ERR_CURVE)
+		);
+		assertThat(CalculatorStatus.statusOf(curve.yearsToBreastHeightOrNaN(20)), is(CalculatorStatus.SI_ERR_CURVE));
+		assertThat(
+				CalculatorStatus.statusOf(curve.ageOrNaN(10, SI_AT_TOTAL, 20, 5)), is(CalculatorStatus.SI_ERR_CURVE)
+		);
+		assertThat(
+				CalculatorStatus.statusOf(curve.siteIndexOrNaN(20, SI_AT_BREAST, 10, SI_EST_DIRECT)),
+				is(CalculatorStatus.SI_ERR_CURVE)
+		);
+	}
+
+	@Test
+	void testCurveMethodsMatchStaticMethods() {
+		for (var equation : SiteIndexEquation.values()) {
+			var curve = SiteCurve.of(equation);
+			for (double siteIndex : new double[] { 5.0, 15.0, 30.0 }) {
+				assertSame(
+						SiteIndexYears2BreastHeight.y2bhOrNaN(equation, siteIndex),
+						curve.yearsToBreastHeightOrNaN(siteIndex), equation + " y2bh " + siteIndex
+				);
+				for (SiteIndexAgeType ageType : new SiteIndexAgeType[] { SI_AT_BREAST, SI_AT_TOTAL }) {
+					for (double age : new double[] { 0.2, 3.0, 25.0, 120.0 }) {
+						String message = equation + " " + ageType + " " + age + " " + siteIndex;
+						assertSame(
+								SiteIndex2Height.indexToHeightOrNaN(equation, age, ageType, siteIndex, 5.0, 0.5),
+								curve.heightOrNaN(age, ageType, siteIndex, 5.0, 0.5), "height " + message
+						);
+						for (SiteIndexEstimationType estType : new SiteIndexEstimationType[] { SI_EST_DIRECT,
+								SI_EST_ITERATE }) {
+							assertSame(
+									Height2SiteIndex.heightToIndexOrNaN(equation, age, ageType, siteIndex, estType),
+									curve.siteIndexOrNaN(age, ageType, siteIndex, estType),
+									"site index " + estType + " " + message
+							);
+						}
+					}
+					for (double height : new double[] { 0.5, 2.0, 20.0 }) {
+						assertSame(
+								SiteIndex2Age.indexToAgeOrNaN(equation, height, ageType, siteIndex, 5.0),
+								curve.ageOrNaN(height, ageType, siteIndex, 5.0),
+								"age " + equation + " " + ageType + " " + height + " " + siteIndex
+						);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package ca.bc.gov.nrs.vdyp.common_calculators;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.DoubleConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType;
+import ca.bc.gov.nrs.vdyp.test.Benchmarks;
+
+/**
+ * Sweeps the site index calculators over every equation and a grid of ages, heights and site indices.
+ * <p>
+ * The digests check that the results, including the status of each failure, are bit for bit those of the calculators
+ * before each equation was given methods of its own. They were recorded by running this class against that version. The
+ * timings are benchmarks, run as described by {@link Benchmarks}. Only the public methods of the calculators are used,
+ * so this class and {@link Benchmarks} can be copied into an older checkout to time it the same way.
+ */
+class SiteIndexBenchmarkTest {
+
+	static final double[] AGES = { 0, 0.5, 1, 2.5, 5, 10, 17.5, 30, 50, 80, 120, 200, 350 };
+	static final double[] HEIGHTS = { 0.5, 1.3, 2, 4.5, 8, 12.5, 18, 25, 33, 45 };
+	static final double[] SITE_INDICES = { 2, 5, 8.3, 12, 15.5, 19, 23.7, 28, 34.2, 41, 52 };
+	static final double[] YEARS_TO_BREAST_HEIGHT = { 3.7, 8.2 };
+
+	static int indexToHeight(DoubleConsumer results) {
+		int calls = 0;
+		for (var equation : SiteIndexEquation.values()) {
+			for (var ageType : SiteIndexAgeType.values()) {
+				for (double siteIndex : SITE_INDICES) {
+					for (double yearsToBreastHeight : YEARS_TO_BREAST_HEIGHT) {
+						for (double age : AGES) {
+							results.accept(
+									SiteIndex2Height.indexToHeightOrNaN(
+											equation, age, ageType, siteIndex, yearsToBreastHeight, 0.5
+									)
+							);
+							calls++;
+						}
+					}
+				}
+			}
+		}
+		return calls;
+	}
+
+	static int heightToIndex(DoubleConsumer results) {
+		int calls = 0;
+		for (var equation : SiteIndexEquation.values()) {
+			for (var ageType : SiteIndexAgeType.values()) {
+				for (var estimationType : SiteIndexEstimationType.values()) {
+					for (double age : AGES) {
+						for (double height : HEIGHTS) {
+							results.accept(
+									Height2SiteIndex.heightToIndexOrNaN(equation, age, ageType, height, estimationType)
+							);
+							calls++;
+						}
+					}
+				}
+			}
+		}
+		return calls;
+	}
+
+	static int indexToAge(DoubleConsumer results) {
+		int calls = 0;
+		for (var equation : SiteIndexEquation.values()) {
+			for (var ageType : SiteIndexAgeType.values()) {
+				for (double siteIndex : SITE_INDICES) {
+					for (double yearsToBreastHeight : YEARS_TO_BREAST_HEIGHT) {
+						for (double height : HEIGHTS) {
+							results.accept(
+									SiteIndex2Age
+											.indexToAgeOrNaN(equation, height, ageType, siteIndex, yearsToBreastHeight)
+							);
+							calls++;
+						}
+					}
+				}
+			}
+		}
+		return calls;
+	}
+
+	static int yearsToBreastHeight(DoubleConsumer results) {
+		int calls = 0;
+		for (var equation : SiteIndexEquation.values()) {
+			for (double siteIndex = 0.5; siteIndex < 60; siteIndex += 0.25) {
+				results.accept(SiteIndexYears2BreastHeight.y2bhOrNaN(equation, siteIndex));
+				calls++;
+			}
+		}
+		return calls;
+	}
+
+	interface Sweep {
+		int run(DoubleConsumer results);
+	}
+
+	static String digest(Sweep sweep) throws NoSuchAlgorithmException {
+		var digest = MessageDigest.getInstance("SHA-256");
+		var bytes = new byte[Long.BYTES];
+		sweep.run(result -> {
+			long bits = Double.doubleToRawLongBits(result);
+			for (int i = 0; i < Long.BYTES; i++) {
+				bytes[i] = (byte) (bits >>> (8 * i));
+			}
+			digest.update(bytes);
+		});
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	static void time(String name, Sweep sweep) {
+		int calls = sweep.run(result -> {
+		});
+		Benchmarks.nanosPerOperation(name, calls, () -> {
+			var sum = new double[1];
+			sweep.run(result -> sum[0] += result);
+			return sum[0];
+		});
+	}
+
+	@Test
+	void testIndexToHeightDigest() throws NoSuchAlgorithmException {
+		assertThat(
+				digest(SiteIndexBenchmarkTest::indexToHeight),
+				is("1bfc5429ec90053bfa8f6b48732ae84532c28c8845448cb7ea9ce711ca9bc7a3")
+		);
+	}
+
+	@Test
+	void testHeightToIndexDigest() throws NoSuchAlgorithmException {
+		assertThat(
+				digest(SiteIndexBenchmarkTest::heightToIndex),
+				is("377c802ea52e113c95a32212a9ba2a3ee3ed3ade8ddccbe305565f63b777c623")
+		);
+	}
+
+	@Test
+	void testIndexToAgeDigest() throws NoSuchAlgorithmException {
+		assertThat(
+				digest(SiteIndexBenchmarkTest::indexToAge),
+				is("fdba44cce51157c400e1b30dec54c57b107a85521b58e67bbd58326610d3859b")
+		);
+	}
+
+	@Test
+	void testYearsToBreastHeightDigest() throws NoSuchAlgorithmException {
+		assertThat(
+				digest(SiteIndexBenchmarkTest::yearsToBreastHeight),
+				is("29b94b6839cc6b02b18a6270e5e2797ad6ec38c9ab4f393085c8f5ac13c1c292")
+		);
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = Benchmarks.PROPERTY, matches = "true")
+	void benchmarkSiteIndexCalculators() {
+		time("SiteIndex2Height.indexToHeightOrNaN", SiteIndexBenchmarkTest::indexToHeight);
+		time("Height2SiteIndex.heightToIndexOrNaN", SiteIndexBenchmarkTest::heightToIndex);
+		time("SiteIndex2Age.indexToAgeOrNaN", SiteIndexBenchmarkTest::indexToAge);
+		time("SiteIndexYears2BreastHeight.y2bhOrNaN", SiteIndexBenchmarkTest::yearsToBreastHeight);
+	}
+}
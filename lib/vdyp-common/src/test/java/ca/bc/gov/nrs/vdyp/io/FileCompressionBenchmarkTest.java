@@ -0,0 +1,98 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import ca.bc.gov.nrs.vdyp.test.Benchmarks;
+
+/**
+ * Times writing and reading fixed width records with each {@link FileCompression}, compressing on the writing thread
+ * and on a pool. The files are held in memory, so only the compression is timed, not the storage.
+ */
+@EnabledIfSystemProperty(named = Benchmarks.PROPERTY, matches = "true")
+class FileCompressionBenchmarkTest {
+
+	static final int SIZE = 32 * 1024 * 1024;
+	static final int RECORD_LENGTH = 100;
+
+	ForkJoinPool pool = new ForkJoinPool(4);
+
+	@AfterEach
+	void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Fixed width records like those of a VDYP7 polygon file, with values drawn at random
+	 */
+	static byte[] records() {
+		var random = new Random(42);
+		var result = new StringBuilder(SIZE + 200);
+		for (int i = 0; result.length() < SIZE; i++) {
+			result.append(
+					String.format(
+							Locale.ROOT, "01002 S%06d 00     1970 CWH  A    %3d %5.1f %5.1f %6.1f D  %5.1f%n", i,
+							random.nextInt(300), random.nextInt(1000) / 10.0, random.nextInt(600) / 10.0,
+							random.nextInt(20000) / 10.0, random.nextInt(1000) / 10.0
+					)
+			);
+		}
+		return result.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	static byte[] compress(FileCompression compression, byte[] content, Optional<ForkJoinPool> pool) {
+		var result = new ByteArrayOutputStream(content.length);
+		try (var os = compression.compress(result, pool)) {
+			// Written in records, as VdypOutputWriter does
+			for (int i = 0; i < content.length; i += RECORD_LENGTH) {
+				os.write(content, i, Math.min(RECORD_LENGTH, content.length - i));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result.toByteArray();
+	}
+
+	static long decompress(FileCompression compression, byte[] compressed) {
+		var buffer = new byte[RECORD_LENGTH];
+		long length = 0;
+		try (var is = compression.decompress(new ByteArrayInputStream(compressed), "benchmark")) {
+			for (int read; (read = is.read(buffer)) >= 0;) {
+				length += read;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return length;
+	}
+
+	void benchmark(FileCompression compression, Optional<ForkJoinPool> pool, String name) {
+		var content = records();
+		var compressed = compress(compression, content, pool);
+
+		Benchmarks
+				.megabytesPerSecond(name + " write", content.length, () -> compress(compression, content, pool).length);
+		Benchmarks.megabytesPerSecond(name + " read", content.length, () -> decompress(compression, compressed));
+		System.out.printf(Locale.ROOT, "%-48s %12.2f%n", name + " ratio", (double) content.length / compressed.length);
+	}
+
+	@Test
+	void benchmarkCompression() {
+		benchmark(FileCompression.NONE, Optional.empty(), "none");
+		benchmark(FileCompression.GZIP, Optional.empty(), "gzip sequential");
+		benchmark(FileCompression.GZIP, Optional.of(pool), "gzip pool(4)");
+		benchmark(FileCompression.ZSTD, Optional.empty(), "zstd sequential");
+		benchmark(FileCompression.ZSTD, Optional.of(pool), "zstd pool(4)");
+	}
+}
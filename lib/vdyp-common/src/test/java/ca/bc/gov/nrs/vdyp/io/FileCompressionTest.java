@@ -0,0 +1,168 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class FileCompressionTest {
+
+	ForkJoinPool pool = new ForkJoinPool(3);
+
+	@AfterEach
+	void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Fixed width records, several chunks long and not a whole number of chunks
+	 */
+	static byte[] records() {
+		var result = new StringBuilder();
+		for (int i = 0; result.length() < 3 * ZipStreamWriter.CHUNK_SIZE + 12345; i++) {
+			result.append(String.format("01002 S%06d 00     1970 P  3 B  B  %5.1f%n", i, (i * 7) % 1000 / 10.0));
+		}
+		return result.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	byte[] compress(FileCompression compression, byte[] content, Optional<ForkJoinPool> pool) throws IOException {
+		var result = new ByteArrayOutputStream();
+		try (var os = compression.compress(result, pool)) {
+			// Written in records, as VdypOutputWriter does
+			for (int i = 0; i < content.length; i += 100) {
+				os.write(content, i, Math.min(100, content.length - i));
+			}
+		}
+		return result.toByteArray();
+	}
+
+	byte[] decompress(FileCompression compression, byte[] compressed) throws IOException {
+		try (var is = compression.decompress(new ByteArrayInputStream(compressed), "test")) {
+			return is.readAllBytes();
+		}
+	}
+
+	@Test
+	void testOf() {
+		assertThat(FileCompression.of("vp_grow.dat"), is(FileCompression.NONE));
+		assertThat(FileCompression.of("vp_grow.dat.gz"), is(FileCompression.GZIP));
+		assertThat(FileCompression.of("VP_GROW.DAT.GZ"), is(FileCompression.GZIP));
+		assertThat(FileCompression.of("vp_grow.dat.zst"), is(FileCompression.ZSTD));
+		assertThat(FileCompression.of("vp_grow.dat.zstd"), is(FileCompression.ZSTD));
+		assertThat(FileCompression.of("vp_grow.gz.dat"), is(FileCompression.NONE));
+	}
+
+	@ParameterizedTest
+	@EnumSource(FileCompression.class)
+	void testRoundTrip(FileCompression compression) throws IOException {
+		var content = records();
+
+		var sequential = compress(compression, content, Optional.empty());
+		var parallel = compress(compression, content, Optional.of(pool));
+
+		assertThat(decompress(compression, sequential), equalTo(content));
+		assertThat(decompress(compression, parallel), equalTo(content));
+		if (compression != FileCompression.NONE) {
+			assertThat(parallel.length, lessThan(content.length / 4));
+		}
+	}
+
+	@Test
+	void testParallelGzipIsStandard() throws IOException {
+		var content = records();
+
+		var compressed = compress(FileCompression.GZIP, content, Optional.of(pool));
+
+		try (var is = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			assertThat(is.readAllBytes(), equalTo(content));
+		}
+	}
+
+	@Test
+	void testParallelGzipFlush() throws IOException {
+		var result = new ByteArrayOutputStream();
+		try (var os = FileCompression.GZIP.compress(result, Optional.of(pool))) {
+			os.write("first\n".getBytes());
+			os.flush();
+			os.write("second\n".getBytes());
+			os.flush();
+		}
+
+		assertThat(new String(decompress(FileCompression.GZIP, result.toByteArray())), is("first\nsecond\n"));
+	}
+
+	@Test
+	void testEmpty() throws IOException {
+		for (var compression : FileCompression.values()) {
+			for (var p : new Optional[] { Optional.empty(), Optional.of(pool) }) {
+				@SuppressWarnings("unchecked")
+				var compressed = compress(compression, new byte[0], p);
+				assertThat(decompress(compression, compressed).length, is(0));
+			}
+		}
+	}
+
+	@Test
+	void testReadAheadInSmallChunks() throws IOException {
+		var content = records();
+		try (var is = new ReadAheadInputStream(new ByteArrayInputStream(content), "test", 1000, 2)) {
+			var result = new ByteArrayOutputStream();
+			result.write(is.read());
+			result.write(is.readAllBytes());
+			assertThat(result.toByteArray(), equalTo(content));
+			assertThat(is.read(), is(-1));
+		}
+	}
+
+	@Test
+	void testReadAheadError() throws IOException {
+		var failing = new InputStream() {
+			int n = 0;
+
+			@Override
+			public int read() throws IOException {
+				if (n++ >= 1500) {
+					throw new IOException("Network storage unavailable");
+				}
+				return 'x';
+			}
+		};
+		try (var is = new ReadAheadInputStream(failing, "test", 1000, 2)) {
+			assertThat(is.readNBytes(1000).length, is(1000));
+			var ex = assertThrows(IOException.class, () -> is.readAllBytes());
+			assertThat(ex.getMessage(), is("Network storage unavailable"));
+		}
+	}
+
+	@Test
+	void testCloseBeforeEnd() throws IOException {
+		var content = records();
+		var is = new ReadAheadInputStream(new ByteArrayInputStream(content), "test", 1000, 2);
+		assertThat(is.read(), is((int) content[0]));
+		is.close();
+		assertThrows(IOException.class, () -> is.read());
+	}
+
+	@Test
+	void testNotCompressed() {
+		assertThrows(
+				IOException.class,
+				() -> decompress(FileCompression.GZIP, "not compressed".getBytes(StandardCharsets.US_ASCII))
+		);
+	}
+}
@@ -2,9 +2,12 @@ package ca.bc.gov.nrs.vdyp.io;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -73,4 +76,24 @@ class FileSystemFileResolverTest {
 			assertThat(result, equalTo("blah"));
 		}
 	}
+
+	@Test
+	void testCompressedRoundTrip() throws Exception {
+		var pool = new ForkJoinPool(2);
+		try {
+			var unit = new FileSystemFileResolver(testDir);
+			unit.setCompressionPool(pool);
+			for (var filename : List.of("test.gz", "test.zst")) {
+				try (var os = unit.relative(".").resolveForOutput(filename)) {
+					os.write("blah".getBytes());
+				}
+				assertThat(Files.size(testDir.resolve(filename)), not(4L));
+				try (var is = unit.resolveForInput(filename)) {
+					assertThat(is.readAllBytes(), equalTo("blah".getBytes()));
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
 }
@@ -0,0 +1,285 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StreamingZipOutputFileResolverTest {
+
+	@TempDir
+	Path outputLocation;
+
+	static byte[] content(int size, long seed) {
+		// Compressible but not trivially so, like fixed width VDYP output
+		var random = new Random(seed);
+		var result = new byte[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = (byte) (i % 80 == 79 ? '\n' : '0' + random.nextInt(4));
+		}
+		return result;
+	}
+
+	static Map<String, byte[]> readZip(byte[] zip) throws IOException {
+		Map<String, byte[]> result = new LinkedHashMap<>();
+		try (var zis = new ZipInputStream(new ByteArrayInputStream(zip))) {
+			for (var entry = zis.getNextEntry(); entry != null; entry = zis.getNextEntry()) {
+				result.put(entry.getName(), zis.readAllBytes());
+			}
+		}
+		return result;
+	}
+
+	@Test
+	void testBasics() throws IOException {
+		var resolver = new StreamingZipOutputFileResolver(new ByteArrayOutputStream());
+
+		assertThat(resolver.toPath("file").toString(), endsWith("lib/vdyp-common/file"));
+		assertThat(resolver.toString("file"), endsWith("lib/vdyp-common/file"));
+		assertThrows(UnsupportedOperationException.class, () -> resolver.resolveForInput("file"));
+		assertThrows(UnsupportedOperationException.class, () -> resolver.relative("dir"));
+	}
+
+	@Test
+	void testEntriesWrittenInCloseOrder() throws IOException {
+		var target = new ByteArrayOutputStream();
+		try (var resolver = new StreamingZipOutputFileResolver(target)) {
+			var os1 = resolver.resolveForOutput("file1");
+			var os2 = resolver.resolveForOutput("file2");
+			os1.write("1".getBytes());
+			os2.write("2".getBytes());
+			os2.close();
+			os1.close();
+			// Left open, written when the resolver is closed
+			resolver.resolveForOutput("file3").write("3".getBytes());
+		}
+
+		var entries = readZip(target.toByteArray());
+		assertThat(entries.keySet(), contains("file2", "file1", "file3"));
+		for (var e : entries.entrySet()) {
+			assertThat(new String(e.getValue()), is(e.getKey().substring(4)));
+		}
+	}
+
+	@Test
+	void testSpillAndParallelDeflate() throws IOException {
+		var small = content(100, 1);
+		var spilled = content(100_000, 2);
+		var large = content(3 * ZipStreamWriter.CHUNK_SIZE + 12345, 3);
+		var empty = new byte[0];
+
+		var executor = Executors.newFixedThreadPool(4);
+		var target = new ByteArrayOutputStream();
+		try (var resolver = new StreamingZipOutputFileResolver(target, 10_000, Deflater.BEST_SPEED, executor, 0)) {
+			for (var e : Map.of("small", small, "out/spilled", spilled, "large", large, "empty", empty).entrySet()) {
+				try (var os = resolver.resolveForOutput(e.getKey())) {
+					// Write in pieces to exercise growing the buffer and spilling part way through
+					for (int i = 0; i < e.getValue().length; i += 7000) {
+						os.write(e.getValue(), i, Math.min(7000, e.getValue().length - i));
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		var entries = readZip(target.toByteArray());
+		assertThat(entries.get("small"), is(small));
+		assertThat(entries.get("out/spilled"), is(spilled));
+		assertThat(entries.get("large"), is(large));
+		assertThat(entries.get("empty"), is(empty));
+	}
+
+	@Test
+	void testOnlyExcessSpilled() throws IOException {
+		var content = content(25_000, 7);
+		var name = "out/excess-" + UUID.randomUUID() + ".dat";
+		var target = new ByteArrayOutputStream();
+		try (var resolver = new StreamingZipOutputFileResolver(target, 10_000, Deflater.BEST_SPEED, null, 0)) {
+			try (var os = resolver.resolveForOutput(name)) {
+				os.write(content, 0, 6000);
+				os.write(content, 6000, 19_000);
+				os.flush();
+
+				Path spillFile;
+				try (
+						var files = Files.list(Path.of(System.getProperty("java.io.tmpdir"))).filter(
+								path -> path.getFileName().toString()
+										.endsWith(StreamingZipOutputFileResolver.spillSuffix(name))
+						)
+				) {
+					spillFile = files.findFirst().orElseThrow();
+				}
+				assertThat(spillFile.getFileName().toString(), startsWith("vdyp"));
+				// Only what did not fit in memory
+				assertThat(Files.size(spillFile), is(15_000L));
+				os.close();
+				assertThat(Files.exists(spillFile), is(false));
+			}
+		}
+		assertThat(readZip(target.toByteArray()).get(name), is(content));
+	}
+
+	@Test
+	void testSpillSuffix() {
+		assertThat(StreamingZipOutputFileResolver.spillSuffix("vp_grow2.dat"), is("-vp_grow2.dat"));
+		assertThat(StreamingZipOutputFileResolver.spillSuffix("out/sub\\vp grow:2.dat"), is("-vp_grow_2.dat"));
+		assertThat(StreamingZipOutputFileResolver.spillSuffix("x".repeat(100)).length(), is(65));
+	}
+
+	@Test
+	void testWriteToChannel() throws IOException {
+		var zipFile = outputLocation.resolve("output.zip");
+		var contents = List.of(content(5000, 4), content(50_000, 5));
+
+		try (
+				var channel = FileChannel.open(zipFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				var resolver = new StreamingZipOutputFileResolver(channel, 1024, 9, null, 0)
+		) {
+			for (int i = 0; i < contents.size(); i++) {
+				try (var os = resolver.resolveForOutput("file" + i)) {
+					os.write(contents.get(i));
+				}
+			}
+		}
+
+		try (var zip = new ZipFile(zipFile.toFile())) {
+			List<byte[]> read = new ArrayList<>();
+			for (int i = 0; i < contents.size(); i++) {
+				read.add(zip.getInputStream(zip.getEntry("file" + i)).readAllBytes());
+			}
+			assertThat(read, contains(contents.get(0), contents.get(1)));
+		}
+		try (var files = Files.list(outputLocation)) {
+			assertThat(files.count(), is(1L));
+		}
+	}
+
+	/**
+	 * Sparse files, which read as zeros, just under and just over the 4 GiB limit of the original format. The local
+	 * header and the central directory must agree on whether the entry has ZIP64 sizes.
+	 */
+	@ParameterizedTest
+	@ValueSource(longs = { 0xFFFF_FFFEL, 0x1_0000_0001L })
+	void testZip64Entry(long size) throws IOException {
+		var sparse = outputLocation.resolve("sparse");
+		try (var file = new RandomAccessFile(sparse.toFile(), "rw")) {
+			file.setLength(size);
+		}
+		var crc = new CRC32();
+		try (var is = Files.newInputStream(sparse)) {
+			byte[] buffer = new byte[1024 * 1024];
+			int nRead;
+			while ( (nRead = is.read(buffer)) >= 0) {
+				crc.update(buffer, 0, nRead);
+			}
+		}
+		var small = content(5000, 6);
+		var smallCrc = new CRC32();
+		smallCrc.update(small);
+
+		var zipFile = outputLocation.resolve("output.zip");
+		var executor = Executors.newFixedThreadPool(4);
+		try (var os = Files.newOutputStream(zipFile); var is = Files.newInputStream(sparse)) {
+			var writer = new ZipStreamWriter(os, Deflater.BEST_SPEED, 4);
+			writer.writeEntry("sparse", crc.getValue(), size, is, Optional.of(executor));
+			writer.writeEntry(
+					"small", smallCrc.getValue(), small.length, new ByteArrayInputStream(small), Optional.empty()
+			);
+			writer.finish();
+		} finally {
+			executor.shutdown();
+		}
+
+		boolean zip64 = size >= 0xFFFFFFFFL;
+
+		// Over the limit, the local header has the ZIP64 extra field, with the sizes in the data descriptor
+		try (var is = Files.newInputStream(zipFile)) {
+			var header = ByteBuffer.wrap(is.readNBytes(30 + "sparse".length() + 20)).order(ByteOrder.LITTLE_ENDIAN);
+			assertThat(header.getShort(4), is(zip64 ? (short) 45 : (short) 20)); // version needed to extract
+			assertThat(header.getInt(18), is(zip64 ? 0xFFFFFFFF : 0)); // compressed size
+			assertThat(header.getInt(22), is(zip64 ? 0xFFFFFFFF : 0)); // size
+			assertThat(header.getShort(28), is(zip64 ? (short) 20 : (short) 0)); // extra field length
+			if (zip64) {
+				assertThat(header.getShort(30 + "sparse".length()), is((short) 0x0001)); // ZIP64 extra field
+			}
+		}
+
+		// The central directory entry agrees with the local header, with both sizes in any ZIP64 extra field
+		try (var channel = FileChannel.open(zipFile)) {
+			var end = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+			channel.read(end, channel.size() - 22);
+			var central = ByteBuffer.allocate(46 + "sparse".length() + 20).order(ByteOrder.LITTLE_ENDIAN);
+			channel.read(central, Integer.toUnsignedLong(end.getInt(16)));
+			assertThat(central.getInt(0), is(0x02014b50)); // central directory header
+			assertThat(central.getShort(6), is(zip64 ? (short) 45 : (short) 20)); // version needed to extract
+			assertThat(central.getShort(30), is(zip64 ? (short) 20 : (short) 0)); // extra field length
+			if (zip64) {
+				assertThat(central.getInt(20), is(0xFFFFFFFF)); // compressed size
+				assertThat(central.getInt(24), is(0xFFFFFFFF)); // size
+				assertThat(central.getShort(46 + "sparse".length()), is((short) 0x0001)); // ZIP64 extra field
+				assertThat(central.getShort(48 + "sparse".length()), is((short) 16));
+				assertThat(central.getLong(50 + "sparse".length()), is(size));
+			} else {
+				assertThat(Integer.toUnsignedLong(central.getInt(24)), is(size));
+			}
+		}
+
+		// Read through the local headers and data descriptors
+		try (var zis = new ZipInputStream(new BufferedInputStream(Files.newInputStream(zipFile)))) {
+			var entry = zis.getNextEntry();
+			assertThat(entry.getName(), is("sparse"));
+			assertThat(zis.transferTo(OutputStream.nullOutputStream()), is(size));
+			entry = zis.getNextEntry();
+			assertThat(entry.getName(), is("small"));
+			assertThat(zis.readAllBytes(), is(small));
+			assertThat(zis.getNextEntry(), nullValue());
+		}
+		try (var zip = new ZipFile(zipFile.toFile())) {
+			assertThat(zip.getEntry("sparse").getSize(), is(size));
+			assertThat(zip.getInputStream(zip.getEntry("small")).readAllBytes(), is(small));
+		}
+	}
+
+	@Test
+	void testDuplicateEntry() throws IOException {
+		var resolver = new StreamingZipOutputFileResolver(new ByteArrayOutputStream());
+		resolver.resolveForOutput("file").close();
+		var os = resolver.resolveForOutput("file");
+		assertThrows(ZipException.class, () -> os.close());
+	}
+}
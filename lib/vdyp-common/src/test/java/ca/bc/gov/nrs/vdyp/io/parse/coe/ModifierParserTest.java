@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -486,6 +487,52 @@ class ModifierParserTest {
 		});
 	}
 
+	@Test
+	void testForTargets() throws Exception {
+		var parser = new ModifierParser(VdypApplicationIdentifier.FIP_START)
+				.forTargets(Set.of(ControlKey.BA_MODIFIERS, ControlKey.DQ_MODIFIERS));
+
+		// The veteran BQ and HL coefficients are not needed to change only the BA and DQ modifiers
+		Map<String, Object> controlMap = new HashMap<>();
+		controlMap.put(ControlKey.MODIFIER_FILE.name(), Optional.of("testFilename"));
+		TestUtils.populateControlMapGenusReal(controlMap);
+
+		var is = TestUtils.makeInputStream(
+				"098 1 0 0 0 0 0 0.200 0.300", //
+				"201 1 0 0 0 0 0 2.000 3.000 4.000 5.000", //
+				"401 1 0 0 0 0 0 0.200 0.300 0.500 0.700"
+		);
+
+		var fileResolver = new MockFileResolver("TEST");
+		fileResolver.addStream("testFilename", is);
+
+		parser.modify(controlMap, fileResolver);
+
+		var baMap = ((MatrixMap<Float>) controlMap.get(ControlKey.BA_MODIFIERS.name()));
+		baMap.eachKey(k -> {
+			if (k[0].equals("AC")) {
+				assertThat(baMap.getM(k), is(k[1].equals(Region.COASTAL) ? 2.0f : 3.0f));
+			} else {
+				assertThat(baMap.getM(k), is(1.0f));
+			}
+		});
+		assertThat(controlMap, Matchers.not(Matchers.hasKey(ControlKey.VETERAN_BQ.name())));
+	}
+
+	@Test
+	void testTargetGroupsCoverAllTargets() {
+		var parser = new ModifierParser(VdypApplicationIdentifier.FIP_START);
+
+		assertThat(
+				parser.getTargetGroups().stream().flatMap(Set::stream).toList(),
+				Matchers.containsInAnyOrder(
+						ControlKey.VETERAN_BQ, ControlKey.BA_MODIFIERS, ControlKey.DQ_MODIFIERS,
+						ControlKey.DECAY_MODIFIERS, ControlKey.WASTE_MODIFIERS, ControlKey.HL_PRIMARY_SP_EQN_P1,
+						ControlKey.HL_PRIMARY_SP_EQN_P2, ControlKey.HL_PRIMARY_SP_EQN_P3, ControlKey.HL_NONPRIMARY
+				)
+		);
+	}
+
 	private MatrixMap3<String, String, Region, NonprimaryHLCoefficients> populateHlNP(Map<String, Object> controlMap) {
 		MatrixMap3<String, String, Region, NonprimaryHLCoefficients> hlNPMap = new MatrixMap3Impl(
 				Arrays.asList(TestUtils.getSpeciesAliases()), //
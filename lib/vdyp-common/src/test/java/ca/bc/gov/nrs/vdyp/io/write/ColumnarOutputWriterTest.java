@@ -0,0 +1,170 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.test.TestUtils;
+
+class ColumnarOutputWriterTest {
+
+	Map<String, Object> controlMap;
+
+	@BeforeEach
+	void initControlMap() {
+		controlMap = new HashMap<String, Object>();
+		TestUtils.populateControlMapBecReal(controlMap);
+		TestUtils.populateControlMapGenusReal(controlMap);
+	}
+
+	VdypPolygon buildPolygon(int year) {
+		var polygon = VdypPolygon.build(builder -> {
+			builder.polygonIdentifier("082E004    615", year);
+			builder.percentAvailable(90f);
+			builder.biogeoclimaticZone(Utils.getBec("IDF", controlMap));
+			builder.forestInventoryZone("D");
+		});
+		var layer = VdypLayer.build(polygon, builder -> {
+			builder.layerType(LayerType.PRIMARY);
+			builder.primaryGenus("PL");
+
+			for (var genus : List.of("PL", "F")) {
+				builder.addSpecies(specBuilder -> {
+					specBuilder.genus(genus, controlMap);
+					specBuilder.percentGenus(50);
+					specBuilder.volumeGroup(0);
+					specBuilder.decayGroup(0);
+					specBuilder.breakageGroup(0);
+					specBuilder.addSp64Distribution(genus, 100);
+				});
+			}
+		});
+
+		layer.setBaseAreaByUtilization(
+				Utils.utilizationVector(0.02865f, 19.97867f, 6.79731f, 8.54690f, 3.63577f, 0.99869f)
+		);
+		layer.setTreesPerHectareByUtilization(
+				Utils.utilizationVector(9.29f, 1485.82f, 834.25f, 509.09f, 123.56f, 18.92f)
+		);
+		layer.setLoreyHeightByUtilization(Utils.heightVector(7.8377f, 13.0660f));
+		layer.setWholeStemVolumeByUtilization(
+				Utils.utilizationVector(0.1077f, 117.9938f, 33.3680f, 52.4308f, 25.2296f, 6.9654f)
+		);
+		layer.setCloseUtilizationVolumeByUtilization(
+				Utils.utilizationVector(0f, 67.7539f, 2.4174f, 36.8751f, 22.0156f, 6.4459f)
+		);
+		for (var species : layer.getSpecies().values()) {
+			species.setBaseAreaByUtilization(Utils.utilizationVector(0.01f, year / 100f, 1f, 2f, 3f, 0f));
+			species.setTreesPerHectareByUtilization(Utils.utilizationVector(5f, 500f, 400f, 100f, 0f, 0f));
+		}
+		return polygon;
+	}
+
+	/**
+	 * The records the text writer would have formatted
+	 */
+	static List<UtilizationRecord> expectedRecords(List<VdypPolygon> polygons) throws IOException {
+		List<UtilizationRecord> result = new ArrayList<>();
+		try (var capture = new VdypOutputWriter() {
+			@Override
+			void writeUtilizationRecord(UtilizationRecord record) {
+				result.add(record);
+			}
+		}) {
+			for (var polygon : polygons) {
+				capture.writePolygonWithSpeciesAndUtilization(polygon);
+			}
+		}
+		return result;
+	}
+
+	static List<UtilizationRecord> readAll(byte[] bytes) throws IOException, ResourceParseException {
+		List<UtilizationRecord> result = new ArrayList<>();
+		try (var reader = new ColumnarOutputReader(new ByteArrayInputStream(bytes))) {
+			while (reader.hasNext()) {
+				result.add(reader.next());
+			}
+			assertThat(reader.hasNext(), is(false));
+		}
+		return result;
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "65536, -1", "5, -1", "1, 0", "7, 9" })
+	void testRoundTrip(int rowGroupSize, int compressionLevel) throws IOException, ResourceParseException {
+		List<VdypPolygon> polygons = new ArrayList<>();
+		for (int year = 2000; year < 2010; year++) {
+			polygons.add(buildPolygon(year));
+		}
+
+		var bytes = new ByteArrayOutputStream();
+		try (var unit = new ColumnarOutputWriter(bytes, rowGroupSize, compressionLevel)) {
+			for (var polygon : polygons) {
+				unit.writePolygonWithSpeciesAndUtilization(polygon);
+			}
+		}
+
+		var expected = expectedRecords(polygons);
+		// layer and two species, each with six utilization classes
+		assertThat(expected, hasSize(10 * 3 * 6));
+		assertThat(readAll(bytes.toByteArray()), is(expected));
+	}
+
+	@Test
+	void testRecordValues() throws IOException, ResourceParseException {
+		var bytes = new ByteArrayOutputStream();
+		try (var unit = new ColumnarOutputWriter(bytes)) {
+			unit.writePolygonWithSpeciesAndUtilization(buildPolygon(1988));
+		}
+
+		var records = readAll(bytes.toByteArray());
+		var layerAll = records.get(1);
+		assertThat(layerAll.polygonIdentifier(), is(new PolygonIdentifier("082E004    615", 1988)));
+		assertThat(layerAll.layerType(), is(LayerType.PRIMARY));
+		assertThat(layerAll.speciesIndex(), is(0));
+		assertThat(layerAll.speciesGenus(), is(""));
+		assertThat(layerAll.utilizationClass(), is(UtilizationClass.ALL));
+		// Scaled by percent available as in the text output
+		assertThat(layerAll.baseArea(), is(19.97867f * 0.9f));
+		assertThat(layerAll.loreyHeight(), is(13.0660f));
+		assertThat(records.get(6).speciesGenus(), is("F"));
+	}
+
+	@Test
+	void testEmpty() throws IOException, ResourceParseException {
+		var bytes = new ByteArrayOutputStream();
+		new ColumnarOutputWriter(bytes, 10, Deflater.DEFAULT_COMPRESSION).close();
+
+		assertThat(readAll(bytes.toByteArray()), hasSize(0));
+	}
+
+	@Test
+	void testNotColumnar() {
+		assertThrows(
+				ResourceParseException.class,
+				() -> new ColumnarOutputReader(new ByteArrayInputStream("082E004    615".getBytes()))
+		);
+	}
+}
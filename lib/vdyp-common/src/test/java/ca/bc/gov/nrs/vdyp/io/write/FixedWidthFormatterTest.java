@@ -0,0 +1,196 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link FixedWidthFormatter} writes exactly what {@link String#format} does for the fields and record
+ * layouts of {@link VdypOutputWriter}.
+ */
+class FixedWidthFormatterTest {
+
+	/** The float conversions used by the VDYP7 output formats */
+	static final List<String> FLOAT_PATTERNS = List.of("%5.1f", "%6.1f", "%6.2f", "%9.2f", "%9.4f", "%9.5f");
+
+	static final List<String> RECORD_FORMATS = List.of(
+			VdypOutputWriter.POLY_FORMAT, VdypOutputWriter.SPEC_FORMAT, VdypOutputWriter.UTIL_FORMAT,
+			VdypOutputWriter.END_RECORD_FORMAT
+	);
+
+	static String expected(String pattern, Object... values) {
+		return String.format(Locale.ROOT, pattern, values);
+	}
+
+	static String formatFloat(String pattern, float value) {
+		return new FixedWidthFormatter().start(FixedWidthFormat.compile(pattern)).decimal(value).finishToString();
+	}
+
+	static void assertFloat(String pattern, float value) {
+		assertThat(
+				pattern + " of " + value + " (bits " + Integer.toHexString(Float.floatToRawIntBits(value)) + ")",
+				formatFloat(pattern, value), is(expected(pattern, value))
+		);
+	}
+
+	static void assertFloatAndNeighbours(String pattern, float value) {
+		float f = value;
+		for (int i = 0; i < 3; i++) {
+			assertFloat(pattern, f);
+			assertFloat(pattern, -f);
+			f = Math.nextUp(f);
+		}
+		f = value;
+		for (int i = 0; i < 2; i++) {
+			f = Math.nextDown(f);
+			assertFloat(pattern, f);
+			assertFloat(pattern, -f);
+		}
+	}
+
+	@Test
+	void testFloatSpecialValues() {
+		for (var pattern : FLOAT_PATTERNS) {
+			for (float value : new float[] { 0f, -0f, -9f, 0.5f, 0.05f, 0.25f, 0.125f, 99.95f, 100f, 1e-45f,
+					Float.MIN_NORMAL, 999_999_999f, 1e9f, 1e10f, -1e12f, Float.MAX_VALUE, Float.NaN,
+					Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY }) {
+				assertFloat(pattern, value);
+				assertFloat(pattern, -value);
+			}
+		}
+	}
+
+	@Test
+	void testFloatBitPatterns() {
+		// Every 65521st bit pattern, which covers every exponent with a spread of mantissas
+		for (var pattern : FLOAT_PATTERNS) {
+			for (long bits = 0; bits <= 0xffffffffL; bits += 65521) {
+				assertFloat(pattern, Float.intBitsToFloat((int) bits));
+			}
+		}
+	}
+
+	@Test
+	void testFloatsNearDecimalTies() {
+		// The floats around values exactly half way between two outputs are where rounding can go wrong
+		var random = new Random(20240615L);
+		for (var pattern : FLOAT_PATTERNS) {
+			int precision = FixedWidthFormat.compile(pattern).getField(0).precision();
+			var unit = BigDecimal.ONE.movePointLeft(precision);
+			var half = unit.divide(BigDecimal.valueOf(2));
+
+			// Every tie in the first 100 units and a sample of the ties over the range of magnitudes in use
+			for (int k = 0; k < 100_000; k++) {
+				long units = k < 100 ? k : (long) Math.pow(10, random.nextDouble() * (9 + precision));
+				float tie = BigDecimal.valueOf(units).multiply(unit).add(half).floatValue();
+				assertFloatAndNeighbours(pattern, tie);
+			}
+		}
+	}
+
+	@Test
+	void testIntegers() {
+		for (var pattern : List.of("%d", "%2d", "%3d", "%6d")) {
+			for (long value : new long[] { 0, 1, -1, 9, -9, 10, 99, 100, 999, -99, 123456, 1234567, -1234567,
+					Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE }) {
+				var actual = new FixedWidthFormatter().start(FixedWidthFormat.compile(pattern)).integer(value)
+						.finishToString();
+				assertThat(pattern + " of " + value, actual, is(expected(pattern, value)));
+			}
+		}
+	}
+
+	@Test
+	void testStrings() throws IOException {
+		for (var pattern : List.of("%-25s", "%-4s", "%1s", "%-2s", "%-3s", "%-1s", "%4s")) {
+			for (String value : new String[] { "", "A", "AB", "ABC", "082E004    615       1988",
+					"a value longer than the width", "été", null }) {
+				// Compare bytes as non-ASCII characters are encoded with the default character set
+				var actual = new ByteArrayOutputStream();
+				new FixedWidthFormatter().start(FixedWidthFormat.compile(pattern)).string(value).writeTo(actual);
+				assertThat(pattern + " of " + value, actual.toByteArray(), is(expected(pattern, value).getBytes()));
+			}
+		}
+	}
+
+	/** Random values of the type each field of a record layout takes */
+	static Object[] randomRecord(FixedWidthFormat layout, Random random) {
+		var values = new Object[layout.getFieldCount()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = switch (layout.getField(i).conversion()) {
+			case STRING -> "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ".substring(random.nextInt(30));
+			case INTEGER -> random.nextInt(2000) - 1000;
+			case FLOAT -> switch (random.nextInt(4)) {
+			case 0 -> -9f;
+			case 1 -> 0f;
+			case 2 -> random.nextFloat() * 100f;
+			default -> (random.nextFloat() - 0.5f) * (float) Math.pow(10, random.nextInt(8));
+			};
+			};
+		}
+		return values;
+	}
+
+	@Test
+	void testRecordLayouts() throws IOException {
+		var random = new Random(20240616L);
+		var writer = new VdypOutputWriter(
+				ByteArrayOutputStream.nullOutputStream(), ByteArrayOutputStream.nullOutputStream(),
+				ByteArrayOutputStream.nullOutputStream()
+		);
+		for (var format : RECORD_FORMATS) {
+			var layout = FixedWidthFormat.compile(format);
+			for (int i = 0; i < 10_000; i++) {
+				var values = randomRecord(layout, random);
+				var os = new ByteArrayOutputStream();
+				writer.writeFormat(os, format, values);
+				assertThat(os.toString(), is(expected(format, values)));
+			}
+		}
+	}
+
+	@Test
+	void testWriteFormatFallsBackForOtherValues() throws IOException {
+		var writer = new VdypOutputWriter(
+				ByteArrayOutputStream.nullOutputStream(), ByteArrayOutputStream.nullOutputStream(),
+				ByteArrayOutputStream.nullOutputStream()
+		);
+		var os = new ByteArrayOutputStream();
+		writer.writeFormat(os, "%6.2f|%3d|%-4s|%x\n", 1.005d, 7, "A", 255);
+		writer.writeFormat(os, "%6.2f|%3d\n", 1.005d, 7);
+		assertThat(
+				os.toString(),
+				is(expected("%6.2f|%3d|%-4s|%x\n", 1.005d, 7, "A", 255) + expected("%6.2f|%3d\n", 1.005d, 7))
+		);
+	}
+
+	@Test
+	void testCompileRejectsUnsupportedConversions() {
+		for (var pattern : List.of("%x", "%5.2d", "%-3d", "%f", "%-s", "%", "%08.2f", "é%s")) {
+			assertThrows(IllegalArgumentException.class, () -> FixedWidthFormat.compile(pattern), pattern);
+		}
+		assertThat(FixedWidthFormat.compile("100%% %s").getFieldCount(), is(1));
+	}
+
+	@Test
+	void testFieldsMustMatchLayout() {
+		var layout = FixedWidthFormat.compile("%3d %5.1f");
+		var unit = new FixedWidthFormatter();
+		assertThrows(IllegalStateException.class, () -> unit.integer(1));
+		unit.start(layout);
+		assertThrows(IllegalStateException.class, () -> unit.decimal(1f));
+		unit.start(layout).integer(1);
+		assertThrows(IllegalStateException.class, unit::finishToString);
+		assertThat(unit.start(layout).integer(1).decimal(2.25f).finishToString(), is("  1   2.3"));
+		assertThrows(IllegalStateException.class, () -> unit.string("A"));
+	}
+}
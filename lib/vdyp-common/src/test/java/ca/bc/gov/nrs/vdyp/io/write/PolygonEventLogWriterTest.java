@@ -0,0 +1,156 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
+import ca.bc.gov.nrs.vdyp.model.BecDefinition;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.Region;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class PolygonEventLogWriterTest {
+
+	static final PolygonIdentifier POLYGON_ID = new PolygonIdentifier("082E004    615", 1988);
+
+	static List<String> lines(ByteArrayOutputStream os) {
+		return os.toString(StandardCharsets.UTF_8).lines().toList();
+	}
+
+	@Test
+	void testWriteEvents() throws IOException {
+		var result = VdypPolygon.build(builder -> {
+			builder.polygonIdentifier(POLYGON_ID);
+			builder.percentAvailable(100f);
+			builder.forestInventoryZone("D");
+			builder.biogeoclimaticZone(new BecDefinition("IDF", Region.INTERIOR, "Interior Douglas Fir"));
+			builder.addLayer(layerBuilder -> {
+				layerBuilder.layerType(LayerType.PRIMARY);
+				for (var genus : List.of("PL", "F")) {
+					layerBuilder.addSpecies(specBuilder -> {
+						specBuilder.genus(genus, genus.equals("PL") ? 12 : 5);
+						specBuilder.percentGenus(50);
+						specBuilder.volumeGroup(0);
+						specBuilder.decayGroup(0);
+						specBuilder.breakageGroup(0);
+					});
+				}
+			});
+		});
+
+		var os = new ByteArrayOutputStream();
+		try (var writer = new PolygonEventLogWriter(os)) {
+			writer.log(PolygonEvent.written(POLYGON_ID, Optional.of(PolygonMode.START), 1500, 7, result));
+			writer.log(PolygonEvent.skipped(POLYGON_ID, Optional.of(PolygonMode.DONT_PROCESS), 20, 0));
+			writer.log(
+					PolygonEvent.failed(
+							POLYGON_ID, Optional.empty(), 300, 2, PolygonEvent.Outcome.BYPASSED,
+							new StandProcessingException("Bypassed")
+					)
+			);
+		}
+
+		assertThat(
+				lines(os),
+				contains(
+						"{\"polygon\":\"082E004    615\",\"year\":1988,\"mode\":\"START\",\"processingNanos\":1500,\"solverIterations\":7,\"outcome\":\"WRITTEN\",\"errorClass\":null,\"polygonRecords\":1,\"speciesRecords\":2,\"utilizationRecords\":18}",
+						"{\"polygon\":\"082E004    615\",\"year\":1988,\"mode\":\"DONT_PROCESS\",\"processingNanos\":20,\"solverIterations\":0,\"outcome\":\"SKIPPED\",\"errorClass\":null,\"polygonRecords\":0,\"speciesRecords\":0,\"utilizationRecords\":0}",
+						"{\"polygon\":\"082E004    615\",\"year\":1988,\"mode\":null,\"processingNanos\":300,\"solverIterations\":2,\"outcome\":\"BYPASSED\",\"errorClass\":\"ca.bc.gov.nrs.vdyp.application.StandProcessingException\",\"polygonRecords\":0,\"speciesRecords\":0,\"utilizationRecords\":0}"
+				)
+		);
+	}
+
+	@Test
+	void testEscapesStrings() {
+		var line = new StringBuilder();
+		PolygonEventLogWriter
+				.format(line, PolygonEvent.skipped(new PolygonIdentifier("A \"B\"\\C", 2000), Optional.empty(), 0, 0));
+		assertThat(line.toString().startsWith("{\"polygon\":\"A \\\"B\\\"\\\\C\",\"year\":2000,"), is(true));
+	}
+
+	@Test
+	void testMoreEventsThanCapacity() throws IOException {
+		var os = new ByteArrayOutputStream();
+		try (var writer = new PolygonEventLogWriter(os, 2)) {
+			for (int i = 0; i < 1000; i++) {
+				writer.log(PolygonEvent.skipped(POLYGON_ID, Optional.empty(), i, 0));
+			}
+		}
+
+		var lines = lines(os);
+		assertThat(lines, hasSize(1000));
+		for (int i = 0; i < 1000; i++) {
+			assertThat(lines.get(i).contains("\"processingNanos\":" + i + ","), is(true));
+		}
+	}
+
+	@Test
+	void testWriteFailureIsReported() throws IOException {
+		var os = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Disk full");
+			}
+		};
+		var writer = new PolygonEventLogWriter(os, 1);
+		var ex = assertThrows(IOException.class, () -> {
+			try (writer) {
+				writer.log(PolygonEvent.skipped(POLYGON_ID, Optional.empty(), 0, 0));
+			}
+		});
+		assertThat(ex.getMessage(), is("Disk full"));
+		assertThrows(
+				IllegalStateException.class, () -> writer.log(PolygonEvent.skipped(POLYGON_ID, Optional.empty(), 0, 0))
+		);
+	}
+
+	@Test
+	void testCloseAfterReportedFailure() throws IOException {
+		// Only the first write fails, so that closing the stream succeeds and close reports the writer's failure
+		var os = new OutputStream() {
+			boolean failed = false;
+
+			@Override
+			public void write(int b) throws IOException {
+				if (!failed) {
+					failed = true;
+					throw new IOException("Disk full");
+				}
+			}
+		};
+		var writer = new PolygonEventLogWriter(os, 1);
+
+		// Log until the failure of the writing thread is reported
+		assertThrows(IOException.class, () -> {
+			while (true) {
+				writer.log(PolygonEvent.skipped(POLYGON_ID, Optional.empty(), 0, 0));
+			}
+		});
+
+		var ex = assertThrows(IOException.class, () -> {
+			try (writer) {
+				writer.log(PolygonEvent.skipped(POLYGON_ID, Optional.empty(), 0, 0));
+			}
+		});
+		assertThat(ex.getMessage(), is("Disk full"));
+		assertThat(ex.getSuppressed().length, is(1));
+		assertThat(ex.getSuppressed()[0].getMessage(), is("Disk full"));
+		assertThat(ex.getSuppressed()[0], not(sameInstance(ex)));
+	}
+}
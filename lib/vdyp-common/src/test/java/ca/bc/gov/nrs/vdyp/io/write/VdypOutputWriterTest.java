@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
 import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
@@ -466,4 +467,60 @@ class VdypOutputWriterTest {
 				)
 		);
 	}
+
+	@Test
+	void testWritePolygonWithChildrenAs() throws IOException {
+		try (var unit = new VdypOutputWriter(controlMap, fileResolver)) {
+
+			VdypPolygon polygon = VdypPolygon.build(builder -> {
+
+				builder.polygonIdentifier("082E004    615       1988");
+				builder.percentAvailable(100f);
+				builder.biogeoclimaticZone(Utils.getBec("IDF", controlMap));
+				builder.forestInventoryZone("D");
+				builder.mode(PolygonMode.START);
+
+			});
+
+			var layer = VdypLayer.build(polygon, builder -> {
+				builder.layerType(LayerType.PRIMARY);
+
+				builder.primaryGenus("PL");
+
+				builder.addSpecies(specBuilder -> {
+					specBuilder.genus("PL", controlMap);
+					specBuilder.percentGenus(100);
+					specBuilder.volumeGroup(0);
+					specBuilder.decayGroup(0);
+					specBuilder.breakageGroup(0);
+					specBuilder.addSp64Distribution("PL", 100);
+
+					specBuilder.addSite(siteBuilder -> {
+						siteBuilder.height(15f);
+						siteBuilder.siteIndex(14.7f);
+						siteBuilder.ageTotal(60f);
+						siteBuilder.yearsToBreastHeight(8.5f);
+						siteBuilder.siteCurveNumber(0);
+					});
+				});
+			});
+
+			layer.setEmpiricalRelationshipParameterIndex(Optional.of(119));
+			layer.setInventoryTypeGroup(Optional.of(28));
+
+			unit.writePolygonWithSpeciesAndUtilization(polygon, new PolygonIdentifier("082E004    616", 1988));
+			unit.writePolygonWithSpeciesAndUtilization(polygon);
+		}
+		polyStream.assertContent(
+				is("082E004    616       1988 IDF  D   100 28119  1\n082E004    615       1988 IDF  D   100 28119  1\n")
+		);
+		specStream.assertContent(
+				VdypMatchers.hasLines(
+						"082E004    616       1988 P 12 PL PL 100.0     0.0     0.0     0.0 14.70 15.00  60.0  51.5   8.5 1  0", //
+						"082E004    616       1988  ", //
+						"082E004    615       1988 P 12 PL PL 100.0     0.0     0.0     0.0 14.70 15.00  60.0  51.5   8.5 1  0", //
+						"082E004    615       1988  "
+				)
+		);
+	}
 }
@@ -0,0 +1,43 @@
+package ca.bc.gov.nrs.vdyp.math;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class FloatKernelsTest {
+
+	@Test
+	void testAddRows() {
+		var dst = new float[] { 1f, 1f, 1f };
+		FloatKernels.addRows(dst, new float[][] { { 1f, 2f, 3f }, { 10f, 20f, 30f } });
+		assertThat(dst, is(new float[] { 12f, 23f, 34f }));
+	}
+
+	@Test
+	void testAddWeightedRows() {
+		var dst = new float[] { 0f, 0f };
+		FloatKernels.addWeightedRows(
+				dst, new float[][] { { 1f, 2f }, { 3f, 4f } }, new float[][] { { 10f, 100f }, { 0.5f, 0.25f } }
+		);
+		assertThat(dst, is(new float[] { 11.5f, 201f }));
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> FloatKernels.addWeightedRows(dst, new float[][] { { 1f, 2f } }, new float[][] {})
+		);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> FloatKernels.addWeightedRows(dst, new float[][] { { 1f } }, new float[][] { { 1f, 2f } })
+		);
+	}
+
+	@Test
+	void testSumAccumulatesInOrder() {
+		var a = new float[] { 1e8f, 1f, -1e8f, 1f };
+		assertThat(FloatKernels.sum(a, 0, 4), is(1f)); // 1e8f + 1f rounds to 1e8f
+		assertThat(FloatKernels.sum(a, 1, 2), is(1f));
+		assertThat(FloatKernels.sum(a, 2, 2), is(0f));
+	}
+}
@@ -0,0 +1,94 @@
+package ca.bc.gov.nrs.vdyp.model;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import ca.bc.gov.nrs.vdyp.test.Benchmarks;
+
+/**
+ * Times the rollup of a layer's utilization vectors from those of its species, with the pairwise and scalar lambda
+ * operations and with the array kernels that replaced them. {@link CoefficientsTest} checks that the results are the
+ * same.
+ */
+@EnabledIfSystemProperty(named = Benchmarks.PROPERTY, matches = "true")
+class CoefficientsBenchmarkTest {
+
+	static final int POLYGONS = 1000;
+	static final int SPECIES = 6;
+	static final int SUMMABLE_VECTORS = 8;
+
+	/** The summable vectors of each species of each polygon, with the Lorey height and base area last */
+	static UtilizationVector[][][] polygons() {
+		var random = new Random(42);
+		var polygons = new UtilizationVector[POLYGONS][SPECIES][SUMMABLE_VECTORS + 2];
+		for (var polygon : polygons) {
+			for (var species : polygon) {
+				for (int v = 0; v < species.length; v++) {
+					species[v] = new UtilizationVector(
+							random.nextFloat(), random.nextFloat() * 10, random.nextFloat(), random.nextFloat(),
+							random.nextFloat(), random.nextFloat()
+					);
+				}
+			}
+		}
+		return polygons;
+	}
+
+	static double pairwise(UtilizationVector[][] polygon) {
+		double result = 0;
+		for (int v = 0; v < SUMMABLE_VECTORS; v++) {
+			var layer = new UtilizationVector();
+			for (var species : polygon) {
+				layer.pairwiseInPlace(species[v], (x, y) -> x + y);
+			}
+			layer.scalarInPlace(x -> x * 0.5f);
+			result += layer.getAll();
+		}
+		var loreyHeight = new UtilizationVector();
+		for (var species : polygon) {
+			var ba = species[SUMMABLE_VECTORS + 1];
+			loreyHeight.pairwiseInPlace(
+					species[SUMMABLE_VECTORS], (float x, float y, UtilizationClass uc) -> x + y * ba.get(uc)
+			);
+		}
+		return result + loreyHeight.getAll();
+	}
+
+	static double kernels(UtilizationVector[][] polygon) {
+		double result = 0;
+		for (int v = 0; v < SUMMABLE_VECTORS; v++) {
+			var layer = new UtilizationVector();
+			for (var species : polygon) {
+				layer.addInPlace(species[v]);
+			}
+			layer.scaleInPlace(0.5f);
+			result += layer.getAll();
+		}
+		var loreyHeight = new UtilizationVector();
+		for (var species : polygon) {
+			loreyHeight.addProductInPlace(species[SUMMABLE_VECTORS], species[SUMMABLE_VECTORS + 1]);
+		}
+		return result + loreyHeight.getAll();
+	}
+
+	@Test
+	void benchmarkLayerRollup() {
+		var polygons = polygons();
+		Benchmarks.nanosPerOperation("Layer rollup, lambda operations", POLYGONS, () -> {
+			double sum = 0;
+			for (var polygon : polygons) {
+				sum += pairwise(polygon);
+			}
+			return sum;
+		});
+		Benchmarks.nanosPerOperation("Layer rollup, kernels", POLYGONS, () -> {
+			double sum = 0;
+			for (var polygon : polygons) {
+				sum += kernels(polygon);
+			}
+			return sum;
+		});
+	}
+}
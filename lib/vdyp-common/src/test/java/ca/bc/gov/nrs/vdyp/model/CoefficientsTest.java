@@ -159,4 +159,95 @@ class CoefficientsTest {
 		assertThrows(ArrayIndexOutOfBoundsException.class, () -> unit.scalarInPlace(2, x -> x * 2));
 	}
 
+	@Test
+	void testAddInPlace() {
+		var unit1 = new Coefficients(new float[] { 2f, 3f, 4f }, -1);
+		var unit2 = new Coefficients(new float[] { 5f, 6f, 7f }, -1);
+		unit1.addInPlace(unit2);
+		assertThat(unit1, VdypMatchers.coe(-1, 7f, 9f, 11f));
+
+		assertThrows(
+				IllegalArgumentException.class, () -> unit1.addInPlace(new Coefficients(new float[] { 5f, 6f, 7f }, 0))
+		);
+		assertThrows(
+				IllegalArgumentException.class, () -> unit1.addInPlace(new Coefficients(new float[] { 5f, 6f }, -1))
+		);
+	}
+
+	@Test
+	void testAddProductInPlace() {
+		var unit = new Coefficients(new float[] { 1f, 2f }, -1);
+		var a = new Coefficients(new float[] { 2f, 3f }, -1);
+		var b = new Coefficients(new float[] { 5f, 6f, 7f, 8f }, -1);
+		unit.addProductInPlace(a, b);
+		assertThat(unit, VdypMatchers.coe(-1, 11f, 20f));
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> unit.addProductInPlace(a, new Coefficients(new float[] { 5f, 6f }, 0))
+		);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> unit.addProductInPlace(a, new Coefficients(new float[] { 5f }, -1))
+		);
+	}
+
+	@Test
+	void testScaleInPlace() {
+		var unit = new Coefficients(new float[] { 2f, 3f, 4f }, -1);
+		unit.scaleInPlace(0.5f);
+		assertThat(unit, VdypMatchers.coe(-1, 1f, 1.5f, 2f));
+	}
+
+	@Test
+	void testClampInPlace() {
+		var unit = new Coefficients(new float[] { -2f, 3f, 40f, Float.NaN }, -1);
+		unit.clampInPlace(0f, 10f);
+		assertThat(unit.getCoe(-1), is(0f));
+		assertThat(unit.getCoe(0), is(3f));
+		assertThat(unit.getCoe(1), is(10f));
+		assertThat(Float.isNaN(unit.getCoe(2)), is(true));
+
+		assertThrows(IllegalArgumentException.class, () -> unit.clampInPlace(1f, 0f));
+	}
+
+	@Test
+	void testSum() {
+		var unit = new Coefficients(new float[] { 2f, 3f, 4f, 5f }, -1);
+		assertThat(unit.sum(0, 2), is(12f));
+		assertThat(unit.sum(-1, -1), is(2f));
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> unit.sum(0, 3));
+	}
+
+	@Test
+	void testKernelsMatchPairwise() {
+		var random = new java.util.Random(42);
+		for (int n = 0; n < 1000; n++) {
+			var values = new float[6];
+			var other = new float[6];
+			var weights = new float[6];
+			for (int i = 0; i < 6; i++) {
+				values[i] = random.nextFloat() * 100f;
+				other[i] = random.nextFloat() * 100f;
+				weights[i] = random.nextFloat() * 10f;
+			}
+			float factor = random.nextFloat() * 2f;
+
+			var expected = new UtilizationVector(values[0], values[1], values[2], values[3], values[4], values[5]);
+			var actual = new UtilizationVector(values[0], values[1], values[2], values[3], values[4], values[5]);
+			var o = new UtilizationVector(other[0], other[1], other[2], other[3], other[4], other[5]);
+			var w = new UtilizationVector(weights[0], weights[1], weights[2], weights[3], weights[4], weights[5]);
+
+			expected.pairwiseInPlace(o, (x, y) -> x + y);
+			actual.addInPlace(o);
+			expected.pairwiseInPlace(o, (float x, float y, UtilizationClass uc) -> x + y * w.get(uc));
+			actual.addProductInPlace(o, w);
+			expected.scalarInPlace(x -> x * factor);
+			actual.scaleInPlace(factor);
+
+			for (int i = -1; i < 5; i++) {
+				assertThat(actual.getCoe(i), is(expected.getCoe(i)));
+			}
+		}
+	}
 }
@@ -0,0 +1,129 @@
+package ca.bc.gov.nrs.vdyp.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.test.TestUtils;
+
+class CohortKeyTest {
+
+	Map<String, Object> controlMap = new HashMap<>();
+
+	VdypPolygon polygon(String base, int year, float siteIndex, Consumer<VdypSpecies.Builder> moreSpecies) {
+		TestUtils.populateControlMapBecReal(controlMap);
+
+		var poly = VdypPolygon.build(builder -> {
+			builder.polygonIdentifier(base, year);
+			builder.percentAvailable(50f);
+			builder.forestInventoryZone("?");
+			builder.biogeoclimaticZone(Utils.getBec("IDF", controlMap));
+		});
+
+		VdypLayer.build(poly, builder -> {
+			builder.layerType(LayerType.PRIMARY);
+			builder.primaryGenus("PL");
+			builder.baseAreaByUtilization(20f);
+
+			builder.addSpecies(specBuilder -> {
+				specBuilder.genus("PL", 12);
+				specBuilder.percentGenus(100);
+				specBuilder.volumeGroup(-1);
+				specBuilder.decayGroup(-1);
+				specBuilder.breakageGroup(-1);
+				specBuilder.addSite(siteBuilder -> {
+					siteBuilder.height(10f);
+					siteBuilder.ageTotal(42f);
+					siteBuilder.siteIndex(siteIndex);
+					siteBuilder.yearsToBreastHeight(2f);
+					siteBuilder.siteCurveNumber(0);
+				});
+				moreSpecies.accept(specBuilder);
+			});
+		});
+		return poly;
+	}
+
+	VdypPolygon polygon(String base, int year, float siteIndex) {
+		return polygon(base, year, siteIndex, specBuilder -> {
+			/* as is */
+		});
+	}
+
+	@Test
+	void testNameIsNotPartOfKey() {
+		var key1 = CohortKey.of(polygon("Test1", 2024, 15f));
+		var key2 = CohortKey.of(polygon("Test2", 2024, 15f));
+		assertThat(key1, is(key2));
+		assertThat(key1.hashCode(), is(key2.hashCode()));
+		assertThat(key1.toString(), is(key2.toString()));
+	}
+
+	@Test
+	void testYearIsPartOfKey() {
+		assertThat(CohortKey.of(polygon("Test", 2024, 15f)), not(CohortKey.of(polygon("Test", 2025, 15f))));
+	}
+
+	@Test
+	void testTargetYearIsNotPartOfStartingState() {
+		var polygon1 = polygon("Test", 2024, 15f);
+		polygon1.setTargetYear(2030);
+		var polygon2 = polygon("Test", 2024, 15f);
+		polygon2.setTargetYear(2040);
+
+		assertThat(CohortKey.of(polygon1), not(CohortKey.of(polygon2)));
+		assertThat(CohortKey.ofStartingState(polygon1), is(CohortKey.ofStartingState(polygon2)));
+		assertThat(CohortKey.ofStartingState(polygon1), not(CohortKey.ofStartingState(polygon("Test", 2024, 15.5f))));
+	}
+
+	@Test
+	void testSiteIsPartOfKey() {
+		assertThat(CohortKey.of(polygon("Test", 2024, 15f)), not(CohortKey.of(polygon("Test", 2024, 15.5f))));
+	}
+
+	@Test
+	void testUtilizationIsPartOfKey() {
+		var poly1 = polygon("Test", 2024, 15f);
+		var poly2 = polygon("Test", 2024, 15f);
+		poly2.getLayers().get(LayerType.PRIMARY).getBaseAreaByUtilization().setCoe(UtilizationClass.U75TO125.index, 1f);
+		assertThat(CohortKey.of(poly1), not(CohortKey.of(poly2)));
+	}
+
+	@Test
+	void testSpeciesDistributionIsPartOfKey() {
+		var key1 = CohortKey.of(polygon("Test", 2024, 15f, specBuilder -> specBuilder.addSp64Distribution("PL", 100f)));
+		var key2 = CohortKey
+				.of(polygon("Test", 2024, 15f, specBuilder -> specBuilder.addSp64Distribution("PLI", 100f)));
+		assertThat(key1, not(key2));
+	}
+
+	@Test
+	void testExtraFields() {
+		var poly = polygon("Test", 2024, 15f);
+		var key = CohortKey.of(poly);
+		assertThat(CohortKey.of(poly, (entity, fields) -> {
+			/* none */
+		}), is(key));
+		assertThat(CohortKey.of(poly, (entity, fields) -> {
+			if (entity instanceof VdypSite) {
+				fields.add("extra");
+			}
+		}), not(key));
+	}
+
+	@Test
+	void testUnsupportedField() {
+		var poly = polygon("Test", 2024, 15f);
+		assertThrows(
+				IllegalArgumentException.class, () -> CohortKey.of(poly, (entity, fields) -> fields.add(new Object()))
+		);
+	}
+}
@@ -0,0 +1,76 @@
+package ca.bc.gov.nrs.vdyp.test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Times the benchmarks under the test sources. A benchmark is a test enabled only when the {@value #PROPERTY} system
+ * property is <code>true</code>, so the usual build does not spend time on it. To run them:
+ *
+ * <pre>
+ * mvn -pl vdyp-common test -Dtest='*BenchmarkTest' -Dvdyp.benchmark=true
+ * </pre>
+ *
+ * Each round is repeated until the JIT has had a chance to compile it, then timed a few more times, and the median time
+ * per operation is printed. The numbers are only comparable between runs on the same machine.
+ */
+public final class Benchmarks {
+
+	/** The system property that enables the benchmarks */
+	public static final String PROPERTY = "vdyp.benchmark";
+
+	private static final int WARMUP_ROUNDS = 10;
+	private static final long WARMUP_NANOS = 2_000_000_000L;
+	private static final int ROUNDS = 7;
+
+	/** The results of the rounds are added here so that the JIT can not leave out the work that computes them */
+	private static volatile double sink;
+
+	private Benchmarks() {
+	}
+
+	/**
+	 * Time a round of operations
+	 *
+	 * @param name       what is timed, printed with the result
+	 * @param operations the number of operations in a round
+	 * @param round      runs the operations, returning anything computed from their results
+	 * @return the median time of an operation, in nanoseconds
+	 */
+	public static double nanosPerOperation(String name, long operations, DoubleSupplier round) {
+		double result = medianNanos(round) / operations;
+		System.out.printf(Locale.ROOT, "%-48s %12.1f ns/op (%d per round)%n", name, result, operations);
+		return result;
+	}
+
+	/**
+	 * Time a round that processes a number of bytes
+	 *
+	 * @param name  what is timed, printed with the result
+	 * @param bytes the number of bytes processed by a round
+	 * @param round processes the bytes, returning anything computed from the result
+	 * @return the median throughput, in megabytes per second
+	 */
+	public static double megabytesPerSecond(String name, long bytes, DoubleSupplier round) {
+		double result = bytes * 1e3 / medianNanos(round);
+		System.out.printf(Locale.ROOT, "%-48s %12.1f MB/s%n", name, result);
+		return result;
+	}
+
+	private static double medianNanos(DoubleSupplier round) {
+		long warmupStart = System.nanoTime();
+		for (int i = 0; i < WARMUP_ROUNDS || System.nanoTime() - warmupStart < WARMUP_NANOS; i++) {
+			sink += round.getAsDouble();
+		}
+
+		var times = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; i++) {
+			long start = System.nanoTime();
+			sink += round.getAsDouble();
+			times[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(times);
+		return times[ROUNDS / 2];
+	}
+}
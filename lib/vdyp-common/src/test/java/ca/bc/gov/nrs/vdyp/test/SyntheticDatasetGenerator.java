@@ -0,0 +1,561 @@
+package ca.bc.gov.nrs.vdyp.test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.parse.coe.BecDefinitionParser;
+import ca.bc.gov.nrs.vdyp.io.parse.coe.GenusDefinitionParser;
+import ca.bc.gov.nrs.vdyp.model.BecDefinition;
+import ca.bc.gov.nrs.vdyp.model.BecLookup;
+import ca.bc.gov.nrs.vdyp.model.GenusDefinitionMap;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.Region;
+
+/**
+ * Generates large FIP, VRI and VDYP7 forward input datasets for scale testing.
+ * <p>
+ * Each generated polygon is a copy of a template polygon from a set of existing input files, such as the test fixtures,
+ * under a new identifier. Its BEC zone is drawn from those in the {@link BecLookup} for the region of the template, and
+ * its site (site index and height) and density (base area, trees per hectare, volumes and crown closure) are scaled by
+ * random factors, so that no two polygons are the same. Templates are chosen by the genus of their leading species.
+ * <p>
+ * The output is determined by the templates, the seed and the mix, and is written one polygon at a time, so any number
+ * of polygons can be generated in constant memory. It may be compressed by giving the files a suffix such as
+ * <code>.gz</code>, see {@link ca.bc.gov.nrs.vdyp.io.FileCompression}.
+ * <p>
+ * Run from the command line, with the test classpath, as
+ *
+ * <pre>
+ * SyntheticDatasetGenerator FIP|VRI|FORWARD templateDir outputDir polygons [seed] [becMix] [genusMix] [suffix]
+ * </pre>
+ *
+ * where a mix is a list of weights such as <code>CWH=3,IDF=1</code>, or <code>-</code> for the default.
+ */
+public class SyntheticDatasetGenerator {
+
+	/** Factor by which the site of a polygon may be scaled up or down */
+	static final double SITE_VARIATION = 0.08;
+
+	/** Factor by which the density of a polygon may be scaled up or down */
+	static final double DENSITY_VARIATION = 0.25;
+
+	private static final long[] POWERS_OF_TEN = { 1, 10, 100, 1000, 10000, 100000, 1000000, 10000000 };
+
+	enum Scale {
+		/** Scaled with the site of the polygon */
+		SITE,
+		/** Scaled with the density of the polygon */
+		DENSITY,
+		/** Scaled with the density of the polygon, up to 100 percent */
+		CLOSURE
+	}
+
+	/**
+	 * A fixed width numeric field of a record that is scaled for each polygon. Negative values, which mark missing
+	 * values, are not scaled.
+	 */
+	record Field(int start, int width, Scale scale) {
+	}
+
+	/**
+	 * A file of the dataset, with its fields that are scaled
+	 */
+	record FileFormat(String name, List<Field> fields) {
+	}
+
+	public enum Format {
+		FIP(
+				28, "fip_ls1.dat", List.of(
+						new FileFormat("fip_p1.dat", List.of()), //
+						new FileFormat(
+								"fip_l1.dat", List.of(
+										new Field(31, 5, Scale.SITE), // height
+										new Field(36, 5, Scale.SITE), // site index
+										new Field(41, 5, Scale.CLOSURE) // crown closure
+								)
+						), //
+						new FileFormat("fip_ls1.dat", List.of())
+				)
+		) {
+			@Override
+			boolean isLeading(String species, String leading) {
+				return species.charAt(26) == '1' && percent(species) > percent(leading);
+			}
+		},
+		VRI(
+				28, "vri_sp1.dat", List.of(
+						new FileFormat("vri_p1.dat", List.of()), //
+						new FileFormat(
+								"vri_l1.dat", List.of(
+										new Field(27, 6, Scale.CLOSURE), // crown closure
+										new Field(33, 9, Scale.DENSITY), // base area
+										new Field(43, 8, Scale.DENSITY) // trees per hectare
+								)
+						), //
+						new FileFormat("vri_sp1.dat", List.of()), //
+						new FileFormat(
+								"vri_si1.dat", List.of(
+										new Field(31, 5, Scale.SITE), // height
+										new Field(36, 5, Scale.SITE) // site index
+								)
+						)
+				)
+		) {
+			@Override
+			boolean isLeading(String species, String leading) {
+				return species.charAt(26) == 'P' && percent(species) > percent(leading);
+			}
+		},
+		FORWARD(
+				26, "vin_s1.dat", List.of(
+						new FileFormat("vin_p1.dat", List.of()), //
+						new FileFormat(
+								"vin_s1.dat", List.of(
+										new Field(66, 6, Scale.SITE), // site index
+										new Field(72, 6, Scale.SITE) // dominant height
+								)
+						), //
+						new FileFormat(
+								"vin_u1.dat", List.of(
+										new Field(36, 9, Scale.DENSITY), // base area
+										new Field(45, 9, Scale.DENSITY), // trees per hectare
+										new Field(63, 9, Scale.DENSITY), // whole stem volume
+										new Field(72, 9, Scale.DENSITY), // close utilization volume
+										new Field(81, 9, Scale.DENSITY), // less decay
+										new Field(90, 9, Scale.DENSITY), // less decay and wastage
+										new Field(99, 9, Scale.DENSITY) // less decay, wastage and breakage
+								)
+						), //
+						new FileFormat("vin_y1.dat", List.of())
+				)
+		) {
+			@Override
+			boolean isLeading(String species, String leading) {
+				return species.charAt(26) == 'P' && species.length() >= 98 && species.substring(96, 98).equals(" 1");
+			}
+
+			@Override
+			String genus(String species) {
+				return species.substring(31, 33).trim();
+			}
+		};
+
+		/** Column of the BEC zone in the polygon file, which is the first */
+		final int becColumn;
+		final String speciesFile;
+		final List<FileFormat> files;
+
+		Format(int becColumn, String speciesFile, List<FileFormat> files) {
+			this.becColumn = becColumn;
+			this.speciesFile = speciesFile;
+			this.files = files;
+		}
+
+		/**
+		 * The names of the files of the dataset, the polygon file first
+		 */
+		public List<String> getFileNames() {
+			return files.stream().map(FileFormat::name).toList();
+		}
+
+		/**
+		 * Whether a species record is of the leading species of a polygon, rather than the one found so far
+		 *
+		 * @param species a species record
+		 * @param leading the leading species record found so far, or an empty string if none has been
+		 */
+		abstract boolean isLeading(String species, String leading);
+
+		/**
+		 * The genus of a species record
+		 */
+		String genus(String species) {
+			return species.substring(28, 30).trim();
+		}
+
+		static float percent(String species) {
+			if (species.length() < 36) {
+				return -1f;
+			}
+			try {
+				return Float.parseFloat(species.substring(30, 36).trim());
+			} catch (NumberFormatException e) {
+				return -1f;
+			}
+		}
+	}
+
+	/**
+	 * A polygon of the templates
+	 *
+	 * @param records the records of the polygon in each file of the format, in order, without the base of their polygon
+	 *                identifiers. The year is kept, as it is not always the year of the polygon: the grow-to file
+	 *                identifies polygons by the year to project them to.
+	 */
+	record Template(Region region, String genus, List<List<String>> records) {
+	}
+
+	private final Format format;
+	private final BecLookup becs;
+	private final GenusDefinitionMap genera;
+	private final long seed;
+	private final Map<String, Double> becMix;
+	private final Map<String, Double> genusMix;
+
+	/**
+	 * @param format   the format of the dataset
+	 * @param becs     the BEC zones that may be assigned to polygons
+	 * @param genera   the genera that may lead the polygons
+	 * @param seed     seed of the random choices
+	 * @param becMix   relative weights of the BEC zones to assign, or empty to assign any BEC zone of the region of a
+	 *                 template with equal weight
+	 * @param genusMix relative weights of the genera of the leading species of the polygons, or empty to choose
+	 *                 templates with equal weight
+	 * @throws IllegalArgumentException if a mix names an unknown BEC zone or genus, or has a negative weight
+	 */
+	public SyntheticDatasetGenerator(
+			Format format, BecLookup becs, GenusDefinitionMap genera, long seed, Map<String, Double> becMix,
+			Map<String, Double> genusMix
+	) {
+		for (var entry : becMix.entrySet()) {
+			if (becs.get(entry.getKey()).isEmpty()) {
+				throw new IllegalArgumentException("Unknown BEC zone " + entry.getKey() + " in mix");
+			}
+			checkWeight(entry);
+		}
+		for (var entry : genusMix.entrySet()) {
+			if (!genera.contains(entry.getKey())) {
+				throw new IllegalArgumentException("Unknown genus " + entry.getKey() + " in mix");
+			}
+			checkWeight(entry);
+		}
+		this.format = format;
+		this.becs = becs;
+		this.genera = genera;
+		this.seed = seed;
+		this.becMix = becMix;
+		this.genusMix = genusMix;
+	}
+
+	private static void checkWeight(Map.Entry<String, Double> entry) {
+		if (! (entry.getValue() >= 0)) {
+			throw new IllegalArgumentException("Weight of " + entry.getKey() + " must not be negative");
+		}
+	}
+
+	/**
+	 * Generate a dataset.
+	 *
+	 * @param templateResolver resolves the files of the template dataset
+	 * @param outputResolver   resolves the files to write
+	 * @param suffix           appended to the name of each file written
+	 * @param polygons         the number of polygons to generate
+	 * @throws IOException              if the templates could not be read or the dataset could not be written
+	 * @throws IllegalArgumentException if no template matches the mix
+	 */
+	public void generate(FileResolver templateResolver, FileResolver outputResolver, String suffix, long polygons)
+			throws IOException {
+		var templates = readTemplates(templateResolver);
+
+		var templateWeights = new ArrayList<Double>(templates.size());
+		var becChoices = new HashMap<Region, List<BecDefinition>>();
+		var becWeights = new HashMap<Region, List<Double>>();
+		for (var template : templates) {
+			var regionBecs = becChoices.computeIfAbsent(template.region(), this::becsFor);
+			var regionWeights = becWeights.computeIfAbsent(
+					template.region(),
+					region -> regionBecs.stream()
+							.map(bec -> becMix.isEmpty() ? 1.0 : becMix.getOrDefault(bec.getAlias(), 0.0)).toList()
+			);
+			double genusWeight = genusMix.isEmpty() ? 1.0 : genusMix.getOrDefault(template.genus(), 0.0);
+			templateWeights.add(total(regionWeights) > 0 ? genusWeight : 0.0);
+		}
+		if (total(templateWeights) <= 0) {
+			throw new IllegalArgumentException("No template polygon matches the BEC and genus mix");
+		}
+
+		var random = new Random(seed);
+		var writers = new ArrayList<Writer>(format.files.size());
+		try {
+			for (var file : format.files) {
+				writers.add(
+						new BufferedWriter(
+								new OutputStreamWriter(
+										outputResolver.resolveForOutput(file.name() + suffix), StandardCharsets.US_ASCII
+								), 64 * 1024
+						)
+				);
+			}
+
+			var line = new StringBuilder(128);
+			for (long i = 0; i < polygons; i++) {
+				var template = templates.get(choose(random, templateWeights));
+				var bec = becChoices.get(template.region()).get(choose(random, becWeights.get(template.region())));
+				double siteFactor = 1 + SITE_VARIATION * (2 * random.nextDouble() - 1);
+				double densityFactor = 1 + DENSITY_VARIATION * (2 * random.nextDouble() - 1);
+
+				var base = String.format("%-" + PolygonIdentifier.BASE_LENGTH + "s", String.format("SYN%08d", i + 1));
+
+				for (int f = 0; f < format.files.size(); f++) {
+					var fields = format.files.get(f).fields();
+					for (var record : template.records().get(f)) {
+						line.setLength(0);
+						line.append(base).append(record);
+						if (f == 0) {
+							replace(line, format.becColumn, 4, String.format("%-4s", bec.getAlias()));
+						}
+						for (var field : fields) {
+							scale(line, field, switch (field.scale()) {
+							case SITE -> siteFactor;
+							case DENSITY, CLOSURE -> densityFactor;
+							});
+						}
+						writers.get(f).append(line).append('\n');
+					}
+				}
+			}
+		} finally {
+			IOException failure = null;
+			for (var writer : writers) {
+				try {
+					writer.close();
+				} catch (IOException e) {
+					failure = Optional.ofNullable(failure).orElse(e);
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+	}
+
+	private List<BecDefinition> becsFor(Region region) {
+		var result = new ArrayList<>(becs.getBecsForRegion(region));
+		// The lookup is not ordered, and the choices must be for the output to be determined by the seed
+		result.sort(Comparator.comparing(BecDefinition::getAlias));
+		return Collections.unmodifiableList(result);
+	}
+
+	List<Template> readTemplates(FileResolver resolver) throws IOException {
+		// Records of each polygon, by file, in the order of the polygon file, keyed by the base of its identifier
+		var records = new LinkedHashMap<String, List<List<String>>>();
+		var leading = new HashMap<String, String>();
+
+		for (int f = 0; f < format.files.size(); f++) {
+			var name = format.files.get(f).name();
+			try (
+					var reader = new BufferedReader(
+							new InputStreamReader(resolver.resolveForInput(name), StandardCharsets.US_ASCII)
+					)
+			) {
+				String line;
+				while ( (line = reader.readLine()) != null) {
+					if (line.length() < PolygonIdentifier.ID_LENGTH
+							|| line.substring(0, PolygonIdentifier.ID_LENGTH).isBlank()) {
+						continue;
+					}
+					var id = line.substring(0, PolygonIdentifier.BASE_LENGTH);
+					var polygonRecords = records.get(id);
+					if (f == 0) {
+						if (polygonRecords != null) {
+							throw new IOException("Template polygon " + id.trim() + " appears more than once");
+						}
+						polygonRecords = newRecords();
+						records.put(id, polygonRecords);
+					} else if (polygonRecords == null) {
+						throw new IOException(
+								"Record in " + name + " for polygon " + id.trim() + " not in "
+										+ format.files.get(0).name()
+						);
+					}
+					polygonRecords.get(f).add(line.substring(PolygonIdentifier.BASE_LENGTH));
+					if (name.equals(format.speciesFile) && format.isLeading(line, leading.getOrDefault(id, ""))) {
+						leading.put(id, line);
+					}
+				}
+			}
+		}
+
+		var result = new ArrayList<Template>(records.size());
+		for (var entry : records.entrySet()) {
+			var id = entry.getKey();
+			var polygonLine = id + entry.getValue().get(0).get(0);
+			var becAlias = polygonLine.substring(format.becColumn, Math.min(polygonLine.length(), format.becColumn + 4))
+					.trim();
+			var bec = becs.get(becAlias).orElseThrow(
+					() -> new IOException("Unknown BEC zone " + becAlias + " of template polygon " + id.trim())
+			);
+			var genus = Optional.ofNullable(leading.get(id)).map(format::genus).filter(genera::contains)
+					.orElseThrow(() -> new IOException("No leading species for template polygon " + id.trim()));
+			result.add(new Template(bec.getRegion(), genus, entry.getValue()));
+		}
+		if (result.isEmpty()) {
+			throw new IOException("No template polygons in " + format.files.get(0).name());
+		}
+		return result;
+	}
+
+	private List<List<String>> newRecords() {
+		var result = new ArrayList<List<String>>(format.files.size());
+		for (int i = 0; i < format.files.size(); i++) {
+			result.add(new ArrayList<>());
+		}
+		return result;
+	}
+
+	private static double total(List<Double> weights) {
+		return weights.stream().mapToDouble(Double::doubleValue).sum();
+	}
+
+	/**
+	 * Choose an index with probability proportional to its weight
+	 */
+	private static int choose(Random random, List<Double> weights) {
+		double target = random.nextDouble() * total(weights);
+		int last = 0;
+		for (int i = 0; i < weights.size(); i++) {
+			if (weights.get(i) > 0) {
+				last = i;
+				target -= weights.get(i);
+				if (target < 0) {
+					return i;
+				}
+			}
+		}
+		return last;
+	}
+
+	/**
+	 * Scale a numeric field of a record, keeping its width and number of decimal places. Fields that are missing,
+	 * negative, not numbers, or that would no longer fit, are left as they are.
+	 */
+	static void scale(StringBuilder line, Field field, double factor) {
+		int end = field.start() + field.width();
+		if (line.length() < end) {
+			return;
+		}
+
+		// Parsed and formatted by hand as fixed point, as this is done for most fields of most records
+		long digits = 0;
+		int decimals = -1;
+		int i = field.start();
+		while (i < end && line.charAt(i) == ' ') {
+			i++;
+		}
+		if (i == end) {
+			return;
+		}
+		for (; i < end; i++) {
+			char c = line.charAt(i);
+			if (c == '.' && decimals < 0) {
+				decimals = 0;
+			} else if (c >= '0' && c <= '9') {
+				digits = digits * 10 + (c - '0');
+				if (decimals >= 0) {
+					decimals++;
+				}
+			} else {
+				// Negative, or not a number
+				return;
+			}
+		}
+		decimals = Math.max(decimals, 0);
+
+		long scaled = Math.round(digits * factor);
+		if (field.scale() == Scale.CLOSURE) {
+			scaled = Math.min(scaled, 100 * POWERS_OF_TEN[decimals]);
+		}
+
+		var text = new char[field.width()];
+		int position = text.length;
+		for (int d = 0; d < decimals || d == decimals || scaled > 0; d++) {
+			if (position == 0) {
+				// Would no longer fit
+				return;
+			}
+			if (d == decimals && decimals > 0) {
+				text[--position] = '.';
+				if (position == 0) {
+					return;
+				}
+			}
+			text[--position] = (char) ('0' + scaled % 10);
+			scaled /= 10;
+		}
+		while (position > 0) {
+			text[--position] = ' ';
+		}
+		line.replace(field.start(), end, new String(text));
+	}
+
+	private static void replace(StringBuilder line, int start, int width, String value) {
+		if (line.length() < start + width) {
+			line.setLength(start + width);
+			for (int i = start; i < start + width; i++) {
+				line.setCharAt(i, ' ');
+			}
+		}
+		line.replace(start, start + width, value);
+	}
+
+	static Map<String, Double> parseMix(String mix) {
+		var result = new LinkedHashMap<String, Double>();
+		if (mix.equals("-")) {
+			return result;
+		}
+		for (var entry : mix.split(",")) {
+			var parts = entry.split("=");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException("Mix entry " + entry + " is not of the form ALIAS=weight");
+			}
+			result.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+		}
+		return result;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 4) {
+			System.err.println(
+					"Usage: SyntheticDatasetGenerator FIP|VRI|FORWARD templateDir outputDir polygons [seed] [becMix] [genusMix] [suffix]"
+			);
+			System.exit(1);
+		}
+		var format = Format.valueOf(args[0].toUpperCase(Locale.ROOT));
+		var templateResolver = new FileSystemFileResolver(Path.of(args[1]));
+		var outputResolver = new FileSystemFileResolver(Path.of(args[2]));
+		outputResolver.setCompressionPool(ForkJoinPool.commonPool());
+		long polygons = Long.parseLong(args[3]);
+		long seed = args.length > 4 ? Long.parseLong(args[4]) : 0;
+		var becMix = args.length > 5 ? parseMix(args[5]) : Map.<String, Double>of();
+		var genusMix = args.length > 6 ? parseMix(args[6]) : Map.<String, Double>of();
+		var suffix = args.length > 7 ? args[7] : "";
+
+		var control = new HashMap<String, Object>();
+		TestUtils.populateControlMapBecReal(control);
+		TestUtils.populateControlMapGenusReal(control);
+
+		new SyntheticDatasetGenerator(
+				format, BecDefinitionParser.getBecs(control), GenusDefinitionParser.getSpecies(control), seed, becMix,
+				genusMix
+		).generate(templateResolver, outputResolver, suffix, polygons);
+	}
+}
@@ -0,0 +1,218 @@
+package ca.bc.gov.nrs.vdyp.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.io.parse.coe.BecDefinitionParser;
+import ca.bc.gov.nrs.vdyp.io.parse.coe.GenusDefinitionParser;
+import ca.bc.gov.nrs.vdyp.model.BecLookup;
+import ca.bc.gov.nrs.vdyp.model.GenusDefinitionMap;
+import ca.bc.gov.nrs.vdyp.model.Region;
+import ca.bc.gov.nrs.vdyp.test.SyntheticDatasetGenerator.Field;
+import ca.bc.gov.nrs.vdyp.test.SyntheticDatasetGenerator.Format;
+import ca.bc.gov.nrs.vdyp.test.SyntheticDatasetGenerator.Scale;
+
+class SyntheticDatasetGeneratorTest {
+
+	BecLookup becs;
+	GenusDefinitionMap genera;
+
+	@BeforeEach
+	void setup() {
+		var control = new HashMap<String, Object>();
+		TestUtils.populateControlMapBecReal(control);
+		TestUtils.populateControlMapGenusReal(control);
+		becs = BecDefinitionParser.getBecs(control);
+		genera = GenusDefinitionParser.getSpecies(control);
+	}
+
+	/**
+	 * Generate a FIP dataset from a coastal template led by D and an interior one led by F
+	 *
+	 * @return the lines of each file
+	 */
+	Map<String, List<String>>
+			generate(long seed, Map<String, Double> becMix, Map<String, Double> genusMix, int polygons)
+					throws IOException {
+		var templates = new MockFileResolver("templates");
+		templates.addStream(
+				"fip_p1.dat", TestUtils.makeInputStream(
+						"01002 S000001 00     1970 A CWH                1.00", //
+						"01002 S000002 00     1970 A IDF                1.00"
+				)
+		);
+		templates.addStream(
+				"fip_l1.dat",
+				TestUtils.makeInputStream(
+						"01002 S000001 00     1970 1  55 35.3 35.0 87.4   D  D  1.0 0              13", //
+						"01002 S000001 00     1970 Z  55  0.0  0.0  0.0         0.0", //
+						"01002 S000002 00     1970 1  80 24.3 -9.0 99.0   F  F  5.4 0              23", //
+						"01002 S000002 00     1970 Z  80  0.0  0.0  0.0         0.0"
+				)
+		);
+		templates.addStream(
+				"fip_ls1.dat",
+				TestUtils.makeInputStream(
+						"01002 S000001 00     1970 1 C   26.0C  100.0     0.0     0.0     0.0", //
+						"01002 S000001 00     1970 1 D   74.0D  100.0     0.0     0.0     0.0", //
+						"01002 S000001 00     1970 Z      0.0     0.0     0.0     0.0     0.0", //
+						"01002 S000002 00     1970 1 F   80.0FD  100.0     0.0     0.0     0.0", //
+						"01002 S000002 00     1970 1 PL  20.0PL  100.0     0.0     0.0     0.0", //
+						"01002 S000002 00     1970 Z      0.0     0.0     0.0     0.0     0.0"
+				)
+		);
+
+		var output = new MockFileResolver("output");
+		var streams = new LinkedHashMap<String, ByteArrayOutputStream>();
+		for (var name : Format.FIP.getFileNames()) {
+			var os = new ByteArrayOutputStream();
+			streams.put(name, os);
+			output.addStream(name, os);
+		}
+
+		new SyntheticDatasetGenerator(Format.FIP, becs, genera, seed, becMix, genusMix)
+				.generate(templates, output, "", polygons);
+
+		var result = new LinkedHashMap<String, List<String>>();
+		streams.forEach((name, os) -> result.put(name, TestUtils.readOutputStream(os).lines().toList()));
+		return result;
+	}
+
+	String bec(String polygon) {
+		return polygon.substring(28, 32).trim();
+	}
+
+	@Test
+	void testRecords() throws IOException {
+		var result = generate(42, Map.of(), Map.of(), 100);
+
+		var polygons = result.get("fip_p1.dat");
+		assertThat(polygons, hasSize(100));
+		assertThat(polygons.get(0).substring(0, 25), is("SYN00000001          1970"));
+		assertThat(polygons.get(99).substring(0, 25), is("SYN00000100          1970"));
+		assertThat(result.get("fip_l1.dat"), hasSize(200));
+		assertThat(result.get("fip_ls1.dat"), hasSize(300));
+
+		// Polygons copied from the first template are led by D, and from the second by F
+		var leading = new HashMap<String, String>();
+		for (var species : result.get("fip_ls1.dat")) {
+			var genus = species.substring(28, 30).trim();
+			if (genus.equals("D") || genus.equals("F")) {
+				leading.put(species.substring(0, 25), genus);
+			}
+		}
+		assertThat(leading.size(), is(100));
+
+		for (var polygon : polygons) {
+			var region = becs.get(bec(polygon)).orElseThrow().getRegion();
+			assertThat(
+					region, is(leading.get(polygon.substring(0, 25)).equals("D") ? Region.COASTAL : Region.INTERIOR)
+			);
+		}
+		assertThat(leading.values().stream().distinct().count(), is(2L));
+
+		for (var layer : result.get("fip_l1.dat")) {
+			assertThat(layer.substring(0, 3), is("SYN"));
+			if (layer.charAt(26) == '1' && leading.get(layer.substring(0, 25)).equals("D")) {
+				var height = Double.parseDouble(layer.substring(31, 36));
+				var siteIndex = Double.parseDouble(layer.substring(36, 41));
+				var crownClosure = Double.parseDouble(layer.substring(41, 46));
+				assertThat(
+						height, allOf(greaterThanOrEqualTo(35.3 * 0.92 - 0.05), lessThanOrEqualTo(35.3 * 1.08 + 0.05))
+				);
+				// Site and height are scaled together
+				assertThat(
+						siteIndex / height,
+						allOf(greaterThanOrEqualTo(35.0 / 35.3 - 0.01), lessThanOrEqualTo(35.0 / 35.3 + 0.01))
+				);
+				assertThat(crownClosure, lessThanOrEqualTo(100.0));
+			} else if (layer.charAt(26) == '1') {
+				// Missing site index is left missing
+				assertThat(layer.substring(36, 41), is(" -9.0"));
+			}
+		}
+	}
+
+	@Test
+	void testDeterministic() throws IOException {
+		assertThat(generate(42, Map.of(), Map.of(), 50), equalTo(generate(42, Map.of(), Map.of(), 50)));
+		assertThat(generate(42, Map.of(), Map.of(), 50), not(equalTo(generate(43, Map.of(), Map.of(), 50))));
+	}
+
+	@Test
+	void testGenusMix() throws IOException {
+		var result = generate(42, Map.of(), Map.of("F", 1.0), 50);
+
+		for (var polygon : result.get("fip_p1.dat")) {
+			assertThat(becs.get(bec(polygon)).orElseThrow().getRegion(), is(Region.INTERIOR));
+		}
+	}
+
+	@Test
+	void testBecMix() throws IOException {
+		var result = generate(42, Map.of("CWH", 1.0, "MH", 1.0, "IDF", 0.0), Map.of(), 50);
+
+		var assigned = result.get("fip_p1.dat").stream().map(this::bec).distinct().sorted().toList();
+		assertThat(assigned, is(List.of("CWH", "MH")));
+		for (var species : result.get("fip_ls1.dat")) {
+			assertThat(species.substring(28, 30), not("F "));
+		}
+	}
+
+	@Test
+	void testInvalidMix() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new SyntheticDatasetGenerator(Format.FIP, becs, genera, 0, Map.of("XYZ", 1.0), Map.of())
+		);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new SyntheticDatasetGenerator(Format.FIP, becs, genera, 0, Map.of(), Map.of("Q", 1.0))
+		);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new SyntheticDatasetGenerator(Format.FIP, becs, genera, 0, Map.of("CWH", -1.0), Map.of())
+		);
+		// Nothing led by F is coastal
+		assertThrows(IllegalArgumentException.class, () -> generate(0, Map.of("CWH", 1.0), Map.of("F", 1.0), 1));
+	}
+
+	@Test
+	void testScale() {
+		var line = new StringBuilder("x 35.3 -9.0   850 99.0    ab");
+
+		SyntheticDatasetGenerator.scale(line, new Field(1, 5, Scale.SITE), 1.1);
+		SyntheticDatasetGenerator.scale(line, new Field(6, 5, Scale.SITE), 1.1);
+		SyntheticDatasetGenerator.scale(line, new Field(11, 6, Scale.DENSITY), 1.25);
+		SyntheticDatasetGenerator.scale(line, new Field(17, 5, Scale.CLOSURE), 1.25);
+		SyntheticDatasetGenerator.scale(line, new Field(22, 6, Scale.DENSITY), 2);
+
+		assertThat(line.toString(), is("x 38.8 -9.0  1063100.0    ab"));
+
+		line = new StringBuilder("  0.040");
+		SyntheticDatasetGenerator.scale(line, new Field(0, 7, Scale.DENSITY), 1.5);
+		assertThat(line.toString(), is("  0.060"));
+
+		// Too wide to fit is left as it was
+		line = new StringBuilder("99.9");
+		SyntheticDatasetGenerator.scale(line, new Field(0, 4, Scale.DENSITY), 2);
+		assertThat(line.toString(), is("99.9"));
+	}
+}
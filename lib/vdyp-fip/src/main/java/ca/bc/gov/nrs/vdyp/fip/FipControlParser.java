@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.vdyp.fip;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -76,26 +77,22 @@ public class FipControlParser extends StartApplicationControlParser {
 			throws ResourceParseException, IOException {
 		applyModifiers(map, basicDefinitions, fileResolver);
 
-		// Read Groups
-
-		applyModifiers(map, groupDefinitions, fileResolver);
-
 		// Initialize data file parser factories
 
-		applyModifiers(map, inputFileParsers(), fileResolver);
-
-		applyModifiers(map, fipstartOnly, fileResolver);
+		applyInputModifiers(map, fileResolver);
 
-		applyModifiers(map, siteCurves, fileResolver);
+		// Read Groups, FIPSTART only items, Site Curves and Coeff for Empirical relationships. These depend only on
+		// the basic definitions so they can be parsed concurrently.
 
-		// Coeff for Empirical relationships
+		List<ControlMapModifier> independent = new ArrayList<>();
+		List.of(groupDefinitions, fipstartOnly, siteCurves, coefficients).forEach(independent::addAll);
 
-		applyModifiers(map, coefficients, fileResolver);
+		applyModifiersConcurrently(map, independent, fileResolver);
 
 		// Modifiers, IPSJF155-Appendix XII
 
 		// RD_E198
-		applyModifiers(map, additionalModifiers, fileResolver);
+		applyModifiersConcurrently(map, additionalModifiers, fileResolver);
 
 		// Debug switches (normally zero)
 		// TODO
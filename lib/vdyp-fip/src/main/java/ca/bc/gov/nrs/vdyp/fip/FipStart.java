@@ -41,6 +41,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ca.bc.gov.nrs.vdyp.application.LowValueException;
+import ca.bc.gov.nrs.vdyp.application.PolygonBudget;
+import ca.bc.gov.nrs.vdyp.application.PolygonBudgetExceededException;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
@@ -58,6 +60,7 @@ import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.io.write.PolygonEvent;
 import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypSpecies;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
@@ -126,9 +129,11 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 				// FIP_GET
 				log.atInfo().setMessage("Getting polygon {}").addArgument(polygonsRead + 1).log();
 				var polygon = getPolygon(polyStream, layerStream, speciesStream);
+				long start = startPolygon();
 				try {
 
-					var resultPoly = processPolygon(polygonsRead, polygon);
+					var polygonNumber = polygonsRead;
+					var resultPoly = withinPolygonBudget(() -> processPolygon(polygonNumber, polygon));
 					if (resultPoly.isPresent()) {
 						polygonsRead++;
 
@@ -137,19 +142,27 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 
 						polygonsWritten++;
 					}
+					logPolygonEvent(polygon, start, resultPoly);
 
 					log.atInfo().setMessage("Read {} polygons and wrote {}").addArgument(polygonsRead)
-							.addArgument(polygonsWritten);
+							.addArgument(polygonsWritten).log();
 
+				} catch (PolygonBudgetExceededException ex) {
+					bypassOverBudget(polygon, start, ex);
 				} catch (StandProcessingException ex) {
 					// TODO include some sort of hook for different forms of user output
 					// TODO Implement single stand mode that propagates the exception
 
 					log.atWarn().setMessage("Polygon {} bypassed").addArgument(polygon.getPolygonIdentifier())
-							.setCause(ex);
+							.setCause(ex).log();
+					logPolygonEvent(polygon, start, PolygonEvent.Outcome.BYPASSED, ex);
+				} catch (ProcessingException | IOException | RuntimeException ex) {
+					logPolygonError(polygon, start, ex);
+					throw ex;
 				}
 
 			}
+			logRetryPolygons();
 		} catch (IOException | ResourceParseException ex) {
 			throw new ProcessingException("Error while reading or writing data.", ex);
 		}
@@ -1032,7 +1045,10 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 	}
 
 	RealVector findRoot(double[] diameterBase, double[] goal, double[] x, VdypLayer layer, double tolerance) {
-		MultivariateVectorFunction func = point -> rootFinderFunction(point, layer, diameterBase);
+		MultivariateVectorFunction func = point -> {
+			PolygonBudget.spend(1);
+			return rootFinderFunction(point, layer, diameterBase);
+		};
 
 		MultivariateMatrixFunction jacFunc = point -> estimateJacobian(point, func);
 
@@ -1052,6 +1068,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		);
 
 		var result = optimizer.optimize(leastSquaresProblem);
+		countSolverIterations(result.getIterations());
 
 		return result.getPoint();
 	}
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hamcrest.Matcher;
@@ -27,6 +28,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.LazyValue;
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.SiteCurveAgeMaximumParserTest;
@@ -37,6 +39,7 @@ import ca.bc.gov.nrs.vdyp.model.BecDefinition;
 import ca.bc.gov.nrs.vdyp.model.BecLookup;
 import ca.bc.gov.nrs.vdyp.model.ComponentSizeLimits;
 import ca.bc.gov.nrs.vdyp.model.GenusDefinitionMap;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.SiteCurveAgeMaximum;
@@ -602,6 +605,42 @@ class FipControlParserTest {
 		);
 	}
 
+	@Test
+	void testParseDeferredModifiers() throws Exception {
+		var expected = (Map<String, Object>) parse(new FipControlParser(), TestUtils.class, "FIPSTART.CTR");
+
+		var parser = new FipControlParser();
+		parser.setDeferResources(true);
+		var result = (Map<String, Object>) parse(parser, TestUtils.class, "FIPSTART.CTR");
+
+		// The modifiers change the veteran BQ and HL coefficients, which are still to be parsed
+		assertThat(result.get(ControlKey.VETERAN_BQ.name()), instanceOf(LazyValue.class));
+		assertThat(
+				BaseControlParser.getDeferredResourceUsage(result),
+				allOf(
+						hasEntry(ControlKey.VETERAN_BQ.name(), false),
+						hasEntry(ControlKey.HL_PRIMARY_SP_EQN_P1.name(), false)
+				)
+		);
+
+		// Reading the HL coefficients applies their modifiers without parsing the veteran BQ coefficients
+		Utils.expectParsedControl(result, ControlKey.HL_PRIMARY_SP_EQN_P1, MatrixMap2.class);
+		assertThat(
+				BaseControlParser.getDeferredResourceUsage(result),
+				allOf(
+						hasEntry(ControlKey.VETERAN_BQ.name(), false),
+						hasEntry(ControlKey.HL_PRIMARY_SP_EQN_P1.name(), true)
+				)
+		);
+
+		// The test modifier file changes the veteran BQ coefficients, which match those modified eagerly
+		for (var key : List.of(ControlKey.VETERAN_BQ, ControlKey.HL_PRIMARY_SP_EQN_P1, ControlKey.BA_MODIFIERS)) {
+			MatrixMap<?> expectedMap = Utils.expectParsedControl(expected, key, MatrixMap2.class);
+			MatrixMap<?> resultMap = Utils.expectParsedControl(result, key, MatrixMap2.class);
+			expectedMap.eachKey(k -> assertThat(key.name(), resultMap.getM(k), is(expectedMap.getM(k))));
+		}
+	}
+
 	static InputStream addToEnd(InputStream is, String... lines) {
 		var appendix = new ByteArrayInputStream(String.join("\r\n", lines).getBytes(StandardCharsets.US_ASCII));
 		var result = new SequenceInputStream(is, appendix);
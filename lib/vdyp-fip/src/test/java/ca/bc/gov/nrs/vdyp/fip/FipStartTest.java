@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static ca.bc.gov.nrs.vdyp.test.TestUtils.polygonId;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,6 +64,7 @@ import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.MockStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.io.write.PolygonEventLogWriter;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
@@ -106,6 +108,36 @@ class FipStartTest {
 
 	}
 
+	@Test
+	void testProcessSimpleWithEventLog() throws Exception {
+
+		var polygonId = polygonId("Test Polygon", 2023);
+		var layer = LayerType.PRIMARY;
+
+		var eventLog = new ByteArrayOutputStream();
+
+		testWith(
+				FipTestUtils.loadControlMap(), Arrays.asList(getTestPolygon(polygonId, TestUtils.valid())), //
+				Arrays.asList(layerMap(getTestPrimaryLayer(polygonId, TestUtils.valid(), TestUtils.valid()))), //
+				Arrays.asList(Collections.singletonList(getTestSpecies(polygonId, layer, TestUtils.valid()))), //
+				(app, controlMap) -> {
+					app.setPolygonEventLog(new PolygonEventLogWriter(eventLog));
+					app.process();
+					app.close();
+				}
+		);
+
+		var lines = eventLog.toString().lines().toList();
+		assertThat(lines, Matchers.hasSize(1));
+		assertThat(lines.get(0), Matchers.startsWith("{\"polygon\":\"Test Polygon\",\"year\":2023,"));
+		assertThat(
+				lines.get(0),
+				Matchers.containsString(
+						"\"outcome\":\"BYPASSED\",\"errorClass\":\"ca.bc.gov.nrs.vdyp.application.LowValueException\""
+				)
+		);
+	}
+
 	@Test
 	void testPolygonWithNoLayersRecord() throws Exception {
 
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +70,7 @@ import ca.bc.gov.nrs.vdyp.io.parse.coe.VolumeNetDecayParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.VolumeNetDecayWasteParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapModifier;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapValueReplacer;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ResourceControlMapModifier;
 import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParser;
@@ -122,6 +124,8 @@ public class ForwardControlParser extends BaseControlParser {
 		);
 	}
 
+	private static final Set<ControlKey> DEFINITION_KEYS = EnumSet.of(ControlKey.BEC_DEF, ControlKey.SP0_DEF);
+
 	private final List<ControlKey> orderedControlKeys = new ArrayList<>();
 
 	private final Map<ControlKey, ControlMapValueReplacer<Object, String>> vdypForwardInputParsers = new EnumMap<>(
@@ -290,37 +294,25 @@ public class ForwardControlParser extends BaseControlParser {
 	protected void applyAllModifiers(Map<String, Object> map, FileResolver fileResolver)
 			throws ResourceParseException, IOException {
 
-		// FORWARD_INPUT_GROWTO is optional; if missing, the polygon list is read from the
-		// polygon file itself.
-		Optional<String> source = Utils.optSafe(map.get(ControlKey.FORWARD_INPUT_GROWTO.name()));
-		if (source.isEmpty()) {
-			String polyFileName = (String) map.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name());
-			map.put(ControlKey.FORWARD_INPUT_GROWTO.name(), polyFileName);
-		}
+		// The BEC and genus definitions are needed by nearly every other configuration file, which are otherwise
+		// independent of each other (apart from the modifiers) and so can be parsed concurrently.
+
+		List<ControlMapModifier> definitionParsers = new ArrayList<>();
+		List<ControlMapModifier> configurationParsers = new ArrayList<>();
 
 		for (ControlKey key : orderedControlKeys) {
 
 			ResourceControlMapModifier m = vdypForwardConfigurationParsers.get(key);
 			if (m != null) {
 				// m is a configuration file parser.
-				logger.debug(
-						"Parsing configuration file {}[{}] using {}", m.getControlKeyName(), key.sequence.get(),
-						m.getClass().getName()
-				);
-				m.modify(map, fileResolver);
-			}
-
-			ControlMapValueReplacer<?, ?> r = vdypForwardInputParsers.get(key);
-			if (r != null) {
-				// r is an input file parser.
-				logger.debug(
-						"Parsing input file {}[{}] using {}", r.getControlKeyName(), key.sequence.get(),
-						r.getClass().getName()
-				);
-				r.modify(map, fileResolver);
+				(DEFINITION_KEYS.contains(key) ? definitionParsers : configurationParsers).add(m);
 			}
 		}
 
+		applyModifiers(map, definitionParsers, fileResolver);
+		applyModifiersConcurrently(map, configurationParsers, fileResolver);
+		applyInputModifiers(map, fileResolver);
+
 		// Report any control map items that are a) not included in orderedControlKeys
 		// or b) for which not parser was registered.
 
@@ -338,4 +330,19 @@ public class ForwardControlParser extends BaseControlParser {
 		map.keySet().stream().filter(k -> !ControlKey.isControlKey(k))
 				.forEach(k -> logger.warn("{} was present in the configuration file but no parser was registered", k));
 	}
+
+	@Override
+	protected void applyInputModifiers(Map<String, Object> map, FileResolver fileResolver)
+			throws ResourceParseException, IOException {
+
+		// FORWARD_INPUT_GROWTO is optional; if missing, the polygon list is read from the
+		// polygon file itself.
+		Optional<String> source = Utils.optSafe(map.get(ControlKey.FORWARD_INPUT_GROWTO.name()));
+		if (source.isEmpty()) {
+			String polyFileName = (String) map.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name());
+			map.put(ControlKey.FORWARD_INPUT_GROWTO.name(), polyFileName);
+		}
+
+		super.applyInputModifiers(map, fileResolver);
+	}
 }
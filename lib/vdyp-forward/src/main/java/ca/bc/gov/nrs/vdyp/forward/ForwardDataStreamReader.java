@@ -169,7 +169,7 @@ public class ForwardDataStreamReader {
 					}
 				}
 
-				Map<LayerType, VdypLayer> layerMap = new HashMap<>();
+				Map<LayerType, VdypLayer> layerMap = new EnumMap<>(LayerType.class);
 
 				VdypLayer primaryLayer = null;
 				if (primarySpecies.size() > 0) {
@@ -12,16 +12,21 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ca.bc.gov.nrs.vdyp.application.PolygonScheduler;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.application.ProjectionCostStatistics;
 import ca.bc.gov.nrs.vdyp.application.RuntimeProcessingException;
 import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
@@ -44,6 +49,7 @@ import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
 import ca.bc.gov.nrs.vdyp.math.FloatMath;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
+import ca.bc.gov.nrs.vdyp.model.CohortKey;
 import ca.bc.gov.nrs.vdyp.model.CommonData;
 import ca.bc.gov.nrs.vdyp.model.CompatibilityVariableMode;
 import ca.bc.gov.nrs.vdyp.model.ComponentSizeLimits;
@@ -54,6 +60,7 @@ import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap3Impl;
 import ca.bc.gov.nrs.vdyp.model.ModelCoefficients;
 import ca.bc.gov.nrs.vdyp.model.NonprimaryHLCoefficients;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.SiteCurveAgeMaximum;
 import ca.bc.gov.nrs.vdyp.model.Sp64Distribution;
@@ -63,9 +70,12 @@ import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
 import ca.bc.gov.nrs.vdyp.model.VdypEntity;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
 import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
 import ca.bc.gov.nrs.vdyp.model.VolumeComputeMode;
 import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
 import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SiteCurveConfiguration;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 
 /**
  * This class manages "growing" polygons. Create an instance of the class, providing a control map, and then call
@@ -89,6 +99,31 @@ public class ForwardProcessingEngine {
 	/** The entity to which result information is written */
 	private Optional<VdypOutputWriter> outputWriter = Optional.empty();
 
+	/** Where the state of each polygon at the end of its projection is kept, so that later projections can resume */
+	private Optional<ProjectionSnapshotStore> snapshotStore = Optional.empty();
+
+	/** The site curves of species without one, if not those set for the whole JVM with {@link VdypMethods} */
+	private Optional<SiteCurveConfiguration> siteCurveConfiguration = Optional.empty();
+
+	/** The starting state key of the polygon being processed, if its snapshot is to be resumed from or saved */
+	private Optional<CohortKey> snapshotKey = Optional.empty();
+
+	/** Polygons of the same cohort as the one being processed, whose results are written along with its own */
+	private List<PolygonIdentifier> cohortIdentifiers = List.of();
+
+	/** Working storage for {@link #grow}, reused from year to year and polygon to polygon */
+	private final GrowthScratch scratch = new GrowthScratch();
+
+	/** The setup that the scenario being projected by {@link #processScenarios}, if any, shares with the others */
+	private Optional<ScenarioSetup> scenarioSetup = Optional.empty();
+
+	/**
+	 * The results of the setup steps that are the same for every scenario of a polygon: no scenario changes the site
+	 * curves of its species, and scaling the utilization of all of them alike leaves their rankings unchanged.
+	 */
+	private record ScenarioSetup(int[] siteCurveNumbers, SpeciesRankingDetails rankingDetails) {
+	}
+
 	public ForwardProcessingEngine(Map<String, Object> controlMap, Optional<VdypOutputWriter> outputWriter)
 			throws ProcessingException {
 		this.fps = new ForwardProcessingState(controlMap);
@@ -99,6 +134,34 @@ public class ForwardProcessingEngine {
 		this.fps = new ForwardProcessingState(controlMap);
 	}
 
+	/**
+	 * Keep the state of each polygon at the last year to which it is grown in the given store, and resume the growth of
+	 * polygons that already have a snapshot there, taken from the same input polygon, from the year following it. Only
+	 * complete runs of the engine (those to {@link ExecutionStep#ALL}) use the store.
+	 *
+	 * @param snapshotStore the store to use, whose control map version must be that of this engine's control map
+	 */
+	public void setSnapshotStore(ProjectionSnapshotStore snapshotStore) {
+		this.snapshotStore = Optional.of(snapshotStore);
+	}
+
+	/**
+	 * Use the given site curves for species whose site curve is neither given nor in the control map, rather than those
+	 * of {@link VdypMethods#getSiteCurveConfiguration()}, so that runs with different curves do not affect each other.
+	 *
+	 * @param siteCurveConfiguration the site curves of the run
+	 */
+	public void setSiteCurveConfiguration(SiteCurveConfiguration siteCurveConfiguration) {
+		this.siteCurveConfiguration = Optional.of(siteCurveConfiguration);
+	}
+
+	/**
+	 * @return the site curves used for species whose site curve is neither given nor in the control map
+	 */
+	public SiteCurveConfiguration getSiteCurveConfiguration() {
+		return siteCurveConfiguration.orElseGet(VdypMethods::getSiteCurveConfiguration);
+	}
+
 	public enum ExecutionStep {
 		// Must be first
 		NONE, //
@@ -179,6 +242,30 @@ public class ForwardProcessingEngine {
 		processPolygon(polygon, ExecutionStep.ALL);
 	}
 
+	/**
+	 * Run all steps of the engine on the given polygon, and write its results for each of the given polygons as well as
+	 * for itself. The other polygons must have the same {@link CohortKey} as the given one, and so the same results.
+	 * Each year's results are written for the given polygon and then for the others in turn.
+	 * <p>
+	 * A snapshot of the given polygon is not resumed from when there are other polygons, as their results for the years
+	 * before it would not be written.
+	 *
+	 * @param polygon           the polygon on which to operate
+	 * @param cohortIdentifiers the identifiers of the other polygons of its cohort
+	 *
+	 * @throws ProcessingException should an error with the data occur during processing
+	 */
+	public void processPolygon(VdypPolygon polygon, List<PolygonIdentifier> cohortIdentifiers)
+			throws ProcessingException {
+
+		this.cohortIdentifiers = cohortIdentifiers;
+		try {
+			processPolygon(polygon, ExecutionStep.ALL);
+		} finally {
+			this.cohortIdentifiers = List.of();
+		}
+	}
+
 	/**
 	 * Run all steps of the engine on the given polygon up to and including the given <code>lastStep</code>.
 	 *
@@ -191,86 +278,212 @@ public class ForwardProcessingEngine {
 
 		logger.info("Starting processing of the primary layer of polygon {}", polygon.getPolygonIdentifier());
 
+		// Taken before the polygon is grown
+		snapshotKey = snapshotStore.isPresent() && lastStepInclusive.eq(ExecutionStep.ALL)
+				? Optional.of(CohortKey.ofStartingState(polygon)) : Optional.empty();
+
 		fps.setPolygonLayer(polygon, LayerType.PRIMARY);
 
 		// All of BANKCHK1 that we need
 		validatePolygon(polygon);
 
 		// Determine the target year of the growth
-		int targetYear;
-
-		int growTargetControlVariableValue = fps.fcm.getForwardControlVariables()
-				.getControlVariable(ControlVariable.GROW_TARGET_1);
-		if (growTargetControlVariableValue == -1) {
-			if (polygon.getTargetYear().isEmpty()) {
-				throw new ProcessingException(
-						"Control Variable 1 has the value -1, indicating that the grow-to years are"
-								+ " to be read from a grow-to-year file (at " + ControlKey.FORWARD_INPUT_GROWTO.name()
-								+ " in the control file), but no such file was specified."
-				);
-			}
-			targetYear = polygon.getTargetYear().get();
-		} else {
-			if (growTargetControlVariableValue <= 400) {
-				targetYear = polygon.getPolygonIdentifier().getYear() + growTargetControlVariableValue;
-			} else {
-				targetYear = growTargetControlVariableValue;
-			}
-		}
+		int targetYear = requireTargetYear(polygon);
 
 		// Run the forward algorithm for this polygon
 
 		executeForwardAlgorithm(lastStepInclusive, targetYear);
 	}
 
-	private void executeForwardAlgorithm(ExecutionStep lastStepInclusive, int stoppingYearInclusive)
-			throws ProcessingException {
+	/**
+	 * Project each of the given scenarios of a polygon to the polygon's target year. The site curves and species
+	 * rankings of the polygon's primary layer are determined once and shared by all the scenarios; the rest of the
+	 * setup depends on the site indices, ages and utilization that a scenario changes, and is repeated for each.
+	 * Nothing is written to the output, and the snapshot store, if any, is not used.
+	 * <p>
+	 * With a pool, the scenarios are projected concurrently, each thread of the pool with its own engine created from
+	 * the control map of this one. Otherwise they are projected in turn by this engine.
+	 *
+	 * @param polygon   the polygon, which is not modified
+	 * @param scenarios the scenarios, which must be distinct
+	 * @param pool      the pool on which to project the scenarios, or empty
+	 * @return for each scenario, in the order given, a copy of the polygon whose primary layer is as projected
+	 *
+	 * @throws ProcessingException should an error with the data occur during the processing of any scenario
+	 */
+	public Map<ProjectionScenario, VdypPolygon>
+			processScenarios(VdypPolygon polygon, List<ProjectionScenario> scenarios, Optional<ForkJoinPool> pool)
+					throws ProcessingException {
+
+		if (new HashSet<>(scenarios).size() != scenarios.size()) {
+			throw new IllegalArgumentException(
+					"The scenarios of polygon " + polygon.getPolygonIdentifier() + " are not distinct"
+			);
+		}
+
+		logger.info(
+				"Starting processing of {} scenarios of polygon {}", scenarios.size(), polygon.getPolygonIdentifier()
+		);
+
+		validatePolygon(polygon);
+		int targetYear = requireTargetYear(polygon);
 
+		fps.setPolygonLayer(scenarioPolygon(polygon, ProjectionScenario.unchanged("Setup")), LayerType.PRIMARY);
 		LayerProcessingState lps = fps.getLayerProcessingState();
+		executeSetupSteps(lps, ExecutionStep.DETERMINE_POLYGON_RANKINGS);
+		var setup = new ScenarioSetup(
+				Arrays.copyOf(lps.getSiteCurveNumbers(), lps.getSiteCurveNumbers().length),
+				lps.getSpeciesRankingDetails()
+		);
 
-		Optional<VdypLayer> veteranLayer;
-		if (lps.getPolygon().getLayers().containsKey(LayerType.VETERAN)) {
-			veteranLayer = Optional.of(lps.getPolygon().getLayers().get(LayerType.VETERAN));
-		} else {
-			veteranLayer = Optional.empty();
-		}
+		var controlMap = fps.fcm.getControlMap();
+		// The engine of each thread of the pool, for these scenarios only, so that none outlive them on the pool's
+		// threads
+		var engines = new ConcurrentHashMap<Thread, ForwardProcessingEngine>();
+		var scheduler = new PolygonScheduler<ProjectionScenario>(pool, s -> 1, new ProjectionCostStatistics());
+
+		var results = new LinkedHashMap<ProjectionScenario, VdypPolygon>();
+		scheduler.run(scenarios, s -> {
+			var engine = this;
+			if (pool.isPresent()) {
+				engine = engines.get(Thread.currentThread());
+				if (engine == null) {
+					engine = new ForwardProcessingEngine(controlMap);
+					siteCurveConfiguration.ifPresent(engine::setSiteCurveConfiguration);
+					engines.put(Thread.currentThread(), engine);
+				}
+			}
+			return engine.processScenario(polygon, s, setup, targetYear);
+		}, results::put);
 
-		// BANKCHK1, simplified for the parameters METH_CHK = 4, LayerI = 1, and INSTANCE = 1
-		if (lastStepInclusive.ge(ExecutionStep.CHECK_FOR_WORK)) {
-			stopIfNoWork(lps);
-		}
+		return results;
+	}
 
-		// SCINXSET - note these are calculated directly from the Primary bank of instance 1
-		if (lastStepInclusive.ge(ExecutionStep.CALCULATE_MISSING_SITE_CURVES)) {
-			calculateMissingSiteCurves(lps, fps.fcm.getSiteCurveMap());
+	private VdypPolygon
+			processScenario(VdypPolygon polygon, ProjectionScenario scenario, ScenarioSetup setup, int targetYear)
+					throws ProcessingException {
+
+		logger.info("Starting scenario {} of polygon {}", scenario.name(), polygon.getPolygonIdentifier());
+
+		var scenarioPolygon = scenarioPolygon(polygon, scenario);
+		fps.setPolygonLayer(scenarioPolygon, LayerType.PRIMARY);
+
+		var writer = outputWriter;
+		this.outputWriter = Optional.empty();
+		this.scenarioSetup = Optional.of(setup);
+		try {
+			executeForwardAlgorithm(ExecutionStep.ALL, targetYear);
+		} finally {
+			this.outputWriter = writer;
+			this.scenarioSetup = Optional.empty();
 		}
 
-		// VPRIME1, method == 1
-		if (lastStepInclusive.ge(ExecutionStep.CALCULATE_COVERAGES)) {
-			calculateCoverages(lps);
+		return scenarioPolygon;
+	}
+
+	/**
+	 * A copy of the given polygon, its layers, their species and sites, with the changes of the given scenario made to
+	 * its primary layer. The engine can grow the copy without modifying the original. Missing site indices and ages are
+	 * left missing.
+	 */
+	private static VdypPolygon scenarioPolygon(VdypPolygon polygon, ProjectionScenario scenario) {
+		var copy = VdypPolygon.build(builder -> {
+			builder.copy(polygon);
+			builder.inventoryTypeGroup(polygon.getInventoryTypeGroup());
+			builder.targetYear(polygon.getTargetYear());
+			builder.copyLayers(polygon, (layerBuilder, layer) -> {
+				boolean isPrimary = layer.getLayerType() == LayerType.PRIMARY;
+				layerBuilder.empiricalRelationshipParameterIndex(layer.getEmpiricalRelationshipParameterIndex());
+				layerBuilder.copySpecies(layer, (speciesBuilder, species) -> {
+					speciesBuilder.copySiteFrom(species, (siteBuilder, site) -> {
+						if (isPrimary) {
+							siteBuilder.siteIndex(site.getSiteIndex().map(si -> si + scenario.siteIndexDelta()));
+							siteBuilder.ageTotal(site.getAgeTotal().map(age -> age + scenario.ageDelta()));
+						}
+					});
+				});
+			});
+		});
+
+		var primaryLayer = copy.getLayers().get(LayerType.PRIMARY);
+		if (primaryLayer != null) {
+			scaleUtilization(primaryLayer, scenario.utilizationFactor());
+			for (var species : primaryLayer.getSpecies().values()) {
+				scaleUtilization(species, scenario.utilizationFactor());
+			}
 		}
 
-		if (lastStepInclusive.ge(ExecutionStep.DETERMINE_POLYGON_RANKINGS)) {
-			determinePolygonRankings(CommonData.PRIMARY_SPECIES_TO_COMBINE);
+		return copy;
+	}
+
+	private static void scaleUtilization(VdypUtilizationHolder holder, float factor) {
+		for (var values : List.of(
+				holder.getBaseAreaByUtilization(), holder.getTreesPerHectareByUtilization(),
+				holder.getWholeStemVolumeByUtilization(), holder.getCloseUtilizationVolumeByUtilization(),
+				holder.getCloseUtilizationVolumeNetOfDecayByUtilization(),
+				holder.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization(),
+				holder.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization()
+		)) {
+			values.scalarInPlace(value -> value * factor);
 		}
+	}
 
-		// SITEADD (TODO: SITEADDU when NDEBUG 11 > 0)
-		if (lastStepInclusive.ge(ExecutionStep.ESTIMATE_MISSING_SITE_INDICES)) {
-			estimateMissingSiteIndices(lps);
+	private int requireTargetYear(VdypPolygon polygon) throws ProcessingException {
+		return targetYear(polygon, fps.fcm.getForwardControlVariables()).orElseThrow(
+				() -> new ProcessingException(
+						"Control Variable 1 has the value -1, indicating that the grow-to years are"
+								+ " to be read from a grow-to-year file (at " + ControlKey.FORWARD_INPUT_GROWTO.name()
+								+ " in the control file), but no such file was specified."
+				)
+		);
+	}
+
+	/**
+	 * The year to which a polygon is grown, according to control variable 1: the year read from the grow-to file if it
+	 * is -1, the year of the polygon plus the value if it is at most 400, and otherwise the value itself.
+	 *
+	 * @return the target year, or empty if it is to be read from the grow-to file but the polygon has none
+	 */
+	static Optional<Integer> targetYear(VdypPolygon polygon, ForwardControlVariables controlVariables) {
+		int growTargetControlVariableValue = controlVariables.getControlVariable(ControlVariable.GROW_TARGET_1);
+		if (growTargetControlVariableValue == -1) {
+			return polygon.getTargetYear();
+		} else if (growTargetControlVariableValue <= 400) {
+			return Optional.of(polygon.getPolygonIdentifier().getYear() + growTargetControlVariableValue);
+		} else {
+			return Optional.of(growTargetControlVariableValue);
 		}
+	}
 
-		if (lastStepInclusive.ge(ExecutionStep.ESTIMATE_MISSING_YEARS_TO_BREAST_HEIGHT_VALUES)) {
-			estimateMissingYearsToBreastHeightValues(lps);
+	private void executeForwardAlgorithm(ExecutionStep lastStepInclusive, int stoppingYearInclusive)
+			throws ProcessingException {
+
+		LayerProcessingState lps = fps.getLayerProcessingState();
+
+		Optional<VdypLayer> veteranLayer;
+		if (lps.getPolygon().getLayers().containsKey(LayerType.VETERAN)) {
+			veteranLayer = Optional.of(lps.getPolygon().getLayers().get(LayerType.VETERAN));
+		} else {
+			veteranLayer = Optional.empty();
 		}
 
-		// VHDOM1 METH_H = 2, METH_A = 2, METH_SI = 2
-		if (lastStepInclusive.ge(ExecutionStep.CALCULATE_DOMINANT_HEIGHT_AGE_SITE_INDEX)) {
-			calculateDominantHeightAgeSiteIndex(lps, fps.fcm.getHl1Coefficients());
+		// Resume from the snapshot of a previous projection, if there is one that does not go beyond this one
+		Optional<Integer> snapshotYear = Optional.empty();
+		if (lastStepInclusive.eq(ExecutionStep.ALL) && snapshotStore.isPresent() && snapshotKey.isPresent()
+				&& cohortIdentifiers.isEmpty() && scenarioSetup.isEmpty()) {
+			var polygonIdentifier = lps.getPolygon().getPolygonIdentifier();
+			var store = snapshotStore.get();
+			if (store.getSnapshotYear(polygonIdentifier, snapshotKey.get()).filter(y -> y <= stoppingYearInclusive)
+					.isPresent()) {
+				snapshotYear = store.restore(lps);
+				logger.info("Resuming polygon {} from its snapshot at year {}", polygonIdentifier, snapshotYear.get());
+			} else if (store.getSnapshotYear(polygonIdentifier).isPresent()) {
+				logger.info("Not resuming polygon {} from a snapshot of a different input polygon", polygonIdentifier);
+			}
 		}
 
-		// CVSET1
-		if (lastStepInclusive.ge(ExecutionStep.SET_COMPATIBILITY_VARIABLES)) {
-			setCompatibilityVariables();
+		if (snapshotYear.isEmpty()) {
+			executeSetupSteps(lps, lastStepInclusive);
 		}
 
 		// VGROW1
@@ -279,7 +492,9 @@ public class ForwardProcessingEngine {
 
 			VdypPolygon vdypPolygon = lps.getPolygon();
 
-			writePolygon(vdypPolygon, startingYear, startingYear, stoppingYearInclusive);
+			if (snapshotYear.isEmpty()) {
+				writePolygon(vdypPolygon, startingYear, startingYear, stoppingYearInclusive);
+			}
 
 			Map<LayerType, VdypLayer> polygonLayers = vdypPolygon.getLayers();
 
@@ -289,7 +504,7 @@ public class ForwardProcessingEngine {
 			boolean doRecalculateGroups = fps.fcm.getForwardControlVariables()
 					.getControlVariable(ControlVariable.UPDATE_DURING_GROWTH_6) >= 1;
 
-			int currentYear = startingYear + 1;
+			int currentYear = snapshotYear.orElse(startingYear) + 1;
 			while (currentYear <= stoppingYearInclusive) {
 
 				logger.info(
@@ -322,6 +537,70 @@ public class ForwardProcessingEngine {
 
 				currentYear += 1;
 			}
+
+			if (lastStepInclusive.eq(ExecutionStep.ALL) && scenarioSetup.isEmpty() && snapshotStore.isPresent()
+					&& snapshotKey.isPresent()) {
+				snapshotStore.get().save(lps, currentYear - 1, snapshotKey.get());
+			}
+		}
+	}
+
+	/**
+	 * Run the steps that prepare the layer processing state for growth, up to and including the given step.
+	 *
+	 * @param lps               the layer processing state
+	 * @param lastStepInclusive execute up to and including this step
+	 * @throws ProcessingException
+	 */
+	private void executeSetupSteps(LayerProcessingState lps, ExecutionStep lastStepInclusive)
+			throws ProcessingException {
+
+		// BANKCHK1, simplified for the parameters METH_CHK = 4, LayerI = 1, and INSTANCE = 1
+		if (lastStepInclusive.ge(ExecutionStep.CHECK_FOR_WORK)) {
+			stopIfNoWork(lps);
+		}
+
+		// SCINXSET - note these are calculated directly from the Primary bank of instance 1
+		if (lastStepInclusive.ge(ExecutionStep.CALCULATE_MISSING_SITE_CURVES)) {
+			if (scenarioSetup.isPresent()) {
+				int[] siteCurveNumbers = scenarioSetup.get().siteCurveNumbers();
+				System.arraycopy(siteCurveNumbers, 0, lps.getBank().siteCurveNumbers, 0, siteCurveNumbers.length);
+				lps.setSiteCurveNumbers(siteCurveNumbers);
+			} else {
+				calculateMissingSiteCurves(lps, fps.fcm.getSiteCurveMap(), getSiteCurveConfiguration());
+			}
+		}
+
+		// VPRIME1, method == 1
+		if (lastStepInclusive.ge(ExecutionStep.CALCULATE_COVERAGES)) {
+			calculateCoverages(lps);
+		}
+
+		if (lastStepInclusive.ge(ExecutionStep.DETERMINE_POLYGON_RANKINGS)) {
+			if (scenarioSetup.isPresent()) {
+				lps.setSpeciesRankingDetails(scenarioSetup.get().rankingDetails());
+			} else {
+				determinePolygonRankings(CommonData.PRIMARY_SPECIES_TO_COMBINE);
+			}
+		}
+
+		// SITEADD (TODO: SITEADDU when NDEBUG 11 > 0)
+		if (lastStepInclusive.ge(ExecutionStep.ESTIMATE_MISSING_SITE_INDICES)) {
+			estimateMissingSiteIndices(lps);
+		}
+
+		if (lastStepInclusive.ge(ExecutionStep.ESTIMATE_MISSING_YEARS_TO_BREAST_HEIGHT_VALUES)) {
+			estimateMissingYearsToBreastHeightValues(lps);
+		}
+
+		// VHDOM1 METH_H = 2, METH_A = 2, METH_SI = 2
+		if (lastStepInclusive.ge(ExecutionStep.CALCULATE_DOMINANT_HEIGHT_AGE_SITE_INDEX)) {
+			calculateDominantHeightAgeSiteIndex(lps, fps.fcm.getHl1Coefficients());
+		}
+
+		// CVSET1
+		if (lastStepInclusive.ge(ExecutionStep.SET_COMPATIBILITY_VARIABLES)) {
+			setCompatibilityVariables();
 		}
 	}
 
@@ -344,6 +623,7 @@ public class ForwardProcessingEngine {
 		assert lastStepInclusive.ge(ExecutionStep.GROW_1_LAYER_DHDELTA);
 
 		Bank bank = lps.getBank();
+		scratch.ensureCapacity(bank.getNSpecies());
 
 		float dhStart = lps.getPrimarySpeciesDominantHeight();
 		int pspSiteCurveNumber = lps.getSiteCurveNumber(lps.getPrimarySpeciesIndex());
@@ -375,7 +655,7 @@ public class ForwardProcessingEngine {
 
 		// (3) Calculate change in quad-mean-diameter (layer)
 
-		Reference<Boolean> wasDqGrowthLimitApplied = new Reference<>();
+		Reference<Boolean> wasDqGrowthLimitApplied = scratch.dqGrowthLimitApplied;
 		float dqDelta = calculateQuadMeanDiameterDelta(
 				pspYabhStart, baStart, dhStart, dqStart, veteranLayerBasalArea, veteranLayerBasalArea, dhDelta,
 				wasDqGrowthLimitApplied
@@ -431,7 +711,7 @@ public class ForwardProcessingEngine {
 			// First save the at-start Lorey Height values, needed for the - they will be restored
 			// below and re-calculated later once more precise information is known.
 
-			float[] lhAtStart = new float[bank.getNSpecies() + 1];
+			float[] lhAtStart = scratch.lhAtStart;
 			lhAtStart[0] = bank.loreyHeights[0][UC_ALL_INDEX];
 			for (int i : bank.getIndices()) {
 				lhAtStart[i] = bank.loreyHeights[i][UC_ALL_INDEX];
@@ -694,29 +974,30 @@ public class ForwardProcessingEngine {
 			return false /* no solution available */;
 		}
 
-		float[] tryDq = new float[lps.getNSpecies() + 1];
-		float[] tryTph = new float[lps.getNSpecies() + 1];
-		float[] rs1 = new float[lps.getNSpecies() + 1];
+		int nSpecies = lps.getNSpecies();
+		scratch.ensureCapacity(nSpecies);
+
+		float[] tryDq = GrowthScratch.clear(scratch.tryDq, nSpecies);
+		float[] tryTph = GrowthScratch.clear(scratch.tryTph, nSpecies);
+		float[] rs1 = GrowthScratch.clear(scratch.rs1, nSpecies);
 
-		float[] dqs1 = new float[lps.getNSpecies() + 1];
-		float[] dqs2 = new float[lps.getNSpecies() + 1];
+		float[] dqs1 = GrowthScratch.clear(scratch.dqs1, nSpecies);
+		float[] dqs2 = GrowthScratch.clear(scratch.dqs2, nSpecies);
 
-		float[] baNew = new float[lps.getNSpecies() + 1];
+		float[] baNew = GrowthScratch.clear(scratch.baNew, nSpecies);
 		baNew[0] = baStart + baDelta;
 		for (int i : lps.getIndices()) {
 			baNew[i] = bank.basalAreas[i][UC_ALL_INDEX] * baNew[0] / bank.basalAreas[0][UC_ALL_INDEX];
 		}
 
-		float[] dqNew = new float[lps.getNSpecies() + 1];
+		float[] dqNew = GrowthScratch.clear(scratch.dqNew, nSpecies);
 		dqNew[0] = dqStart + dqDelta;
 
-		float[] tphNew = new float[lps.getNSpecies() + 1];
+		float[] tphNew = GrowthScratch.clear(scratch.tphNew, nSpecies);
 		tphNew[0] = BaseAreaTreeDensityDiameter.treesPerHectare(baNew[0], dqNew[0]);
 
-		Map<String, Float> basalAreaPercentagesPerSpecies = new HashMap<>();
-		for (String spAlias : fps.fcm.getGenusDefinitionMap().getAllGeneraAliases()) {
-			basalAreaPercentagesPerSpecies.put(spAlias, 0.0f);
-		}
+		Map<String, Float> basalAreaPercentagesPerSpecies = scratch
+				.basalAreaPercentagesPerSpecies(fps.fcm.getGenusDefinitionMap().getAllGeneraAliases());
 		for (int i : lps.getIndices()) {
 			basalAreaPercentagesPerSpecies.put(bank.speciesNames[i], bank.percentagesOfForestedLand[i] / 100.0f);
 		}
@@ -735,10 +1016,10 @@ public class ForwardProcessingEngine {
 			);
 		}
 
-		float[] dqLowerBoundBySpecies = new float[lps.getNSpecies() + 1];
-		float[] dqUpperBoundBySpecies = new float[lps.getNSpecies() + 1];
-		float[] tphLowerBoundBySpecies = new float[lps.getNSpecies() + 1];
-		float[] tphUpperBoundBySpecies = new float[lps.getNSpecies() + 1];
+		float[] dqLowerBoundBySpecies = GrowthScratch.clear(scratch.dqLowerBoundBySpecies, nSpecies);
+		float[] dqUpperBoundBySpecies = GrowthScratch.clear(scratch.dqUpperBoundBySpecies, nSpecies);
+		float[] tphLowerBoundBySpecies = GrowthScratch.clear(scratch.tphLowerBoundBySpecies, nSpecies);
+		float[] tphUpperBoundBySpecies = GrowthScratch.clear(scratch.tphUpperBoundBySpecies, nSpecies);
 		boolean exactMatchFound = false;
 		int incorrectlySignedSpeciesIndex = 0;
 
@@ -987,21 +1268,29 @@ public class ForwardProcessingEngine {
 		LayerProcessingState lps = fps.getLayerProcessingState();
 		Bank bank = lps.getBank();
 
-		float spBaEnd[] = new float[lps.getNSpecies() + 1];
-		float spTphEnd[] = new float[lps.getNSpecies() + 1];
-		float spDqEnd[] = new float[lps.getNSpecies() + 1];
-		boolean doSkip[] = new boolean[lps.getNSpecies() + 1];
+		int nSpecies = lps.getNSpecies();
+		scratch.ensureCapacity(nSpecies);
+
+		float spBaEnd[] = GrowthScratch.clear(scratch.spBaEnd, nSpecies);
+		float spTphEnd[] = GrowthScratch.clear(scratch.spTphEnd, nSpecies);
+		float spDqEnd[] = GrowthScratch.clear(scratch.spDqEnd, nSpecies);
+		boolean doSkip[] = scratch.doSkip;
+		ComponentSizeLimits[] componentSizeLimits = scratch.componentSizeLimits;
 
+		Region region = lps.getBecZone().getRegion();
 		for (int i : lps.getIndices()) {
 			spBaEnd[i] = Float.NaN;
 			spTphEnd[i] = Float.NaN;
 			spDqEnd[i] = Float.NaN;
 
 			doSkip[i] = false;
+
+			// These don't change from pass to pass so are looked up once.
+			componentSizeLimits[i] = getComponentSizeLimits(bank.speciesNames[i], region);
 		}
 
 		float sumSpBaDelta = 0.0f;
-		float spBaDelta[] = new float[lps.getNSpecies() + 1];
+		float spBaDelta[] = GrowthScratch.clear(scratch.spBaDelta, nSpecies);
 
 		float pspLhStart = bank.loreyHeights[lps.getPrimarySpeciesIndex()][UC_ALL_INDEX];
 		for (int i : lps.getIndices()) {
@@ -1110,9 +1399,7 @@ public class ForwardProcessingEngine {
 
 					spDqDelta += f;
 
-					ComponentSizeLimits csl = getComponentSizeLimits(
-							bank.speciesNames[i], lps.getBecZone().getRegion()
-					);
+					ComponentSizeLimits csl = componentSizeLimits[i];
 
 					var spLhAllStart = bank.loreyHeights[i][UC_ALL_INDEX];
 
@@ -1694,13 +1981,16 @@ public class ForwardProcessingEngine {
 
 		var dqYieldCoefficients = fps.fcm.getQuadMeanDiameterYieldCoefficients();
 		var decayBecZoneAlias = becZone.getDecayBec().getAlias();
-		Coefficients coefficientsWeightedBySpeciesAndDecayBec = Coefficients.empty(6, 0);
+		Coefficients[] speciesYieldCoefficients = scratch.speciesYieldCoefficients;
+		for (int speciesIndex : lps.getIndices()) {
+			speciesYieldCoefficients[speciesIndex] = dqYieldCoefficients
+					.get(decayBecZoneAlias, lps.getBank().speciesNames[speciesIndex]);
+		}
+		Coefficients coefficientsWeightedBySpeciesAndDecayBec = scratch.quadMeanDiameterYieldCoefficients;
 		for (int i = 0; i < 6; i++) {
 			float sum = 0.0f;
 			for (int speciesIndex : lps.getIndices()) {
-				String speciesAlias = lps.getBank().speciesNames[speciesIndex];
-				sum += dqYieldCoefficients.get(decayBecZoneAlias, speciesAlias).getCoe(i)
-						* speciesProportionsByBasalArea[speciesIndex];
+				sum += speciesYieldCoefficients[speciesIndex].getCoe(i) * speciesProportionsByBasalArea[speciesIndex];
 			}
 			coefficientsWeightedBySpeciesAndDecayBec.setCoe(i, sum);
 		}
@@ -1837,18 +2127,19 @@ public class ForwardProcessingEngine {
 
 		Map<Integer, Coefficients> quadMeanDiameterGrowthEmpiricalLimits = fps.fcm
 				.getQuadMeanDiameterGrowthEmpiricalLimits();
-		float[] dqDeltaLimits = new float[8];
-		for (int i = 0; i < 8; i++) {
-			dqDeltaLimits[i] = quadMeanDiameterGrowthEmpiricalLimits.get(stratumNumber).getCoe(i);
-		}
+		Coefficients dqDeltaLimits = quadMeanDiameterGrowthEmpiricalLimits.get(stratumNumber);
 
 		float x = dqStart - 7.5f;
 		float xsq = x * x;
 
-		var dqGrowthMin = Math
-				.max(dqDeltaLimits[0] + dqDeltaLimits[1] * x + dqDeltaLimits[2] * xsq / 100.0f, dqDeltaLimits[6]);
-		var dqGrowthMax = Math
-				.min(dqDeltaLimits[3] + dqDeltaLimits[4] * x + dqDeltaLimits[5] * xsq / 100.0f, dqDeltaLimits[7]);
+		var dqGrowthMin = Math.max(
+				dqDeltaLimits.getCoe(0) + dqDeltaLimits.getCoe(1) * x + dqDeltaLimits.getCoe(2) * xsq / 100.0f,
+				dqDeltaLimits.getCoe(6)
+		);
+		var dqGrowthMax = Math.min(
+				dqDeltaLimits.getCoe(3) + dqDeltaLimits.getCoe(4) * x + dqDeltaLimits.getCoe(5) * xsq / 100.0f,
+				dqDeltaLimits.getCoe(7)
+		);
 
 		dqGrowthMax = Math.max(dqGrowthMax, dqGrowthMin);
 
@@ -1865,7 +2156,9 @@ public class ForwardProcessingEngine {
 		LayerProcessingState lps = fps.getLayerProcessingState();
 		Bank bank = lps.getBank();
 
-		float[] speciesProportionsByBasalArea = new float[lps.getNSpecies() + 1];
+		scratch.ensureCapacity(lps.getNSpecies());
+		float[] speciesProportionsByBasalArea = GrowthScratch
+				.clear(scratch.speciesProportionsByBasalArea, lps.getNSpecies());
 
 		for (int i = 1; i <= lps.getNSpecies(); i++) {
 			speciesProportionsByBasalArea[i] = bank.basalAreas[i][UC_ALL_INDEX] / bank.basalAreas[0][UC_ALL_INDEX];
@@ -1898,13 +2191,16 @@ public class ForwardProcessingEngine {
 
 		var baYieldCoefficients = fps.fcm.getBasalAreaYieldCoefficients();
 		var becZoneAlias = fps.getLayerProcessingState().getBecZone().getAlias();
-		Coefficients estimateBasalAreaYieldCoefficients = Coefficients.empty(7, 0);
+		Coefficients[] speciesYieldCoefficients = scratch.speciesYieldCoefficients;
+		for (int speciesIndex : lps.getIndices()) {
+			speciesYieldCoefficients[speciesIndex] = baYieldCoefficients
+					.get(becZoneAlias, bank.speciesNames[speciesIndex]);
+		}
+		Coefficients estimateBasalAreaYieldCoefficients = scratch.basalAreaYieldCoefficients;
 		for (int i = 0; i <= 6; i++) {
 			float sum = 0.0f;
 			for (int speciesIndex : lps.getIndices()) {
-				String speciesAlias = bank.speciesNames[speciesIndex];
-				sum += baYieldCoefficients.get(becZoneAlias, speciesAlias).getCoe(i)
-						* speciesProportionsByBasalArea[speciesIndex];
+				sum += speciesYieldCoefficients[speciesIndex].getCoe(i) * speciesProportionsByBasalArea[speciesIndex];
 			}
 			estimateBasalAreaYieldCoefficients.setCoe(i, sum);
 		}
@@ -2355,6 +2651,9 @@ public class ForwardProcessingEngine {
 				try {
 					o.setPolygonYear(currentYear);
 					o.writePolygonWithSpeciesAndUtilization(polygon);
+					for (var identifier : cohortIdentifiers) {
+						o.writePolygonWithSpeciesAndUtilization(polygon, identifier);
+					}
 				} catch (IOException e) {
 					throw new RuntimeProcessingException(new ProcessingException(e));
 				}
@@ -3129,12 +3428,14 @@ public class ForwardProcessingEngine {
 	 *
 	 * FORTRAN notes: the original SXINXSET function set both INXSC/INXSCV and BANK3/SCNB, except for index 0 of SCNB.
 	 *
-	 * @param bank         the bank in which the calculations are done.
-	 * @param siteCurveMap the Site Curve definitions.
-	 * @param lps          the PolygonProcessingState to where the calculated curves are also to be
+	 * @param bank          the bank in which the calculations are done.
+	 * @param siteCurveMap  the Site Curve definitions.
+	 * @param configuration the site curves of species used if there are no Site Curve definitions
+	 * @param lps           the PolygonProcessingState to where the calculated curves are also to be
 	 */
 	static void calculateMissingSiteCurves(
-			LayerProcessingState lps, MatrixMap2<String, Region, SiteIndexEquation> siteCurveMap
+			LayerProcessingState lps, MatrixMap2<String, Region, SiteIndexEquation> siteCurveMap,
+			SiteCurveConfiguration configuration
 	) {
 		Bank bank = lps.getBank();
 
@@ -3153,8 +3454,9 @@ public class ForwardProcessingEngine {
 					if (!siteCurveMap.isEmpty()) {
 						scIndex = Utils.optSafe(siteCurveMap.get(sp0Dist.get().getGenusAlias(), becZone.getRegion()));
 					} else {
-						SiteIndexEquation siCurve = SiteTool
-								.getSICurve(bank.speciesNames[i], becZone.getRegion().equals(Region.COASTAL));
+						SiteIndexEquation siCurve = SiteTool.getSICurve(
+								configuration, bank.speciesNames[i], becZone.getRegion().equals(Region.COASTAL)
+						);
 						scIndex = siCurve == SiteIndexEquation.SI_NO_EQUATION ? Optional.empty() : Optional.of(siCurve);
 					}
 				}
@@ -3166,7 +3468,7 @@ public class ForwardProcessingEngine {
 						scIndex = Utils.optSafe(siteCurveMap.get(sp0, becZone.getRegion()));
 					} else {
 						SiteIndexEquation siCurve = SiteTool
-								.getSICurve(sp0, becZone.getRegion().equals(Region.COASTAL));
+								.getSICurve(configuration, sp0, becZone.getRegion().equals(Region.COASTAL));
 						scIndex = siCurve == SiteIndexEquation.SI_NO_EQUATION ? Optional.empty() : Optional.of(siCurve);
 					}
 				}
@@ -2,21 +2,34 @@ package ca.bc.gov.nrs.vdyp.forward;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ca.bc.gov.nrs.vdyp.application.CohortStatistics;
+import ca.bc.gov.nrs.vdyp.application.PolygonScheduler;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.application.ProjectionCostStatistics;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
+import ca.bc.gov.nrs.vdyp.io.write.VdypOutputBuffer;
 import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
+import ca.bc.gov.nrs.vdyp.model.CohortKey;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SiteCurveConfiguration;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 
 /**
  *
@@ -51,6 +64,132 @@ public class ForwardProcessor {
 
 	private static final Logger logger = LoggerFactory.getLogger(ForwardProcessor.class);
 
+	/**
+	 * The default number of polygons read ahead to find those of the same cohort: none, so every polygon is projected
+	 */
+	public static final int DEFAULT_COHORT_WINDOW = 1;
+
+	private int cohortWindow = DEFAULT_COHORT_WINDOW;
+
+	/**
+	 * The number of polygons read for each thread of the polygon pool before their projections are started, so that the
+	 * threads are kept busy and the most expensive polygons can be started first
+	 */
+	static final int BATCH_POLYGONS_PER_THREAD = 8;
+
+	private final CohortStatistics cohortStatistics = new CohortStatistics();
+
+	private Optional<ForkJoinPool> polygonPool = Optional.empty();
+
+	private final ProjectionCostStatistics costStatistics = new ProjectionCostStatistics();
+
+	private Optional<ProjectionSnapshotStore> snapshotStore = Optional.empty();
+
+	private boolean deferResources = false;
+
+	private Optional<SiteCurveConfiguration> siteCurveConfiguration = Optional.empty();
+
+	/**
+	 * Set the number of polygons read ahead to find those of the same {@link CohortKey}. Each cohort within that many
+	 * polygons is projected once and its results written for each of its polygons, together, in the order the first of
+	 * them was read. A window of 1, the default, projects every polygon, in the order read.
+	 * <p>
+	 * A larger window changes the order of the output: a polygon is written next to the first polygon of its cohort
+	 * rather than where it was read, and the records of each year of the polygons of a cohort are interleaved. Only use
+	 * one when the consumer of the output does not depend on its order.
+	 *
+	 * @param cohortWindow the number of polygons, at least 1
+	 */
+	public void setCohortWindow(int cohortWindow) {
+		if (cohortWindow < 1) {
+			throw new IllegalArgumentException("The cohort window must be at least 1 polygon, not " + cohortWindow);
+		}
+		this.cohortWindow = cohortWindow;
+	}
+
+	/**
+	 * @return the counts of polygons and of the cohorts projected for them
+	 */
+	public CohortStatistics getCohortStatistics() {
+		return cohortStatistics;
+	}
+
+	/**
+	 * Project polygons concurrently on the given pool. Polygons are read in batches of
+	 * {@value #BATCH_POLYGONS_PER_THREAD} for each thread of the pool, or of whole cohort windows if those are larger.
+	 * The cohorts of each batch are started in order of their predicted cost, most expensive first, on an engine for
+	 * each thread of the pool, and their results written in the order they were read. If no pool is set (the default)
+	 * the polygons are projected one at a time, in the order read.
+	 *
+	 * @param pool the pool to project polygons on, or null to project them sequentially
+	 */
+	public void setPolygonPool(ForkJoinPool pool) {
+		this.polygonPool = Optional.ofNullable(pool);
+	}
+
+	/**
+	 * Keep the state of each polygon at the end of its projection in the given store, and resume the projection of
+	 * polygons that already have a snapshot there rather than projecting them from their starting year. A resumed
+	 * polygon's results are written only for the years after its snapshot. Only polygons projected alone, not on behalf
+	 * of a cohort, are resumed. If no store is set (the default) every polygon is projected from its starting year.
+	 *
+	 * @param store the store, whose control map version must identify the control files of the run, or null for none
+	 * @see ForwardProcessingEngine#setSnapshotStore(ProjectionSnapshotStore)
+	 */
+	public void setSnapshotStore(ProjectionSnapshotStore store) {
+		this.snapshotStore = Optional.ofNullable(store);
+	}
+
+	/**
+	 * Use the given site curves for species whose site curve is neither given nor in the control map. If none are set
+	 * (the default) those of {@link VdypMethods#getSiteCurveConfiguration()} are used.
+	 *
+	 * @param configuration the site curves of the run, or null for the default
+	 * @see ForwardProcessingEngine#setSiteCurveConfiguration(SiteCurveConfiguration)
+	 */
+	public void setSiteCurveConfiguration(SiteCurveConfiguration configuration) {
+		this.siteCurveConfiguration = Optional.ofNullable(configuration);
+	}
+
+	/**
+	 * Parse coefficient resources only when projection first needs them, and log which were used at the end of each
+	 * {@link #run}. Must be set before the run.
+	 *
+	 * @see BaseControlParser#setDeferResources(boolean)
+	 */
+	public void setDeferResources(boolean deferResources) {
+		this.deferResources = deferResources;
+	}
+
+	/**
+	 * @return the predicted and actual costs of the cohorts projected
+	 */
+	public ProjectionCostStatistics getCostStatistics() {
+		return costStatistics;
+	}
+
+	/** An engine for a thread of the polygon pool, and the buffer it writes to */
+	private static class Worker {
+		final VdypOutputBuffer buffer = new VdypOutputBuffer();
+		final ForwardProcessingEngine engine;
+
+		Worker(
+				Map<String, Object> controlMap, Optional<ProjectionSnapshotStore> snapshotStore,
+				Optional<SiteCurveConfiguration> siteCurveConfiguration
+		) throws ProcessingException {
+			engine = new ForwardProcessingEngine(controlMap, Optional.of(buffer));
+			snapshotStore.ifPresent(engine::setSnapshotStore);
+			siteCurveConfiguration.ifPresent(engine::setSiteCurveConfiguration);
+		}
+	}
+
+	private static void projectCohort(ForwardProcessingEngine engine, List<VdypPolygon> cohort)
+			throws ProcessingException {
+		var polygon = cohort.get(0);
+		var cohortIdentifiers = cohort.stream().skip(1).map(VdypPolygon::getPolygonIdentifier).toList();
+		engine.processPolygon(polygon, cohortIdentifiers);
+	}
+
 	/**
 	 * Initialize VdypForwardProcessor
 	 *
@@ -62,7 +201,7 @@ public class ForwardProcessor {
 	 * @throws ResourceParseException
 	 * @throws ProcessingException
 	 */
-	void run(
+	public void run(
 			FileResolver inputFileResolver, FileResolver outputFileResolver, List<String> controlFileNames,
 			Set<ForwardPass> vdypPassSet
 	) throws IOException, ResourceParseException, ProcessingException {
@@ -79,6 +218,7 @@ public class ForwardProcessor {
 		Map<String, Object> controlMap = new HashMap<>();
 
 		var parser = new ForwardControlParser();
+		parser.setDeferResources(deferResources);
 
 		for (var controlFileName : controlFileNames) {
 			logger.info("Resolving and parsing {}", controlFileName);
@@ -92,6 +232,17 @@ public class ForwardProcessor {
 		}
 
 		process(vdypPassSet, controlMap, Optional.of(outputFileResolver));
+
+		if (deferResources) {
+			var usage = BaseControlParser.getDeferredResourceUsage(controlMap);
+			logger.atInfo().setMessage("Control map resources used: {}; not used: {}") //
+					.addArgument(
+							() -> usage.entrySet().stream().filter(Map.Entry::getValue).map(Map.Entry::getKey).toList()
+					)
+					.addArgument(
+							() -> usage.entrySet().stream().filter(e -> !e.getValue()).map(Map.Entry::getKey).toList()
+					).log();
+		}
 	}
 
 	/**
@@ -135,32 +286,90 @@ public class ForwardProcessor {
 			}
 
 			var fpe = new ForwardProcessingEngine(controlMap, outputWriter);
+			snapshotStore.ifPresent(fpe::setSnapshotStore);
+			siteCurveConfiguration.ifPresent(fpe::setSiteCurveConfiguration);
 
 			var forwardDataStreamReader = new ForwardDataStreamReader(fpe.fps.fcm);
 
-			// Fetch the next polygon to process.
-			int nPolygonsProcessed = 0;
-			while (true) {
+			var costModel = new ProjectionCostModel(fpe.fps.fcm.getForwardControlVariables());
+			var scheduler = new PolygonScheduler<List<VdypPolygon>>(
+					polygonPool, cohort -> costModel.applyAsDouble(cohort.get(0)), costStatistics
+			);
+			int batchPolygons = polygonPool.map(pool -> BATCH_POLYGONS_PER_THREAD * pool.getParallelism()).orElse(1);
+			// The engine of each thread of the pool, for this run only, so that none outlive it on the pool's threads
+			var workers = new ConcurrentHashMap<Thread, Worker>();
 
-				if (nPolygonsProcessed == maxPoly) {
-					logger.info(
-							"Prematurely terminating polygon processing since MAX_POLY ({}) polygons have been processed",
-							maxPoly
-					);
-				}
+			// Fetch the next polygons to process, up to MAX_POLY if it is positive.
+			int nPolygonsRead = 0;
+			boolean endOfInput = false;
+			while (!endOfInput) {
 
-				var polygonHolder = forwardDataStreamReader.readNextPolygon();
-				if (polygonHolder.isEmpty()) {
-					break;
-				}
+				// Read whole cohort windows until the batch is full, grouping the polygons of each window into
+				// cohorts in the order each was first read
+				var batch = new ArrayList<List<VdypPolygon>>();
+				for (int nBatched = 0; nBatched < batchPolygons && !endOfInput;) {
+					var cohorts = new LinkedHashMap<CohortKey, List<VdypPolygon>>();
+					for (int nRead = 0; nRead < cohortWindow; nRead++) {
+						if (maxPoly > 0 && nPolygonsRead >= maxPoly) {
+							logger.info(
+									"Prematurely terminating polygon processing since MAX_POLY ({}) polygons have been processed",
+									maxPoly
+							);
+							endOfInput = true;
+							break;
+						}
+						var polygonHolder = forwardDataStreamReader.readNextPolygon();
+						if (polygonHolder.isEmpty()) {
+							endOfInput = true;
+							break;
+						}
 
-				var polygon = polygonHolder.get();
+						var polygon = polygonHolder.get();
+						var key = CohortKey.of(polygon);
+						cohorts.computeIfAbsent(key, k -> new ArrayList<>()).add(polygon);
+						nPolygonsRead++;
+						nBatched++;
+					}
+					batch.addAll(cohorts.values());
+				}
 
-				fpe.processPolygon(polygon);
+				if (polygonPool.isEmpty()) {
+					scheduler.run(batch, cohort -> {
+						projectCohort(fpe, cohort);
+						return cohort;
+					}, (cohort, result) -> {
+						/* written as projected */
+					});
+				} else {
+					var writer = outputWriter;
+					scheduler.run(batch, cohort -> {
+						var worker = workers.get(Thread.currentThread());
+						if (worker == null) {
+							worker = new Worker(controlMap, snapshotStore, siteCurveConfiguration);
+							workers.put(Thread.currentThread(), worker);
+						}
+						projectCohort(worker.engine, cohort);
+						return worker.buffer.take();
+					}, (cohort, records) -> {
+						if (writer.isPresent()) {
+							try {
+								records.writeTo(writer.get());
+							} catch (IOException e) {
+								throw new ProcessingException(e);
+							}
+						}
+					});
+				}
 
-				nPolygonsProcessed += 1;
+				for (var cohort : batch) {
+					cohortStatistics.processed();
+					cohort.stream().skip(1).forEach(polygon -> cohortStatistics.deduplicated());
+				}
 			}
 
+			logger.info("Projected {}", cohortStatistics);
+			logger.info("Projection costs: {}", costStatistics);
+
 			outputWriter.ifPresent(ow -> {
 				try {
 					ow.close();
@@ -0,0 +1,124 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.common.Reference;
+import ca.bc.gov.nrs.vdyp.model.Coefficients;
+import ca.bc.gov.nrs.vdyp.model.ComponentSizeLimits;
+
+/**
+ * Working storage for the growth of a layer by {@link ForwardProcessingEngine}. An engine owns one of these and reuses
+ * it for every year of every polygon it grows, so that the year loop does not allocate. The per-species arrays are
+ * indexed as the {@link Bank} arrays are (0 for the layer, 1 through n for the species) and may be longer than the
+ * current layer needs; callers clear what they use with {@link #clear(float[], int)}.
+ */
+class GrowthScratch {
+
+	private static final Float ZERO = 0.0f;
+
+	private int capacity = 0;
+
+	// grow
+	float[] lhAtStart = new float[0];
+	final Reference<Boolean> dqGrowthLimitApplied = new Reference<>();
+
+	// growUsingPartialSpeciesDynamics
+	float[] tryDq = new float[0];
+	float[] tryTph = new float[0];
+	float[] rs1 = new float[0];
+	float[] dqs1 = new float[0];
+	float[] dqs2 = new float[0];
+	float[] baNew = new float[0];
+	float[] dqNew = new float[0];
+	float[] tphNew = new float[0];
+	float[] dqLowerBoundBySpecies = new float[0];
+	float[] dqUpperBoundBySpecies = new float[0];
+	float[] tphLowerBoundBySpecies = new float[0];
+	float[] tphUpperBoundBySpecies = new float[0];
+	private final Map<String, Float> basalAreaPercentagesPerSpecies = new HashMap<>();
+
+	// growUsingFullSpeciesDynamics
+	float[] spBaEnd = new float[0];
+	float[] spTphEnd = new float[0];
+	float[] spDqEnd = new float[0];
+	float[] spBaDelta = new float[0];
+	boolean[] doSkip = new boolean[0];
+	ComponentSizeLimits[] componentSizeLimits = new ComponentSizeLimits[0];
+
+	// calculateBasalAreaDelta and calculateQuadMeanDiameterDelta
+	float[] speciesProportionsByBasalArea = new float[0];
+	Coefficients[] speciesYieldCoefficients = new Coefficients[0];
+	final Coefficients basalAreaYieldCoefficients = Coefficients.empty(7, 0);
+	final Coefficients quadMeanDiameterYieldCoefficients = Coefficients.empty(6, 0);
+
+	/**
+	 * Make sure the per-species arrays can hold a layer with the given number of species. Arrays are only replaced when
+	 * they are too short, which happens at most a few times in the life of an engine.
+	 *
+	 * @param nSpecies the number of species in the layer
+	 */
+	void ensureCapacity(int nSpecies) {
+		if (nSpecies + 1 <= capacity) {
+			return;
+		}
+		capacity = nSpecies + 1;
+
+		lhAtStart = new float[capacity];
+
+		tryDq = new float[capacity];
+		tryTph = new float[capacity];
+		rs1 = new float[capacity];
+		dqs1 = new float[capacity];
+		dqs2 = new float[capacity];
+		baNew = new float[capacity];
+		dqNew = new float[capacity];
+		tphNew = new float[capacity];
+		dqLowerBoundBySpecies = new float[capacity];
+		dqUpperBoundBySpecies = new float[capacity];
+		tphLowerBoundBySpecies = new float[capacity];
+		tphUpperBoundBySpecies = new float[capacity];
+
+		spBaEnd = new float[capacity];
+		spTphEnd = new float[capacity];
+		spDqEnd = new float[capacity];
+		spBaDelta = new float[capacity];
+		doSkip = new boolean[capacity];
+		componentSizeLimits = new ComponentSizeLimits[capacity];
+
+		speciesProportionsByBasalArea = new float[capacity];
+		speciesYieldCoefficients = new Coefficients[capacity];
+	}
+
+	/**
+	 * Zero the first <code>nSpecies + 1</code> entries of the given array, leaving it as a newly allocated array of
+	 * that length would be.
+	 *
+	 * @param array    the array to clear
+	 * @param nSpecies the number of species in the layer
+	 * @return <code>array</code>
+	 */
+	static float[] clear(float[] array, int nSpecies) {
+		Arrays.fill(array, 0, nSpecies + 1, 0.0f);
+		return array;
+	}
+
+	/**
+	 * Returns the basal area proportion of every genus, keyed by genus alias. The map holds an entry for each of the
+	 * given genera, and is reset to zero for all of them on each call; the caller fills in the proportions of the
+	 * species present in the layer.
+	 *
+	 * @param allGeneraAliases the aliases of all genera known to the control map
+	 */
+	Map<String, Float> basalAreaPercentagesPerSpecies(Iterable<String> allGeneraAliases) {
+		if (basalAreaPercentagesPerSpecies.isEmpty()) {
+			for (String spAlias : allGeneraAliases) {
+				basalAreaPercentagesPerSpecies.put(spAlias, ZERO);
+			}
+		} else {
+			basalAreaPercentagesPerSpecies.replaceAll((k, v) -> ZERO);
+		}
+		return basalAreaPercentagesPerSpecies;
+	}
+}
@@ -326,6 +326,16 @@ class LayerProcessingState {
 		this.areRankingDetailsSet = true;
 	}
 
+	public SpeciesRankingDetails getSpeciesRankingDetails() {
+		if (!areRankingDetailsSet) {
+			throw new IllegalStateException(UNSET_RANKING_DETAILS);
+		}
+		return new SpeciesRankingDetails(
+				primarySpeciesIndex, secondarySpeciesIndex, inventoryTypeGroup, primarySpeciesGroupNumber,
+				primarySpeciesStratumNumber
+		);
+	}
+
 	public void setSiteCurveNumbers(int[] siteCurveNumbers) {
 		if (this.areSiteCurveNumbersSet) {
 			throw new IllegalStateException(SITE_CURVE_NUMBERS_CAN_BE_SET_ONCE_ONLY);
@@ -0,0 +1,39 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import java.util.function.ToDoubleFunction;
+
+import ca.bc.gov.nrs.vdyp.forward.model.ForwardControlVariables;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * Predicts the relative cost of projecting a polygon, for scheduling polygons on several threads. Almost all of the
+ * time goes into growing the primary layer, one year at a time, with most steps repeated for each of its species; the
+ * set up of the polygon costs about as much as growing it for {@link #SETUP_YEARS} years. A unit of cost is then a year
+ * of growth of one species.
+ */
+class ProjectionCostModel implements ToDoubleFunction<VdypPolygon> {
+
+	/** The set up of a polygon, in years of growth */
+	static final double SETUP_YEARS = 2;
+
+	/** The cost of the steps of a year that are done once for the layer, in species */
+	static final double LAYER_SPECIES = 1;
+
+	private final ForwardControlVariables controlVariables;
+
+	ProjectionCostModel(ForwardControlVariables controlVariables) {
+		this.controlVariables = controlVariables;
+	}
+
+	@Override
+	public double applyAsDouble(VdypPolygon polygon) {
+		var primaryLayer = polygon.getLayers().get(LayerType.PRIMARY);
+		if (primaryLayer == null) {
+			return SETUP_YEARS;
+		}
+		int year = polygon.getPolygonIdentifier().getYear();
+		int years = Math.max(0, ForwardProcessingEngine.targetYear(polygon, controlVariables).orElse(year) - year);
+		return (SETUP_YEARS + years) * (LAYER_SPECIES + primaryLayer.getSpecies().size());
+	}
+}
@@ -0,0 +1,29 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+/**
+ * A variation of the inputs of a polygon, projected by {@link ForwardProcessingEngine#processScenarios} alongside other
+ * variations of the same polygon.
+ *
+ * @param name              identifies the scenario
+ * @param siteIndexDelta    added to the site index of each species of the primary layer that has one
+ * @param ageDelta          added to the total age of each species of the primary layer that has one
+ * @param utilizationFactor the basal area, trees per hectare and volumes of the primary layer and its species, in every
+ *                          utilization class, are multiplied by this
+ */
+public record ProjectionScenario(String name, float siteIndexDelta, float ageDelta, float utilizationFactor) {
+
+	public ProjectionScenario {
+		if (! (utilizationFactor > 0)) {
+			throw new IllegalArgumentException(
+					"The utilization factor of scenario " + name + " must be positive, not " + utilizationFactor
+			);
+		}
+	}
+
+	/**
+	 * @return a scenario that projects the polygon as it is
+	 */
+	public static ProjectionScenario unchanged(String name) {
+		return new ProjectionScenario(name, 0f, 0f, 1f);
+	}
+}
@@ -0,0 +1,505 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.model.CohortKey;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
+import ca.bc.gov.nrs.vdyp.model.MatrixMap3Impl;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClassVariable;
+import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
+import ca.bc.gov.nrs.vdyp.model.VolumeVariable;
+
+/**
+ * Holds, for each polygon projected by a {@link ForwardProcessingEngine}, the processing state of its primary layer at
+ * the last year to which it was grown. When a polygon with a snapshot is projected again to a later year, the engine
+ * resumes growth from the year after the snapshot rather than from the polygon's starting year, so extending a
+ * projection horizon costs only the added years.
+ * <p>
+ * Each snapshot is held as a compact binary encoding of the bank, the derived processing state (rankings, site curves,
+ * primary species details and compatibility variables) and the utilization of the layer and its species. The store can
+ * be written to and read from a stream so that it outlives the engine.
+ * <p>
+ * A snapshot can only be applied to the same input polygon, processed with the same control map, as the one from which
+ * it was taken. Each snapshot is therefore kept with the {@link CohortKey#ofStartingState starting state key} of its
+ * input polygon, and a snapshot whose key differs from that of the polygon being projected is ignored. The control map
+ * cannot be compared in the same way, so the store is given a version for it, such as a digest of the control files and
+ * the resources they name, and reading snapshots written with another version ignores them.
+ * <p>
+ * A store may be shared by several engines running in parallel.
+ */
+public class ProjectionSnapshotStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(ProjectionSnapshotStore.class);
+
+	private static final byte[] MAGIC = { 'V', 'D', 'Y', 'P', 'S', 'N', 'P', 2 };
+
+	/** The state of a polygon, and the starting state key of the input polygon from which it was projected */
+	private record Snapshot(String inputKey, byte[] state) {
+	}
+
+	private final String controlMapVersion;
+
+	private final Map<PolygonIdentifier, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * @param controlMapVersion identifies the control map with which the polygons are projected
+	 */
+	public ProjectionSnapshotStore(String controlMapVersion) {
+		this.controlMapVersion = controlMapVersion;
+	}
+
+	/**
+	 * @return the version of the control map with which the polygons are projected
+	 */
+	public String getControlMapVersion() {
+		return controlMapVersion;
+	}
+
+	/**
+	 * @param polygonIdentifier the identifier of the input polygon, including its starting year
+	 * @return the last year to which the polygon was projected, if it has a snapshot.
+	 */
+	public Optional<Integer> getSnapshotYear(PolygonIdentifier polygonIdentifier) {
+		return Optional.ofNullable(snapshots.get(polygonIdentifier)).map(ProjectionSnapshotStore::snapshotYear);
+	}
+
+	/**
+	 * @param polygonIdentifier the identifier of the input polygon, including its starting year
+	 * @param inputKey          the starting state key of the input polygon
+	 * @return the last year to which the polygon was projected, if it has a snapshot taken from the same input
+	 */
+	Optional<Integer> getSnapshotYear(PolygonIdentifier polygonIdentifier, CohortKey inputKey) {
+		return Optional.ofNullable(snapshots.get(polygonIdentifier))
+				.filter(snapshot -> snapshot.inputKey().equals(inputKey.toString()))
+				.map(ProjectionSnapshotStore::snapshotYear);
+	}
+
+	/**
+	 * @return the number of polygons with a snapshot
+	 */
+	public int size() {
+		return snapshots.size();
+	}
+
+	/**
+	 * Discard the snapshot, if any, of the given polygon.
+	 *
+	 * @param polygonIdentifier
+	 */
+	public void remove(PolygonIdentifier polygonIdentifier) {
+		snapshots.remove(polygonIdentifier);
+	}
+
+	/**
+	 * Write all the snapshots in the store to the given stream, which is not closed.
+	 *
+	 * @param os
+	 * @throws IOException
+	 */
+	public void write(OutputStream os) throws IOException {
+		var deflater = new DeflaterOutputStream(os);
+		var out = new DataOutputStream(deflater);
+		out.write(MAGIC);
+		out.writeUTF(controlMapVersion);
+		var entries = new HashMap<>(snapshots);
+		out.writeInt(entries.size());
+		for (var e : entries.entrySet()) {
+			out.writeUTF(e.getKey().getBase());
+			out.writeInt(e.getKey().getYear());
+			out.writeUTF(e.getValue().inputKey());
+			out.writeInt(e.getValue().state().length);
+			out.write(e.getValue().state());
+		}
+		out.flush();
+		deflater.finish();
+	}
+
+	/**
+	 * Read snapshots written by {@link #write(OutputStream)} into this store, replacing any for the same polygons. If
+	 * they were written with a different control map version they are ignored. The stream is not closed.
+	 *
+	 * @param is
+	 * @return the number of snapshots read, which is 0 if they were ignored
+	 * @throws IOException if the stream could not be read or does not contain snapshots
+	 */
+	public int read(InputStream is) throws IOException {
+		var in = new DataInputStream(new InflaterInputStream(is));
+		var magic = in.readNBytes(MAGIC.length);
+		if (!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("Not a projection snapshot stream");
+		}
+		var version = in.readUTF();
+		if (!version.equals(controlMapVersion)) {
+			logger.warn(
+					"Ignoring snapshots taken with control map version {} rather than {}", version, controlMapVersion
+			);
+			return 0;
+		}
+		int n = in.readInt();
+		for (int i = 0; i < n; i++) {
+			var polygonIdentifier = new PolygonIdentifier(in.readUTF(), in.readInt());
+			var inputKey = in.readUTF();
+			var state = new byte[in.readInt()];
+			in.readFully(state);
+			snapshots.put(polygonIdentifier, new Snapshot(inputKey, state));
+		}
+		return n;
+	}
+
+	private static int snapshotYear(Snapshot snapshot) {
+		var state = snapshot.state();
+		return (state[0] & 0xff) << 24 | (state[1] & 0xff) << 16 | (state[2] & 0xff) << 8 | (state[3] & 0xff);
+	}
+
+	/**
+	 * Record the state of the given layer, which has been grown to <code>year</code> from the input polygon with the
+	 * given starting state key, replacing any previous snapshot of its polygon.
+	 */
+	void save(LayerProcessingState lps, int year, CohortKey inputKey) {
+		var bytes = new ByteArrayOutputStream(4096);
+		try (var out = new DataOutputStream(bytes)) {
+			out.writeInt(year);
+			encode(out, lps);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		snapshots.put(lps.getPolygon().getPolygonIdentifier(), new Snapshot(inputKey.toString(), bytes.toByteArray()));
+	}
+
+	/**
+	 * Restore the snapshot of the polygon of the given layer processing state, which must have been freshly created for
+	 * that polygon, into that state.
+	 *
+	 * @return the year of the snapshot, or empty if there is none
+	 * @throws ProcessingException if the snapshot does not match the polygon
+	 */
+	Optional<Integer> restore(LayerProcessingState lps) throws ProcessingException {
+		var snapshot = snapshots.get(lps.getPolygon().getPolygonIdentifier());
+		if (snapshot == null) {
+			return Optional.empty();
+		}
+		try (var in = new DataInputStream(new ByteArrayInputStream(snapshot.state()))) {
+			int year = in.readInt();
+			decode(in, lps);
+			return Optional.of(year);
+		} catch (IOException e) {
+			throw new ProcessingException(
+					MessageFormat.format(
+							"Unable to restore the snapshot of polygon {0}", lps.getPolygon().getPolygonIdentifier()
+					), e
+			);
+		}
+	}
+
+	private static void encode(DataOutputStream out, LayerProcessingState lps) throws IOException {
+		Bank bank = lps.getBank();
+		int nSpecies = bank.getNSpecies();
+
+		out.writeInt(nSpecies);
+		for (int i = 1; i <= nSpecies; i++) {
+			out.writeUTF(bank.speciesNames[i]);
+		}
+
+		// Bank
+
+		writeFloats(out, bank.siteIndices);
+		writeFloats(out, bank.dominantHeights);
+		writeFloats(out, bank.ageTotals);
+		writeFloats(out, bank.yearsAtBreastHeight);
+		writeFloats(out, bank.yearsToBreastHeight);
+		writeInts(out, bank.siteCurveNumbers);
+		writeInts(out, bank.speciesIndices);
+		writeFloats(out, bank.percentagesOfForestedLand);
+		for (int i = 0; i <= nSpecies; i++) {
+			writeFloats(out, bank.basalAreas[i]);
+			writeFloats(out, bank.closeUtilizationVolumes[i]);
+			writeFloats(out, bank.cuVolumesMinusDecay[i]);
+			writeFloats(out, bank.cuVolumesMinusDecayAndWastage[i]);
+			writeFloats(out, bank.loreyHeights[i]);
+			writeFloats(out, bank.quadMeanDiameters[i]);
+			writeFloats(out, bank.treesPerHectare[i]);
+			writeFloats(out, bank.wholeStemVolumes[i]);
+		}
+
+		// Derived state
+
+		out.writeInt(lps.getPrimarySpeciesIndex());
+		out.writeInt(lps.hasSecondarySpeciesIndex() ? lps.getSecondarySpeciesIndex() : -1);
+		out.writeInt(lps.getInventoryTypeGroup());
+		out.writeInt(lps.getPrimarySpeciesGroupNumber());
+		out.writeInt(lps.getPrimarySpeciesStratumNumber());
+
+		writeInts(out, lps.getSiteCurveNumbers());
+
+		out.writeFloat(lps.getPrimarySpeciesDominantHeight());
+		out.writeFloat(lps.getPrimarySpeciesSiteIndex());
+		out.writeFloat(lps.getPrimarySpeciesTotalAge());
+		out.writeFloat(lps.getPrimarySpeciesAgeAtBreastHeight());
+		out.writeFloat(lps.getPrimarySpeciesAgeToBreastHeight());
+
+		for (int i = 1; i <= nSpecies; i++) {
+			for (UtilizationClass uc : UtilizationClass.UTIL_CLASSES) {
+				for (LayerType lt : LayerType.ALL_USED) {
+					for (VolumeVariable vv : VolumeVariable.ALL) {
+						out.writeFloat(lps.getCvVolume()[i].get(uc, vv, lt));
+					}
+					out.writeFloat(lps.getCvBasalArea()[i].get(uc, lt));
+					out.writeFloat(lps.getCvQuadraticMeanDiameter()[i].get(uc, lt));
+				}
+			}
+			for (UtilizationClassVariable ucv : UtilizationClassVariable.ALL) {
+				out.writeFloat(lps.getCvPrimaryLayerSmall()[i].get(ucv));
+			}
+		}
+
+		// The layer itself, from which the bank is refreshed during growth
+
+		VdypLayer layer = lps.getPolygon().getLayers().get(lps.getLayerType());
+		writeUtilizations(out, layer);
+		out.writeInt(layer.getSpecies().size());
+		for (var species : layer.getSpecies().values()) {
+			out.writeUTF(species.getGenus());
+			writeUtilizations(out, species);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void decode(DataInputStream in, LayerProcessingState lps) throws IOException, ProcessingException {
+		Bank bank = lps.getBank();
+		int nSpecies = bank.getNSpecies();
+
+		int snapshotNSpecies = in.readInt();
+		String[] snapshotSpeciesNames = new String[snapshotNSpecies + 1];
+		for (int i = 1; i <= snapshotNSpecies; i++) {
+			snapshotSpeciesNames[i] = in.readUTF();
+		}
+		if (!Arrays.equals(snapshotSpeciesNames, bank.speciesNames)) {
+			throw new ProcessingException(
+					MessageFormat.format(
+							"The snapshot of polygon {0} has species {1} but the polygon has {2}",
+							lps.getPolygon().getPolygonIdentifier(), Arrays.toString(snapshotSpeciesNames),
+							Arrays.toString(bank.speciesNames)
+					)
+			);
+		}
+
+		float[] siteIndices = readFloats(in);
+		float[] dominantHeights = readFloats(in);
+		float[] ageTotals = readFloats(in);
+		float[] yearsAtBreastHeight = readFloats(in);
+		float[] yearsToBreastHeight = readFloats(in);
+		int[] siteCurveNumbers = readInts(in);
+		int[] speciesIndices = readInts(in);
+		float[] percentagesOfForestedLand = readFloats(in);
+		float[][][] utilizations = new float[nSpecies + 1][][];
+		for (int i = 0; i <= nSpecies; i++) {
+			utilizations[i] = new float[8][];
+			for (int j = 0; j < 8; j++) {
+				utilizations[i][j] = readFloats(in);
+			}
+		}
+
+		int primarySpeciesIndex = in.readInt();
+		int secondarySpeciesIndex = in.readInt();
+		int inventoryTypeGroup = in.readInt();
+		int basalAreaGroup1 = in.readInt();
+		int basalAreaGroup3 = in.readInt();
+
+		lps.setSpeciesRankingDetails(
+				new SpeciesRankingDetails(
+						primarySpeciesIndex,
+						secondarySpeciesIndex < 0 ? Optional.empty() : Optional.of(secondarySpeciesIndex),
+						inventoryTypeGroup, basalAreaGroup1, basalAreaGroup3
+				)
+		);
+		lps.setSiteCurveNumbers(readInts(in));
+		lps.setPrimarySpeciesDetails(
+				new PrimarySpeciesDetails(
+						in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat()
+				)
+		);
+
+		var cvVolume = new MatrixMap3[nSpecies + 1];
+		var cvBasalArea = new MatrixMap2[nSpecies + 1];
+		var cvQuadraticMeanDiameter = new MatrixMap2[nSpecies + 1];
+		var cvSmall = new HashMap[nSpecies + 1];
+		for (int i = 1; i <= nSpecies; i++) {
+			var volume = new MatrixMap3Impl<UtilizationClass, VolumeVariable, LayerType, Float>(
+					UtilizationClass.UTIL_CLASSES, VolumeVariable.ALL, LayerType.ALL_USED, (k1, k2, k3) -> 0f
+			);
+			var basalArea = new MatrixMap2Impl<UtilizationClass, LayerType, Float>(
+					UtilizationClass.UTIL_CLASSES, LayerType.ALL_USED, (k1, k2) -> 0f
+			);
+			var quadMeanDiameter = new MatrixMap2Impl<UtilizationClass, LayerType, Float>(
+					UtilizationClass.UTIL_CLASSES, LayerType.ALL_USED, (k1, k2) -> 0f
+			);
+			for (UtilizationClass uc : UtilizationClass.UTIL_CLASSES) {
+				for (LayerType lt : LayerType.ALL_USED) {
+					for (VolumeVariable vv : VolumeVariable.ALL) {
+						volume.put(uc, vv, lt, in.readFloat());
+					}
+					basalArea.put(uc, lt, in.readFloat());
+					quadMeanDiameter.put(uc, lt, in.readFloat());
+				}
+			}
+			var small = new HashMap<UtilizationClassVariable, Float>();
+			for (UtilizationClassVariable ucv : UtilizationClassVariable.ALL) {
+				small.put(ucv, in.readFloat());
+			}
+			cvVolume[i] = volume;
+			cvBasalArea[i] = basalArea;
+			cvQuadraticMeanDiameter[i] = quadMeanDiameter;
+			cvSmall[i] = small;
+		}
+		lps.setCompatibilityVariableDetails(cvVolume, cvBasalArea, cvQuadraticMeanDiameter, cvSmall);
+
+		// Setting the primary species details may have written to the bank, so restore it afterwards
+
+		copy(siteIndices, bank.siteIndices);
+		copy(dominantHeights, bank.dominantHeights);
+		copy(ageTotals, bank.ageTotals);
+		copy(yearsAtBreastHeight, bank.yearsAtBreastHeight);
+		copy(yearsToBreastHeight, bank.yearsToBreastHeight);
+		copy(siteCurveNumbers, bank.siteCurveNumbers);
+		copy(speciesIndices, bank.speciesIndices);
+		copy(percentagesOfForestedLand, bank.percentagesOfForestedLand);
+		for (int i = 0; i <= nSpecies; i++) {
+			copy(utilizations[i][0], bank.basalAreas[i]);
+			copy(utilizations[i][1], bank.closeUtilizationVolumes[i]);
+			copy(utilizations[i][2], bank.cuVolumesMinusDecay[i]);
+			copy(utilizations[i][3], bank.cuVolumesMinusDecayAndWastage[i]);
+			copy(utilizations[i][4], bank.loreyHeights[i]);
+			copy(utilizations[i][5], bank.quadMeanDiameters[i]);
+			copy(utilizations[i][6], bank.treesPerHectare[i]);
+			copy(utilizations[i][7], bank.wholeStemVolumes[i]);
+		}
+
+		VdypLayer layer = lps.getPolygon().getLayers().get(lps.getLayerType());
+		readUtilizations(in, layer);
+		int nLayerSpecies = in.readInt();
+		for (int i = 0; i < nLayerSpecies; i++) {
+			var genus = in.readUTF();
+			var species = layer.getSpecies().get(genus);
+			if (species == null) {
+				throw new ProcessingException(
+						MessageFormat.format(
+								"The snapshot of polygon {0} has species {1} which the polygon does not",
+								lps.getPolygon().getPolygonIdentifier(), genus
+						)
+				);
+			}
+			readUtilizations(in, species);
+		}
+	}
+
+	private static void writeUtilizations(DataOutputStream out, VdypUtilizationHolder uh) throws IOException {
+		writeVector(out, uh.getBaseAreaByUtilization());
+		writeVector(out, uh.getLoreyHeightByUtilization());
+		writeVector(out, uh.getQuadraticMeanDiameterByUtilization());
+		writeVector(out, uh.getTreesPerHectareByUtilization());
+		writeVector(out, uh.getWholeStemVolumeByUtilization());
+		writeVector(out, uh.getCloseUtilizationVolumeByUtilization());
+		writeVector(out, uh.getCloseUtilizationVolumeNetOfDecayByUtilization());
+		writeVector(out, uh.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization());
+		writeVector(out, uh.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization());
+	}
+
+	private static void readUtilizations(DataInputStream in, VdypUtilizationHolder uh) throws IOException {
+		readVector(in, uh.getBaseAreaByUtilization());
+		readVector(in, uh.getLoreyHeightByUtilization());
+		readVector(in, uh.getQuadraticMeanDiameterByUtilization());
+		readVector(in, uh.getTreesPerHectareByUtilization());
+		readVector(in, uh.getWholeStemVolumeByUtilization());
+		readVector(in, uh.getCloseUtilizationVolumeByUtilization());
+		readVector(in, uh.getCloseUtilizationVolumeNetOfDecayByUtilization());
+		readVector(in, uh.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization());
+		readVector(in, uh.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization());
+	}
+
+	private static void writeVector(DataOutputStream out, UtilizationVector v) throws IOException {
+		out.writeByte(v.size());
+		for (int i = 0; i < v.size(); i++) {
+			out.writeFloat(v.getCoe(v.getIndexFrom() + i));
+		}
+	}
+
+	private static void readVector(DataInputStream in, UtilizationVector v) throws IOException {
+		int size = in.readUnsignedByte();
+		if (size != v.size()) {
+			throw new IOException("Expected utilization vector of size " + v.size() + " but found " + size);
+		}
+		for (int i = 0; i < size; i++) {
+			v.setCoe(v.getIndexFrom() + i, in.readFloat());
+		}
+	}
+
+	private static void writeFloats(DataOutputStream out, float[] a) throws IOException {
+		out.writeShort(a.length);
+		for (float f : a) {
+			out.writeFloat(f);
+		}
+	}
+
+	private static float[] readFloats(DataInputStream in) throws IOException {
+		var a = new float[in.readUnsignedShort()];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = in.readFloat();
+		}
+		return a;
+	}
+
+	private static void writeInts(DataOutputStream out, int[] a) throws IOException {
+		out.writeShort(a.length);
+		for (int v : a) {
+			out.writeInt(v);
+		}
+	}
+
+	private static int[] readInts(DataInputStream in) throws IOException {
+		var a = new int[in.readUnsignedShort()];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = in.readInt();
+		}
+		return a;
+	}
+
+	private static void copy(float[] source, float[] target) throws IOException {
+		if (source.length != target.length) {
+			throw new IOException("Expected array of length " + target.length + " but found " + source.length);
+		}
+		System.arraycopy(source, 0, target, 0, source.length);
+	}
+
+	private static void copy(int[] source, int[] target) throws IOException {
+		if (source.length != target.length) {
+			throw new IOException("Expected array of length " + target.length + " but found " + source.length);
+		}
+		System.arraycopy(source, 0, target, 0, source.length);
+	}
+}
@@ -0,0 +1,181 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypPolygonDescriptionParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypPolygonParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypSpeciesParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypUtilizationParser;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
+import ca.bc.gov.nrs.vdyp.model.CohortKey;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.test.MockFileResolver;
+import ca.bc.gov.nrs.vdyp.test.TestUtils;
+
+class CohortProjectionTest extends AbstractForwardProcessingEngineTest {
+
+	VdypPolygon readPolygon(int n) throws ProcessingException {
+		var reader = new ForwardDataStreamReader(controlMap);
+		VdypPolygon polygon = null;
+		for (int i = 0; i <= n; i++) {
+			polygon = reader.readNextPolygon().orElseThrow();
+		}
+		return polygon;
+	}
+
+	record Output(String polygons, String species, String utilizations) {
+	}
+
+	Output project(VdypPolygon polygon, List<PolygonIdentifier> cohortIdentifiers)
+			throws ProcessingException, IOException {
+		var polygonStream = new ByteArrayOutputStream();
+		var speciesStream = new ByteArrayOutputStream();
+		var utilizationStream = new ByteArrayOutputStream();
+		try (var writer = new VdypOutputWriter(polygonStream, speciesStream, utilizationStream)) {
+			var fpe = new ForwardProcessingEngine(controlMap, Optional.of(writer));
+			fpe.processPolygon(polygon, cohortIdentifiers);
+		}
+		return new Output(polygonStream.toString(), speciesStream.toString(), utilizationStream.toString());
+	}
+
+	/**
+	 * The lines of the given output for the polygon with the given base, with the identifier blanked
+	 */
+	static List<String> linesOf(String output, String base) {
+		return output.lines().filter(l -> l.startsWith(base)).map(l -> l.substring(PolygonIdentifier.BASE_LENGTH))
+				.toList();
+	}
+
+	/**
+	 * Project the first two polygons of the test data followed by a copy of the first under another identifier, which
+	 * is of the same cohort as the first but not adjacent to it
+	 *
+	 * @return the polygon output
+	 */
+	String projectWithNonAdjacentDuplicate(ForwardProcessor processor)
+			throws ResourceParseException, IOException, ProcessingException {
+		var inputs = new MockFileResolver("inputs");
+		for (var file : List.of("vin_p1.dat", "vin_s1.dat", "vin_u1.dat", "vin_y1.dat")) {
+			List<String> lines;
+			try (var is = TestUtils.class.getResourceAsStream(file)) {
+				lines = new String(is.readAllBytes()).lines().toList();
+			}
+			var first = lines.stream().filter(l -> l.startsWith("01002 S000001 00")).toList();
+			var second = lines.stream().filter(l -> l.startsWith("01002 S000002 00")).toList();
+			var duplicate = first.stream().map(l -> l.replace("01002 S000001 00", "01002 S000099 00")).toList();
+
+			var content = new ArrayList<String>();
+			content.addAll(first);
+			content.addAll(second);
+			content.addAll(duplicate);
+			inputs.addStream(file, TestUtils.makeInputStream(content.toArray(String[]::new)));
+		}
+		controlMap.put(ControlKey.FORWARD_INPUT_VDYP_POLY.name(), "vin_p1.dat");
+		controlMap.put(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(), "vin_s1.dat");
+		controlMap.put(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(), "vin_u1.dat");
+		controlMap.put(ControlKey.FORWARD_INPUT_GROWTO.name(), "vin_y1.dat");
+		new VdypPolygonParser().modify(controlMap, inputs);
+		new VdypSpeciesParser().modify(controlMap, inputs);
+		new VdypUtilizationParser().modify(controlMap, inputs);
+		new VdypPolygonDescriptionParser().modify(controlMap, inputs);
+
+		var outputs = new MockFileResolver("outputs");
+		var polygonStream = new ByteArrayOutputStream();
+		outputs.addStream("vp_grow2.dat", polygonStream);
+		outputs.addStream("vs_grow2.dat", new ByteArrayOutputStream());
+		outputs.addStream("vu_grow2.dat", new ByteArrayOutputStream());
+		outputs.addStream("vc_grow2.dat", new ByteArrayOutputStream());
+
+		processor.process(EnumSet.allOf(ForwardPass.class), controlMap, Optional.of(outputs));
+		return polygonStream.toString();
+	}
+
+	/**
+	 * The identifiers of the polygons of each record of the output, omitting a repeat of the previous record's
+	 */
+	static List<String> polygonOrder(String output) {
+		var order = new ArrayList<String>();
+		output.lines().map(l -> l.substring(0, 16)).forEach(id -> {
+			if (order.isEmpty() || !order.get(order.size() - 1).equals(id)) {
+				order.add(id);
+			}
+		});
+		return order;
+	}
+
+	@Test
+	void testOutputInInputOrderByDefault() throws ResourceParseException, IOException, ProcessingException {
+		var processor = new ForwardProcessor();
+		var output = projectWithNonAdjacentDuplicate(processor);
+
+		// Each polygon is written contiguously, in the order read
+		assertThat(polygonOrder(output), contains("01002 S000001 00", "01002 S000002 00", "01002 S000099 00"));
+		assertThat(processor.getCohortStatistics().getCohorts(), is(3));
+	}
+
+	@Test
+	void testCohortWindowDeduplicatesOutOfOrder() throws ResourceParseException, IOException, ProcessingException {
+		var processor = new ForwardProcessor();
+		processor.setCohortWindow(3);
+		var output = projectWithNonAdjacentDuplicate(processor);
+
+		// The duplicate is projected once, and written with the first of its cohort rather than where it was read
+		assertThat(processor.getCohortStatistics().getCohorts(), is(2));
+		assertThat(
+				polygonOrder(output).indexOf("01002 S000099 00"),
+				lessThan(polygonOrder(output).indexOf("01002 S000002 00"))
+		);
+	}
+
+	@Test
+	void testMaxPolyStopsReadingWithinCohortWindow() throws ResourceParseException, IOException, ProcessingException {
+		var processor = new ForwardProcessor();
+		processor.setCohortWindow(3);
+		controlMap.put(ControlKey.MAX_NUM_POLY.name(), 2);
+		var output = projectWithNonAdjacentDuplicate(processor);
+
+		// The duplicate, the third polygon, is not read
+		assertThat(polygonOrder(output), contains("01002 S000001 00", "01002 S000002 00"));
+		assertThat(processor.getCohortStatistics().getPolygons(), is(2));
+	}
+
+	@Test
+	void testCohortKeys() throws ProcessingException {
+		assertThat(CohortKey.of(readPolygon(0)), is(CohortKey.of(readPolygon(0))));
+		assertThat(CohortKey.of(readPolygon(0)), not(CohortKey.of(readPolygon(1))));
+	}
+
+	@Test
+	void testResultsWrittenForEachPolygon() throws ProcessingException, IOException {
+		var polygon = readPolygon(0);
+		var base = polygon.getPolygonIdentifier().getBase();
+		var year = polygon.getPolygonIdentifier().getYear();
+
+		var expected = project(readPolygon(0), List.of());
+		var actual = project(polygon, List.of(new PolygonIdentifier("Other", year)));
+
+		assertThat(linesOf(expected.utilizations(), base).isEmpty(), is(false));
+		for (var other : List.of(base, "Other")) {
+			assertThat(linesOf(actual.polygons(), other), is(linesOf(expected.polygons(), base)));
+			assertThat(linesOf(actual.species(), other), is(linesOf(expected.species(), base)));
+			assertThat(linesOf(actual.utilizations(), other), is(linesOf(expected.utilizations(), base)));
+		}
+	}
+}
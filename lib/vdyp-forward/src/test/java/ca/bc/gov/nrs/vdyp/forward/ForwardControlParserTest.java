@@ -15,6 +15,7 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -22,18 +23,23 @@ import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.LazyValue;
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.forward.test.VdypForwardTestUtils;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.SiteCurveAgeMaximumParserTest;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
 import ca.bc.gov.nrs.vdyp.model.BecLookup;
@@ -544,6 +550,147 @@ class VdypForwardControlParserTest {
 		);
 	}
 
+	@Test
+	void testParseConcurrently() throws Exception {
+		var sequentialParser = new ForwardControlParser();
+		var expected = VdypForwardTestUtils.parse(sequentialParser, "VDYP.CTR");
+
+		var pool = new ForkJoinPool(4);
+		try {
+			var parser = new ForwardControlParser();
+			parser.setResourcePool(pool);
+			var result = VdypForwardTestUtils.parse(parser, "VDYP.CTR");
+
+			assertThat(result.keySet(), is(expected.keySet()));
+			for (var key : expected.keySet()) {
+				assertThat(key, result.get(key).getClass(), is((Object) expected.get(key).getClass()));
+			}
+			assertThat(
+					result,
+					(Matcher) controlMapHasEntry(
+							ControlKey.VOLUME_EQN_GROUPS, allOf(isA(MatrixMap2.class), mmHasEntry(is(7), "AT", "CDF"))
+					)
+			);
+			assertThat(
+					parser.getResourceParseTimes(),
+					allOf(
+							hasKey(ControlKey.BEC_DEF.name()), hasKey(ControlKey.UPPER_BA_BY_CI_S0_P.name()),
+							hasKey(ControlKey.FORWARD_INPUT_VDYP_POLY.name())
+					)
+			);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testParseWithConfiguration() throws Exception {
+		var configuration = VdypForwardTestUtils.parse(new ForwardControlParser(), "VDYP.CTR");
+
+		var parser = new ForwardControlParser();
+		Class<?> klazz = TestUtils.class;
+		Map<String, Object> configurationResources;
+		try (InputStream is = klazz.getResourceAsStream("VDYP.CTR")) {
+			configurationResources = parser.parseResourceEntries(List.of(is));
+		}
+		assertThat(configurationResources, hasEntry(ControlKey.BEC_DEF.name(), "coe/Becdef.dat"));
+		assertThat(configurationResources, not(hasKey(ControlKey.FORWARD_INPUT_VDYP_POLY.name())));
+
+		Map<String, Object> result;
+		try (InputStream baseIs = klazz.getResourceAsStream("VDYP.CTR"); InputStream is = addToEnd(baseIs, "001 5");) {
+			result = parser.parseWithConfiguration(
+					List.of(is), TestUtils.fileResolver(klazz), configuration, configurationResources
+			).orElseThrow();
+		}
+
+		assertThat(result.keySet(), is(configuration.keySet()));
+
+		// Configuration is shared, not parsed again
+		assertThat(
+				result.get(ControlKey.VOLUME_EQN_GROUPS.name()),
+				sameInstance(configuration.get(ControlKey.VOLUME_EQN_GROUPS.name()))
+		);
+		assertThat(result.get(ControlKey.BEC_DEF.name()), sameInstance(configuration.get(ControlKey.BEC_DEF.name())));
+		assertThat(parser.getResourceParseTimes(), not(hasKey(ControlKey.BEC_DEF.name())));
+		// Including those named as optional files
+		assertThat(
+				result.get(ControlKey.SITE_CURVE_AGE_MAX.name()),
+				sameInstance(configuration.get(ControlKey.SITE_CURVE_AGE_MAX.name()))
+		);
+
+		// Inputs and options come from the new control file
+		assertThat(
+				result,
+				(Matcher) controlMapHasEntry(
+						ControlKey.FORWARD_INPUT_VDYP_POLY, instanceOf(StreamingParserFactory.class)
+				)
+		);
+		assertThat(
+				result.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name()),
+				not(sameInstance(configuration.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name())))
+		);
+		assertThat(result, (Matcher) controlMapHasEntry(ControlKey.MAX_NUM_POLY, is(5)));
+		assertThat(configuration, (Matcher) controlMapHasEntry(ControlKey.MAX_NUM_POLY, is(999999)));
+	}
+
+	@Test
+	void testParseWithConfigurationOfOtherResources() throws Exception {
+		var configuration = VdypForwardTestUtils.parse(new ForwardControlParser(), "VDYP.CTR");
+
+		var parser = new ForwardControlParser();
+		Class<?> klazz = TestUtils.class;
+		Map<String, Object> configurationResources;
+		try (InputStream is = klazz.getResourceAsStream("VDYP.CTR")) {
+			configurationResources = parser.parseResourceEntries(List.of(is));
+		}
+
+		// A control file naming another genus definition file
+		try (
+				InputStream baseIs = klazz.getResourceAsStream("VDYP.CTR");
+				InputStream is = addToEnd(baseIs, "010 coe/OTHERDEF.dat");
+		) {
+			assertThat(
+					parser.parseWithConfiguration(
+							List.of(is), TestUtils.fileResolver(klazz), configuration, configurationResources
+					), is(Optional.empty())
+			);
+		}
+	}
+
+	@Test
+	void testParseDeferred() throws Exception {
+		var expected = VdypForwardTestUtils.parse(new ForwardControlParser(), "VDYP.CTR");
+
+		var parser = new ForwardControlParser();
+		parser.setDeferResources(true);
+		var result = VdypForwardTestUtils.parse(parser, "VDYP.CTR");
+
+		assertThat(result.keySet(), is(expected.keySet()));
+		assertThat(result.get(ControlKey.VETERAN_LAYER_DQ.name()), instanceOf(LazyValue.class));
+		assertThat(result.get(ControlKey.BEC_DEF.name()), instanceOf(BecLookup.class));
+		assertThat(parser.getResourceParseTimes(), not(hasKey(ControlKey.VETERAN_LAYER_DQ.name())));
+		assertThat(
+				BaseControlParser.getDeferredResourceUsage(result),
+				allOf(hasEntry(ControlKey.VETERAN_LAYER_DQ.name(), false), not(hasKey(ControlKey.BEC_DEF.name())))
+		);
+
+		// Read as if it had been parsed eagerly, parsing it now
+		var veteranDq = Utils.expectParsedControl(result, ControlKey.VETERAN_LAYER_DQ, MatrixMap2.class);
+		assertThat(
+				veteranDq,
+				sameInstance(Utils.expectParsedControl(result, ControlKey.VETERAN_LAYER_DQ, MatrixMap2.class))
+		);
+		assertThat(
+				BaseControlParser.getDeferredResourceUsage(result), hasEntry(ControlKey.VETERAN_LAYER_DQ.name(), true)
+		);
+		assertThat(parser.getResourceParseTimes(), hasKey(ControlKey.VETERAN_LAYER_DQ.name()));
+
+		for (var key : expected.keySet()) {
+			var value = result.get(key) instanceof LazyValue<?> lazy ? lazy.get() : result.get(key);
+			assertThat(key, value.getClass(), is((Object) expected.get(key).getClass()));
+		}
+	}
+
 	static InputStream addToEnd(InputStream is, String... lines) {
 		var appendix = new ByteArrayInputStream(String.join("\r\n", lines).getBytes(StandardCharsets.US_ASCII));
 		return new SequenceInputStream(is, appendix);
@@ -0,0 +1,53 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.forward.model.ForwardControlVariables;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.value.ValueParseException;
+import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
+
+/**
+ * Grows the test polygons, writing every year, and compares the output with that recorded from an earlier version of
+ * the engine. Changes made to the engine for performance must not change its output.
+ */
+class ForwardGoldenOutputTest extends AbstractForwardProcessingEngineTest {
+
+	@Test
+	void testOutputUnchanged() throws IOException, ResourceParseException, ProcessingException, ValueParseException {
+
+		// As in VDYP.CTR but writing output for all years
+		controlMap.put(ControlKey.VTROL.name(), new ForwardControlVariables(new Integer[] { -1, 1, 2, 3, 1, 1 }));
+
+		var polygonStream = new ByteArrayOutputStream();
+		var speciesStream = new ByteArrayOutputStream();
+		var utilizationStream = new ByteArrayOutputStream();
+
+		try (var writer = new VdypOutputWriter(polygonStream, speciesStream, utilizationStream)) {
+			var fpe = new ForwardProcessingEngine(controlMap, Optional.of(writer));
+			for (var polygon = forwardDataStreamReader.readNextPolygon(); polygon
+					.isPresent(); polygon = forwardDataStreamReader.readNextPolygon()) {
+				fpe.processPolygon(polygon.get());
+			}
+		}
+
+		assertEquals(golden("vp_golden.dat"), polygonStream.toString(StandardCharsets.US_ASCII));
+		assertEquals(golden("vs_golden.dat"), speciesStream.toString(StandardCharsets.US_ASCII));
+		assertEquals(golden("vu_golden.dat"), utilizationStream.toString(StandardCharsets.US_ASCII));
+	}
+
+	private String golden(String resourceName) throws IOException {
+		try (var is = getClass().getResourceAsStream(resourceName)) {
+			return new String(is.readAllBytes(), StandardCharsets.US_ASCII);
+		}
+	}
+}
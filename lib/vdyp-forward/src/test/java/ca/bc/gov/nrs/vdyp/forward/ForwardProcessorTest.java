@@ -5,6 +5,8 @@ import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_2;
 import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_3;
 import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_4;
 import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_5;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -14,9 +16,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.junit.jupiter.api.Test;
@@ -28,6 +36,7 @@ import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.ZipOutputFileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.model.CohortKey;
 import ca.bc.gov.nrs.vdyp.test.TestUtils;
 
 class ForwardProcessorTest {
@@ -88,4 +97,139 @@ class ForwardProcessorTest {
 			}
 		}
 	}
+
+	byte[][] entries(Path zipFilePath) throws IOException {
+		try (ZipFile zipFile = new ZipFile(zipFilePath.toFile())) {
+			var entries = zipFile.stream().sorted(Comparator.comparing(ZipEntry::getName)).toList();
+			byte[][] result = new byte[entries.size()][];
+			for (int i = 0; i < entries.size(); i++) {
+				try (var is = zipFile.getInputStream(entries.get(i))) {
+					result[i] = is.readAllBytes();
+				}
+			}
+			return result;
+		}
+	}
+
+	@Test
+	void testDeferredMatchesEager() throws IOException, ResourceParseException, ProcessingException {
+
+		FileResolver inputFileResolver = TestUtils.fileResolver(TestUtils.class);
+
+		ForwardProcessor eager = new ForwardProcessor();
+		var eagerResolver = new ZipOutputFileResolver();
+		eager.run(inputFileResolver, eagerResolver, List.of("VDYP.CTR"), vdypPassSet);
+		var eagerPath = outputFilesLocation.resolve("eager.zip");
+		eagerResolver.generate(eagerPath);
+
+		ForwardProcessor deferred = new ForwardProcessor();
+		deferred.setDeferResources(true);
+		var deferredResolver = new ZipOutputFileResolver();
+		deferred.run(inputFileResolver, deferredResolver, List.of("VDYP.CTR"), vdypPassSet);
+		var deferredPath = outputFilesLocation.resolve("deferred.zip");
+		deferredResolver.generate(deferredPath);
+
+		assertArrayEquals(entries(eagerPath), entries(deferredPath));
+	}
+
+	@Test
+	void testConcurrentMatchesSequential() throws IOException, ResourceParseException, ProcessingException {
+
+		FileResolver inputFileResolver = TestUtils.fileResolver(TestUtils.class);
+
+		ForwardProcessor sequential = new ForwardProcessor();
+		var sequentialResolver = new ZipOutputFileResolver();
+		sequential.run(inputFileResolver, sequentialResolver, List.of("VDYP.CTR"), vdypPassSet);
+		var sequentialPath = outputFilesLocation.resolve("sequential.zip");
+		sequentialResolver.generate(sequentialPath);
+
+		var pool = new ForkJoinPool(4);
+		try {
+			ForwardProcessor concurrent = new ForwardProcessor();
+			concurrent.setPolygonPool(pool);
+			var concurrentResolver = new ZipOutputFileResolver();
+			concurrent.run(inputFileResolver, concurrentResolver, List.of("VDYP.CTR"), vdypPassSet);
+			var concurrentPath = outputFilesLocation.resolve("concurrent.zip");
+			concurrentResolver.generate(concurrentPath);
+
+			assertArrayEquals(entries(sequentialPath), entries(concurrentPath));
+			assertEquals(sequential.getCostStatistics().getPolygons(), concurrent.getCostStatistics().getPolygons());
+			assertTrue(concurrent.getCostStatistics().getPredictedCost() > 0);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testPolygonsInFlightTogether() throws IOException, ResourceParseException, ProcessingException {
+
+		FileResolver inputFileResolver = TestUtils.fileResolver(TestUtils.class);
+
+		// The first polygons to finish wait for each other as they are saved, which they only can if they are projected
+		// at the same time
+		var finished = new CountDownLatch(2);
+		var waitedForOther = new AtomicBoolean(true);
+		var store = new ProjectionSnapshotStore("test") {
+			@Override
+			void save(LayerProcessingState lps, int year, CohortKey inputKey) {
+				finished.countDown();
+				try {
+					if (!finished.await(10, TimeUnit.SECONDS)) {
+						waitedForOther.set(false);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				super.save(lps, year, inputKey);
+			}
+		};
+
+		var pool = new ForkJoinPool(4);
+		try {
+			// With the default cohort window
+			ForwardProcessor concurrent = new ForwardProcessor();
+			concurrent.setPolygonPool(pool);
+			concurrent.setSnapshotStore(store);
+			concurrent.run(inputFileResolver, new ZipOutputFileResolver(), List.of("VDYP.CTR"), vdypPassSet);
+
+			assertTrue(concurrent.getCostStatistics().getPolygons() > 1);
+			assertEquals(0, finished.getCount());
+			assertTrue(waitedForOther.get());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testResumeFromSnapshotStore() throws IOException, ResourceParseException, ProcessingException {
+
+		FileResolver inputFileResolver = TestUtils.fileResolver(TestUtils.class);
+		var store = new ProjectionSnapshotStore("test");
+
+		var pool = new ForkJoinPool(4);
+		try {
+			ForwardProcessor first = new ForwardProcessor();
+			first.setPolygonPool(pool);
+			first.setSnapshotStore(store);
+			var firstResolver = new ZipOutputFileResolver();
+			first.run(inputFileResolver, firstResolver, List.of("VDYP.CTR"), vdypPassSet);
+			var firstPath = outputFilesLocation.resolve("first.zip");
+			firstResolver.generate(firstPath);
+
+			assertEquals(first.getCostStatistics().getPolygons(), store.size());
+			assertTrue(Arrays.stream(entries(firstPath)).anyMatch(entry -> entry.length > 0));
+
+			// Every polygon resumes from its snapshot at its target year, so there are no more years to write
+			ForwardProcessor second = new ForwardProcessor();
+			second.setSnapshotStore(store);
+			var secondResolver = new ZipOutputFileResolver();
+			second.run(inputFileResolver, secondResolver, List.of("VDYP.CTR"), vdypPassSet);
+			var secondPath = outputFilesLocation.resolve("second.zip");
+			secondResolver.generate(secondPath);
+
+			assertTrue(Arrays.stream(entries(secondPath)).allMatch(entry -> entry.length == 0));
+		} finally {
+			pool.shutdown();
+		}
+	}
 }
@@ -31,7 +31,10 @@ import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.VdypEntity;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
 import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SiteCurveConfiguration;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 
 class GeneralForwardProcessingEngineTest extends AbstractForwardProcessingEngineTest {
 
@@ -346,6 +349,45 @@ class GeneralForwardProcessingEngineTest extends AbstractForwardProcessingEngine
 		assertThat(fpe.fps.getLayerProcessingState().getSiteCurveNumber(5), is(59));
 	}
 
+	@Test
+	void testCalculateMissingSiteCurvesWithSiteCurveConfiguration()
+			throws IOException, ResourceParseException, ProcessingException {
+
+		buildSpeciesParserForStream(
+				"testSpecies.dat", //
+				"01002 S000001 00     1970 P  3 B       0.0     0.0     0.0     0.0 -9.00 -9.00  -9.0  -9.0  -9.0 0 -9", //
+				"01002 S000001 00     1970 P  4 C       0.0     0.0     0.0     0.0 13.40 -9.00  -9.0  -9.0  -9.0 0 -9", //
+				"01002 S000001 00     1970"
+		);
+
+		var siteCurveMap = new MatrixMap2Impl<String, Region, SiteIndexEquation>(
+				new ArrayList<String>(), new ArrayList<Region>(), (k1, k2) -> SiteIndexEquation.SI_NO_EQUATION
+		);
+
+		controlMap.put(ControlKey.SITE_CURVE_NUMBERS.name(), siteCurveMap);
+
+		var reader = new ForwardDataStreamReader(controlMap);
+
+		var polygon = reader.readNextPolygon().orElseThrow();
+
+		var configuration = SiteCurveConfiguration.DEFAULT
+				.withCurve("B", SpeciesRegion.COAST, SiteIndexEquation.SI_BA_DILUCCA)
+				.withCurve("B", SpeciesRegion.INTERIOR, SiteIndexEquation.SI_BA_DILUCCA);
+
+		ForwardProcessingEngine fpe = new ForwardProcessingEngine(controlMap);
+		fpe.setSiteCurveConfiguration(configuration);
+		fpe.processPolygon(polygon, ForwardProcessingEngine.ExecutionStep.CALCULATE_MISSING_SITE_CURVES);
+
+		assertThat(fpe.fps.getLayerProcessingState().getSiteCurveNumber(1), is(SiteIndexEquation.SI_BA_DILUCCA.n()));
+		assertThat(fpe.fps.getLayerProcessingState().getSiteCurveNumber(2), is(122));
+
+		// The curves of the JVM are not changed
+		assertThat(
+				VdypMethods.getSiteCurveConfiguration().getCurve("B", SpeciesRegion.COAST),
+				is(SiteCurveConfiguration.DEFAULT.getCurve("B", SpeciesRegion.COAST))
+		);
+	}
+
 	@Test
 	void testEstimateMissingSiteIndicesStep1() throws ProcessingException, IOException, ResourceParseException,
 			CurveErrorException, SpeciesErrorException, NoAnswerException {
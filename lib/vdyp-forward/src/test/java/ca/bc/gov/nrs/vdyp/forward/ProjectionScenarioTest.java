@@ -0,0 +1,106 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class ProjectionScenarioTest extends AbstractForwardProcessingEngineTest {
+
+	static final List<ProjectionScenario> SCENARIOS = List.of(
+			ProjectionScenario.unchanged("Base"), //
+			new ProjectionScenario("Site", 2f, 0f, 1f), //
+			new ProjectionScenario("Older", 0f, 10f, 1f), //
+			new ProjectionScenario("Denser", 0f, 0f, 1.2f)
+	);
+
+	/**
+	 * The utilization of the primary layer of the given polygon, and of its species
+	 */
+	static String primaryUtilization(VdypPolygon polygon) {
+		var layer = polygon.getLayers().get(LayerType.PRIMARY);
+		var result = new StringBuilder();
+		result.append(layer.getBaseAreaByUtilization()).append(layer.getTreesPerHectareByUtilization())
+				.append(layer.getWholeStemVolumeByUtilization());
+		for (var species : layer.getSpecies().values()) {
+			result.append(species.getGenus()).append(species.getBaseAreaByUtilization())
+					.append(species.getTreesPerHectareByUtilization())
+					.append(species.getWholeStemVolumeByUtilization());
+		}
+		return result.toString();
+	}
+
+	static double siteIndexOf(VdypPolygon polygon, String genus) {
+		return polygon.getLayers().get(LayerType.PRIMARY).getSpecies().get(genus).getSite().orElseThrow().getSiteIndex()
+				.orElseThrow();
+	}
+
+	@Test
+	void testUnchangedScenarioMatchesProjection() throws ProcessingException {
+		var polygon = forwardDataStreamReader.readNextPolygon().orElseThrow();
+		var original = primaryUtilization(polygon);
+
+		var results = new ForwardProcessingEngine(controlMap).processScenarios(polygon, SCENARIOS, Optional.empty());
+
+		assertThat(results.keySet(), contains(SCENARIOS.toArray()));
+		assertThat(primaryUtilization(polygon), is(original));
+
+		new ForwardProcessingEngine(controlMap).processPolygon(polygon);
+		var expected = primaryUtilization(polygon);
+
+		assertThat(primaryUtilization(results.get(SCENARIOS.get(0))), is(expected));
+		assertThat(primaryUtilization(results.get(SCENARIOS.get(2))), not(expected));
+		assertThat(primaryUtilization(results.get(SCENARIOS.get(3))), not(expected));
+
+		// The site index of the scenario is the one it was projected with
+		assertThat(siteIndexOf(results.get(SCENARIOS.get(1)), "D"), closeTo(siteIndexOf(polygon, "D") + 2f, 1e-4));
+	}
+
+	@Test
+	void testConcurrentMatchesSequential() throws ProcessingException {
+		var polygon = forwardDataStreamReader.readNextPolygon().orElseThrow();
+
+		var sequential = new ForwardProcessingEngine(controlMap).processScenarios(polygon, SCENARIOS, Optional.empty());
+
+		var pool = new ForkJoinPool(3);
+		try {
+			var concurrent = new ForwardProcessingEngine(controlMap)
+					.processScenarios(polygon, SCENARIOS, Optional.of(pool));
+
+			assertThat(concurrent.keySet(), contains(SCENARIOS.toArray()));
+			for (var scenario : SCENARIOS) {
+				assertThat(
+						scenario.name(), primaryUtilization(concurrent.get(scenario)),
+						is(primaryUtilization(sequential.get(scenario)))
+				);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void testInvalidScenarios() throws ProcessingException {
+		var polygon = forwardDataStreamReader.readNextPolygon().orElseThrow();
+		var fpe = new ForwardProcessingEngine(controlMap);
+		var scenario = ProjectionScenario.unchanged("Base");
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> fpe.processScenarios(polygon, List.of(scenario, scenario), Optional.empty())
+		);
+		assertThrows(IllegalArgumentException.class, () -> new ProjectionScenario("Empty", 0f, 0f, 0f));
+	}
+}
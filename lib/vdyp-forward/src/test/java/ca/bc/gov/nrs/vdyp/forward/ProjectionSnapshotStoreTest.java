@@ -0,0 +1,199 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.write.VdypOutputWriter;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class ProjectionSnapshotStoreTest extends AbstractForwardProcessingEngineTest {
+
+	static final int N_POLYGONS = 3;
+
+	static final String CONTROL_MAP_VERSION = "test";
+
+	@BeforeEach
+	void noGrowToFile() {
+		// Target years are assigned by the tests instead
+		controlMap.remove(ControlKey.FORWARD_INPUT_GROWTO.name());
+	}
+
+	List<VdypPolygon> readPolygons(int yearsToGrow) throws ProcessingException {
+		var reader = new ForwardDataStreamReader(controlMap);
+		List<VdypPolygon> result = new ArrayList<>();
+		for (int i = 0; i < N_POLYGONS; i++) {
+			var polygon = reader.readNextPolygon().orElseThrow();
+			polygon.setTargetYear(polygon.getPolygonIdentifier().getYear() + yearsToGrow);
+			result.add(polygon);
+		}
+		return result;
+	}
+
+	record Output(String polygons, String species, String utilizations, List<Bank> banks) {
+	}
+
+	Output project(List<VdypPolygon> polygons, Optional<ProjectionSnapshotStore> store)
+			throws ProcessingException, IOException {
+		var polygonStream = new ByteArrayOutputStream();
+		var speciesStream = new ByteArrayOutputStream();
+		var utilizationStream = new ByteArrayOutputStream();
+		List<Bank> banks = new ArrayList<>();
+		try (var writer = new VdypOutputWriter(polygonStream, speciesStream, utilizationStream)) {
+			var fpe = new ForwardProcessingEngine(controlMap, Optional.of(writer));
+			store.ifPresent(fpe::setSnapshotStore);
+			for (var polygon : polygons) {
+				fpe.processPolygon(polygon);
+				banks.add(fpe.fps.getLayerProcessingState().getBank());
+			}
+		}
+		return new Output(polygonStream.toString(), speciesStream.toString(), utilizationStream.toString(), banks);
+	}
+
+	/**
+	 * The lines of the given output for the last year of the projection
+	 */
+	static List<String> lastYear(String output, int year) {
+		return output.lines().filter(l -> l.length() > 25 && l.substring(21, 25).equals(Integer.toString(year)))
+				.toList();
+	}
+
+	static void assertSameOutput(Output actual, Output expected, int year) {
+		assertThat(lastYear(expected.utilizations(), year).isEmpty(), is(false));
+		assertThat(lastYear(actual.polygons(), year), is(lastYear(expected.polygons(), year)));
+		assertThat(lastYear(actual.species(), year), is(lastYear(expected.species(), year)));
+		assertThat(lastYear(actual.utilizations(), year), is(lastYear(expected.utilizations(), year)));
+		for (int i = 0; i < expected.banks().size(); i++) {
+			var actualBank = actual.banks().get(i);
+			var expectedBank = expected.banks().get(i);
+			assertThat(actualBank.basalAreas, is(expectedBank.basalAreas));
+			assertThat(actualBank.treesPerHectare, is(expectedBank.treesPerHectare));
+			assertThat(actualBank.quadMeanDiameters, is(expectedBank.quadMeanDiameters));
+			assertThat(actualBank.loreyHeights, is(expectedBank.loreyHeights));
+			assertThat(actualBank.wholeStemVolumes, is(expectedBank.wholeStemVolumes));
+			assertThat(actualBank.dominantHeights, is(expectedBank.dominantHeights));
+			assertThat(actualBank.ageTotals, is(expectedBank.ageTotals));
+		}
+	}
+
+	@Test
+	void testResumeMatchesFullProjection() throws ProcessingException, IOException {
+		var expected = project(readPolygons(20), Optional.empty());
+
+		var store = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		project(readPolygons(15), Optional.of(store));
+
+		assertThat(store.size(), is(N_POLYGONS));
+		for (var polygon : readPolygons(0)) {
+			assertThat(
+					store.getSnapshotYear(polygon.getPolygonIdentifier()),
+					is(Optional.of(polygon.getPolygonIdentifier().getYear() + 15))
+			);
+		}
+
+		var actual = project(readPolygons(20), Optional.of(store));
+
+		int lastYear = readPolygons(20).get(0).getTargetYear().get();
+		assertSameOutput(actual, expected, lastYear);
+		// Only the added years were written
+		assertThat(lastYear(actual.utilizations(), lastYear - 20).isEmpty(), is(true));
+		assertThat(store.getSnapshotYear(readPolygons(0).get(0).getPolygonIdentifier()), is(Optional.of(lastYear)));
+	}
+
+	@Test
+	void testResumeFromStoredSnapshots() throws ProcessingException, IOException {
+		var expected = project(readPolygons(12), Optional.empty());
+
+		var store = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		project(readPolygons(5), Optional.of(store));
+
+		var bytes = new ByteArrayOutputStream();
+		store.write(bytes);
+		var restored = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		restored.read(new ByteArrayInputStream(bytes.toByteArray()));
+		assertThat(restored.size(), is(N_POLYGONS));
+
+		var actual = project(readPolygons(12), Optional.of(restored));
+
+		assertSameOutput(actual, expected, readPolygons(12).get(0).getTargetYear().get());
+	}
+
+	@Test
+	void testSnapshotBeyondTargetIsNotUsed() throws ProcessingException, IOException {
+		var expected = project(readPolygons(5), Optional.empty());
+
+		var store = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		project(readPolygons(10), Optional.of(store));
+		var actual = project(readPolygons(5), Optional.of(store));
+
+		int lastYear = readPolygons(5).get(0).getTargetYear().get();
+		assertSameOutput(actual, expected, lastYear);
+		assertThat(store.getSnapshotYear(readPolygons(0).get(0).getPolygonIdentifier()), is(Optional.of(lastYear)));
+	}
+
+	@Test
+	void testSnapshotOfDifferentInputIsNotUsed() throws ProcessingException, IOException {
+		var store = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		project(readPolygons(5), Optional.of(store));
+
+		// The same polygons read again from a changed input
+		var changed = readPolygons(10);
+		changed.forEach(polygon -> polygon.setPercentAvailable(polygon.getPercentAvailable() / 2));
+		var actual = project(changed, Optional.of(store));
+
+		var expectedPolygons = readPolygons(10);
+		expectedPolygons.forEach(polygon -> polygon.setPercentAvailable(polygon.getPercentAvailable() / 2));
+		var expected = project(expectedPolygons, Optional.empty());
+
+		int startingYear = changed.get(0).getPolygonIdentifier().getYear();
+		assertSameOutput(actual, expected, startingYear + 10);
+		// Projected from the starting year rather than resumed
+		assertThat(lastYear(actual.utilizations(), startingYear), is(lastYear(expected.utilizations(), startingYear)));
+		assertThat(lastYear(actual.utilizations(), startingYear).isEmpty(), is(false));
+	}
+
+	@Test
+	void testSnapshotsOfOtherControlMapVersionAreNotRead() throws ProcessingException, IOException {
+		var store = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		project(readPolygons(5), Optional.of(store));
+
+		var bytes = new ByteArrayOutputStream();
+		store.write(bytes);
+
+		var other = new ProjectionSnapshotStore("other");
+		assertThat(other.read(new ByteArrayInputStream(bytes.toByteArray())), is(0));
+		assertThat(other.size(), is(0));
+
+		var same = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		assertThat(same.read(new ByteArrayInputStream(bytes.toByteArray())), is(N_POLYGONS));
+	}
+
+	@Test
+	void testNotASnapshotStream() {
+		var store = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		assertThrows(IOException.class, () -> store.read(new ByteArrayInputStream(new byte[] { 1, 2, 3 })));
+	}
+
+	@Test
+	void testPartialRunsDoNotUseStore() throws ProcessingException, ResourceParseException, IOException {
+		var store = new ProjectionSnapshotStore(CONTROL_MAP_VERSION);
+		var fpe = new ForwardProcessingEngine(controlMap);
+		fpe.setSnapshotStore(store);
+		fpe.processPolygon(readPolygons(5).get(0), ForwardProcessingEngine.ExecutionStep.GROW);
+
+		assertThat(store.size(), is(0));
+	}
+}
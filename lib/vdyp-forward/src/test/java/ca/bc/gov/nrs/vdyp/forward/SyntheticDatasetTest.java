@@ -0,0 +1,59 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypPolygonDescriptionParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypPolygonParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypSpeciesParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypUtilizationParser;
+import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.parse.coe.BecDefinitionParser;
+import ca.bc.gov.nrs.vdyp.io.parse.coe.GenusDefinitionParser;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.test.SyntheticDatasetGenerator;
+import ca.bc.gov.nrs.vdyp.test.TestUtils;
+
+class SyntheticDatasetTest extends AbstractForwardProcessingEngineTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void testGeneratedPolygonsProject() throws IOException, ResourceParseException, ProcessingException {
+		new SyntheticDatasetGenerator(
+				SyntheticDatasetGenerator.Format.FORWARD, BecDefinitionParser.getBecs(controlMap),
+				GenusDefinitionParser.getSpecies(controlMap), 7, Map.of(), Map.of()
+		).generate(TestUtils.fileResolver(TestUtils.class), new FileSystemFileResolver(dir), ".gz", 40);
+
+		// Read the generated dataset in place of the fixtures
+		controlMap.put(ControlKey.FORWARD_INPUT_VDYP_POLY.name(), "vin_p1.dat.gz");
+		controlMap.put(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(), "vin_s1.dat.gz");
+		controlMap.put(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(), "vin_u1.dat.gz");
+		controlMap.put(ControlKey.FORWARD_INPUT_GROWTO.name(), "vin_y1.dat.gz");
+		var resolver = new FileSystemFileResolver(dir);
+		new VdypPolygonParser().modify(controlMap, resolver);
+		new VdypSpeciesParser().modify(controlMap, resolver);
+		new VdypUtilizationParser().modify(controlMap, resolver);
+		new VdypPolygonDescriptionParser().modify(controlMap, resolver);
+
+		var reader = new ForwardDataStreamReader(controlMap);
+		var fpe = new ForwardProcessingEngine(controlMap);
+
+		int count = 0;
+		for (var polygon = reader.readNextPolygon(); polygon.isPresent(); polygon = reader.readNextPolygon()) {
+			fpe.processPolygon(polygon.get());
+			count++;
+		}
+		assertThat(count, is(40));
+	}
+}
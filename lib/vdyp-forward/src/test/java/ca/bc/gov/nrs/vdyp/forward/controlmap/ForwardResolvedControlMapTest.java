@@ -1,6 +1,8 @@
 package ca.bc.gov.nrs.vdyp.forward.controlmap;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 
@@ -11,11 +13,13 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.forward.ForwardControlParser;
 import ca.bc.gov.nrs.vdyp.forward.model.ForwardControlVariables;
 import ca.bc.gov.nrs.vdyp.forward.model.ForwardDebugSettings;
 import ca.bc.gov.nrs.vdyp.forward.test.VdypForwardTestUtils;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.model.BecLookup;
 import ca.bc.gov.nrs.vdyp.model.CompVarAdjustments;
 import ca.bc.gov.nrs.vdyp.model.GenusDefinitionMap;
@@ -134,4 +138,27 @@ public class ForwardResolvedControlMapTest {
 		e = forwardControlMap.getQuadMeanDiameterBySpeciesCoefficients();
 		assertThat(e, instanceOf(Map.class));
 	}
+
+	@Test
+	void testResolvesDeferredResourcesOnFirstUse() throws IOException, ResourceParseException {
+		var parser = new ForwardControlParser();
+		parser.setDeferResources(true);
+		var rawControlMap = VdypForwardTestUtils.parse(parser, "VDYP.CTR");
+		var forwardControlMap = new ForwardResolvedControlMapImpl(rawControlMap);
+
+		assertThat(
+				BaseControlParser.getDeferredResourceUsage(rawControlMap), hasEntry(ControlKey.BA_YIELD.name(), false)
+		);
+		assertThat(BaseControlParser.getDeferredResourceUsage(rawControlMap).values(), everyItem(is(false)));
+
+		assertThat(forwardControlMap.getBasalAreaYieldCoefficients(), instanceOf(MatrixMap2.class));
+
+		assertThat(
+				BaseControlParser.getDeferredResourceUsage(rawControlMap), hasEntry(ControlKey.BA_YIELD.name(), true)
+		);
+		assertThat(
+				BaseControlParser.getDeferredResourceUsage(rawControlMap),
+				hasEntry(ControlKey.VETERAN_LAYER_DQ.name(), false)
+		);
+	}
 }
@@ -1,8 +1,6 @@
 package ca.bc.gov.nrs.vdyp.si32.bec;
 
 import java.text.MessageFormat;
-import java.util.HashMap;
-import java.util.Map;
 
 import ca.bc.gov.nrs.vdyp.model.EnumIterator;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SI32Enum;
@@ -31,20 +29,20 @@ public enum BecZone implements SI32Enum<BecZone> {
 	SBS(12), //
 	SWB(13); //
 
-	private static Map<Integer, BecZone> index2EnumMap = null;
+	/** Every constant, at its index plus one */
+	private static final BecZone[] byIndex;
 
-	private static synchronized Map<Integer, BecZone> getIndex2EnumMap() {
-		if (index2EnumMap == null) {
-			index2EnumMap = new HashMap<>();
+	static {
+		byIndex = new BecZone[SWB.index + 2];
+		for (BecZone e : values()) {
+			byIndex[e.index + 1] = e;
 		}
-		return index2EnumMap;
 	}
 
 	private final int index;
 
 	private BecZone(int index) {
 		this.index = index;
-		getIndex2EnumMap().put(index, this);
 	}
 
 	@Override
@@ -84,7 +82,11 @@ public enum BecZone implements SI32Enum<BecZone> {
 	 *         <code>null</code> is returned.
 	 */
 	public static BecZone forIndex(int index) {
-		return getIndex2EnumMap().get(index);
+		if (index >= -1 && index + 1 < byIndex.length) {
+			return byIndex[index + 1];
+		}
+
+		return null;
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.vdyp.si32.bec;
 
 import java.text.MessageFormat;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,7 +36,7 @@ public class BecZoneMethods {
 		becZoneToIndexMap.put("SWB", BecZone.SWB);
 	}
 
-	private static final Map<BecZone, String> enumToBecZoneMap = new HashMap<>();
+	private static final Map<BecZone, String> enumToBecZoneMap = new EnumMap<>(BecZone.class);
 	static {
 		enumToBecZoneMap.put(BecZone.AT, "AT");
 		enumToBecZoneMap.put(BecZone.BG, "BG");
@@ -62,9 +63,12 @@ public class BecZoneMethods {
 	public static BecZone becZoneToIndex(String becZone) {
 
 		if (becZone != null) {
-			String becZoneUC = becZone.toUpperCase();
-			if (becZoneToIndexMap.containsKey(becZoneUC)) {
-				return becZoneToIndexMap.get(becZoneUC);
+			BecZone result = becZoneToIndexMap.get(becZone);
+			if (result == null) {
+				result = becZoneToIndexMap.get(becZone.toUpperCase());
+			}
+			if (result != null) {
+				return result;
 			}
 		}
 
@@ -79,11 +83,7 @@ public class BecZoneMethods {
 	 */
 	public static String becZoneToCode(BecZone becZone) {
 
-		if (enumToBecZoneMap.containsKey(becZone)) {
-			return enumToBecZoneMap.get(becZone);
-		} else {
-			return UNKNOWN_BEC_ZONE_TEXT;
-		}
+		return enumToBecZoneMap.getOrDefault(becZone, UNKNOWN_BEC_ZONE_TEXT);
 	}
 
 	/**
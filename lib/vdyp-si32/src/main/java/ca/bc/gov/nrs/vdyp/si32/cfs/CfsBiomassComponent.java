@@ -0,0 +1,21 @@
+package ca.bc.gov.nrs.vdyp.si32.cfs;
+
+/**
+ * The components of the above ground live tree biomass of a stand computed by the CFS Biomass conversion (Boudewyn et
+ * al. 2007). The components are disjoint, so their sum is the total above ground biomass. All are in tonnes per
+ * hectare.
+ */
+public enum CfsBiomassComponent {
+	/** Stem wood of merchantable sized trees, between the stump and the top diameter */
+	MERCHANTABLE_STEMWOOD,
+	/** Stem wood of merchantable sized trees outside the merchantable stem, and of non-merchantable trees */
+	NON_MERCHANTABLE_STEMWOOD,
+	/** Stem wood of saplings */
+	SAPLING_STEMWOOD,
+	/** Bark of the stems of all trees */
+	STEMBARK,
+	/** Branches of all trees */
+	BRANCHES,
+	/** Foliage of all trees */
+	FOLIAGE;
+}
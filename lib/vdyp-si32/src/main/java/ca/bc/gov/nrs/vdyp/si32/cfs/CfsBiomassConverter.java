@@ -0,0 +1,291 @@
+package ca.bc.gov.nrs.vdyp.si32.cfs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesConversionTable;
+
+/**
+ * Converts the merchantable volume of projected stands to above ground live tree biomass, using the CFS model of
+ * Boudewyn et al. (2007) with the coefficients of {@link CfsBiomassConversionCoefficientsForSpecies}, falling back to
+ * those of {@link CfsBiomassConversionCoefficientsForGenus} for species that have none of their own in the eco zone.
+ * <p>
+ * The coefficients are copied once from those tables into one array per parameter, indexed by
+ * {@link SP64Name#ordinal()}, and the conversion of a set of rows is done in a series of passes over arrays of floats,
+ * one for each step of the model, so that converting the yields of many polygons at once costs little more than the
+ * arithmetic.
+ * <p>
+ * The volume converted is the gross close utilization volume of all utilization classes of each species of each layer,
+ * and the coefficients used are those of the leading sp64 species of the genus.
+ */
+public class CfsBiomassConverter {
+
+	private static final int NUMBER_OF_PARMS = CfsLiveConversionParams.size();
+
+	/** Indexed by eco zone offset, then CfsLiveConversionParams offset, then SP64Name.ordinal() */
+	private static final float[][][] coefficients;
+	/** Indexed by eco zone offset and then SP64Name.ordinal() */
+	private static final boolean[][] hasCoefficients;
+
+	static {
+		int nSpecies = SP64Name.values().length;
+		int nEcoZones = CfsBiomassConversionSupportedEcoZone.size();
+
+		coefficients = new float[nEcoZones][NUMBER_OF_PARMS][nSpecies];
+		hasCoefficients = new boolean[nEcoZones][nSpecies];
+
+		for (int z = 0; z < nEcoZones; z++) {
+			for (SP64Name sp64Name : SP64Name.values()) {
+				CfsBiomassConversionCoefficientsDetails details = null;
+
+				var species = SpeciesConversionTable.getCfsBiomassSpecies(sp64Name);
+				if (species != CfsBiomassConversionSupportedSpecies.UNKNOWN) {
+					details = CfsBiomassConversionCoefficientsForSpecies.get(z, species.getOffset());
+				}
+				if (details == null || !details.containsData()) {
+					var genus = getCfsBiomassGenus(sp64Name);
+					details = genus == CfsBiomassConversionSupportedGenera.INVALID ? null
+							: CfsBiomassConversionCoefficientsForGenus.get(z, genus.getOffset());
+				}
+
+				if (details != null && details.containsData()) {
+					hasCoefficients[z][sp64Name.ordinal()] = true;
+					for (int p = 0; p < NUMBER_OF_PARMS; p++) {
+						coefficients[z][p][sp64Name.ordinal()] = details.parms()[p];
+					}
+				}
+			}
+		}
+	}
+
+	private CfsBiomassConverter() {
+	}
+
+	/**
+	 * The genus of {@link CfsBiomassConversionCoefficientsForGenus} to which a sp64 species belongs: the genus named by
+	 * the first two letters of its code if there is one, and otherwise that named by the first letter.
+	 *
+	 * @return the genus, or INVALID if there is none for the species.
+	 */
+	static CfsBiomassConversionSupportedGenera getCfsBiomassGenus(SP64Name sp64Name) {
+		if (sp64Name == SP64Name.UNKNOWN) {
+			return CfsBiomassConversionSupportedGenera.INVALID;
+		}
+		var code = sp64Name.getText();
+		for (int length = Math.min(2, code.length()); length > 0; length--) {
+			var prefix = code.substring(0, length);
+			for (var genus : CfsBiomassConversionSupportedGenera.values()) {
+				if (genus != CfsBiomassConversionSupportedGenera.INVALID && genus.name().equals(prefix)) {
+					return genus;
+				}
+			}
+		}
+		return CfsBiomassConversionSupportedGenera.INVALID;
+	}
+
+	/**
+	 * @return true if and only if the species can be converted in the eco zone.
+	 */
+	public static boolean hasCoefficients(CfsBiomassConversionSupportedEcoZone ecoZone, SP64Name sp64Name) {
+		return hasCoefficients[ecoZone.getOffset()][sp64Name.ordinal()];
+	}
+
+	/**
+	 * Convert the yields of a polygon.
+	 *
+	 * @param polygon the polygon, typically as projected to some year
+	 * @param ecoZone the CFS eco zone in which the polygon lies
+	 * @return one row for each species of each layer of the polygon
+	 */
+	public static CfsBiomassYield convert(VdypPolygon polygon, CfsBiomassConversionSupportedEcoZone ecoZone) {
+		return convert(List.of(polygon), ecoZone);
+	}
+
+	/**
+	 * Convert the yields of a collection of polygons in one pass.
+	 *
+	 * @param polygons the polygons, typically as projected to some year
+	 * @param ecoZone  the CFS eco zone in which the polygons lie
+	 * @return one row for each species of each layer of each polygon, in the order of the polygons
+	 */
+	public static CfsBiomassYield
+			convert(Collection<VdypPolygon> polygons, CfsBiomassConversionSupportedEcoZone ecoZone) {
+
+		List<VdypSpecies> species = new ArrayList<>();
+		for (var polygon : polygons) {
+			for (var layer : polygon.getLayers().values()) {
+				species.addAll(layer.getSpecies().values());
+			}
+		}
+
+		int n = species.size();
+		var polygonIdentifiers = new PolygonIdentifier[n];
+		var layerTypes = new LayerType[n];
+		var genera = new String[n];
+		var sp64Names = new SP64Name[n];
+		var volumes = new float[n];
+
+		for (int i = 0; i < n; i++) {
+			var s = species.get(i);
+			polygonIdentifiers[i] = s.getPolygonIdentifier();
+			layerTypes[i] = s.getLayerType();
+			genera[i] = s.getGenus();
+			sp64Names[i] = leadingSp64Name(s);
+			volumes[i] = s.getCloseUtilizationVolumeByUtilization().getAll();
+		}
+
+		var columns = new float[CfsBiomassComponent.values().length][n];
+		convert(ecoZone, sp64Names, volumes, columns);
+
+		return new CfsBiomassYield(polygonIdentifiers, layerTypes, genera, sp64Names, volumes, columns);
+	}
+
+	private static SP64Name leadingSp64Name(VdypSpecies species) {
+		var distributions = species.getSp64DistributionSet().getSp64DistributionList();
+		var alias = distributions.isEmpty() ? species.getGenus() : distributions.get(0).getGenusAlias();
+		return SP64Name.forText(alias);
+	}
+
+	/**
+	 * Convert merchantable volumes to biomass.
+	 *
+	 * @param ecoZone   the CFS eco zone of the stands
+	 * @param sp64Names the species of each row
+	 * @param volumes   the gross merchantable volume (m<sup>3</sup>/ha) of each row
+	 * @param columns   receives the biomass (t/ha); indexed by {@link CfsBiomassComponent#ordinal()} and then row, with
+	 *                  at least as many rows as <code>volumes</code>. The values of rows whose species cannot be
+	 *                  converted are set to NaN.
+	 */
+	public static void convert(
+			CfsBiomassConversionSupportedEcoZone ecoZone, SP64Name[] sp64Names, float[] volumes, float[][] columns
+	) {
+		int n = volumes.length;
+		float[][] parms = coefficients[ecoZone.getOffset()];
+		boolean[] converts = hasCoefficients[ecoZone.getOffset()];
+
+		var index = new int[n];
+		for (int i = 0; i < n; i++) {
+			index[i] = sp64Names[i].ordinal();
+		}
+
+		float[] merch = columns[CfsBiomassComponent.MERCHANTABLE_STEMWOOD.ordinal()];
+		float[] nonMerch = columns[CfsBiomassComponent.NON_MERCHANTABLE_STEMWOOD.ordinal()];
+		float[] sapling = columns[CfsBiomassComponent.SAPLING_STEMWOOD.ordinal()];
+		float[] bark = columns[CfsBiomassComponent.STEMBARK.ordinal()];
+		float[] branches = columns[CfsBiomassComponent.BRANCHES.ordinal()];
+		float[] foliage = columns[CfsBiomassComponent.FOLIAGE.ordinal()];
+
+		// Merchantable stem wood: b_m = A * V^B
+		float[] a = parms[CfsLiveConversionParams.A.getOffset()];
+		float[] b = parms[CfsLiveConversionParams.B.getOffset()];
+		for (int i = 0; i < n; i++) {
+			int s = index[i];
+			merch[i] = volumes[i] > 0.0f ? a[s] * (float) Math.pow(volumes[i], b[s]) : 0.0f;
+		}
+
+		// Stem wood of merchantable and non-merchantable trees: b_n = min(k + a * b_m^b, cap) * b_m. The
+		// non-merchantable column holds b_n until the last pass.
+		stemwoodFactor(
+				n, index, merch, nonMerch, parms[CfsLiveConversionParams.A_NONMERCH.getOffset()],
+				parms[CfsLiveConversionParams.B_NONMERCH.getOffset()],
+				parms[CfsLiveConversionParams.K_NONMERCH.getOffset()],
+				parms[CfsLiveConversionParams.CAP_NONMERCH.getOffset()]
+		);
+
+		// Stem wood of all trees including saplings: b_s = min(k + a * b_n^b, cap) * b_n. The sapling column holds
+		// b_s until the last pass.
+		stemwoodFactor(
+				n, index, nonMerch, sapling, parms[CfsLiveConversionParams.A_SAP.getOffset()],
+				parms[CfsLiveConversionParams.B_SAP.getOffset()], parms[CfsLiveConversionParams.K_SAP.getOffset()],
+				parms[CfsLiveConversionParams.CAP_SAP.getOffset()]
+		);
+
+		// Proportions of the total biomass in stem wood, bark, branches and foliage. The bark, branches and foliage
+		// columns hold the proportions until the last pass.
+		float[] stemwoodProportion = new float[n];
+		proportions(n, index, volumes, parms, stemwoodProportion, bark, branches, foliage);
+
+		for (int i = 0; i < n; i++) {
+			if (!converts[index[i]]) {
+				merch[i] = nonMerch[i] = sapling[i] = bark[i] = branches[i] = foliage[i] = Float.NaN;
+				continue;
+			}
+			float stemwood = sapling[i];
+			float total = stemwoodProportion[i] > 0.0f ? stemwood / stemwoodProportion[i] : 0.0f;
+
+			sapling[i] = stemwood - nonMerch[i];
+			nonMerch[i] = nonMerch[i] - merch[i];
+			bark[i] = total * bark[i];
+			branches[i] = total * branches[i];
+			foliage[i] = total * foliage[i];
+		}
+	}
+
+	private static void
+			stemwoodFactor(int n, int[] index, float[] from, float[] to, float[] a, float[] b, float[] k, float[] cap) {
+		for (int i = 0; i < n; i++) {
+			int s = index[i];
+			float factor = from[i] > 0.0f ? k[s] + a[s] * (float) Math.pow(from[i], b[s]) : k[s];
+			to[i] = Math.min(factor, cap[s]) * from[i];
+		}
+	}
+
+	private static void proportions(
+			int n, int[] index, float[] volumes, float[][] parms, float[] stemwood, float[] bark, float[] branches,
+			float[] foliage
+	) {
+		float[] a1 = parms[CfsLiveConversionParams.A1.getOffset()];
+		float[] a2 = parms[CfsLiveConversionParams.A2.getOffset()];
+		float[] a3 = parms[CfsLiveConversionParams.A3.getOffset()];
+		float[] b1 = parms[CfsLiveConversionParams.B1.getOffset()];
+		float[] b2 = parms[CfsLiveConversionParams.B2.getOffset()];
+		float[] b3 = parms[CfsLiveConversionParams.B3.getOffset()];
+		float[] c1 = parms[CfsLiveConversionParams.C1.getOffset()];
+		float[] c2 = parms[CfsLiveConversionParams.C2.getOffset()];
+		float[] c3 = parms[CfsLiveConversionParams.C3.getOffset()];
+		float[] minVolume = parms[CfsLiveConversionParams.MIN_VOLUME.getOffset()];
+		float[] maxVolume = parms[CfsLiveConversionParams.MAX_VOLUME.getOffset()];
+
+		for (int i = 0; i < n; i++) {
+			int s = index[i];
+			float v = volumes[i];
+			float lnV = (float) Math.log(v + 5.0f);
+			float eBark = (float) Math.exp(a1[s] + a2[s] * v + a3[s] * lnV);
+			float eBranches = (float) Math.exp(b1[s] + b2[s] * v + b3[s] * lnV);
+			float eFoliage = (float) Math.exp(c1[s] + c2[s] * v + c3[s] * lnV);
+			float p = 1.0f / (1.0f + eBark + eBranches + eFoliage);
+
+			stemwood[i] = p;
+			bark[i] = eBark * p;
+			branches[i] = eBranches * p;
+			foliage[i] = eFoliage * p;
+
+			// Outside the range of volumes to which the model was fitted, the proportions are fixed.
+			if (v < minVolume[s]) {
+				fixedProportions(i, s, parms, stemwood, bark, branches, foliage, true);
+			} else if (v > maxVolume[s]) {
+				fixedProportions(i, s, parms, stemwood, bark, branches, foliage, false);
+			}
+		}
+	}
+
+	private static void fixedProportions(
+			int i, int s, float[][] parms, float[] stemwood, float[] bark, float[] branches, float[] foliage,
+			boolean low
+	) {
+		stemwood[i] = parms[ (low ? CfsLiveConversionParams.LOW_STEMWOOD_PROP
+				: CfsLiveConversionParams.HIGH_STEMWOOD_PROP).getOffset()][s];
+		bark[i] = parms[ (low ? CfsLiveConversionParams.LOW_STEMBARK_PROP : CfsLiveConversionParams.HIGH_STEMBARK_PROP)
+				.getOffset()][s];
+		branches[i] = parms[ (low ? CfsLiveConversionParams.LOW_BRANCHES_PROP
+				: CfsLiveConversionParams.HIGH_BRANCHES_PROP).getOffset()][s];
+		foliage[i] = parms[ (low ? CfsLiveConversionParams.LOW_FOLIAGE_PROP : CfsLiveConversionParams.HIGH_FOLIAGE_PROP)
+				.getOffset()][s];
+	}
+}
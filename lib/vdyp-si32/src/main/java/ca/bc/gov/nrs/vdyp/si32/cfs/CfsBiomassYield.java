@@ -0,0 +1,109 @@
+package ca.bc.gov.nrs.vdyp.si32.cfs;
+
+import java.util.Arrays;
+
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+
+/**
+ * The biomass computed by {@link CfsBiomassConverter} for a set of polygons. There is one row for each species of each
+ * layer of the polygons, and one column for each {@link CfsBiomassComponent}. The values of a row whose species has no
+ * conversion coefficients in the eco zone of the conversion are NaN.
+ */
+public class CfsBiomassYield {
+
+	private final PolygonIdentifier[] polygonIdentifiers;
+	private final LayerType[] layerTypes;
+	private final String[] genera;
+	private final SP64Name[] sp64Names;
+	private final float[] volumes;
+	/** Indexed by CfsBiomassComponent.ordinal() and then row */
+	private final float[][] columns;
+
+	CfsBiomassYield(
+			PolygonIdentifier[] polygonIdentifiers, LayerType[] layerTypes, String[] genera, SP64Name[] sp64Names,
+			float[] volumes, float[][] columns
+	) {
+		this.polygonIdentifiers = polygonIdentifiers;
+		this.layerTypes = layerTypes;
+		this.genera = genera;
+		this.sp64Names = sp64Names;
+		this.volumes = volumes;
+		this.columns = columns;
+	}
+
+	/**
+	 * @return the number of rows
+	 */
+	public int size() {
+		return volumes.length;
+	}
+
+	public PolygonIdentifier getPolygonIdentifier(int row) {
+		return polygonIdentifiers[row];
+	}
+
+	public LayerType getLayerType(int row) {
+		return layerTypes[row];
+	}
+
+	/**
+	 * @return the genus (sp0) of the species of the row
+	 */
+	public String getGenus(int row) {
+		return genera[row];
+	}
+
+	/**
+	 * @return the sp64 species whose coefficients were used for the row: the leading sp64 species of the genus.
+	 */
+	public SP64Name getSp64Name(int row) {
+		return sp64Names[row];
+	}
+
+	/**
+	 * @return the merchantable volume (m<sup>3</sup>/ha) converted to biomass in the row
+	 */
+	public float getVolume(int row) {
+		return volumes[row];
+	}
+
+	/**
+	 * @return the biomass (t/ha) of the given component in the given row
+	 */
+	public float get(CfsBiomassComponent component, int row) {
+		return columns[component.ordinal()][row];
+	}
+
+	/**
+	 * @return a copy of the column of the given component
+	 */
+	public float[] getColumn(CfsBiomassComponent component) {
+		return Arrays.copyOf(columns[component.ordinal()], size());
+	}
+
+	/**
+	 * @return the total biomass (t/ha) of all components in the given row
+	 */
+	public float getTotal(int row) {
+		float total = 0.0f;
+		for (float[] column : columns) {
+			total += column[row];
+		}
+		return total;
+	}
+
+	/**
+	 * @return the sum of the biomass (t/ha) of the given component over the rows that could be converted
+	 */
+	public float getTotal(CfsBiomassComponent component) {
+		float total = 0.0f;
+		for (float value : columns[component.ordinal()]) {
+			if (!Float.isNaN(value)) {
+				total += value;
+			}
+		}
+		return total;
+	}
+}
@@ -220,6 +220,16 @@ public enum CfsTreeSpecies implements SI32Enum<CfsTreeSpecies> {
 	HARDWOOD_TOLERANT(181, 4000, "Tolerant hardwoods", CfsTreeGenus.UNSPECIFIED_BROAD_LEAVES),
 	HARDWOOD_INTOLERANT(182, 5000, "Intolerant hardwoods", CfsTreeGenus.UNSPECIFIED_BROAD_LEAVES);
 
+	/** Every constant, at its index plus one */
+	private static final CfsTreeSpecies[] byIndex;
+
+	static {
+		byIndex = new CfsTreeSpecies[HARDWOOD_INTOLERANT.index + 2];
+		for (CfsTreeSpecies e : values()) {
+			byIndex[e.index + 1] = e;
+		}
+	}
+
 	private final int index;
 	private final int cfsSpeciesNumber;
 	private final String cfsSpeciesName;
@@ -279,9 +289,8 @@ public enum CfsTreeSpecies implements SI32Enum<CfsTreeSpecies> {
 	 *         <code>null</code> is returned.
 	 */
 	public static CfsTreeSpecies forIndex(int index) {
-		for (CfsTreeSpecies e : CfsTreeSpecies.values()) {
-			if (index == e.index)
-				return e;
+		if (index >= -1 && index + 1 < byIndex.length) {
+			return byIndex[index + 1];
 		}
 
 		return null;
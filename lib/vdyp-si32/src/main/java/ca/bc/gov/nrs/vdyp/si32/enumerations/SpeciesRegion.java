@@ -1,8 +1,5 @@
 package ca.bc.gov.nrs.vdyp.si32.enumerations;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import ca.bc.gov.nrs.vdyp.model.EnumIterator;
 
 /**
@@ -17,20 +14,13 @@ public enum SpeciesRegion implements SI32Enum<SpeciesRegion> {
 	COAST(0), //
 	INTERIOR(1);
 
-	private static Map<Integer, SpeciesRegion> index2EnumMap = null;
-
-	private static synchronized Map<Integer, SpeciesRegion> getMappings() {
-		if (index2EnumMap == null) {
-			index2EnumMap = new HashMap<>();
-		}
-		return index2EnumMap;
-	}
+	/** Every constant, at its index */
+	private static final SpeciesRegion[] byIndex = { COAST, INTERIOR };
 
 	private final int index;
 
 	private SpeciesRegion(int index) {
 		this.index = index;
-		getMappings().put(index, this);
 	}
 
 	@Override
@@ -56,7 +46,11 @@ public enum SpeciesRegion implements SI32Enum<SpeciesRegion> {
 	 *         <code>null</code> is returned.
 	 */
 	public static SpeciesRegion forIndex(int index) {
-		return index2EnumMap.get(index);
+		if (index >= 0 && index < byIndex.length) {
+			return byIndex[index];
+		}
+
+		return null;
 	}
 
 	/**
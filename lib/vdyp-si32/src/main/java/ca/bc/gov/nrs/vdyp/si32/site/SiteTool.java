@@ -22,6 +22,8 @@ import ca.bc.gov.nrs.vdyp.si32.cfs.CfsSpeciesMethods;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsTreeSpecies;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SiteCurveConfiguration;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesConversionTable;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
 
@@ -41,87 +43,7 @@ public class SiteTool {
 	 */
 	public static CfsBiomassConversionSupportedSpecies lcl_MoFSP64ToCFSSpecies(String spcsNm) {
 
-		SP64Name sp64Name = SP64Name.forText(spcsNm);
-
-		switch (sp64Name) {
-		case AC:
-			return CfsBiomassConversionSupportedSpecies.AC;
-		case ACB:
-			return CfsBiomassConversionSupportedSpecies.ACB;
-		case AT:
-			return CfsBiomassConversionSupportedSpecies.AT;
-		case B:
-			return CfsBiomassConversionSupportedSpecies.B;
-		case BA:
-			return CfsBiomassConversionSupportedSpecies.BA;
-		case BG:
-			return CfsBiomassConversionSupportedSpecies.BG;
-		case BL:
-			return CfsBiomassConversionSupportedSpecies.BL;
-		case CW:
-			return CfsBiomassConversionSupportedSpecies.CW;
-		case DR:
-			return CfsBiomassConversionSupportedSpecies.DR;
-		case EA:
-			return CfsBiomassConversionSupportedSpecies.EA;
-		case EP:
-			return CfsBiomassConversionSupportedSpecies.EP;
-		case EXP:
-			return CfsBiomassConversionSupportedSpecies.EXP;
-		case FD:
-			return CfsBiomassConversionSupportedSpecies.FD;
-		case FDC:
-			return CfsBiomassConversionSupportedSpecies.FDC;
-		case FDI:
-			return CfsBiomassConversionSupportedSpecies.FDI;
-		case H:
-			return CfsBiomassConversionSupportedSpecies.H;
-		case HM:
-			return CfsBiomassConversionSupportedSpecies.HM;
-		case HW:
-			return CfsBiomassConversionSupportedSpecies.HW;
-		case L:
-			return CfsBiomassConversionSupportedSpecies.L;
-		case LA:
-			return CfsBiomassConversionSupportedSpecies.LA;
-		case LT:
-			return CfsBiomassConversionSupportedSpecies.LT;
-		case LW:
-			return CfsBiomassConversionSupportedSpecies.LW;
-		case MB:
-			return CfsBiomassConversionSupportedSpecies.MB;
-		case PA:
-			return CfsBiomassConversionSupportedSpecies.PA;
-		case PL:
-		case PLI:
-			return CfsBiomassConversionSupportedSpecies.PL;
-		case PLC:
-			return CfsBiomassConversionSupportedSpecies.PLC;
-		case PW:
-			return CfsBiomassConversionSupportedSpecies.PW;
-		case PY:
-			return CfsBiomassConversionSupportedSpecies.PY;
-		case S:
-			return CfsBiomassConversionSupportedSpecies.S;
-		case SB:
-			return CfsBiomassConversionSupportedSpecies.SB;
-		case SE:
-			return CfsBiomassConversionSupportedSpecies.SE;
-		case SS:
-			return CfsBiomassConversionSupportedSpecies.SS;
-		case SW:
-			return CfsBiomassConversionSupportedSpecies.SW;
-		case SX:
-			return CfsBiomassConversionSupportedSpecies.SX;
-		case W:
-			return CfsBiomassConversionSupportedSpecies.W;
-		case X:
-			return CfsBiomassConversionSupportedSpecies.XC;
-		case YC:
-			return CfsBiomassConversionSupportedSpecies.YC;
-		default:
-			return CfsBiomassConversionSupportedSpecies.UNKNOWN;
-		}
+		return SpeciesConversionTable.getCfsBiomassSpecies(SP64Name.forText(spcsNm));
 	}
 
 	/**
@@ -296,7 +218,7 @@ public class SiteTool {
 	public static CfsTreeSpecies getSpeciesCFSSpcs(String sp64CodeName) {
 
 		// Note that if spName is not a recognized species name, the correct default value is returned.
-		return VdypMethods.speciesTable.getByCode(sp64CodeName).details().cfsSpecies();
+		return SpeciesConversionTable.getCfsSpecies(SP64Name.forText(sp64CodeName));
 	}
 
 	/**
@@ -569,6 +491,42 @@ public class SiteTool {
 		return VdypMethods.getCurrentSICurve(sp64CodeName, isCoastal ? SpeciesRegion.COAST : SpeciesRegion.INTERIOR);
 	}
 
+	/**
+	 * Maps a Species code name to the SI Curve assigned to it by the given configuration.
+	 *
+	 * @param configuration the curve assignments of the run
+	 * @param sp64CodeName  the species short ("code") name.
+	 * @param isCoastal     <code>true</code> if coastal, <code>false</code> if interior.
+	 * @return the SiteIndexEquation number for the species, or SiteIndexEquation.SI_NO_EQUATION if the species was not
+	 *         recognized.
+	 */
+	public static SiteIndexEquation
+			getSICurve(SiteCurveConfiguration configuration, String sp64CodeName, boolean isCoastal) {
+
+		return VdypMethods.getCurrentSICurve(
+				configuration, sp64CodeName, isCoastal ? SpeciesRegion.COAST : SpeciesRegion.INTERIOR
+		);
+	}
+
+	/**
+	 * Derives a configuration from the given one in which a particular species uses the given Site Index curve. The
+	 * given configuration is not changed, so runs using it are not affected.
+	 *
+	 * @param configuration the configuration to derive from
+	 * @param sp64CodeName  the short ("code") name of the species.
+	 * @param coastalInd    if <code>true</code>, the Coastal region is used and otherwise Interior is used.
+	 * @param siCurve       the site index curve to use for the specified species. SI_NO_EQUATION resets the curve to
+	 *                      the default.
+	 * @return the new configuration
+	 */
+	public static SiteCurveConfiguration withSICurve(
+			SiteCurveConfiguration configuration, String sp64CodeName, boolean coastalInd, SiteIndexEquation siCurve
+	) {
+
+		return configuration
+				.withCurve(sp64CodeName, coastalInd ? SpeciesRegion.COAST : SpeciesRegion.INTERIOR, siCurve);
+	}
+
 	/**
 	 * Converts a SI Curve number to a Species code name, or "" if the SI Curve number is not recognized.
 	 *
@@ -1,6 +1,8 @@
 package ca.bc.gov.nrs.vdyp.si32.vdyp;
 
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
 
 import ca.bc.gov.nrs.vdyp.model.EnumIterator;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SI32Enum;
@@ -28,6 +30,21 @@ public enum SP0Name implements SI32Enum<SP0Name> {
 	S(14), //
 	Y(15);
 
+	/** Every constant, keyed by its name */
+	private static final Map<String, SP0Name> byText;
+	/** Every constant, at its index plus one */
+	private static final SP0Name[] byIndex;
+
+	static {
+		Map<String, SP0Name> map = new HashMap<>();
+		byIndex = new SP0Name[Y.index + 2];
+		for (SP0Name e : values()) {
+			map.put(e.name(), e);
+			byIndex[e.index + 1] = e;
+		}
+		byText = Map.copyOf(map);
+	}
+
 	private final int index;
 
 	private SP0Name(int index) {
@@ -68,11 +85,17 @@ public enum SP0Name implements SI32Enum<SP0Name> {
 	 * @return the enumeration value, unless <code>text</code> is null or
 	 */
 	public static SP0Name forText(String text) {
-		try {
-			return valueOf("" + text.toUpperCase());
-		} catch (IllegalArgumentException | NullPointerException e) {
-			return UNKNOWN;
+		if (text != null) {
+			SP0Name e = byText.get(text);
+			if (e == null) {
+				e = byText.get(text.toUpperCase());
+			}
+			if (e != null) {
+				return e;
+			}
 		}
+
+		return UNKNOWN;
 	}
 
 	/**
@@ -83,9 +106,8 @@ public enum SP0Name implements SI32Enum<SP0Name> {
 	 *         <code>null</code> is returned.
 	 */
 	public static SP0Name forIndex(int index) {
-		for (SP0Name e : SP0Name.values()) {
-			if (index == e.index)
-				return e;
+		if (index >= -1 && index + 1 < byIndex.length) {
+			return byIndex[index + 1];
 		}
 
 		return null;
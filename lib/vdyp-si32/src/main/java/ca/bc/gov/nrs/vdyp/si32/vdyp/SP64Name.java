@@ -1,6 +1,8 @@
 package ca.bc.gov.nrs.vdyp.si32.vdyp;
 
 import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
 
 import ca.bc.gov.nrs.vdyp.model.EnumIterator;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SI32Enum;
@@ -157,6 +159,21 @@ public enum SP64Name implements SI32Enum<SP64Name> {
 	ZC(141), //
 	ZH(142);
 
+	/** Every constant, keyed by its name */
+	private static final Map<String, SP64Name> byText;
+	/** Every constant, at its index */
+	private static final SP64Name[] byIndex;
+
+	static {
+		Map<String, SP64Name> map = new HashMap<>();
+		byIndex = new SP64Name[ZH.index + 1];
+		for (SP64Name e : values()) {
+			map.put(e.name(), e);
+			byIndex[e.index] = e;
+		}
+		byText = Map.copyOf(map);
+	}
+
 	private final int index;
 
 	private SP64Name(int index) {
@@ -199,14 +216,16 @@ public enum SP64Name implements SI32Enum<SP64Name> {
 	public static SP64Name forText(String text) {
 
 		if (text != null) {
-			try {
-				return valueOf(SP64Name.class, text.toUpperCase());
-			} catch (IllegalArgumentException e) {
-				return UNKNOWN;
+			SP64Name e = byText.get(text);
+			if (e == null) {
+				e = byText.get(text.toUpperCase());
+			}
+			if (e != null) {
+				return e;
 			}
-		} else {
-			return UNKNOWN;
 		}
+
+		return UNKNOWN;
 	}
 
 	/**
@@ -217,9 +236,8 @@ public enum SP64Name implements SI32Enum<SP64Name> {
 	 *         <code>null</code> is returned.
 	 */
 	public static SP64Name forIndex(int index) {
-		for (SP64Name e : SP64Name.values()) {
-			if (index == e.index)
-				return e;
+		if (index >= 0 && index < byIndex.length) {
+			return byIndex[index];
 		}
 
 		return null;
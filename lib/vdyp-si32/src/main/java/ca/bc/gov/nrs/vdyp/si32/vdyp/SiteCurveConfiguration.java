@@ -0,0 +1,109 @@
+package ca.bc.gov.nrs.vdyp.si32.vdyp;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+/**
+ * The Site Index curve assigned to each sp64 species in each {@link SpeciesRegion}. Instances are immutable and so may
+ * be shared between threads; a run that needs different curves for some species derives its own configuration from
+ * {@link #DEFAULT} with {@link #withCurve}, which copies only the entry of the species changed.
+ */
+public final class SiteCurveConfiguration {
+
+	/**
+	 * The SINDEX default curve of every species in every region.
+	 */
+	public static final SiteCurveConfiguration DEFAULT = new SiteCurveConfiguration(defaultCurves());
+
+	/** Indexed by SP64Name.ordinal() and then SpeciesRegion.ordinal() */
+	private final SiteIndexEquation[][] curves;
+
+	private SiteCurveConfiguration(SiteIndexEquation[][] curves) {
+		this.curves = curves;
+	}
+
+	private static SiteIndexEquation[][] defaultCurves() {
+		var curves = new SiteIndexEquation[SP64Name.values().length][SpeciesRegion.values().length];
+		for (var sp64Name : SP64Name.values()) {
+			for (var region : SpeciesRegion.values()) {
+				curves[sp64Name.ordinal()][region.ordinal()] = sp64Name == SP64Name.UNKNOWN
+						? SiteIndexEquation.SI_NO_EQUATION : sindexDefaultCurve(sp64Name.getText(), region);
+			}
+		}
+		return curves;
+	}
+
+	/**
+	 * Look up the default curve of a species in SINDEX.
+	 *
+	 * @return the curve, or SI_NO_EQUATION if SINDEX does not recognize the species
+	 */
+	static SiteIndexEquation sindexDefaultCurve(String sp64Name, SpeciesRegion region) {
+		try {
+			SiteIndexSpecies sindexSpcs = Sindxdll.SpecRemap(sp64Name, region == SpeciesRegion.COAST ? 'A' : 'D');
+			return Sindxdll.DefCurve(sindexSpcs);
+		} catch (CommonCalculatorException e) {
+			return SiteIndexEquation.SI_NO_EQUATION;
+		}
+	}
+
+	/**
+	 * Returns the Site Index curve assigned to a species.
+	 *
+	 * @param sp64Name the species short ("code") name such as "ABAL"
+	 * @param region   the region under consideration
+	 * @return the curve, or SI_NO_EQUATION if the species or region was not recognized.
+	 */
+	public SiteIndexEquation getCurve(String sp64Name, SpeciesRegion region) {
+		if (sp64Name == null || region == null) {
+			return SiteIndexEquation.SI_NO_EQUATION;
+		}
+		var sp64 = SP64Name.forText(sp64Name);
+		if (sp64 == SP64Name.UNKNOWN) {
+			// Not in the species table, but SINDEX may still know it
+			return sindexDefaultCurve(sp64Name, region);
+		}
+		return getCurve(sp64, region);
+	}
+
+	/**
+	 * Returns the Site Index curve assigned to a species.
+	 *
+	 * @param sp64Name the species
+	 * @param region   the region under consideration
+	 * @return the curve, or SI_NO_EQUATION if no curve is assigned to the species in the region.
+	 */
+	public SiteIndexEquation getCurve(SP64Name sp64Name, SpeciesRegion region) {
+		return curves[sp64Name.ordinal()][region.ordinal()];
+	}
+
+	/**
+	 * Returns a configuration that is the same as this one except that the given species uses the given curve in the
+	 * given region.
+	 *
+	 * @param sp64Name the species short ("code") name such as "ABAL"
+	 * @param region   the region under consideration
+	 * @param siCurve  the curve to use. SI_NO_EQUATION restores the SINDEX default curve of the species.
+	 * @return the new configuration, or this configuration if the species or region was not recognized.
+	 */
+	public SiteCurveConfiguration withCurve(String sp64Name, SpeciesRegion region, SiteIndexEquation siCurve) {
+		var sp64 = SP64Name.forText(sp64Name);
+		if (sp64 == SP64Name.UNKNOWN || region == null) {
+			return this;
+		}
+		if (siCurve == SiteIndexEquation.SI_NO_EQUATION) {
+			siCurve = DEFAULT.getCurve(sp64, region);
+		}
+		if (curves[sp64.ordinal()][region.ordinal()] == siCurve) {
+			return this;
+		}
+
+		var newCurves = curves.clone();
+		newCurves[sp64.ordinal()] = curves[sp64.ordinal()].clone();
+		newCurves[sp64.ordinal()][region.ordinal()] = siCurve;
+		return new SiteCurveConfiguration(newCurves);
+	}
+}
@@ -0,0 +1,181 @@
+package ca.bc.gov.nrs.vdyp.si32.vdyp;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CodeErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ForestInventoryZoneException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsTreeSpecies;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+/**
+ * The conversions of each sp64 species to the other species classifications, computed once and indexed by
+ * {@link SP64Name#ordinal()}. Converting a species given as an {@link SP64Name} is then an array load; the methods of
+ * {@link VdypMethods} and {@code SiteTool} that take a species code look the code up once and use these tables.
+ * <p>
+ * The entry for {@link SP64Name#UNKNOWN} holds the value those methods return for an unrecognized species.
+ */
+public final class SpeciesConversionTable {
+
+	private static final SP0Name[] sp0Names;
+	private static final CfsTreeSpecies[] cfsSpecies;
+	private static final CfsBiomassConversionSupportedSpecies[] cfsBiomassSpecies;
+	/** Indexed by SP64Name.ordinal() and then SpeciesRegion.ordinal() */
+	private static final String[][] sindexSpecies;
+
+	static {
+		int n = SP64Name.values().length;
+		sp0Names = new SP0Name[n];
+		cfsSpecies = new CfsTreeSpecies[n];
+		cfsBiomassSpecies = new CfsBiomassConversionSupportedSpecies[n];
+		sindexSpecies = new String[n][SpeciesRegion.values().length];
+
+		for (SP64Name sp64Name : SP64Name.values()) {
+			int i = sp64Name.ordinal();
+			SpeciesDetails details = VdypMethods.speciesTable.get(sp64Name).details();
+
+			sp0Names[i] = SP0Name.forText(details.sp0Name());
+			cfsSpecies[i] = details.cfsSpecies();
+			cfsBiomassSpecies[i] = mofSP64ToCfsBiomassSpecies(sp64Name);
+			for (SpeciesRegion region : SpeciesRegion.values()) {
+				sindexSpecies[i][region.ordinal()] = sp64Name == SP64Name.UNKNOWN ? ""
+						: lookUpSindexSpecies(sp64Name.getText(), region);
+			}
+		}
+	}
+
+	private SpeciesConversionTable() {
+	}
+
+	/**
+	 * @return the SP0 genus of the species, or UNKNOWN if the species is UNKNOWN.
+	 */
+	public static SP0Name getSP0Name(SP64Name sp64Name) {
+		return sp0Names[sp64Name.ordinal()];
+	}
+
+	/**
+	 * @return the CFS tree species corresponding to the species, or UNKNOWN if there is none.
+	 */
+	public static CfsTreeSpecies getCfsSpecies(SP64Name sp64Name) {
+		return cfsSpecies[sp64Name.ordinal()];
+	}
+
+	/**
+	 * @return the CFS biomass conversion species corresponding to the species, or UNKNOWN if there is none.
+	 */
+	public static CfsBiomassConversionSupportedSpecies getCfsBiomassSpecies(SP64Name sp64Name) {
+		return cfsBiomassSpecies[sp64Name.ordinal()];
+	}
+
+	/**
+	 * @return the SINDEX species code of the species in the region, or "" if SINDEX does not support the species.
+	 */
+	public static String getSindexSpecies(SP64Name sp64Name, SpeciesRegion region) {
+		return sindexSpecies[sp64Name.ordinal()][region.ordinal()];
+	}
+
+	/**
+	 * Ask SINDEX for the species code it uses for a species.
+	 *
+	 * @param speciesName the name of the species, which need not be a sp64 code
+	 * @param region      the region of the province
+	 * @return the SINDEX species code, or "" if SINDEX does not support the species.
+	 */
+	static String lookUpSindexSpecies(String speciesName, SpeciesRegion region) {
+
+		char fiz = region == SpeciesRegion.COAST ? 'A' : 'D';
+
+		SiteIndexSpecies s = SiteIndexSpecies.SI_NO_SPECIES;
+		try {
+			s = Sindxdll.SpecRemap(speciesName, fiz);
+		} catch (CodeErrorException | ForestInventoryZoneException e) {
+			// fall through
+		}
+
+		return s != SiteIndexSpecies.SI_NO_SPECIES ? Sindxdll.SpecCode(s) : "";
+	}
+
+	private static CfsBiomassConversionSupportedSpecies mofSP64ToCfsBiomassSpecies(SP64Name sp64Name) {
+
+		switch (sp64Name) {
+		case AC:
+			return CfsBiomassConversionSupportedSpecies.AC;
+		case ACB:
+			return CfsBiomassConversionSupportedSpecies.ACB;
+		case AT:
+			return CfsBiomassConversionSupportedSpecies.AT;
+		case B:
+			return CfsBiomassConversionSupportedSpecies.B;
+		case BA:
+			return CfsBiomassConversionSupportedSpecies.BA;
+		case BG:
+			return CfsBiomassConversionSupportedSpecies.BG;
+		case BL:
+			return CfsBiomassConversionSupportedSpecies.BL;
+		case CW:
+			return CfsBiomassConversionSupportedSpecies.CW;
+		case DR:
+			return CfsBiomassConversionSupportedSpecies.DR;
+		case EA:
+			return CfsBiomassConversionSupportedSpecies.EA;
+		case EP:
+			return CfsBiomassConversionSupportedSpecies.EP;
+		case EXP:
+			return CfsBiomassConversionSupportedSpecies.EXP;
+		case FD:
+			return CfsBiomassConversionSupportedSpecies.FD;
+		case FDC:
+			return CfsBiomassConversionSupportedSpecies.FDC;
+		case FDI:
+			return CfsBiomassConversionSupportedSpecies.FDI;
+		case H:
+			return CfsBiomassConversionSupportedSpecies.H;
+		case HM:
+			return CfsBiomassConversionSupportedSpecies.HM;
+		case HW:
+			return CfsBiomassConversionSupportedSpecies.HW;
+		case L:
+			return CfsBiomassConversionSupportedSpecies.L;
+		case LA:
+			return CfsBiomassConversionSupportedSpecies.LA;
+		case LT:
+			return CfsBiomassConversionSupportedSpecies.LT;
+		case LW:
+			return CfsBiomassConversionSupportedSpecies.LW;
+		case MB:
+			return CfsBiomassConversionSupportedSpecies.MB;
+		case PA:
+			return CfsBiomassConversionSupportedSpecies.PA;
+		case PL:
+		case PLI:
+			return CfsBiomassConversionSupportedSpecies.PL;
+		case PLC:
+			return CfsBiomassConversionSupportedSpecies.PLC;
+		case PW:
+			return CfsBiomassConversionSupportedSpecies.PW;
+		case PY:
+			return CfsBiomassConversionSupportedSpecies.PY;
+		case S:
+			return CfsBiomassConversionSupportedSpecies.S;
+		case SB:
+			return CfsBiomassConversionSupportedSpecies.SB;
+		case SE:
+			return CfsBiomassConversionSupportedSpecies.SE;
+		case SS:
+			return CfsBiomassConversionSupportedSpecies.SS;
+		case SW:
+			return CfsBiomassConversionSupportedSpecies.SW;
+		case SX:
+			return CfsBiomassConversionSupportedSpecies.SX;
+		case W:
+			return CfsBiomassConversionSupportedSpecies.W;
+		case X:
+			return CfsBiomassConversionSupportedSpecies.XC;
+		case YC:
+			return CfsBiomassConversionSupportedSpecies.YC;
+		default:
+			return CfsBiomassConversionSupportedSpecies.UNKNOWN;
+		}
+	}
+}
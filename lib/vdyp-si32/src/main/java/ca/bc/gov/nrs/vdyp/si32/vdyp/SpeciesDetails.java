@@ -2,7 +2,6 @@ package ca.bc.gov.nrs.vdyp.si32.vdyp;
 
 import java.text.MessageFormat;
 
-import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsTreeSpecies;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
 
@@ -60,14 +59,7 @@ public record SpeciesDetails(
 		 * Contains the default Crown Closure for a species in each of the {@link SpeciesRegion} regions of the
 		 * province, given by SpeciesRegion.ordinal().
 		 */
-		float[] defaultCrownClosure,
-
-		/**
-		 * For each {@link SpeciesRegion}, identifies the SINDEX curve number currently assigned to the species. In
-		 * certain applications, the standard curve number for a species may be modified to other experimental or
-		 * alternative curves rather than the standard curve.
-		 */
-		SiteIndexEquation[] currentSICurve
+		float[] defaultCrownClosure
 ) {
 	@Override
 	public String toString() {
@@ -4,15 +4,14 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CodeErrorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CurveErrorException;
-import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ForestInventoryZoneException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
@@ -25,7 +24,22 @@ public class VdypMethods {
 
 	private static final int SI_MAX_CURVES = 123;
 
-	public static SpeciesTable speciesTable = new SpeciesTable();
+	public static final SpeciesTable speciesTable = new SpeciesTable();
+
+	/**
+	 * The curves used by the methods that do not take a {@link SiteCurveConfiguration}. Runs that need curves of their
+	 * own should pass their own configuration instead of changing this one.
+	 */
+	private static final AtomicReference<SiteCurveConfiguration> siteCurveConfiguration = new AtomicReference<>(
+			SiteCurveConfiguration.DEFAULT
+	);
+
+	/**
+	 * @return the curves used by the methods that do not take a {@link SiteCurveConfiguration}.
+	 */
+	public static SiteCurveConfiguration getSiteCurveConfiguration() {
+		return siteCurveConfiguration.get();
+	}
 
 	/**
 	 * Returns the total number of defined species. One is subtracted one off of the size of the speciesTable because
@@ -167,40 +181,17 @@ public class VdypMethods {
 	 */
 	public static String getSINDEXSpecies(String speciesName, SpeciesRegion region) {
 
-		String speciesCode = "";
-
-		if (speciesName != null && region != null) {
-
-			char fiz;
-
-			switch (region) {
-			case COAST:
-				fiz = 'A';
-				break;
-			case INTERIOR:
-				fiz = 'D';
-				break;
-			default:
-				fiz = ' ';
-				break;
-			}
-
-			if (fiz != ' ') {
-				SiteIndexSpecies s = SiteIndexSpecies.SI_NO_SPECIES;
-
-				try {
-					s = Sindxdll.SpecRemap(speciesName, fiz);
-				} catch (CodeErrorException | ForestInventoryZoneException e) {
-					// fall through
-				}
+		if (speciesName == null || region == null) {
+			return "";
+		}
 
-				if (s != SiteIndexSpecies.SI_NO_SPECIES) {
-					speciesCode = Sindxdll.SpecCode(s);
-				}
-			}
+		SP64Name sp64Name = SP64Name.forText(speciesName);
+		if (sp64Name != SP64Name.UNKNOWN && sp64Name.getText().equals(speciesName)) {
+			return SpeciesConversionTable.getSindexSpecies(sp64Name, region);
 		}
 
-		return speciesCode;
+		// Not a sp64 code as written; SINDEX may still recognize it
+		return SpeciesConversionTable.lookUpSindexSpecies(speciesName, region);
 	}
 
 	/**
@@ -248,7 +239,9 @@ public class VdypMethods {
 	 * November 21, 1997 - Added a Coastal/Interior Differentiation for Hemlock.
 	 * <p>
 	 * The curves assigned to specific species may be reassigned through calls to 'VDYP_SetCurrentSICurve'. If no such
-	 * curve assignment has been made, the default curve from SINDEX will be returned.
+	 * curve assignment has been made, the default curve from SINDEX will be returned. The assignments are shared by
+	 * every caller in the JVM; see {@link #getCurrentSICurve(SiteCurveConfiguration, String, SpeciesRegion)} for
+	 * assignments that apply to one run only.
 	 *
 	 * @param sp64Name the species short ("code") name such as "ABAL"
 	 * @param region   the region under consideration
@@ -256,29 +249,21 @@ public class VdypMethods {
 	 *         was not recognized.
 	 */
 	public static SiteIndexEquation getCurrentSICurve(String sp64Name, SpeciesRegion region) {
+		return getCurrentSICurve(getSiteCurveConfiguration(), sp64Name, region);
+	}
 
-		SiteIndexEquation siCurve = SiteIndexEquation.SI_NO_EQUATION;
-
-		if (sp64Name != null && region != null) {
-			var entry = speciesTable.getByCode(sp64Name);
-			siCurve = entry.details().currentSICurve()[region.ordinal()];
-
-			// If the curve for this species is not set, look it up from SINDEX.
-
-			if (siCurve == SiteIndexEquation.SI_NO_EQUATION) {
-				SiteIndexSpecies sindexSpcs;
-				try {
-					sindexSpcs = Sindxdll.SpecRemap(sp64Name, region == SpeciesRegion.COAST ? 'A' : 'D');
-
-					siCurve = Sindxdll.DefCurve(sindexSpcs);
-				} catch (CommonCalculatorException e) {
-					siCurve = SiteIndexEquation.SI_NO_EQUATION;
-				}
-				entry.details().currentSICurve()[region.ordinal()] = siCurve;
-			}
-		}
-
-		return siCurve;
+	/**
+	 * Determines the Site Index curve type assigned to the specified species by the given configuration.
+	 *
+	 * @param configuration the curve assignments of the run
+	 * @param sp64Name      the species short ("code") name such as "ABAL"
+	 * @param region        the region under consideration
+	 * @return The Site Index curve type to use for this species. SI_NO_EQUATION is returned if the species or region
+	 *         was not recognized.
+	 */
+	public static SiteIndexEquation
+			getCurrentSICurve(SiteCurveConfiguration configuration, String sp64Name, SpeciesRegion region) {
+		return configuration.getCurve(sp64Name, region);
 	}
 
 	/**
@@ -312,7 +297,8 @@ public class VdypMethods {
 	}
 
 	/**
-	 * Sets the Site Index curve to use for a particular species.
+	 * Sets the Site Index curve to use for a particular species, for every caller that does not pass a
+	 * {@link SiteCurveConfiguration} of its own.
 	 *
 	 * @param sp64CodeName the species short ("code") name such as "ABAL"
 	 * @param region       the region under consideration
@@ -323,13 +309,9 @@ public class VdypMethods {
 	public static SiteIndexEquation
 			setCurrentSICurve(String sp64CodeName, SpeciesRegion region, SiteIndexEquation siCurve) {
 
-		SiteIndexEquation oldCurve = getCurrentSICurve(sp64CodeName, region);
-		var speciesEntry = speciesTable.getByCode(sp64CodeName);
-		if (region != null && speciesEntry.details() != SpeciesTable.DefaultEntry) {
-			speciesEntry.details().currentSICurve()[region.ordinal()] = siCurve;
-		}
-
-		return oldCurve;
+		SiteCurveConfiguration current = siteCurveConfiguration
+				.getAndUpdate(configuration -> configuration.withCurve(sp64CodeName, region, siCurve));
+		return current.getCurve(sp64CodeName, region);
 	}
 
 	/**
@@ -0,0 +1,161 @@
+package ca.bc.gov.nrs.vdyp.si32;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.model.BecDefinition;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.Region;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassComponent;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsForSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedEcoZone;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConverter;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsLiveConversionParams;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+
+class CfsBiomassConverterTest {
+
+	private static final CfsBiomassConversionSupportedEcoZone ZONE = CfsBiomassConversionSupportedEcoZone.MONTANE_CORDILLERA;
+
+	static VdypPolygon polygon(String name, String genus, String sp64, float volume) {
+		return VdypPolygon.build(builder -> {
+			builder.polygonIdentifier(name, 2024);
+			builder.percentAvailable(100f);
+			builder.forestInventoryZone("?");
+			builder.biogeoclimaticZone(new BecDefinition("IDF", Region.INTERIOR, "Interior Douglas Fir"));
+
+			builder.addLayer(layerBuilder -> {
+				layerBuilder.layerType(LayerType.PRIMARY);
+				layerBuilder.addSpecies(specBuilder -> {
+					specBuilder.genus(genus, 1);
+					specBuilder.percentGenus(100);
+					specBuilder.addSp64Distribution(sp64, 100);
+					specBuilder.volumeGroup(-1);
+					specBuilder.decayGroup(-1);
+					specBuilder.breakageGroup(-1);
+					specBuilder.closeUtilizationVolumeByUtilization(volume);
+				});
+			});
+		});
+	}
+
+	static double parm(float[] parms, CfsLiveConversionParams p) {
+		return parms[p.getOffset()];
+	}
+
+	@Test
+	void testConversionFollowsModel() {
+		float volume = 250.0f;
+		var result = CfsBiomassConverter.convert(polygon("Test", "PL", "PLI", volume), ZONE);
+
+		assertThat(result.size(), is(1));
+		assertThat(result.getGenus(0), is("PL"));
+		assertThat(result.getSp64Name(0), is(SP64Name.PLI));
+		assertThat(result.getLayerType(0), is(LayerType.PRIMARY));
+		assertThat(result.getVolume(0), is(volume));
+
+		var details = CfsBiomassConversionCoefficientsForSpecies
+				.get(ZONE.getOffset(), CfsBiomassConversionSupportedSpecies.PL.getOffset());
+		assertTrue(details.containsData());
+		var p = details.parms();
+		assertTrue(volume >= parm(p, CfsLiveConversionParams.MIN_VOLUME));
+		assertTrue(volume <= parm(p, CfsLiveConversionParams.MAX_VOLUME));
+
+		double bm = parm(p, CfsLiveConversionParams.A) * Math.pow(volume, parm(p, CfsLiveConversionParams.B));
+		double bn = bm * Math.min(
+				parm(p, CfsLiveConversionParams.K_NONMERCH) + parm(p, CfsLiveConversionParams.A_NONMERCH)
+						* Math.pow(bm, parm(p, CfsLiveConversionParams.B_NONMERCH)),
+				parm(p, CfsLiveConversionParams.CAP_NONMERCH)
+		);
+		double bs = bn * Math.min(
+				parm(p, CfsLiveConversionParams.K_SAP)
+						+ parm(p, CfsLiveConversionParams.A_SAP) * Math.pow(bn, parm(p, CfsLiveConversionParams.B_SAP)),
+				parm(p, CfsLiveConversionParams.CAP_SAP)
+		);
+		double lnV = Math.log(volume + 5.0);
+		double eBark = Math.exp(
+				parm(p, CfsLiveConversionParams.A1) + parm(p, CfsLiveConversionParams.A2) * volume
+						+ parm(p, CfsLiveConversionParams.A3) * lnV
+		);
+		double eBranches = Math.exp(
+				parm(p, CfsLiveConversionParams.B1) + parm(p, CfsLiveConversionParams.B2) * volume
+						+ parm(p, CfsLiveConversionParams.B3) * lnV
+		);
+		double eFoliage = Math.exp(
+				parm(p, CfsLiveConversionParams.C1) + parm(p, CfsLiveConversionParams.C2) * volume
+						+ parm(p, CfsLiveConversionParams.C3) * lnV
+		);
+		double total = bs * (1.0 + eBark + eBranches + eFoliage);
+
+		assertThat((double) result.get(CfsBiomassComponent.MERCHANTABLE_STEMWOOD, 0), closeTo(bm, bm * 1e-4));
+		assertThat((double) result.get(CfsBiomassComponent.NON_MERCHANTABLE_STEMWOOD, 0), closeTo(bn - bm, bm * 1e-4));
+		assertThat((double) result.get(CfsBiomassComponent.SAPLING_STEMWOOD, 0), closeTo(bs - bn, bm * 1e-4));
+		assertThat(
+				(double) result.get(CfsBiomassComponent.STEMBARK, 0),
+				closeTo(total * eBark / (1.0 + eBark + eBranches + eFoliage), bm * 1e-4)
+		);
+		assertThat(
+				(double) result.get(CfsBiomassComponent.BRANCHES, 0),
+				closeTo(total * eBranches / (1.0 + eBark + eBranches + eFoliage), bm * 1e-4)
+		);
+		assertThat(
+				(double) result.get(CfsBiomassComponent.FOLIAGE, 0),
+				closeTo(total * eFoliage / (1.0 + eBark + eBranches + eFoliage), bm * 1e-4)
+		);
+		assertThat((double) result.getTotal(0), closeTo(total, total * 1e-4));
+	}
+
+	@Test
+	void testBatchMatchesSinglePolygons() {
+		var polygons = List.of(
+				polygon("P1", "PL", "PL", 120.0f), polygon("P2", "F", "FDI", 400.0f), polygon("P3", "S", "SX", 35.0f),
+				polygon("P4", "B", "BL", 0.0f)
+		);
+		var batch = CfsBiomassConverter.convert(polygons, ZONE);
+
+		assertThat(batch.size(), is(polygons.size()));
+		for (int i = 0; i < polygons.size(); i++) {
+			var single = CfsBiomassConverter.convert(polygons.get(i), ZONE);
+			assertThat(batch.getPolygonIdentifier(i), is(polygons.get(i).getPolygonIdentifier()));
+			for (var component : CfsBiomassComponent.values()) {
+				assertThat(batch.get(component, i), is(single.get(component, 0)));
+			}
+		}
+
+		for (var component : CfsBiomassComponent.values()) {
+			assertThat(batch.get(component, 3), is(0.0f));
+		}
+	}
+
+	@Test
+	void testGenusCoefficientsAreUsedForSpeciesWithoutTheirOwn() {
+		assertTrue(CfsBiomassConverter.hasCoefficients(ZONE, SP64Name.BM));
+
+		var result = CfsBiomassConverter.convert(polygon("Test", "B", "BM", 150.0f), ZONE);
+		assertFalse(Float.isNaN(result.getTotal(0)));
+		assertTrue(result.getTotal(0) > 0.0f);
+	}
+
+	@Test
+	void testSpeciesWithoutCoefficients() {
+		assertFalse(CfsBiomassConverter.hasCoefficients(ZONE, SP64Name.UNKNOWN));
+		assertFalse(CfsBiomassConverter.hasCoefficients(ZONE, SP64Name.Y));
+
+		var result = CfsBiomassConverter
+				.convert(List.of(polygon("P1", "PL", "PL", 120.0f), polygon("P2", "Y", "Y", 120.0f)), ZONE);
+		assertThat(result.getSp64Name(1), is(SP64Name.Y));
+		for (var component : CfsBiomassComponent.values()) {
+			assertTrue(Float.isNaN(result.get(component, 1)));
+			assertThat(result.getTotal(component), is(result.get(component, 0)));
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package ca.bc.gov.nrs.vdyp.si32;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SiteCurveConfiguration;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
+
+class SiteCurveConfigurationTest {
+
+	@Test
+	void testDefaultCurves() {
+		var config = SiteCurveConfiguration.DEFAULT;
+		for (var sp64Name : SP64Name.values()) {
+			for (var region : SpeciesRegion.values()) {
+				assertThat(
+						config.getCurve(sp64Name.getText(), region),
+						is(VdypMethods.getDefaultSICurve(sp64Name.getText(), region))
+				);
+			}
+		}
+		assertThat(config.getCurve("ac", SpeciesRegion.INTERIOR), is(SiteIndexEquation.SI_ACB_HUANGAC));
+		assertThat(config.getCurve("ZZZZ", SpeciesRegion.COAST), is(SiteIndexEquation.SI_NO_EQUATION));
+		assertThat(config.getCurve((String) null, SpeciesRegion.COAST), is(SiteIndexEquation.SI_NO_EQUATION));
+		assertThat(config.getCurve("AC", null), is(SiteIndexEquation.SI_NO_EQUATION));
+	}
+
+	@Test
+	void testOverridesDoNotAffectOtherConfigurations() {
+		var base = SiteCurveConfiguration.DEFAULT;
+		var defaultCurve = base.getCurve("ABAL", SpeciesRegion.COAST);
+		var newCurve = defaultCurve == SiteIndexEquation.SI_AT_CHEN ? SiteIndexEquation.SI_AT_NIGH
+				: SiteIndexEquation.SI_AT_CHEN;
+
+		var overridden = SiteTool.withSICurve(base, "ABAL", true, newCurve);
+
+		assertThat(SiteTool.getSICurve(overridden, "ABAL", true), is(newCurve));
+		assertThat(SiteTool.getSICurve(base, "ABAL", true), is(defaultCurve));
+		assertThat(
+				overridden.getCurve("ABAL", SpeciesRegion.INTERIOR), is(base.getCurve("ABAL", SpeciesRegion.INTERIOR))
+		);
+		assertThat(overridden.getCurve("AC", SpeciesRegion.COAST), is(base.getCurve("AC", SpeciesRegion.COAST)));
+
+		var reset = overridden.withCurve("ABAL", SpeciesRegion.COAST, SiteIndexEquation.SI_NO_EQUATION);
+		assertThat(reset.getCurve("ABAL", SpeciesRegion.COAST), is(defaultCurve));
+	}
+
+	@Test
+	void testUnchangedConfigurationIsShared() {
+		var base = SiteCurveConfiguration.DEFAULT;
+
+		assertThat(
+				base.withCurve("ABAL", SpeciesRegion.COAST, base.getCurve("ABAL", SpeciesRegion.COAST)),
+				sameInstance(base)
+		);
+		assertThat(base.withCurve("ZZZZ", SpeciesRegion.COAST, SiteIndexEquation.SI_AT_CHEN), sameInstance(base));
+		assertThat(base.withCurve("ABAL", null, SiteIndexEquation.SI_AT_CHEN), sameInstance(base));
+	}
+}
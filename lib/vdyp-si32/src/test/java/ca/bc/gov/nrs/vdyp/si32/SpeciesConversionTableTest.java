@@ -0,0 +1,107 @@
+package ca.bc.gov.nrs.vdyp.si32;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.si32.bec.BecZone;
+import ca.bc.gov.nrs.vdyp.si32.bec.BecZoneMethods;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsTreeSpecies;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP0Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesConversionTable;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+class SpeciesConversionTableTest {
+
+	static String sindexSpecies(String speciesName, SpeciesRegion region) {
+		try {
+			var s = Sindxdll.SpecRemap(speciesName, region == SpeciesRegion.COAST ? 'A' : 'D');
+			return s == SiteIndexSpecies.SI_NO_SPECIES ? "" : Sindxdll.SpecCode(s);
+		} catch (CommonCalculatorException e) {
+			return "";
+		}
+	}
+
+	@Test
+	void testTableMatchesSpeciesTable() {
+		for (var sp64Name : SP64Name.values()) {
+			var details = VdypMethods.speciesTable.getByCode(sp64Name.getText()).details();
+
+			assertThat(SpeciesConversionTable.getSP0Name(sp64Name), is(SP0Name.forText(details.sp0Name())));
+			assertThat(SpeciesConversionTable.getCfsSpecies(sp64Name), is(details.cfsSpecies()));
+			assertThat(SiteTool.getSpeciesCFSSpcs(sp64Name.getText()), is(details.cfsSpecies()));
+			assertThat(SiteTool.getSpeciesCFSSpcs(sp64Name.getText().toLowerCase()), is(details.cfsSpecies()));
+		}
+		assertThat(SpeciesConversionTable.getSP0Name(SP64Name.UNKNOWN), is(SP0Name.UNKNOWN));
+		assertThat(SpeciesConversionTable.getCfsSpecies(SP64Name.UNKNOWN), is(CfsTreeSpecies.UNKNOWN));
+		assertThat(SiteTool.getSpeciesCFSSpcs("ZZZZ"), is(CfsTreeSpecies.UNKNOWN));
+	}
+
+	@Test
+	void testSindexSpecies() {
+		for (var sp64Name : SP64Name.values()) {
+			if (sp64Name == SP64Name.UNKNOWN) {
+				continue;
+			}
+			for (var region : SpeciesRegion.values()) {
+				var expected = sindexSpecies(sp64Name.getText(), region);
+				assertThat(SpeciesConversionTable.getSindexSpecies(sp64Name, region), is(expected));
+				assertThat(VdypMethods.getSINDEXSpecies(sp64Name.getText(), region), is(expected));
+				assertThat(
+						SiteTool.getSpeciesSINDEXCode(sp64Name.getText(), region == SpeciesRegion.COAST), is(expected)
+				);
+			}
+		}
+		assertThat(
+				VdypMethods.getSINDEXSpecies("fdc", SpeciesRegion.COAST), is(sindexSpecies("fdc", SpeciesRegion.COAST))
+		);
+		assertThat(SpeciesConversionTable.getSindexSpecies(SP64Name.UNKNOWN, SpeciesRegion.COAST), is(""));
+		assertThat(VdypMethods.getSINDEXSpecies(null, SpeciesRegion.COAST), is(""));
+	}
+
+	@Test
+	void testCfsBiomassSpecies() {
+		assertThat(SiteTool.lcl_MoFSP64ToCFSSpecies("PLI"), is(CfsBiomassConversionSupportedSpecies.PL));
+		assertThat(
+				SpeciesConversionTable.getCfsBiomassSpecies(SP64Name.X), is(CfsBiomassConversionSupportedSpecies.XC)
+		);
+		assertThat(SiteTool.lcl_MoFSP64ToCFSSpecies("ABAL"), is(CfsBiomassConversionSupportedSpecies.UNKNOWN));
+		assertThat(SiteTool.lcl_MoFSP64ToCFSSpecies(null), is(CfsBiomassConversionSupportedSpecies.UNKNOWN));
+	}
+
+	@Test
+	void testIndexLookups() {
+		for (var e : SP64Name.values()) {
+			assertThat(SP64Name.forIndex(e.getIndex()), is(e));
+			assertThat(SP64Name.forText(e.name().toLowerCase()), is(e));
+		}
+		for (var e : SP0Name.values()) {
+			assertThat(SP0Name.forIndex(e.getIndex()), is(e));
+			assertThat(SP0Name.forText(e.name().toLowerCase()), is(e));
+		}
+		for (var e : CfsTreeSpecies.values()) {
+			assertThat(CfsTreeSpecies.forIndex(e.getIndex()), is(e));
+		}
+		for (var e : BecZone.values()) {
+			assertThat(BecZone.forIndex(e.getIndex()), is(e));
+		}
+		for (var e : SpeciesRegion.values()) {
+			assertThat(SpeciesRegion.forIndex(e.getIndex()), is(e));
+		}
+		assertThat(SP64Name.forIndex(-1), nullValue());
+		assertThat(SP0Name.forIndex(SP0Name.size()), nullValue());
+		assertThat(BecZone.forIndex(-2), nullValue());
+		assertThat(SpeciesRegion.forIndex(2), nullValue());
+		assertThat(BecZoneMethods.becZoneToIndex("cwh"), is(BecZone.CWH));
+		assertThat(BecZoneMethods.becZoneToCode(null), is(BecZoneMethods.UNKNOWN_BEC_ZONE_TEXT));
+	}
+}
@@ -10,6 +10,7 @@ import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.SP0Name;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SiteCurveConfiguration;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesTable;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 
@@ -99,11 +100,10 @@ class VdypMethodsTest {
 				VdypMethods.getCurrentSICurve(SP0Name.AC.getText(), SpeciesRegion.INTERIOR),
 				equalTo(SiteIndexEquation.SI_ACB_HUANGAC)
 		);
-		// ensure result from previous call was cached properly.
 		assertThat(
-				VdypMethods.speciesTable.getByCode(SP0Name.AC.getText()).details()
-						.currentSICurve()[SpeciesRegion.INTERIOR.ordinal()],
-				equalTo(SiteIndexEquation.SI_ACB_HUANGAC)
+				VdypMethods.getCurrentSICurve(
+						SiteCurveConfiguration.DEFAULT, SP0Name.AC.getText(), SpeciesRegion.INTERIOR
+				), equalTo(SiteIndexEquation.SI_ACB_HUANGAC)
 		);
 		assertThat(
 				VdypMethods.getCurrentSICurve(null, SpeciesRegion.INTERIOR), equalTo(SiteIndexEquation.SI_NO_EQUATION)
@@ -29,6 +29,9 @@ import org.apache.commons.math3.exception.TooManyEvaluationsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ca.bc.gov.nrs.vdyp.application.CohortStatistics;
+import ca.bc.gov.nrs.vdyp.application.PolygonBudget;
+import ca.bc.gov.nrs.vdyp.application.PolygonBudgetExceededException;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.application.RuntimeProcessingException;
 import ca.bc.gov.nrs.vdyp.application.RuntimeStandProcessingException;
@@ -46,12 +49,14 @@ import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.io.write.PolygonEvent;
 import ca.bc.gov.nrs.vdyp.math.FloatMath;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypSite;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypSpecies;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypSpecies.Builder;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
+import ca.bc.gov.nrs.vdyp.model.CohortKey;
 import ca.bc.gov.nrs.vdyp.model.CompatibilityVariableMode;
 import ca.bc.gov.nrs.vdyp.model.ComponentSizeLimits;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
@@ -83,6 +88,23 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 	static final float VETERAN_MIN_HL = UtilizationClass.OVER225.lowBound; // Seems odd that that the min height is the
 																			// same as the min diameter
 
+	/** The default number of results kept for polygons of the same cohort: none, so every polygon is processed */
+	public static final int DEFAULT_COHORT_CACHE_SIZE = 0;
+
+	private int cohortCacheSize = DEFAULT_COHORT_CACHE_SIZE;
+
+	/** The results of the most recently processed cohorts */
+	private final Map<CohortKey, Optional<VdypPolygon>> cohortResults = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CohortKey, Optional<VdypPolygon>> eldest) {
+			return size() > cohortCacheSize;
+		}
+	};
+
+	private final CohortStatistics cohortStatistics = new CohortStatistics();
+
 	public static void main(final String... args) throws IOException {
 
 		try (var app = new VriStart();) {
@@ -106,6 +128,43 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		return opt.orElseThrow(() -> new StandProcessingException(name + " is not present"));
 	}
 
+	/**
+	 * Set the number of results kept for polygons of the same {@link CohortKey}. A polygon whose cohort has a kept
+	 * result is not processed, and that result is written for it instead. A size of 0, the default, processes every
+	 * polygon.
+	 *
+	 * @param cohortCacheSize the number of results, at least 0
+	 */
+	public void setCohortCacheSize(int cohortCacheSize) {
+		if (cohortCacheSize < 0) {
+			throw new IllegalArgumentException("The cohort cache size must not be negative, not " + cohortCacheSize);
+		}
+		this.cohortCacheSize = cohortCacheSize;
+		cohortResults.clear();
+	}
+
+	/**
+	 * @return the counts of polygons and of the cohorts processed for them, while results are kept
+	 */
+	public CohortStatistics getCohortStatistics() {
+		return cohortStatistics;
+	}
+
+	/**
+	 * Add the fields of the VRI model classes that processing reads to a {@link CohortKey}
+	 */
+	static void addCohortFields(Object entity, CohortKey.Fields fields) {
+		if (entity instanceof VriPolygon polygon) {
+			fields.add(polygon.getNonproductiveDescription()).add(polygon.getYieldFactor());
+		} else if (entity instanceof VriLayer layer) {
+			fields.add(layer.getCrownClosure()).add(layer.getBaseArea()).add(layer.getTreesPerHectare())
+					.add(layer.getUtilization()).add(layer.getSecondaryGenus())
+					.add(layer.getEmpiricalRelationshipParameterIndex()).add(layer.getAgeIncrease());
+		} else if (entity instanceof VriSite site) {
+			fields.add(site.getSiteSpecies()).add(site.getBreastHeightAge());
+		}
+	}
+
 	// VRI_SUB
 	// TODO Fortran takes a vector of flags (FIPPASS) controlling which stages are
 	// implemented. FIPSTART always uses the same vector so far now that's not
@@ -130,30 +189,66 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 				// FIP_GET
 				log.atInfo().setMessage("Getting polygon {}").addArgument(polygonsRead + 1).log();
 				var polygon = getPolygon(polyStream, layerStream, speciesStream, siteStream);
+				long start = startPolygon();
 				try {
 
-					var resultPoly = processPolygon(polygonsRead, polygon);
+					// The key is taken before processing, which may change the polygon
+					var key = cohortCacheSize > 0 ? CohortKey.of(polygon, VriStart::addCohortFields) : null;
+					var cohortResult = key == null ? null : cohortResults.get(key);
+
+					Optional<VdypPolygon> resultPoly;
+					if (cohortResult != null) {
+						log.atInfo().setMessage("Polygon {} is of the same cohort as an earlier polygon")
+								.addArgument(polygon.getPolygonIdentifier()).log();
+						resultPoly = cohortResult;
+						cohortStatistics.deduplicated();
+					} else {
+						var polygonNumber = polygonsRead;
+						resultPoly = withinPolygonBudget(() -> processPolygon(polygonNumber, polygon));
+						if (key != null) {
+							cohortResults.put(key, resultPoly);
+							cohortStatistics.processed();
+						}
+					}
 					if (resultPoly.isPresent()) {
 						polygonsRead++;
 
 						// Output
-						getVriWriter().writePolygonWithSpeciesAndUtilization(resultPoly.get());
+						if (cohortResult != null) {
+							getVriWriter().writePolygonWithSpeciesAndUtilization(
+									resultPoly.get(), polygon.getPolygonIdentifier()
+							);
+						} else {
+							getVriWriter().writePolygonWithSpeciesAndUtilization(resultPoly.get());
+						}
 
 						polygonsWritten++;
 					}
+					logPolygonEvent(polygon, start, resultPoly);
 
 					log.atInfo().setMessage("Read {} polygons and wrote {}").addArgument(polygonsRead)
 							.addArgument(polygonsWritten).log();
 
+				} catch (PolygonBudgetExceededException ex) {
+					bypassOverBudget(polygon, start, ex);
 				} catch (StandProcessingException ex) {
 					// TODO include some sort of hook for different forms of user output
 					// TODO Implement single stand mode that propagates the exception
 
 					log.atWarn().setMessage("Polygon {} bypassed").addArgument(polygon.getPolygonIdentifier())
 							.setCause(ex).log();
+					logPolygonEvent(polygon, start, PolygonEvent.Outcome.BYPASSED, ex);
+				} catch (ProcessingException | IOException | RuntimeException ex) {
+					logPolygonError(polygon, start, ex);
+					throw ex;
 				}
 
 			}
+
+			if (cohortCacheSize > 0) {
+				log.atInfo().setMessage("Processed {}").addArgument(cohortStatistics).log();
+			}
+			logRetryPolygons();
 		} catch (IOException | ResourceParseException ex) {
 			throw new ProcessingException("Error while reading or writing data.", ex);
 		}
@@ -1571,9 +1666,14 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		}
 	}
 
-	double doSolve(float min, float max, UnivariateFunction errorFunc) {
+	double doSolve(float min, float max, UnivariateFunction unbudgetedErrorFunc) {
 		var interval = new Interval(min, max);
 
+		UnivariateFunction errorFunc = x -> {
+			PolygonBudget.spend(1);
+			return unbudgetedErrorFunc.value(x);
+		};
+
 		// I couldn't identify the method the original Fortran was using, so I just picked one and it worked
 		// We could swap this for another like NewtonRaphsonSolver
 		var solver = new BrentSolver();
@@ -1583,6 +1683,7 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		interval = findInterval(new Interval(min, max), errorFunc);
 
 		double x = solver.solve(100, errorFunc, interval.start(), interval.end(), interval.mid());
+		countSolverIterations(solver.getEvaluations());
 		return x;
 	}
 
@@ -11,6 +11,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
@@ -22,6 +23,7 @@ import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
@@ -610,6 +612,35 @@ class VriControlParserTest {
 		);
 	}
 
+	@Test
+	void testParseConcurrently() throws Exception {
+		var expected = parse(new VriControlParser(), TestUtils.class, CONTROL_FILE);
+
+		var pool = new ForkJoinPool(4);
+		try {
+			var parser = new VriControlParser();
+			parser.setResourcePool(pool);
+			var result = parse(parser, TestUtils.class, CONTROL_FILE);
+
+			assertThat(result.keySet(), is(expected.keySet()));
+			for (var key : expected.keySet()) {
+				assertThat(key, result.get(key).getClass(), is((Object) expected.get(key).getClass()));
+			}
+			assertThat(
+					result,
+					(Matcher) controlMapHasEntry(
+							ControlKey.DECAY_GROUPS, allOf(isA(MatrixMap2.class), mmHasEntry(is(5), "AT", "CDF"))
+					)
+			);
+			assertThat(
+					parser.getResourceParseTimes(),
+					allOf(hasKey(ControlKey.SP0_DEF.name()), hasKey(ControlKey.BA_YIELD.name()))
+			);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
 	static InputStream addToEnd(InputStream is, String... lines) {
 		var appendix = new ByteArrayInputStream(String.join("\r\n", lines).getBytes(StandardCharsets.US_ASCII));
 		var result = new SequenceInputStream(is, appendix);
@@ -23,6 +23,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -32,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -53,7 +55,10 @@ import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import ca.bc.gov.nrs.vdyp.application.ApplicationTestUtils;
+import ca.bc.gov.nrs.vdyp.application.PolygonBudget;
+import ca.bc.gov.nrs.vdyp.application.PolygonBudgetExceededException;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.application.RuntimeStandProcessingException;
 import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
@@ -1415,6 +1420,30 @@ class VriStartTest {
 			}
 		}
 
+		@Nested
+		class SolverBudget {
+
+			@Test
+			void testNotLimitedWithoutBudget() throws Exception {
+				var app = new VriStart();
+
+				assertThat((float) app.doSolve(0f, 10f, x -> x - 3), closeTo(3f));
+			}
+
+			@Test
+			void testLimitedWithinBudget() throws Exception {
+				var budget = new PolygonBudget(Duration.ofMinutes(1), 3);
+				var app = new VriStart();
+
+				try (var scope = budget.start()) {
+					var ex = assertThrows(
+							RuntimeStandProcessingException.class, () -> app.doSolve(0f, 10f, x -> x - 3)
+					);
+					assertThat(ex.getCause(), instanceOf(PolygonBudgetExceededException.class));
+				}
+			}
+		}
+
 		@Nested
 		class InitialMaps {
 			@Test